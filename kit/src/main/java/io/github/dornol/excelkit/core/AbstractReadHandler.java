@@ -11,11 +11,18 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -23,9 +30,12 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.IntUnaryOperator;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Abstract base class for file read handlers (Excel, CSV).
@@ -43,6 +53,8 @@ import java.util.function.UnaryOperator;
  */
 public abstract class AbstractReadHandler<T> extends TempResourceContainer {
     private static final Logger log = LoggerFactory.getLogger(AbstractReadHandler.class);
+    /** Rows a {@link #stream()} may read ahead of its caller. */
+    private static final int STREAM_BUFFER_SIZE = 256;
 
     /** Supplier for creating new row instances (setter mode). */
     protected final @Nullable Supplier<T> instanceSupplier;
@@ -63,12 +75,42 @@ public abstract class AbstractReadHandler<T> extends TempResourceContainer {
     protected CancellationToken cancellationToken = CancellationToken.NONE;
     protected @Nullable ReadProgressCallback readProgressCallback;
     protected ReadSecurityPolicy securityPolicy = ReadSecurityPolicy.DEFAULT;
+    protected @Nullable ParallelMapping parallelMapping;
+    protected boolean reuseRowView;
+    protected boolean captureRawValues = true;
+    /** First and last 1-based file rows to read; {@code -1} leaves the range open. */
+    protected long fromRow = -1;
+    protected long toRow = -1;
+    protected long checkpointInterval;
+    protected @Nullable Consumer<ReadCheckpoint> checkpointListener;
+    protected @Nullable ReadCheckpoint resumeFrom;
+    private @Nullable String contentHash;
+    /** Compiled header handling shared with other reads; {@code null} resolves headers per read. */
+    protected @Nullable ReadPlan<T> readPlan;
+    /** Per-column cells overwritten for every row while {@link #reusesRowView()} holds. */
+    private @Nullable CellData[] cellSlots = new CellData[0];
     private final ReadLifecycle lifecycle = new ReadLifecycle();
+    private final ReadMetricsRecorder metrics = new ReadMetricsRecorder();
+    /** Whether mapping, validation and consumer time are measured per row for {@link #metrics()}. */
+    protected boolean timeRowPhases;
     protected boolean stoppedEarly;
+    private @Nullable InputStream streamInput;
 
     protected AbstractReadHandler(InputStream input, @Nullable Supplier<T> supplier,
             @Nullable Function<RowData,T> mapper, @Nullable Validator validator, String extension,
             ReadOptions options, @Nullable Set<String> selectedColumns) {
+        this(input, supplier, mapper, validator, extension, options, selectedColumns, true);
+    }
+
+    /**
+     * Creates a handler that either copies {@code input} to a temporary file ({@code spoolInput})
+     * or keeps it for a single forward-only pass through {@link #streamInput()}.
+     *
+     * @since 0.22.0
+     */
+    protected AbstractReadHandler(InputStream input, @Nullable Supplier<T> supplier,
+            @Nullable Function<RowData,T> mapper, @Nullable Validator validator, String extension,
+            ReadOptions options, @Nullable Set<String> selectedColumns, boolean spoolInput) {
         if ((supplier == null) == (mapper == null))
             throw new IllegalArgumentException("Exactly one of supplier or mapper is required");
         this.instanceSupplier = supplier;
@@ -81,7 +123,12 @@ public abstract class AbstractReadHandler<T> extends TempResourceContainer {
         this.maxRows = options.maxRows();
         this.skipBlankRows = options.skipBlankRows();
         this.stopAtBlankRows = options.stopAtBlankRows();
-        initTempFile(java.util.Objects.requireNonNull(input, "input cannot be null"), extension);
+        java.util.Objects.requireNonNull(input, "input cannot be null");
+        if (spoolInput) {
+            initTempFile(input, extension);
+        } else {
+            this.streamInput = input;
+        }
     }
 
     /**
@@ -197,20 +244,245 @@ public abstract class AbstractReadHandler<T> extends TempResourceContainer {
     }
 
     protected CellData cellData(int columnIndex, @Nullable String formattedValue) {
+        checkCellCharacters(formattedValue);
+        if (reusesRowView()) {
+            return cellSlot(columnIndex).reset(formattedValue, CellValueType.TEXT, Double.NaN, -1, -1, null);
+        }
+        return new CellData(columnIndex, formattedValue, cellConversionConfig);
+    }
+
+    /**
+     * Whether cells and row data are reusable flyweights valid only during the row callback. The
+     * row view is not used with {@link ParallelMapping}, since rows are then mapped after the parser
+     * has moved on.
+     *
+     * @since 0.22.0
+     */
+    protected boolean reusesRowView() {
+        return reuseRowView && !mapsOnWorkers();
+    }
+
+    /** Whether the data row at the 1-based {@code fileRowNum} precedes {@code fromRow} and is skipped. */
+    protected boolean beforeFromRow(long fileRowNum) {
+        return fileRowNum < fromRow;
+    }
+
+    /** Whether the data row at the 1-based {@code fileRowNum} follows {@code toRow}, ending the read. */
+    protected boolean pastToRow(long fileRowNum) {
+        return toRow > 0 && fileRowNum > toRow;
+    }
+
+    /**
+     * Checks that the checkpoint being resumed from was taken on this input and sheet.
+     *
+     * @param failure creates the format's exception from a message
+     */
+    protected void verifyResumeCheckpoint(int sheetIndex, Function<String, ? extends RuntimeException> failure) {
+        ReadCheckpoint checkpoint = resumeFrom;
+        if (checkpoint == null) return;
+        if (checkpoint.sheetIndex() != sheetIndex) {
+            throw failure.apply("Checkpoint was taken on sheet " + checkpoint.sheetIndex()
+                    + ", not sheet " + sheetIndex);
+        }
+        if (!checkpoint.contentHash().equals(contentHash())) {
+            throw failure.apply("Checkpoint was taken on a different input (content hash mismatch)");
+        }
+    }
+
+    /**
+     * Returns the listener that emits a {@link ReadCheckpoint} after every {@code checkpointInterval}
+     * committed rows, or {@code null} when no checkpoint listener is set. Pass it to
+     * {@link #rowSink(Consumer, Consumer)}, which commits a row only once it and every row submitted
+     * before it have been accepted by the consumer.
+     *
+     * @param byteOffsets supplies, in submission order, the byte offset after each checkpointed row;
+     *                    {@code null} when offsets are unknown
+     * @since 0.22.0
+     */
+    protected @Nullable Consumer<ReadResult<T>> checkpoints(int sheetIndex, @Nullable LongSupplier byteOffsets) {
+        Consumer<ReadCheckpoint> listener = checkpointListener;
+        if (listener == null) return null;
+        String hash = contentHash();
+        long[] committed = {0};
+        return result -> {
+            if (++committed[0] % checkpointInterval == 0) {
+                listener.accept(new ReadCheckpoint(hash, sheetIndex, result.fileRowNum(),
+                        byteOffsets == null ? -1 : byteOffsets.getAsLong()));
+            }
+        };
+    }
+
+    /** Hex SHA-256 of the spooled or external input file, computed once. */
+    private String contentHash() {
+        String hash = contentHash;
+        if (hash != null) return hash;
+        Path file = getTempFile();
+        if (file == null) throw new IllegalStateException("Checkpoints require a file or spooled input");
+        try (InputStream input = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            for (int n; (n = input.read(buffer)) > 0; ) digest.update(buffer, 0, n);
+            hash = HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new ExcelKitException("Failed to hash input", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        contentHash = hash;
+        return hash;
+    }
+
+    /**
+     * Whether rows are mapped off the reading thread, so that row phase timings overlap parsing.
+     *
+     * @since 0.22.0
+     */
+    protected boolean mapsOnWorkers() {
+        return parallelMapping != null;
+    }
+
+    private CellData typedCellData(int columnIndex, @Nullable String formattedValue, CellValueType valueType,
+                                   double numericValue, int styleIndex, int sharedStringIndex,
+                                   @Nullable NumericTextFormatter textFormatter) {
+        if (reusesRowView()) {
+            return cellSlot(columnIndex).reset(formattedValue, valueType, numericValue, styleIndex,
+                    sharedStringIndex, textFormatter);
+        }
+        return new CellData(columnIndex, formattedValue, valueType, numericValue, styleIndex, sharedStringIndex,
+                textFormatter, cellConversionConfig);
+    }
+
+    private CellData cellSlot(int columnIndex) {
+        if (columnIndex < 0) throw new IllegalArgumentException("columnIndex must be non-negative");
+        if (columnIndex >= cellSlots.length) {
+            cellSlots = java.util.Arrays.copyOf(cellSlots, Math.max(columnIndex + 1, cellSlots.length * 2));
+        }
+        CellData cell = cellSlots[columnIndex];
+        if (cell == null) {
+            cell = new CellData(columnIndex, null, cellConversionConfig);
+            cellSlots[columnIndex] = cell;
+        }
+        return cell;
+    }
+
+    /**
+     * Fails the read when a cell's text exceeds {@link ReadLimits#maxCellCharacters()}.
+     *
+     * @since 0.22.0
+     */
+    protected void checkCellCharacters(@Nullable String formattedValue) {
         if (formattedValue != null && limits.maxCellCharacters() >= 0
                 && formattedValue.length() > limits.maxCellCharacters()) {
             throw new ReadLimitExceededException(ReadLimitExceededException.Limit.CELL_CHARACTERS,
                     limits.maxCellCharacters(), formattedValue.length());
         }
-        return new CellData(columnIndex, formattedValue, cellConversionConfig);
+    }
+
+    /**
+     * Creates a cell that keeps the numeric value stored in the source file. Its display text is
+     * produced by {@code textFormatter} only when first requested.
+     *
+     * @since 0.22.0
+     */
+    protected CellData numericCellData(int columnIndex, double value, boolean date, int styleIndex,
+                                       NumericTextFormatter textFormatter) {
+        return typedCellData(columnIndex, null, date ? CellValueType.DATE : CellValueType.NUMBER, value,
+                styleIndex, -1, textFormatter);
+    }
+
+    /**
+     * Creates a cell for a stored boolean.
+     *
+     * @since 0.22.0
+     */
+    protected CellData booleanCellData(int columnIndex, boolean value) {
+        return typedCellData(columnIndex, value ? "TRUE" : "FALSE", CellValueType.BOOLEAN, value ? 1 : 0,
+                -1, -1, null);
+    }
+
+    /**
+     * Creates a text cell that remembers its shared strings table index.
+     *
+     * @since 0.22.0
+     */
+    protected CellData sharedStringCellData(int columnIndex, int sharedStringIndex, @Nullable String text) {
+        checkCellCharacters(text);
+        return typedCellData(columnIndex, text, CellValueType.TEXT, Double.NaN, -1, sharedStringIndex, null);
     }
 
     protected boolean isBlankValues(List<String> values) {
-        return values.stream().allMatch(value -> value == null || value.isBlank());
+        for (String value : values) {
+            if (value != null && !value.isBlank()) return false;
+        }
+        return true;
     }
 
-    protected List<String> rawValues(List<CellData> cells) {
-        return cells.stream().map(CellData::formattedValue).toList();
+    /**
+     * Blank-row check that does not force display formatting of typed cells. {@code null} entries
+     * (columns skipped by projection) are ignored.
+     *
+     * @since 0.22.0
+     */
+    protected boolean isBlankCells(List<@Nullable CellData> cells) {
+        for (CellData cell : cells) {
+            if (cell != null && !cell.isEmpty()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the columns a data row must materialise, or {@code null} when every column is needed.
+     * In setter mode these are the resolved column indices; in map mode with selected columns they
+     * are the selected headers. Custom row mappers may read any column, so nothing is skipped.
+     *
+     * @param resolvedIndices resolved setter-mode column indices, or {@code null} in mapping mode
+     * @param headerNames     the header names from the file
+     * @since 0.22.0
+     */
+    protected @Nullable BitSet columnProjection(int @Nullable [] resolvedIndices, List<String> headerNames) {
+        if (resolvedIndices != null) {
+            BitSet columns = new BitSet();
+            for (int index : resolvedIndices) {
+                if (index >= 0) columns.set(index);
+            }
+            return columns;
+        }
+        if (selectedMapColumns == null || selectedMapColumns.isEmpty()) return null;
+        BitSet columns = new BitSet();
+        for (int i = 0; i < headerNames.size(); i++) {
+            if (selectedMapColumns.contains(headerNames.get(i))) columns.set(i);
+        }
+        return columns;
+    }
+
+    /**
+     * Captures the raw values of a row as text, or an empty list when raw value capture is disabled.
+     * Typed cells are formatted here, so results kept after the read do not hold on to its formatters
+     * or shared strings.
+     *
+     * @param cells        the row's cells, {@code null} for columns skipped by projection
+     * @param skippedTexts text of the skipped cells by column index; missing entries read as empty
+     */
+    protected List<String> rawValues(List<@Nullable CellData> cells, List<@Nullable String> skippedTexts) {
+        if (!captureRawValues) return List.of();
+        String[] texts = new String[cells.size()];
+        for (int i = 0; i < texts.length; i++) {
+            CellData cell = cells.get(i);
+            String text = cell != null ? cell.formattedValue() : i < skippedTexts.size() ? skippedTexts.get(i) : null;
+            texts[i] = text == null ? "" : text;
+        }
+        return List.of(texts);
+    }
+
+    /**
+     * Formats a typed numeric cell value for display. Implementations must be safe to call from
+     * any thread, since cell text may be requested after the read has moved on.
+     *
+     * @since 0.22.0
+     */
+    @FunctionalInterface
+    protected interface NumericTextFormatter {
+        String format(double value, int styleIndex);
     }
 
     /**
@@ -236,10 +508,12 @@ public abstract class AbstractReadHandler<T> extends TempResourceContainer {
     }
 
     private void initTempFile(InputStream inputStream, String extension) {
+        long started = System.nanoTime();
         try {
             setTempDir(TempResourceCreator.createTempDirectory());
             setTempFile(TempResourceCreator.createTempFile(getTempDir(), UUID.randomUUID().toString(), extension));
             Files.copy(inputStream, getTempFile(), StandardCopyOption.REPLACE_EXISTING);
+            recordPhase(ReadPhase.TEMP_COPY, started);
         } catch (IOException e) {
             // Clean up partially created temp resources before rethrowing
             close();
@@ -250,6 +524,19 @@ public abstract class AbstractReadHandler<T> extends TempResourceContainer {
         }
     }
 
+    /**
+     * Returns the caller's input when the handler was created without spooling it to a temporary
+     * file. The stream can be consumed only once and is not closed by the handler.
+     *
+     * @since 0.22.0
+     */
+    protected final InputStream streamInput() {
+        if (streamInput == null) {
+            throw new IllegalStateException("Input was spooled to a temporary file");
+        }
+        return streamInput;
+    }
+
     protected final void useExternalInput(Path path) {
         if (!Files.isRegularFile(java.util.Objects.requireNonNull(path, "path cannot be null"))) {
             close();
@@ -268,6 +555,31 @@ public abstract class AbstractReadHandler<T> extends TempResourceContainer {
     /** Reads until the callback returns false. Returning false is normal completion. */
     public abstract void readWhile(Predicate<ReadResult<T>> predicate);
 
+    /**
+     * Returns the rows as a lazy, sequential stream. Reading starts with the first terminal
+     * operation, stays a bounded number of rows ahead of the caller, and stops when the stream is
+     * closed. The stream must be closed to release temporary resources when it is not fully consumed.
+     * <p>
+     * This implementation runs {@link #readWhile(Predicate)} on a separate thread, so progress
+     * callbacks are invoked from that thread.
+     *
+     * @since 0.22.0
+     */
+    public Stream<ReadResult<T>> stream() {
+        HandoffIterator<T> rows = new HandoffIterator<>(this::readWhile, this::close, STREAM_BUFFER_SIZE);
+        return toStream(rows, rows::close);
+    }
+
+    /**
+     * Wraps a row iterator in a sequential stream that runs {@code onClose} when closed.
+     *
+     * @since 0.22.0
+     */
+    protected static <R> Stream<R> toStream(Iterator<R> rows, Runnable onClose) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(onClose);
+    }
+
     /** Applies the immutable configuration snapshot for this one-shot session. */
     public AbstractReadHandler<T> options(ReadOptions options) {
         this.strictHeaders = options.strictHeaders();
@@ -282,7 +594,19 @@ public abstract class AbstractReadHandler<T> extends TempResourceContainer {
         this.cancellationToken = options.cancellationToken();
         this.readProgressCallback = options.readProgressCallback();
         this.securityPolicy = options.securityPolicy();
-        if (limits.maxInputBytes() >= 0) {
+        this.parallelMapping = options.parallelMapping();
+        this.reuseRowView = options.reuseRowView();
+        this.captureRawValues = options.captureRawValues();
+        this.fromRow = options.fromRow();
+        this.toRow = options.toRow();
+        this.checkpointInterval = options.checkpointInterval();
+        this.checkpointListener = options.checkpointListener();
+        this.resumeFrom = options.resumeFrom();
+        this.timeRowPhases = options.timeRowPhases();
+        if (resumeFrom != null) {
+            this.fromRow = Math.max(fromRow, resumeFrom.lastRow() + 1);
+        }
+        if (limits.maxInputBytes() >= 0 && getTempFile() != null) {
             try {
                 if (Files.size(java.util.Objects.requireNonNull(getTempFile())) > limits.maxInputBytes()) {
                     close();
@@ -311,18 +635,157 @@ public abstract class AbstractReadHandler<T> extends TempResourceContainer {
                             ReadAbortReason.MAX_ERRORS_EXCEEDED, maxErrors, count);
                 }
             } else lifecycle.record(true);
-            consumer.accept(result);
+            if (!timeRowPhases) {
+                consumer.accept(result);
+                return;
+            }
+            long started = System.nanoTime();
+            try {
+                consumer.accept(result);
+            } finally {
+                recordPhase(ReadPhase.CONSUMER, started);
+            }
         };
     }
 
+    /**
+     * Returns the sink that turns submitted row mappings into results for {@code downstream}.
+     * Without {@link ParallelMapping} each row is mapped and delivered immediately on the calling
+     * thread; otherwise rows are mapped on a worker pool and delivered to {@code downstream} on the
+     * calling thread during later {@link RowSink#submit} calls and {@link RowSink#finish()}.
+     *
+     * @since 0.22.0
+     */
+    protected RowSink<T> rowSink(Consumer<ReadResult<T>> downstream) {
+        return rowSink(downstream, null);
+    }
+
+    /**
+     * Returns a sink like {@link #rowSink(Consumer)} that also passes each delivered row to
+     * {@code committed} once every row submitted before it has been delivered too, so committed
+     * rows always form a prefix of the input even when {@link ParallelMapping#unordered()} delivers
+     * them out of order.
+     *
+     * @param committed receives rows in submission order after delivery, or {@code null}
+     * @since 0.22.0
+     */
+    protected RowSink<T> rowSink(Consumer<ReadResult<T>> downstream, @Nullable Consumer<ReadResult<T>> committed) {
+        RowSink<T> sink;
+        if (parallelMapping == null) {
+            Consumer<ReadResult<T>> delivery = committed == null ? downstream : downstream.andThen(committed);
+            sink = new RowSink<>() {
+                @Override public void submit(Supplier<ReadResult<T>> row) { delivery.accept(row.get()); }
+                @Override public void finish() { }
+                @Override public void close() { }
+            };
+        } else {
+            sink = new ParallelRowSink<>(parallelMapping, downstream, committed);
+        }
+        if (!timeRowPhases) return sink;
+        return new RowSink<>() {
+            @Override public void submit(Supplier<ReadResult<T>> row) {
+                sink.submit(() -> {
+                    long started = System.nanoTime();
+                    try {
+                        return row.get();
+                    } finally {
+                        recordPhase(ReadPhase.MAPPING, started);
+                    }
+                });
+            }
+            @Override public void finish() { sink.finish(); }
+            @Override public void close() { sink.close(); }
+        };
+    }
+
+    /**
+     * Receives row mapping work from the parser. Mappings must not touch handler state, since they
+     * may run on another thread.
+     *
+     * @since 0.22.0
+     */
+    protected interface RowSink<T> extends AutoCloseable {
+        /** Queues the mapping of one row, delivering earlier results if the buffer is full. */
+        void submit(Supplier<ReadResult<T>> row);
+
+        /** Waits for and delivers every queued row. */
+        void finish();
+
+        /** Releases worker threads; undelivered rows are discarded. */
+        @Override
+        void close();
+    }
+
     protected void notifyReadProgress(long processedRows, int sheetIndex, long totalRows) {
         lifecycle.progress(processedRows, sheetIndex, totalRows, readProgressCallback);
     }
 
     protected void notifyReadCompletion(int sheetIndex, long totalRows) {
+        metrics.finish(lifecycle.rows(), mapsOnWorkers(), getClass().getSimpleName());
         lifecycle.complete(sheetIndex, totalRows, cancellationToken.isCancellationRequested(), readProgressCallback);
     }
 
+    /**
+     * Returns the phase timings and counters of this read; final once the read has completed.
+     *
+     * @since 0.22.0
+     */
+    public ReadMetrics metrics() {
+        return metrics.metrics(lifecycle.rows(), mapsOnWorkers());
+    }
+
+    /**
+     * Adds the time since {@code startedNanos} (a {@link System#nanoTime()} value) to a phase.
+     *
+     * @since 0.22.0
+     */
+    protected final void recordPhase(ReadPhase phase, long startedNanos) {
+        metrics.add(phase, System.nanoTime() - startedNanos);
+    }
+
+    /**
+     * Adds time measured elsewhere to a phase.
+     *
+     * @since 0.22.0
+     */
+    protected final void addPhaseTime(ReadPhase phase, long nanos) {
+        metrics.add(phase, nanos);
+    }
+
+    /**
+     * Counts the bytes read from {@code input} as parsed bytes of this read.
+     *
+     * @since 0.22.0
+     */
+    protected final InputStream countParsedBytes(InputStream input) {
+        return new java.io.FilterInputStream(input) {
+            @Override public int read() throws IOException {
+                int value = super.read();
+                if (value >= 0) metrics.addParsedBytes(1);
+                return value;
+            }
+            @Override public int read(byte[] buffer, int offset, int length) throws IOException {
+                int count = super.read(buffer, offset, length);
+                if (count > 0) metrics.addParsedBytes(count);
+                return count;
+            }
+            @Override public long skip(long n) throws IOException {
+                long skipped = super.skip(n);
+                metrics.addParsedBytes(skipped);
+                return skipped;
+            }
+        };
+    }
+
+    /**
+     * Adds bytes consumed by a parser that does not read through {@link #countParsedBytes}.
+     *
+     * @since 0.22.0
+     */
+    protected final void addParsedBytes(long bytes) {
+        metrics.addParsedBytes(bytes);
+    }
+
     /**
      * Reads the file and invokes the given consumer only for successfully parsed rows.
      * If any row fails validation or mapping, a {@link ReadAbortException} is thrown immediately.
@@ -377,17 +840,73 @@ public abstract class AbstractReadHandler<T> extends TempResourceContainer {
      */
     protected void markConsumed() {
         lifecycle.markConsumed();
+        metrics.readStarted();
     }
 
     /**
      * Validates the given instance using Bean Validation (if a validator is configured).
+     * Row types the {@linkplain #readPlan read plan} knows to be unconstrained are skipped.
      *
      * @param instance The object to validate
      * @param messages A mutable list to collect violation messages
      * @return {@code true} if valid or no validator is configured, {@code false} if violations exist
      */
     protected boolean validateIfNeeded(T instance, List<String> messages) {
-        return RowMappingSupport.validate(instance, validator, messages);
+        if (validator != null && readPlan != null && instance != null
+                && !readPlan.validates(validator, instance.getClass())) {
+            return true;
+        }
+        if (!timeRowPhases || validator == null) return RowMappingSupport.validate(instance, validator, messages);
+        long started = System.nanoTime();
+        try {
+            return RowMappingSupport.validate(instance, validator, messages);
+        } finally {
+            recordPhase(ReadPhase.VALIDATION, started);
+        }
+    }
+
+    /**
+     * Uses a compiled {@link ReadPlan} for header resolution and validation metadata.
+     *
+     * @since 0.22.0
+     */
+    protected void readPlan(@Nullable ReadPlan<T> plan) {
+        this.readPlan = plan;
+    }
+
+    /**
+     * Resolves the header row: column indices in setter mode, the header index in mapping mode,
+     * and the column projection for both. Goes through the {@link ReadPlan} when one is set, so a
+     * header row seen before is not resolved again.
+     *
+     * @param columns     setter-mode columns, or {@code null} in mapping mode
+     * @param headerNames the header names from the file
+     * @param errorPrefix prefix for error messages (e.g., "sheet" or "CSV")
+     * @since 0.22.0
+     */
+    protected HeaderLayout resolveHeader(@Nullable List<ReadColumn<T>> columns, List<String> headerNames,
+                                         String errorPrefix) {
+        if (readPlan != null) return readPlan.resolve(headerNames, errorPrefix);
+        if (columns != null) {
+            int[] indices = resolveColumnIndices(columns.size(), i -> columns.get(i).headerAliases(),
+                    i -> columns.get(i).columnIndex(), headerNames, errorPrefix);
+            return new HeaderLayout(indices, null, columnProjection(indices, headerNames));
+        }
+        Map<String, Integer> index = buildHeaderIndexMap(headerNames, errorPrefix);
+        validateSelectedMapColumns(index, headerNames, errorPrefix);
+        return new HeaderLayout(null, index, columnProjection(null, headerNames));
+    }
+
+    /**
+     * A resolved header row. May be shared between reads and must not be modified.
+     *
+     * @param columnIndices resolved setter-mode column indices, or {@code null} in mapping mode
+     * @param headerIndex   normalized header to column index, or {@code null} in setter mode
+     * @param projection    columns the row needs, or {@code null} when every column is read
+     * @since 0.22.0
+     */
+    protected record HeaderLayout(int @Nullable [] columnIndices, @Nullable Map<String, Integer> headerIndex,
+                                  @Nullable BitSet projection) {
     }
 
     /**
@@ -426,6 +945,7 @@ public abstract class AbstractReadHandler<T> extends TempResourceContainer {
     }
 
     private HeaderResolver headerResolver() {
+        if (readPlan != null) return readPlan.resolver();
         return new HeaderResolver(strictHeaders, duplicateHeaderPolicy, headerNormalizer, limits.maxColumns());
     }
 
@@ -495,6 +1015,6 @@ public abstract class AbstractReadHandler<T> extends TempResourceContainer {
         if (rowMapper == null) {
             throw new IllegalStateException("rowMapper must not be null in mapping mode");
         }
-        return RowMappingSupport.mapRow(rowMapper, rowData, validator, fileRowNum, rawValues);
+        return RowMappingSupport.mapRow(rowMapper, rowData, this::validateIfNeeded, fileRowNum, rawValues);
     }
 }
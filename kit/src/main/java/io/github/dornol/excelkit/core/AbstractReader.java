@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Shared reader configuration for {@link io.github.dornol.excelkit.excel.ExcelReader}
@@ -58,6 +59,16 @@ public abstract class AbstractReader<T, SELF extends AbstractReader<T, SELF>> {
     protected CancellationToken cancellationToken = CancellationToken.NONE;
     protected @Nullable ReadProgressCallback readProgressCallback;
     protected ReadSecurityPolicy securityPolicy = ReadSecurityPolicy.DEFAULT;
+    protected @Nullable ParallelMapping parallelMapping;
+    protected boolean reuseRowView;
+    protected boolean captureRawValues = true;
+    protected long fromRow = -1;
+    protected long toRow = -1;
+    protected long checkpointInterval;
+    protected @Nullable Consumer<ReadCheckpoint> checkpointListener;
+    protected @Nullable ReadCheckpoint resumeFrom;
+    protected boolean timeRowPhases;
+    private ReadPlanCache readPlans = new ReadPlanCache();
 
     protected AbstractReader(Supplier<T> instanceSupplier, @Nullable Validator validator) {
         this.instanceSupplier = java.util.Objects.requireNonNull(instanceSupplier, "instanceSupplier cannot be null");
@@ -249,6 +260,78 @@ public abstract class AbstractReader<T, SELF extends AbstractReader<T, SELF>> {
         return self();
     }
 
+    /**
+     * Starts reading at the given 1-based file row, as reported by {@link ReadResult#fileRowNum()}.
+     * Earlier data rows are skipped without building cells; header rows are always read.
+     *
+     * @since 0.22.0
+     */
+    public SELF fromRow(long row) {
+        if (row < 1) {
+            throw new IllegalArgumentException("row must be positive");
+        }
+        this.fromRow = row;
+        return self();
+    }
+
+    /**
+     * Stops reading after the given 1-based file row (inclusive).
+     *
+     * @since 0.22.0
+     */
+    public SELF toRow(long row) {
+        if (row < 1) {
+            throw new IllegalArgumentException("row must be positive");
+        }
+        this.toRow = row;
+        return self();
+    }
+
+    /**
+     * Emits a {@link ReadCheckpoint} after every {@code interval} rows the consumer has accepted.
+     * The input is hashed once before the first checkpoint; Excel inputs are then always read from a
+     * temporary copy, even with {@code streamingInput()}.
+     * <p>
+     * With {@link ParallelMapping#unordered() unordered} parallel mapping, a checkpoint covers a row
+     * only once every row before it has been accepted, so rows accepted ahead of a slower one may be
+     * delivered again after resuming, but none are skipped. With {@code readBatches}, a checkpoint is
+     * emitted only once the batch holding its row has been delivered to the batch consumer.
+     *
+     * @since 0.22.0
+     */
+    public SELF checkpoints(long interval, Consumer<ReadCheckpoint> listener) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("interval must be positive");
+        }
+        this.checkpointInterval = interval;
+        this.checkpointListener = java.util.Objects.requireNonNull(listener, "listener cannot be null");
+        return self();
+    }
+
+    /**
+     * Resumes after the row recorded in {@code checkpoint}, skipping the rows before it as
+     * {@link #fromRow(long)} does. CSV reads seek straight to the checkpoint's byte offset when it
+     * is known. The read fails if the input or sheet differs from the one the checkpoint was taken on.
+     *
+     * @since 0.22.0
+     */
+    public SELF resumeFrom(ReadCheckpoint checkpoint) {
+        this.resumeFrom = java.util.Objects.requireNonNull(checkpoint, "checkpoint cannot be null");
+        return self();
+    }
+
+    /**
+     * Times mapping, validation and the consumer separately for every row in the
+     * {@link ReadMetrics} of {@code readWithSummary} and {@code readReport}, at the cost of a few
+     * clock reads per row. Without it those phases are part of {@link ReadPhase#PARSE}.
+     *
+     * @since 0.22.0
+     */
+    public SELF timeRowPhases() {
+        this.timeRowPhases = true;
+        return self();
+    }
+
     /**
      * Skips rows where every cell is blank.
      *
@@ -323,10 +406,87 @@ public abstract class AbstractReader<T, SELF extends AbstractReader<T, SELF>> {
         return self();
     }
 
+    /**
+     * Maps and validates rows on {@code workers} threads while the reading thread keeps parsing.
+     * Results are still delivered in file order on the reading thread. The instance supplier,
+     * column setters and row mapper must be safe to call concurrently.
+     *
+     * @since 0.22.0
+     */
+    public SELF parallelMapping(int workers) {
+        return parallelMapping(ParallelMapping.of(workers));
+    }
+
+    /**
+     * Maps and validates rows on a worker pool with explicit buffer and ordering settings.
+     *
+     * @see ParallelMapping
+     * @since 0.22.0
+     */
+    public SELF parallelMapping(ParallelMapping settings) {
+        this.parallelMapping = java.util.Objects.requireNonNull(settings, "settings cannot be null");
+        return self();
+    }
+
+    /**
+     * Reuses one {@link RowData} and one {@link CellData} per column for every row instead of
+     * allocating them per row. Row data and cells are then valid only during the row mapper or
+     * column setter call and must not be kept; copy out what is needed. Ignored with
+     * {@link #parallelMapping(int) parallel mapping}.
+     *
+     * @since 0.22.0
+     */
+    public SELF reuseRowView() {
+        return reuseRowView(true);
+    }
+
+    /**
+     * Enables or disables the reusable row view.
+     *
+     * @see #reuseRowView()
+     * @since 0.22.0
+     */
+    public SELF reuseRowView(boolean enabled) {
+        this.reuseRowView = enabled;
+        return self();
+    }
+
+    /**
+     * Enables or disables capturing each row's raw cell text in {@link ReadResult#rawValues()} and
+     * {@link RowError#rawValues()}. Enabled by default; when disabled both are empty lists.
+     *
+     * @since 0.22.0
+     */
+    public SELF captureRawValues(boolean enabled) {
+        this.captureRawValues = enabled;
+        return self();
+    }
+
+    /**
+     * Returns the {@link ReadPlan} for the current columns and header settings, compiling it on
+     * first use. Reads with the same configuration share one plan, so calling this up front only
+     * moves the compilation out of the first read.
+     *
+     * @since 0.22.0
+     */
+    public ReadPlan<T> readPlan() {
+        List<ReadColumn<T>> planColumns = rowMapper == null ? List.copyOf(columns) : null;
+        ReadPlan.Key key = new ReadPlan.Key(planColumns,
+                selectedMapColumns == null ? null : Set.copyOf(selectedMapColumns), strictHeaders,
+                duplicateHeaderPolicy, headerNormalizer, limits.maxColumns(), validator);
+        return readPlans.get(key, () -> new ReadPlan<>(key, planColumns));
+    }
+
+    /** Shares compiled plans with other readers, such as those of one {@link ExcelKitSchema}. */
+    void readPlans(ReadPlanCache readPlans) {
+        this.readPlans = readPlans;
+    }
+
     protected ReadOptions snapshotReadOptions() {
         return new ReadOptions(strictHeaders, duplicateHeaderPolicy, cellConversionConfig, maxRows,
                 skipBlankRows, stopAtBlankRows, maxErrors, headerNormalizer, limits, cancellationToken,
-                readProgressCallback, securityPolicy);
+                readProgressCallback, securityPolicy, parallelMapping, reuseRowView, captureRawValues,
+                fromRow, toRow, checkpointInterval, checkpointListener, resumeFrom, timeRowPhases);
     }
 
     protected InputStream limitInput(InputStream input) {
@@ -365,8 +525,51 @@ public abstract class AbstractReader<T, SELF extends AbstractReader<T, SELF>> {
         }
     }
 
+    /**
+     * Opens the source for a lazy stream and closes the opened input when the stream is closed.
+     *
+     * @since 0.22.0
+     */
+    protected Stream<ReadResult<T>> streamInputSource(InputStreamSource source,
+            Function<InputStream, Stream<ReadResult<T>>> execution,
+            BiFunction<String,IOException,? extends RuntimeException> exceptionFactory) {
+        java.util.Objects.requireNonNull(source, "source cannot be null");
+        InputStream input;
+        try {
+            input = source.openStream();
+        } catch (IOException e) {
+            throw exceptionFactory.apply("Failed to open input", e);
+        }
+        try {
+            return execution.apply(input).onClose(() -> {
+                try {
+                    input.close();
+                } catch (IOException e) {
+                    throw exceptionFactory.apply("Failed to close input", e);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            try {
+                input.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
     protected ReadSummary summarizeRead(Consumer<Consumer<ReadResult<T>>> execution,
             BooleanSupplier stoppedEarly, Consumer<ReadResult<T>> consumer) {
+        return summarizeRead(execution, stoppedEarly, () -> ReadMetrics.EMPTY, consumer);
+    }
+
+    /**
+     * Runs a read and summarizes it with the metrics {@code metrics} returns once it has finished.
+     *
+     * @since 0.22.0
+     */
+    protected ReadSummary summarizeRead(Consumer<Consumer<ReadResult<T>>> execution,
+            BooleanSupplier stoppedEarly, Supplier<ReadMetrics> metrics, Consumer<ReadResult<T>> consumer) {
         long started = System.nanoTime();
         long[] counts = new long[3];
         execution.accept(result -> {
@@ -374,15 +577,21 @@ public abstract class AbstractReader<T, SELF extends AbstractReader<T, SELF>> {
             if (result.success()) counts[1]++; else counts[2]++;
             consumer.accept(result);
         });
-        return summary(counts, stoppedEarly, started);
+        return summary(counts, stoppedEarly, started, metrics);
     }
 
     protected ReadReport collectReadReport(Consumer<Consumer<ReadResult<T>>> execution,
             BooleanSupplier stoppedEarly, int maximum) {
+        return collectReadReport(execution, stoppedEarly, () -> ReadMetrics.EMPTY, maximum);
+    }
+
+    /** @since 0.22.0 */
+    protected ReadReport collectReadReport(Consumer<Consumer<ReadResult<T>>> execution,
+            BooleanSupplier stoppedEarly, Supplier<ReadMetrics> metrics, int maximum) {
         if (maximum < 0) throw new IllegalArgumentException("maxCollectedErrors must be non-negative");
         List<RowError> errors = new ArrayList<>();
         long[] row = {0};
-        ReadSummary summary = summarizeRead(execution, stoppedEarly, result -> {
+        ReadSummary summary = summarizeRead(execution, stoppedEarly, metrics, result -> {
             row[0]++;
             if (!result.success() && errors.size() < maximum) errors.add(new RowError(row[0],
                     result.fileRowNum(), result.cause() == null ? RowError.Type.VALIDATION : RowError.Type.MAPPING,
@@ -392,8 +601,76 @@ public abstract class AbstractReader<T, SELF extends AbstractReader<T, SELF>> {
         return new ReadReport(summary, errors, summary.errorRows() > errors.size());
     }
 
+    /**
+     * Checks the arguments of a batch read before its input is spooled or opened, so that invalid
+     * arguments leave no temporary file behind.
+     *
+     * @since 0.22.0
+     */
+    protected static void validateBatches(int batchSize, @Nullable Duration maxLatency, Consumer<?> consumer) {
+        ReadBatcher.validate(batchSize, maxLatency, consumer);
+    }
+
+    /**
+     * Runs a read that delivers its results in {@link ReadBatch}es of up to {@code batchSize} rows.
+     * Rows buffered when the read stops early or fails are flushed before it returns or throws.
+     *
+     * @param maxLatency flushes a partial batch once its oldest row has waited this long, checked
+     *                   as rows arrive; {@code null} flushes on size and end of input only
+     * @since 0.22.0
+     */
+    protected ReadSummary summarizeBatches(Consumer<Consumer<ReadResult<T>>> execution,
+            BooleanSupplier stoppedEarly, int batchSize, @Nullable Duration maxLatency,
+            Consumer<ReadBatch<T>> consumer) {
+        return summarizeBatches(execution, stoppedEarly, () -> ReadMetrics.EMPTY, batchSize, maxLatency, consumer);
+    }
+
+    /** @since 0.22.0 */
+    protected ReadSummary summarizeBatches(Consumer<Consumer<ReadResult<T>>> execution,
+            BooleanSupplier stoppedEarly, Supplier<ReadMetrics> metrics, int batchSize,
+            @Nullable Duration maxLatency, Consumer<ReadBatch<T>> consumer) {
+        return summarizeBatches(execution, stoppedEarly, metrics, new ReadBatcher<>(batchSize, maxLatency, consumer));
+    }
+
+    /**
+     * Runs {@code handler}'s read in batches. Its checkpoints are held back until the batch holding
+     * their row has been delivered, so resuming after a failed batch re-reads that batch's rows.
+     *
+     * @since 0.22.0
+     */
+    protected ReadSummary summarizeBatches(AbstractReadHandler<T> handler, BooleanSupplier stoppedEarly,
+            int batchSize, @Nullable Duration maxLatency, Consumer<ReadBatch<T>> consumer) {
+        ReadBatcher<T> batcher = new ReadBatcher<>(batchSize, maxLatency, consumer);
+        Consumer<ReadCheckpoint> listener = handler.checkpointListener;
+        if (listener != null) handler.checkpointListener = batcher.holdCheckpoints(listener);
+        return summarizeBatches(handler::read, stoppedEarly, handler::metrics, batcher);
+    }
+
+    private ReadSummary summarizeBatches(Consumer<Consumer<ReadResult<T>>> execution,
+            BooleanSupplier stoppedEarly, Supplier<ReadMetrics> metrics, ReadBatcher<T> batcher) {
+        return summarizeRead(rows -> {
+            try {
+                execution.accept(rows);
+            } catch (RuntimeException | Error e) {
+                try {
+                    batcher.flush();
+                } catch (RuntimeException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+            batcher.flush();
+        }, stoppedEarly, metrics, batcher);
+    }
+
     protected ReadSummary summarizeReadWhile(Consumer<Predicate<ReadResult<T>>> execution,
             BooleanSupplier stoppedEarly, Predicate<ReadResult<T>> predicate) {
+        return summarizeReadWhile(execution, stoppedEarly, () -> ReadMetrics.EMPTY, predicate);
+    }
+
+    /** @since 0.22.0 */
+    protected ReadSummary summarizeReadWhile(Consumer<Predicate<ReadResult<T>>> execution,
+            BooleanSupplier stoppedEarly, Supplier<ReadMetrics> metrics, Predicate<ReadResult<T>> predicate) {
         long started = System.nanoTime();
         long[] counts = new long[3];
         execution.accept(result -> {
@@ -401,11 +678,12 @@ public abstract class AbstractReader<T, SELF extends AbstractReader<T, SELF>> {
             if (result.success()) counts[1]++; else counts[2]++;
             return predicate.test(result);
         });
-        return summary(counts, stoppedEarly, started);
+        return summary(counts, stoppedEarly, started, metrics);
     }
 
-    private static ReadSummary summary(long[] counts, BooleanSupplier stoppedEarly, long started) {
+    private static ReadSummary summary(long[] counts, BooleanSupplier stoppedEarly, long started,
+                                       Supplier<ReadMetrics> metrics) {
         return new ReadSummary(counts[0], counts[1], counts[2], stoppedEarly.getAsBoolean(),
-                Duration.ofNanos(System.nanoTime() - started));
+                Duration.ofNanos(System.nanoTime() - started), metrics.get());
     }
 }
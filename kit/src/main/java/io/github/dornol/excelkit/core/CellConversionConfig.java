@@ -19,6 +19,7 @@ public final class CellConversionConfig {
     private final Locale locale;
     private final List<DateTimeFormatter> dateFormats;
     private final List<DateTimeFormatter> dateTimeFormats;
+    private final CellConversionContext context;
 
     private CellConversionConfig(Locale locale,
                                  List<DateTimeFormatter> dateFormats,
@@ -26,6 +27,7 @@ public final class CellConversionConfig {
         this.locale = Objects.requireNonNull(locale, "locale must not be null");
         this.dateFormats = List.copyOf(dateFormats);
         this.dateTimeFormats = List.copyOf(dateTimeFormats);
+        this.context = CellConversionContext.of(this.locale, this.dateFormats, this.dateTimeFormats);
     }
 
     /**
@@ -64,6 +66,11 @@ public final class CellConversionConfig {
         return dateTimeFormats;
     }
 
+    /** Conversion rules compiled from this config, shared by every cell that carries it. */
+    CellConversionContext context() {
+        return context;
+    }
+
     public static final class Builder {
         private Locale locale;
         private final List<DateTimeFormatter> dateFormats;
@@ -0,0 +1,174 @@
+package io.github.dornol.excelkit.core;
+
+import org.jspecify.annotations.Nullable;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Text conversion rules compiled once from a locale and date formats, and shared by every
+ * {@link CellData} of a read.
+ * <p>
+ * Plain decimal text is parsed by hand for the locale's separators; anything else falls back to
+ * {@link NumberFormat} so results stay identical. Date formats are probed without exceptions
+ * before a formatter is asked to parse, keeping first-match order.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+final class CellConversionContext {
+    private static final String STRIPPED = "\u00A0 $₩€%원";
+
+    private final Locale locale;
+    private final char groupingSeparator;
+    private final char decimalSeparator;
+    /** Whether the locale's number format is plain enough for {@link #fastNumber(String)}. */
+    private final boolean fastPath;
+    private final List<DateTimeFormatter> dateFormats;
+    private final List<DateTimeFormatter> dateTimeFormats;
+
+    private CellConversionContext(Locale locale, List<DateTimeFormatter> dateFormats,
+                                  List<DateTimeFormatter> dateTimeFormats) {
+        this.locale = locale;
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+        this.fastPath = NumberFormat.getNumberInstance(locale) instanceof DecimalFormat format
+                && format.getPositivePrefix().isEmpty() && format.getPositiveSuffix().isEmpty()
+                && format.getNegativePrefix().equals("-") && format.getNegativeSuffix().isEmpty()
+                && format.getMultiplier() == 1 && !format.isParseBigDecimal() && !format.isParseIntegerOnly()
+                && symbols.getZeroDigit() == '0' && decimalSeparator != '-' && decimalSeparator != groupingSeparator;
+        this.dateFormats = List.copyOf(dateFormats);
+        this.dateTimeFormats = List.copyOf(dateTimeFormats);
+    }
+
+    static CellConversionContext of(Locale locale, List<DateTimeFormatter> dateFormats,
+                                    List<DateTimeFormatter> dateTimeFormats) {
+        return new CellConversionContext(java.util.Objects.requireNonNull(locale, "locale cannot be null"),
+                dateFormats, dateTimeFormats);
+    }
+
+    /** Returns a context for {@code locale} that keeps this context's date formats. */
+    CellConversionContext withLocale(Locale locale) {
+        return this.locale.equals(locale) ? this : of(locale, dateFormats, dateTimeFormats);
+    }
+
+    Locale locale() {
+        return locale;
+    }
+
+    List<DateTimeFormatter> dateFormats() {
+        return dateFormats;
+    }
+
+    List<DateTimeFormatter> dateTimeFormats() {
+        return dateTimeFormats;
+    }
+
+    /**
+     * Parses number text the way {@code NumberFormat.getNumberInstance(locale)} would after
+     * stripping currency symbols, percent signs, spaces, and grouping separators.
+     */
+    @Nullable Number number(String value) throws ParseException {
+        if (value.isBlank()) return null;
+        String cleaned = clean(value, false);
+        Number number = fastPath ? fastNumber(cleaned) : null;
+        return number != null ? number : NumberFormat.getNumberInstance(locale).parse(cleaned);
+    }
+
+    /** Returns the cleaned number text with a {@code '.'} decimal separator. */
+    String decimalText(String value) {
+        return clean(value, true);
+    }
+
+    @Nullable LocalDateTime dateTime(String value) {
+        if (value.isBlank()) return null;
+        for (DateTimeFormatter formatter : dateTimeFormats) {
+            if (!matches(formatter, value)) continue;
+            try { return LocalDateTime.parse(value, formatter); }
+            catch (DateTimeParseException ignored) { }
+        }
+        throw new DateTimeParseException("Cannot parse LocalDateTime: " + value, value, 0);
+    }
+
+    @Nullable LocalDate date(String value) {
+        if (value.isBlank()) return null;
+        for (DateTimeFormatter formatter : dateFormats) {
+            if (!matches(formatter, value)) continue;
+            try { return LocalDate.parse(value, formatter); }
+            catch (DateTimeParseException ignored) { }
+        }
+        return LocalDate.parse(value);
+    }
+
+    /** Cheap syntactic check; a formatter that fails it would also fail a full parse. */
+    private static boolean matches(DateTimeFormatter formatter, String value) {
+        ParsePosition position = new ParsePosition(0);
+        return formatter.parseUnresolved(value, position) != null
+                && position.getErrorIndex() < 0 && position.getIndex() == value.length();
+    }
+
+    private String clean(String value, boolean normalizeDecimalSeparator) {
+        char[] chars = new char[value.length()];
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (STRIPPED.indexOf(c) < 0) chars[length++] = c;
+        }
+        int start = 0;
+        while (start < length && chars[start] <= ' ') start++;
+        while (length > start && chars[length - 1] <= ' ') length--;
+        int end = 0;
+        for (int i = start; i < length; i++) {
+            char c = chars[i];
+            if (c == groupingSeparator && groupingSeparator != decimalSeparator) continue;
+            chars[end++] = normalizeDecimalSeparator && c == decimalSeparator ? '.' : c;
+        }
+        return new String(chars, 0, end);
+    }
+
+    /**
+     * Parses {@code -?digits[separator digits]} with the result types of {@code NumberFormat.parse}:
+     * integral values as {@link Long} and others, including {@code -0}, as {@link Double}. Returns
+     * {@code null} for anything else, which then goes through {@code NumberFormat}.
+     */
+    private @Nullable Number fastNumber(String text) {
+        int length = text.length();
+        int i = 0;
+        boolean negative = i < length && text.charAt(i) == '-';
+        if (negative) i++;
+        long integral = 0;
+        int digits = 0;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') break;
+            if (++digits > 18) return null;
+            integral = integral * 10 + (c - '0');
+        }
+        boolean fraction = false;
+        int fractionDigits = 0;
+        if (i < length && text.charAt(i) == decimalSeparator) {
+            for (i++; i < length; i++) {
+                char c = text.charAt(i);
+                if (c < '0' || c > '9') return null;
+                fractionDigits++;
+                fraction |= c != '0';
+            }
+        }
+        if (i != length || digits + fractionDigits == 0) return null;
+        if (!fraction) {
+            return negative && integral == 0 ? (Number) (-0.0d) : (Number) (negative ? -integral : integral);
+        }
+        String decimal = decimalSeparator == '.' ? text : text.replace(decimalSeparator, '.');
+        return Double.parseDouble(decimal);
+    }
+}
@@ -2,31 +2,51 @@ package io.github.dornol.excelkit.core;
 
 import org.jspecify.annotations.Nullable;
 
-import java.text.DecimalFormatSymbols;
-import java.text.NumberFormat;
-import java.text.ParseException;
-import java.time.LocalDate;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.util.List;
+import java.time.temporal.ChronoUnit;
 import java.util.Locale;
-import java.util.regex.Pattern;
 
-/** Stateless conversion engine used by the CellData facade. */
+/**
+ * Stateless conversions of typed cell values used by the CellData facade. Text conversions live in
+ * {@link CellConversionContext}.
+ */
 final class CellConversionSupport {
-    private static final Pattern CURRENCY_SYMBOLS = Pattern.compile("[$₩€%원]");
-
     private CellConversionSupport() {
     }
 
-    static @Nullable Number number(String value, Locale locale) throws ParseException {
-        return value.isBlank() ? null : NumberFormat.getNumberInstance(locale).parse(cleanNumber(value, locale, false));
+    /** Mirrors {@code NumberFormat.parse}: integral values become {@link Long}, others {@link Double}. */
+    static Number number(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 0x1p63 && !(value == 0 && 1 / value < 0)) {
+            return (long) value;
+        }
+        return value;
+    }
+
+    static BigDecimal decimal(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 0x1p63) {
+            return BigDecimal.valueOf((long) value);
+        }
+        return BigDecimal.valueOf(value);
     }
 
-    static String decimalText(String value, Locale locale) {
-        return cleanNumber(value, locale, true);
+    /**
+     * Converts an Excel serial date (1900 date system, including the fictitious 1900-02-29)
+     * to a {@link LocalDateTime} rounded to the millisecond.
+     */
+    static LocalDateTime excelDateTime(double serial) {
+        if (!(serial >= 0) || Double.isInfinite(serial)) {
+            throw new DateTimeException("Invalid Excel date serial: " + serial);
+        }
+        long wholeDays = (long) Math.floor(serial);
+        long millis = Math.round((serial - wholeDays) * 86_400_000d);
+        int dayAdjust = wholeDays < 61 ? 0 : -1;
+        return LocalDateTime.of(1900, 1, 1, 0, 0)
+                .plusDays(wholeDays + dayAdjust - 1L)
+                .plus(millis, ChronoUnit.MILLIS);
     }
 
     static boolean booleanValue(String value) {
@@ -35,38 +55,9 @@ final class CellConversionSupport {
                 || normalized.equals("y") || normalized.equals("yes");
     }
 
-    static @Nullable LocalDateTime dateTime(String value, List<DateTimeFormatter> formats) {
-        if (value.isBlank()) return null;
-        for (DateTimeFormatter formatter : formats) {
-            try { return LocalDateTime.parse(value, formatter); }
-            catch (DateTimeParseException ignored) { }
-        }
-        throw new DateTimeParseException("Cannot parse LocalDateTime: " + value, value, 0);
-    }
-
-    static @Nullable LocalDate date(String value, List<DateTimeFormatter> formats) {
-        if (value.isBlank()) return null;
-        for (DateTimeFormatter formatter : formats) {
-            try { return LocalDate.parse(value, formatter); }
-            catch (DateTimeParseException ignored) { }
-        }
-        return LocalDate.parse(value);
-    }
-
     static @Nullable LocalTime time(String value, @Nullable String pattern) {
         if (value.isBlank()) return null;
         return pattern == null ? LocalTime.parse(value)
                 : LocalTime.parse(value, DateTimeFormatter.ofPattern(pattern));
     }
-
-    private static String cleanNumber(String value, Locale locale, boolean normalizeDecimalSeparator) {
-        String cleaned = CURRENCY_SYMBOLS.matcher(value.replace("\u00A0", " "))
-                .replaceAll("").replace(" ", "").trim();
-        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
-        char groupingSeparator = symbols.getGroupingSeparator();
-        char decimalSeparator = symbols.getDecimalSeparator();
-        if (groupingSeparator != decimalSeparator) cleaned = cleaned.replace(String.valueOf(groupingSeparator), "");
-        if (normalizeDecimalSeparator && decimalSeparator != '.') cleaned = cleaned.replace(decimalSeparator, '.');
-        return cleaned;
-    }
 }
@@ -27,6 +27,9 @@ import java.util.function.Function;
  * <p>
  * Provides utility methods to convert the cell's value into various Java types,
  * including number, string, boolean, date/time, etc.
+ * <p>
+ * Cells are immutable unless the reader was configured with {@code reuseRowView()}, in which case
+ * the reader overwrites them for every row and they must not be kept beyond the row callback.
  *
  * @author dhkim
  * @since 2025-07-19
@@ -34,8 +37,13 @@ import java.util.function.Function;
 public final class CellData {
     private static final Logger log = LoggerFactory.getLogger(CellData.class);
     private final int columnIndex;
-    private final String formattedValue;
+    private @Nullable String formattedValue;
     private final @Nullable CellConversionConfig conversionConfig;
+    private CellValueType valueType;
+    private double numericValue;
+    private int styleIndex;
+    private int sharedStringIndex;
+    private AbstractReadHandler.@Nullable NumericTextFormatter textFormatter;
 
     /**
      * Returns the default locale used by no-arg number parsing methods.
@@ -151,44 +159,132 @@ public final class CellData {
         this.columnIndex = columnIndex;
         this.formattedValue = formattedValue;
         this.conversionConfig = conversionConfig;
+        this.valueType = CellValueType.TEXT;
+        this.numericValue = Double.NaN;
+        this.styleIndex = -1;
+        this.sharedStringIndex = -1;
+        this.textFormatter = null;
+    }
+
+    /**
+     * Creates a typed cell. When {@code formattedValue} is {@code null}, the display text is built
+     * on first access by {@code textFormatter}.
+     */
+    CellData(int columnIndex, @Nullable String formattedValue, CellValueType valueType, double numericValue,
+             int styleIndex, int sharedStringIndex, AbstractReadHandler.@Nullable NumericTextFormatter textFormatter,
+             @Nullable CellConversionConfig conversionConfig) {
+        if (columnIndex < 0) {
+            throw new IllegalArgumentException("columnIndex must be non-negative");
+        }
+        if (formattedValue == null && textFormatter == null) {
+            formattedValue = "";
+        }
+        this.columnIndex = columnIndex;
+        this.formattedValue = formattedValue;
+        this.conversionConfig = conversionConfig;
+        this.valueType = valueType;
+        this.numericValue = numericValue;
+        this.styleIndex = styleIndex;
+        this.sharedStringIndex = sharedStringIndex;
+        this.textFormatter = textFormatter;
+    }
+
+    /**
+     * Overwrites this cell with the next row's value of the same column. Only used for the
+     * reusable row view, whose cells are valid for the duration of a row callback.
+     */
+    CellData reset(@Nullable String formattedValue, CellValueType valueType, double numericValue, int styleIndex,
+                   int sharedStringIndex, AbstractReadHandler.@Nullable NumericTextFormatter textFormatter) {
+        this.formattedValue = formattedValue == null && textFormatter == null ? "" : formattedValue;
+        this.valueType = valueType;
+        this.numericValue = numericValue;
+        this.styleIndex = styleIndex;
+        this.sharedStringIndex = sharedStringIndex;
+        this.textFormatter = textFormatter;
+        return this;
     }
 
     public int columnIndex() {
         return columnIndex;
     }
 
+    /**
+     * Returns the display text of the cell, as formatted by the source's number or date format.
+     * For typed Excel cells the text is built on first access.
+     *
+     * @return the formatted value, never {@code null}
+     */
     public String formattedValue() {
-        return formattedValue;
+        String value = formattedValue;
+        if (value == null) {
+            value = Objects.requireNonNull(textFormatter).format(numericValue, styleIndex);
+            formattedValue = value;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the kind of value stored in the source file.
+     *
+     * @return {@link CellValueType#TEXT} unless the cell was read with typed values
+     * @since 0.22.0
+     */
+    public CellValueType valueType() {
+        return valueType;
     }
 
-    private Locale effectiveLocale() {
-        return conversionConfig != null ? conversionConfig.locale() : LegacyCellDefaults.locale();
+    /**
+     * Returns the numeric value stored in the source file, without display formatting.
+     * Dates are Excel serial numbers (1900 date system) and booleans are {@code 1} or {@code 0}.
+     *
+     * @return the stored numeric value
+     * @throws IllegalStateException if {@link #valueType()} is {@link CellValueType#TEXT}
+     * @since 0.22.0
+     */
+    public double numericValue() {
+        if (valueType == CellValueType.TEXT) {
+            throw new IllegalStateException("Cell " + columnIndex + " has no numeric value");
+        }
+        return numericValue;
     }
 
-    private List<DateTimeFormatter> effectiveDateFormats() {
-        return conversionConfig != null ? conversionConfig.dateFormats() : LegacyCellDefaults.dates();
+    /**
+     * Returns the shared strings table index this cell's text came from.
+     *
+     * @return the zero-based index, or {@code -1} if the text was not stored in a shared strings table
+     * @since 0.22.0
+     */
+    public int sharedStringIndex() {
+        return sharedStringIndex;
     }
 
-    private List<DateTimeFormatter> effectiveDateTimeFormats() {
-        return conversionConfig != null ? conversionConfig.dateTimeFormats() : LegacyCellDefaults.dateTimes();
+    private CellConversionContext context() {
+        return conversionConfig != null ? conversionConfig.context() : LegacyCellDefaults.context();
     }
 
     /**
      * Parses the value as a {@link Number} using the given locale.
      * This method removes formatting characters such as commas, currency symbols, and percent signs.
      * Returns {@code null} if the value is empty or blank.
+     * <p>
+     * A {@link CellValueType#NUMBER} cell returns its stored value instead, at full precision
+     * rather than rounded to its display format. Dates and booleans are parsed from their text.
      *
      * @param locale the locale to use for number formatting (e.g. {@code Locale.KOREA})
      * @return parsed number, or {@code null} if empty or blank
      * @throws IllegalArgumentException if parsing fails
      */
     public @Nullable Number asNumber(Locale locale) {
+        if (valueType == CellValueType.NUMBER) {
+            return CellConversionSupport.number(numericValue);
+        }
+        String formattedValue = formattedValue();
         if (formattedValue.isBlank()) {
             return null;
         }
 
         try {
-            return CellConversionSupport.number(formattedValue, locale);
+            return context().withLocale(locale).number(formattedValue);
         } catch (ParseException e) {
             log.warn("Failed to parse number (col {}): '{}'", columnIndex, formattedValue);
             throw new IllegalArgumentException("Failed to parse number: " + formattedValue);
@@ -203,7 +299,7 @@ public final class CellData {
      * @see #setDefaultLocale(Locale)
      */
     public @Nullable Number asNumber() {
-        return asNumber(effectiveLocale());
+        return asNumber(context().locale());
     }
 
     /**
@@ -241,7 +337,7 @@ public final class CellData {
      * @return the formatted string value
      */
     public String asString() {
-        return formattedValue;
+        return formattedValue();
     }
 
     /**
@@ -253,6 +349,10 @@ public final class CellData {
      * @return {@code true} if the value represents a true-like string, otherwise {@code false}
      */
     public boolean asBoolean() {
+        if (valueType == CellValueType.BOOLEAN) {
+            return numericValue != 0;
+        }
+        String formattedValue = formattedValue();
         if (formattedValue.isBlank()) {
             return false;
         }
@@ -270,6 +370,10 @@ public final class CellData {
      * @return {@code Boolean.TRUE}, {@code Boolean.FALSE}, or {@code null} if blank
      */
     public @Nullable Boolean asBooleanOrNull() {
+        if (valueType == CellValueType.BOOLEAN) {
+            return numericValue != 0;
+        }
+        String formattedValue = formattedValue();
         if (formattedValue.isBlank()) {
             return null;
         }
@@ -293,7 +397,10 @@ public final class CellData {
      * @return the parsed date-time, or {@code null} if blank
      */
     public @Nullable LocalDateTime asLocalDateTime() {
-        return CellConversionSupport.dateTime(formattedValue, effectiveDateTimeFormats());
+        if (valueType == CellValueType.DATE) {
+            return CellConversionSupport.excelDateTime(numericValue);
+        }
+        return context().dateTime(formattedValue());
     }
 
     /**
@@ -304,6 +411,7 @@ public final class CellData {
      * @return the parsed date-time, or {@code null} if blank
      */
     public @Nullable LocalDateTime asLocalDateTime(String format) {
+        String formattedValue = formattedValue();
         if (formattedValue.isBlank()) {
             return null;
         }
@@ -326,7 +434,10 @@ public final class CellData {
      * @return the parsed date, or {@code null} if blank
      */
     public @Nullable LocalDate asLocalDate() {
-        return CellConversionSupport.date(formattedValue, effectiveDateFormats());
+        if (valueType == CellValueType.DATE) {
+            return CellConversionSupport.excelDateTime(numericValue).toLocalDate();
+        }
+        return context().date(formattedValue());
     }
 
     /**
@@ -337,6 +448,7 @@ public final class CellData {
      * @return the parsed date, or {@code null} if blank
      */
     public @Nullable LocalDate asLocalDate(String format) {
+        String formattedValue = formattedValue();
         if (formattedValue.isBlank()) {
             return null;
         }
@@ -350,7 +462,10 @@ public final class CellData {
      * @return the parsed time, or {@code null} if blank
      */
     public @Nullable LocalTime asLocalTime() {
-        return CellConversionSupport.time(formattedValue, null);
+        if (valueType == CellValueType.DATE) {
+            return CellConversionSupport.excelDateTime(numericValue).toLocalTime();
+        }
+        return CellConversionSupport.time(formattedValue(), null);
     }
 
     /**
@@ -361,7 +476,7 @@ public final class CellData {
      * @return the parsed time, or {@code null} if blank
      */
     public @Nullable LocalTime asLocalTime(String format) {
-        return CellConversionSupport.time(formattedValue, format);
+        return CellConversionSupport.time(formattedValue(), format);
     }
 
     /**
@@ -420,17 +535,22 @@ public final class CellData {
      * Unlike {@link #asNumber()}, this method parses the cleaned string directly
      * as a {@link BigDecimal}, avoiding intermediate {@link Double} conversion
      * that can lose precision for large or high-precision values.
-     * Returns {@code null} if the value is empty or blank.
+     * Returns {@code null} if the value is empty or blank. A {@link CellValueType#NUMBER} cell
+     * returns its stored value, as {@link #asNumber(Locale)} does.
      *
      * @return the BigDecimal value, or {@code null} if blank
      * @throws IllegalArgumentException if the value cannot be parsed as a number
      */
     public @Nullable BigDecimal asBigDecimal() {
+        if (valueType == CellValueType.NUMBER) {
+            return CellConversionSupport.decimal(numericValue);
+        }
+        String formattedValue = formattedValue();
         if (formattedValue.isBlank()) {
             return null;
         }
         try {
-            String cleaned = CellConversionSupport.decimalText(formattedValue, effectiveLocale());
+            String cleaned = context().decimalText(formattedValue);
             return new BigDecimal(cleaned);
         } catch (NumberFormatException e) {
             log.warn("Failed to parse BigDecimal (col {}): '{}'", columnIndex, formattedValue);
@@ -444,7 +564,10 @@ public final class CellData {
      * @return {@code true} if the formatted value is empty or consists only of whitespace
      */
     public boolean isEmpty() {
-        return formattedValue.isBlank();
+        if (valueType != CellValueType.TEXT) {
+            return false;
+        }
+        return formattedValue().isBlank();
     }
 
     /**
@@ -457,6 +580,7 @@ public final class CellData {
      * @throws IllegalArgumentException if no matching constant is found
      */
     public <E extends Enum<E>> @Nullable E asEnum(Class<E> enumType) {
+        String formattedValue = formattedValue();
         if (formattedValue.isBlank()) {
             return null;
         }
@@ -485,6 +609,7 @@ public final class CellData {
      * @return the converted value, or {@code null} if blank
      */
     public <R> @Nullable R as(Function<String, R> converter) {
+        String formattedValue = formattedValue();
         if (formattedValue.isBlank()) {
             return null;
         }
@@ -531,6 +656,7 @@ public final class CellData {
      * @return the string value or the default value
      */
     public String asString(String defaultValue) {
+        String formattedValue = formattedValue();
         return formattedValue.isBlank() ? defaultValue : formattedValue;
     }
 
@@ -547,6 +673,7 @@ public final class CellData {
      * @return the converted value or the default value
      */
     public <R> R as(Function<String, R> converter, R defaultValue) {
+        String formattedValue = formattedValue();
         if (formattedValue.isBlank()) {
             return defaultValue;
         }
@@ -562,17 +689,17 @@ public final class CellData {
             return false;
         }
         return columnIndex == cellData.columnIndex
-                && Objects.equals(formattedValue, cellData.formattedValue);
+                && Objects.equals(formattedValue(), cellData.formattedValue());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(columnIndex, formattedValue);
+        return Objects.hash(columnIndex, formattedValue());
     }
 
     @Override
     public String toString() {
-        return "CellData[columnIndex=" + columnIndex + ", formattedValue=" + formattedValue + "]";
+        return "CellData[columnIndex=" + columnIndex + ", formattedValue=" + formattedValue() + "]";
     }
 
 }
@@ -0,0 +1,22 @@
+package io.github.dornol.excelkit.core;
+
+/**
+ * Kind of source value carried by a {@link CellData}.
+ * <p>
+ * Cells read through the native Excel engine keep the typed value stored in the file, so
+ * conversions such as {@link CellData#asDouble()} or {@link CellData#asLocalDate()} use it directly
+ * instead of re-parsing the display text. All other cells are {@link #TEXT}.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+public enum CellValueType {
+    /** Text only; conversions parse {@link CellData#formattedValue()}. */
+    TEXT,
+    /** A number stored in the file; see {@link CellData#numericValue()}. */
+    NUMBER,
+    /** A date or time stored as an Excel serial number with a date format; see {@link CellData#numericValue()}. */
+    DATE,
+    /** A boolean stored in the file; {@link CellData#numericValue()} is {@code 1} or {@code 0}. */
+    BOOLEAN
+}
@@ -42,6 +42,7 @@ import java.util.function.Supplier;
 public class ExcelKitSchema<T> {
 
     private final List<SchemaColumn<T>> columns;
+    private final List<RecordColumn<T>> recordColumns;
     private final boolean strictHeaders;
     private final DuplicateHeaderPolicy duplicateHeaderPolicy;
     private final @Nullable CellConversionConfig cellConversionConfig;
@@ -49,9 +50,12 @@ public class ExcelKitSchema<T> {
     private final long maxRows;
     private final boolean skipBlankRows;
     private final int stopAtBlankRows;
+    private final ReadPlanCache readPlans = new ReadPlanCache();
+    private final @Nullable Function<RowData, T> recordMapper;
 
     private ExcelKitSchema(List<SchemaColumn<T>> columns, Builder<T> builder) {
         this.columns = Collections.unmodifiableList(columns);
+        this.recordColumns = List.copyOf(builder.recordColumns);
         this.strictHeaders = builder.strictHeaders;
         this.duplicateHeaderPolicy = builder.duplicateHeaderPolicy;
         this.cellConversionConfig = builder.cellConversionConfig;
@@ -59,6 +63,7 @@ public class ExcelKitSchema<T> {
         this.maxRows = builder.maxRows;
         this.skipBlankRows = builder.skipBlankRows;
         this.stopAtBlankRows = builder.stopAtBlankRows;
+        this.recordMapper = builder.recordMapper;
     }
 
     /**
@@ -71,6 +76,42 @@ public class ExcelKitSchema<T> {
         return new Builder<>();
     }
 
+    /**
+     * Creates a schema builder with one column per record component, named after the component.
+     * Readers from {@link #excelReader()} and {@link #csvReader()} pass each row straight to the
+     * canonical constructor through a {@link RecordMapper}; writers read components through
+     * generated accessors. The columns are listed by {@link #getRecordColumns()}; the builder
+     * rejects further columns, since every component is already mapped by name.
+     *
+     * @param type the record class
+     * @param <R>  the record type
+     * @return a builder pre-populated with the record's columns
+     * @since 0.22.0
+     */
+    public static <R extends Record> Builder<R> forRecord(Class<R> type) {
+        return forRecord(RecordMapper.of(type));
+    }
+
+    /**
+     * Creates a record schema builder using the caller's lookup, for records that are not
+     * accessible to this library.
+     *
+     * @since 0.22.0
+     * @see #forRecord(Class)
+     */
+    public static <R extends Record> Builder<R> forRecord(Class<R> type, java.lang.invoke.MethodHandles.Lookup lookup) {
+        return forRecord(RecordMapper.of(type, lookup));
+    }
+
+    private static <R extends Record> Builder<R> forRecord(RecordMapper<R> mapper) {
+        Builder<R> builder = new Builder<>();
+        builder.recordMapper = mapper;
+        for (int i = 0; i < mapper.headers().size(); i++) {
+            builder.recordColumns.add(new RecordColumn<>(mapper.headers().get(i), mapper.accessors().get(i)));
+        }
+        return builder;
+    }
+
     /**
      * Creates a new {@link ExcelWriter} pre-configured with this schema's columns.
      * <p>
@@ -100,6 +141,9 @@ public class ExcelKitSchema<T> {
                 writer.column(col.name(), col.writeFunction());
             }
         }
+        for (RecordColumn<T> col : recordColumns) {
+            writer.column(col.name(), col.writeFunction());
+        }
         return writer;
     }
 
@@ -114,6 +158,9 @@ public class ExcelKitSchema<T> {
         for (SchemaColumn<T> col : columns) {
             writer.column(col.name(), col.writeFunction());
         }
+        for (RecordColumn<T> col : recordColumns) {
+            writer.column(col.name(), col.writeFunction());
+        }
         return writer;
     }
 
@@ -129,6 +176,7 @@ public class ExcelKitSchema<T> {
      * @return A configured ExcelReader instance
      */
     public ExcelReader<T> excelReader(Supplier<T> supplier, @Nullable Validator validator) {
+        requireSetterSchema();
         ExcelReader<T> reader = new ExcelReader<>(supplier, validator);
         for (SchemaColumn<T> col : columns) {
             reader.column(col.readHeaderNames(), col.readSetter());
@@ -177,6 +225,7 @@ public class ExcelKitSchema<T> {
      * @return A configured CsvReader instance
      */
     public CsvReader<T> csvReader(Supplier<T> supplier, @Nullable Validator validator) {
+        requireSetterSchema();
         CsvReader<T> reader = new CsvReader<>(supplier, validator);
         for (SchemaColumn<T> col : columns) {
             reader.column(col.readHeaderNames(), col.readSetter());
@@ -210,7 +259,48 @@ public class ExcelKitSchema<T> {
         return reader;
     }
 
+    /**
+     * Creates an {@link ExcelReader} that maps rows into the record's canonical constructor.
+     *
+     * @throws IllegalStateException if this schema was not created by {@link #forRecord(Class)}
+     * @since 0.22.0
+     */
+    public ExcelReader<T> excelReader() {
+        return excelReader(recordMapper(), null);
+    }
+
+    /**
+     * Creates a {@link CsvReader} that maps rows into the record's canonical constructor.
+     *
+     * @throws IllegalStateException if this schema was not created by {@link #forRecord(Class)}
+     * @since 0.22.0
+     */
+    public CsvReader<T> csvReader() {
+        return csvReader(recordMapper(), null);
+    }
+
+    /**
+     * Returns the row mapper of a record schema, for use with the mapping-mode reader factories,
+     * for example together with a validator.
+     *
+     * @throws IllegalStateException if this schema was not created by {@link #forRecord(Class)}
+     * @since 0.22.0
+     */
+    public Function<RowData, T> recordMapper() {
+        if (recordMapper == null) {
+            throw new IllegalStateException("Schema was not created with forRecord(...)");
+        }
+        return recordMapper;
+    }
+
+    private void requireSetterSchema() {
+        if (recordMapper != null) {
+            throw new IllegalStateException("Record schemas have no setters; use excelReader() or csvReader()");
+        }
+    }
+
     private <R extends AbstractReader<T, R>> void applyReaderDefaults(R reader) {
+        reader.readPlans(readPlans);
         reader.duplicateHeaderPolicy(duplicateHeaderPolicy);
         if (strictHeaders) {
             reader.strictHeaders();
@@ -232,12 +322,22 @@ public class ExcelKitSchema<T> {
     /**
      * Returns the unmodifiable list of schema columns.
      *
-     * @return Schema columns
+     * @return Schema columns; empty for a {@link #forRecord(Class) record schema}
      */
     public List<SchemaColumn<T>> getColumns() {
         return columns;
     }
 
+    /**
+     * Returns the columns of a {@link #forRecord(Class) record schema}, one per record component.
+     *
+     * @return record columns in component order; empty for other schemas
+     * @since 0.22.0
+     */
+    public List<RecordColumn<T>> getRecordColumns() {
+        return recordColumns;
+    }
+
     /**
      * Represents a single column definition in the schema.
      *
@@ -308,6 +408,22 @@ public class ExcelKitSchema<T> {
         }
     }
 
+    /**
+     * A column of a {@link #forRecord(Class) record schema}. It has no setter: rows are read
+     * through the record's canonical constructor.
+     *
+     * @param name          Column header name, the record component name
+     * @param writeFunction Generated accessor of the record component
+     * @param <T>           The record type
+     * @since 0.22.0
+     */
+    public record RecordColumn<T>(String name, Function<T, @Nullable Object> writeFunction) {
+        public RecordColumn {
+            java.util.Objects.requireNonNull(name, "name cannot be null");
+            java.util.Objects.requireNonNull(writeFunction, "writeFunction cannot be null");
+        }
+    }
+
     /**
      * Builder for constructing {@link ExcelKitSchema} instances.
      *
@@ -315,6 +431,7 @@ public class ExcelKitSchema<T> {
      */
     public static class Builder<T> {
         private final List<SchemaColumn<T>> columns = new ArrayList<>();
+        private final List<RecordColumn<T>> recordColumns = new ArrayList<>();
         private boolean strictHeaders;
         private DuplicateHeaderPolicy duplicateHeaderPolicy = DuplicateHeaderPolicy.FIRST;
         private @Nullable CellConversionConfig cellConversionConfig;
@@ -322,6 +439,7 @@ public class ExcelKitSchema<T> {
         private long maxRows = -1;
         private boolean skipBlankRows;
         private int stopAtBlankRows;
+        private @Nullable Function<RowData, T> recordMapper;
 
         private Builder() {}
 
@@ -334,8 +452,7 @@ public class ExcelKitSchema<T> {
          * @return This builder for chaining
          */
         public Builder<T> column(String name, Function<T, @Nullable Object> writeFunction, BiConsumer<T, CellData> readSetter) {
-            columns.add(new SchemaColumn<>(name, writeFunction, readSetter));
-            return this;
+            return add(new SchemaColumn<>(name, writeFunction, readSetter));
         }
 
         /**
@@ -350,8 +467,7 @@ public class ExcelKitSchema<T> {
         public Builder<T> column(String name, List<String> readAliases,
                                  Function<T, @Nullable Object> writeFunction,
                                  BiConsumer<T, CellData> readSetter) {
-            columns.add(new SchemaColumn<>(name, writeFunction, readSetter, null, readAliases, false));
-            return this;
+            return add(new SchemaColumn<>(name, writeFunction, readSetter, null, readAliases, false));
         }
 
         /**
@@ -364,8 +480,7 @@ public class ExcelKitSchema<T> {
          */
         public Builder<T> requiredColumn(String name, Function<T, @Nullable Object> writeFunction,
                                          BiConsumer<T, CellData> readSetter) {
-            columns.add(new SchemaColumn<>(name, writeFunction, readSetter, null, List.of(name), true));
-            return this;
+            return add(new SchemaColumn<>(name, writeFunction, readSetter, null, List.of(name), true));
         }
 
         /**
@@ -380,8 +495,7 @@ public class ExcelKitSchema<T> {
         public Builder<T> requiredColumn(String name, List<String> readAliases,
                                          Function<T, @Nullable Object> writeFunction,
                                          BiConsumer<T, CellData> readSetter) {
-            columns.add(new SchemaColumn<>(name, writeFunction, readSetter, null, readAliases, true));
-            return this;
+            return add(new SchemaColumn<>(name, writeFunction, readSetter, null, readAliases, true));
         }
 
         /**
@@ -405,8 +519,7 @@ public class ExcelKitSchema<T> {
          */
         public Builder<T> column(String name, Function<T, @Nullable Object> writeFunction, BiConsumer<T, CellData> readSetter,
                                   Consumer<ExcelColumn.ExcelColumnBuilder<T>> writeConfigurer) {
-            columns.add(new SchemaColumn<>(name, writeFunction, readSetter, writeConfigurer));
-            return this;
+            return add(new SchemaColumn<>(name, writeFunction, readSetter, writeConfigurer));
         }
 
         /**
@@ -423,8 +536,7 @@ public class ExcelKitSchema<T> {
                                  Function<T, @Nullable Object> writeFunction,
                                  BiConsumer<T, CellData> readSetter,
                                  Consumer<ExcelColumn.ExcelColumnBuilder<T>> writeConfigurer) {
-            columns.add(new SchemaColumn<>(name, writeFunction, readSetter, writeConfigurer, readAliases, false));
-            return this;
+            return add(new SchemaColumn<>(name, writeFunction, readSetter, writeConfigurer, readAliases, false));
         }
 
         /**
@@ -439,8 +551,7 @@ public class ExcelKitSchema<T> {
         public Builder<T> requiredColumn(String name, Function<T, @Nullable Object> writeFunction,
                                          BiConsumer<T, CellData> readSetter,
                                          Consumer<ExcelColumn.ExcelColumnBuilder<T>> writeConfigurer) {
-            columns.add(new SchemaColumn<>(name, writeFunction, readSetter, writeConfigurer, List.of(name), true));
-            return this;
+            return add(new SchemaColumn<>(name, writeFunction, readSetter, writeConfigurer, List.of(name), true));
         }
 
         /**
@@ -457,7 +568,14 @@ public class ExcelKitSchema<T> {
                                          Function<T, @Nullable Object> writeFunction,
                                          BiConsumer<T, CellData> readSetter,
                                          Consumer<ExcelColumn.ExcelColumnBuilder<T>> writeConfigurer) {
-            columns.add(new SchemaColumn<>(name, writeFunction, readSetter, writeConfigurer, readAliases, true));
+            return add(new SchemaColumn<>(name, writeFunction, readSetter, writeConfigurer, readAliases, true));
+        }
+
+        private Builder<T> add(SchemaColumn<T> column) {
+            if (recordMapper != null) {
+                throw new IllegalStateException("Record schemas take their columns from the record components");
+            }
+            columns.add(column);
             return this;
         }
 
@@ -468,7 +586,7 @@ public class ExcelKitSchema<T> {
          * @throws IllegalArgumentException if no columns are defined
          */
         public ExcelKitSchema<T> build() {
-            if (columns.isEmpty()) {
+            if (columns.isEmpty() && recordColumns.isEmpty()) {
                 throw new IllegalArgumentException("At least one column must be defined");
             }
             return new ExcelKitSchema<>(new ArrayList<>(columns), this);
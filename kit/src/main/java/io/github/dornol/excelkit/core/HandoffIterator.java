@@ -0,0 +1,136 @@
+package io.github.dornol.excelkit.core;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Turns a push-style {@code readWhile} into a pull iterator.
+ * <p>
+ * The read runs on a daemon thread started by the first {@link #hasNext()} and hands rows over
+ * through a bounded queue, so the reader never gets more than {@code capacity} rows ahead of the
+ * caller. {@link #close()} stops the read at the next row and waits until it has released its
+ * resources; a failure of the read is rethrown from {@link #hasNext()} after the rows before it.
+ *
+ * @param <T> the row data type
+ * @author dhkim
+ */
+final class HandoffIterator<T> implements Iterator<ReadResult<T>>, AutoCloseable {
+    private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+    private static final Object END = new Object();
+
+    private final Consumer<Predicate<ReadResult<T>>> execution;
+    private final Runnable release;
+    private final BlockingQueue<Object> queue;
+    private volatile boolean closed;
+    private @Nullable Thread producer;
+    private @Nullable ReadResult<T> next;
+    private boolean done;
+
+    /**
+     * @param execution runs the read, offering each row to the predicate
+     * @param release   releases the read's resources if it is closed before it was started
+     * @param capacity  maximum number of rows read ahead of the caller
+     */
+    HandoffIterator(Consumer<Predicate<ReadResult<T>>> execution, Runnable release, int capacity) {
+        this.execution = execution;
+        this.release = release;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) return true;
+        if (done || closed) return false;
+        if (producer == null) start();
+        Object item = take();
+        if (item == END) {
+            done = true;
+            return false;
+        }
+        if (item instanceof Failure failure) {
+            done = true;
+            if (failure.error() instanceof Error error) throw error;
+            throw (RuntimeException) failure.error();
+        }
+        @SuppressWarnings("unchecked")
+        ReadResult<T> result = (ReadResult<T>) item;
+        next = result;
+        return true;
+    }
+
+    @Override
+    public ReadResult<T> next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        ReadResult<T> result = java.util.Objects.requireNonNull(next);
+        next = null;
+        return result;
+    }
+
+    /** Stops the read and waits until its resources are released. */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        next = null;
+        Thread thread = producer;
+        if (thread == null) {
+            release.run();
+            return;
+        }
+        try {
+            while (thread.isAlive()) {
+                queue.clear();
+                thread.join(10);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        queue.clear();
+    }
+
+    private void start() {
+        Thread thread = new Thread(this::produce, "excel-kit-read-stream-" + THREAD_SEQUENCE.incrementAndGet());
+        thread.setDaemon(true);
+        producer = thread;
+        thread.start();
+    }
+
+    private void produce() {
+        Object last = END;
+        try {
+            execution.accept(row -> !closed && offer(row) && !closed);
+        } catch (RuntimeException | Error e) {
+            last = new Failure(e);
+        }
+        if (!closed) offer(last);
+    }
+
+    private boolean offer(Object item) {
+        try {
+            queue.put(item);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Object take() {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelKitException("Interrupted while waiting for the next row", e);
+        }
+    }
+
+    private record Failure(Throwable error) {
+    }
+}
@@ -25,6 +25,15 @@ final class HeaderResolver {
 
     int[] resolve(int count, IntFunction<List<String>> aliases, IntUnaryOperator explicitIndex,
                   List<String> headers, String source) {
+        return resolve(count, aliases, i -> {
+            List<String> candidates = aliases.apply(i);
+            return candidates == null ? null : candidates.stream().map(this::normalize).toList();
+        }, explicitIndex, headers, source);
+    }
+
+    /** Same as above with the aliases already passed through {@link #normalize(String)}. */
+    int[] resolve(int count, IntFunction<List<String>> aliases, IntFunction<List<String>> normalizedAliases,
+                  IntUnaryOperator explicitIndex, List<String> headers, String source) {
         Map<String, Integer> index = index(headers, source);
         int[] resolved = new int[count];
         for (int i = 0; i < count; i++) {
@@ -40,8 +49,11 @@ final class HeaderResolver {
                 resolved[i] = i;
                 continue;
             }
-            Integer match = candidates.stream().map(this::normalize).map(index::get)
-                    .filter(java.util.Objects::nonNull).findFirst().orElse(null);
+            Integer match = null;
+            for (String alias : normalizedAliases.apply(i)) {
+                match = index.get(alias);
+                if (match != null) break;
+            }
             if (match == null) throw new ExcelKitException("Header aliases " + candidates
                     + " not found in " + source + ". Available headers: " + headers);
             resolved[i] = match;
@@ -22,13 +22,20 @@ final class LegacyCellDefaults {
     private static volatile Locale locale = Locale.getDefault();
     private static volatile CopyOnWriteArrayList<DateTimeFormatter> dates = new CopyOnWriteArrayList<>(DATES);
     private static volatile CopyOnWriteArrayList<DateTimeFormatter> dateTimes = new CopyOnWriteArrayList<>(DATE_TIMES);
+    /** Compiled from the fields above and rebuilt whenever one of them changes. */
+    private static volatile CellConversionContext context = CellConversionContext.of(locale, DATES, DATE_TIMES);
 
     static Locale locale() {
         return locale;
     }
 
-    static void locale(Locale value) {
+    static synchronized void locale(Locale value) {
         locale = java.util.Objects.requireNonNull(value);
+        recompile();
+    }
+
+    static CellConversionContext context() {
+        return context;
     }
 
     static List<DateTimeFormatter> dates() {
@@ -39,19 +46,27 @@ final class LegacyCellDefaults {
         return List.copyOf(dateTimes);
     }
 
-    static void addDate(String pattern) {
+    static synchronized void addDate(String pattern) {
         dates.add(0, DateTimeFormatter.ofPattern(pattern));
+        recompile();
     }
 
-    static void addDateTime(String pattern) {
+    static synchronized void addDateTime(String pattern) {
         dateTimes.add(0, DateTimeFormatter.ofPattern(pattern));
+        recompile();
     }
 
-    static void resetDates() {
+    static synchronized void resetDates() {
         dates = new CopyOnWriteArrayList<>(DATES);
+        recompile();
     }
 
-    static void resetDateTimes() {
+    static synchronized void resetDateTimes() {
         dateTimes = new CopyOnWriteArrayList<>(DATE_TIMES);
+        recompile();
+    }
+
+    private static void recompile() {
+        context = CellConversionContext.of(locale, dates, dateTimes);
     }
 }
@@ -0,0 +1,45 @@
+package io.github.dornol.excelkit.core;
+
+/**
+ * Settings for mapping and validating rows on a worker pool instead of the parser thread.
+ * <p>
+ * The parser hands each raw row to one of {@code workers} threads, which run the instance
+ * supplier, column setters or row mapper, and Bean Validation. At most {@code bufferSize} rows are
+ * in flight; the parser waits when the buffer is full. Results reach the consumer on the reading
+ * thread, in file order when {@code ordered} is set and in completion order otherwise, so
+ * consumers, {@code maxErrors}, cancellation and progress callbacks stay single-threaded.
+ * Setters, row mappers and the instance supplier must be safe to call concurrently.
+ *
+ * @param workers    number of mapping threads (at least 1)
+ * @param bufferSize maximum number of rows in flight (at least {@code workers})
+ * @param ordered    whether results are re-sequenced into file row order
+ * @author dhkim
+ * @since 0.22.0
+ */
+public record ParallelMapping(int workers, int bufferSize, boolean ordered) {
+    /** Rows buffered per worker by {@link #of(int)}. */
+    private static final int ROWS_PER_WORKER = 64;
+
+    public ParallelMapping {
+        if (workers < 1) throw new IllegalArgumentException("workers must be positive");
+        if (bufferSize < workers) throw new IllegalArgumentException("bufferSize must be >= workers");
+    }
+
+    /**
+     * Ordered mapping on {@code workers} threads with a buffer of 64 rows per worker.
+     */
+    public static ParallelMapping of(int workers) {
+        if (workers < 1) throw new IllegalArgumentException("workers must be positive");
+        return new ParallelMapping(workers, workers * ROWS_PER_WORKER, true);
+    }
+
+    /** Returns a copy that delivers results as soon as they are mapped, ignoring file order. */
+    public ParallelMapping unordered() {
+        return new ParallelMapping(workers, bufferSize, false);
+    }
+
+    /** Returns a copy with the given maximum number of rows in flight. */
+    public ParallelMapping bufferSize(int bufferSize) {
+        return new ParallelMapping(workers, bufferSize, ordered);
+    }
+}
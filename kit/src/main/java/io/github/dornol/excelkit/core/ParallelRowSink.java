@@ -0,0 +1,151 @@
+package io.github.dornol.excelkit.core;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * {@link AbstractReadHandler.RowSink} that maps rows on a fixed worker pool.
+ * <p>
+ * Submitted rows are bounded by {@link ParallelMapping#bufferSize()}: once the buffer is full the
+ * submitting (parser) thread delivers finished results until there is room again. Delivery always
+ * happens on the submitting thread, in submission order unless the settings are unordered.
+ * <p>
+ * Delivered rows are passed on to the optional {@code committed} listener in submission order, once
+ * every earlier row has been delivered as well. In unordered mode that holds back rows delivered
+ * ahead of a slower one until it arrives.
+ *
+ * @param <T> the row data type
+ * @author dhkim
+ */
+final class ParallelRowSink<T> implements AbstractReadHandler.RowSink<T> {
+    private static final AtomicInteger POOL_SEQUENCE = new AtomicInteger();
+
+    private final Consumer<ReadResult<T>> downstream;
+    private final @Nullable Consumer<ReadResult<T>> committed;
+    private final int capacity;
+    private final boolean ordered;
+    private final ExecutorService executor;
+    private final ArrayDeque<Future<ReadResult<T>>> pending = new ArrayDeque<>();
+    private final ExecutorCompletionService<ReadResult<T>> completion;
+    private int inFlight;
+    /** Unordered mode with a commit listener: rows in submission order, not yet committed. */
+    private final ArrayDeque<Future<ReadResult<T>>> uncommitted = new ArrayDeque<>();
+    private final Set<Future<ReadResult<T>>> delivered = new HashSet<>();
+
+    ParallelRowSink(ParallelMapping settings, Consumer<ReadResult<T>> downstream,
+                    @Nullable Consumer<ReadResult<T>> committed) {
+        this.downstream = downstream;
+        this.committed = committed;
+        this.capacity = settings.bufferSize();
+        this.ordered = settings.ordered();
+        this.executor = Executors.newFixedThreadPool(settings.workers(), threadFactory());
+        this.completion = new ExecutorCompletionService<>(executor);
+    }
+
+    @Override
+    public void submit(Supplier<ReadResult<T>> row) {
+        if (ordered) {
+            while (!pending.isEmpty() && (pending.size() >= capacity || pending.peekFirst().isDone())) {
+                deliver(pending.pollFirst());
+            }
+            pending.addLast(executor.submit(row::get));
+        } else {
+            while (inFlight >= capacity) {
+                deliver(take());
+            }
+            for (Future<ReadResult<T>> done; (done = completion.poll()) != null; ) {
+                inFlight--;
+                deliver(done);
+            }
+            Future<ReadResult<T>> future = completion.submit(row::get);
+            if (committed != null) uncommitted.addLast(future);
+            inFlight++;
+        }
+    }
+
+    @Override
+    public void finish() {
+        if (ordered) {
+            while (!pending.isEmpty()) deliver(pending.pollFirst());
+        } else {
+            while (inFlight > 0) deliver(take());
+        }
+    }
+
+    /** Abandons rows that were not delivered and stops the workers. */
+    @Override
+    public void close() {
+        pending.forEach(future -> future.cancel(true));
+        pending.clear();
+        uncommitted.clear();
+        delivered.clear();
+        executor.shutdownNow();
+    }
+
+    private Future<ReadResult<T>> take() {
+        try {
+            Future<ReadResult<T>> done = completion.take();
+            inFlight--;
+            return done;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelKitException("Interrupted while waiting for row mapping", e);
+        }
+    }
+
+    private void deliver(Future<ReadResult<T>> future) {
+        ReadResult<T> result;
+        try {
+            result = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelKitException("Interrupted while waiting for row mapping", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            if (cause instanceof Error error) throw error;
+            throw new ExcelKitException("Row mapping failed", cause);
+        }
+        downstream.accept(result);
+        if (committed == null) return;
+        if (ordered) {
+            committed.accept(result);
+            return;
+        }
+        delivered.add(future);
+        while (!uncommitted.isEmpty() && delivered.remove(uncommitted.peekFirst())) {
+            committed.accept(resultOf(uncommitted.pollFirst()));
+        }
+    }
+
+    /** Returns the result of a future that has already been delivered successfully. */
+    private static <T> ReadResult<T> resultOf(Future<ReadResult<T>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException("Delivered row has no result", e);
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        int pool = POOL_SEQUENCE.incrementAndGet();
+        AtomicInteger sequence = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, "excel-kit-read-" + pool + "-mapper-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.dornol.excelkit.core;
+
+import java.util.List;
+
+/**
+ * A group of consecutive row results delivered by {@code readBatches(...)}.
+ * <p>
+ * The lists are read-only views of buffers that the reader reuses for the next batch once the
+ * batch callback returns; copy them if rows must outlive the callback.
+ *
+ * @param batchNumber     1-based batch sequence number
+ * @param successes       successfully mapped and validated rows, in delivery order
+ * @param errors          failed rows, with {@link RowError#rowNum()} counted across the whole read
+ * @param firstFileRowNum smallest 1-based physical file row number in the batch, or {@code -1} if unknown
+ * @param lastFileRowNum  largest 1-based physical file row number in the batch, or {@code -1} if unknown
+ * @param <T>             the row data type
+ * @author dhkim
+ * @since 0.22.0
+ */
+public record ReadBatch<T>(long batchNumber, List<T> successes, List<RowError> errors,
+                           long firstFileRowNum, long lastFileRowNum) {
+    public ReadBatch {
+        java.util.Objects.requireNonNull(successes, "successes cannot be null");
+        java.util.Objects.requireNonNull(errors, "errors cannot be null");
+    }
+
+    /** Number of rows in this batch, successful or not. */
+    public int size() {
+        return successes.size() + errors.size();
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+}
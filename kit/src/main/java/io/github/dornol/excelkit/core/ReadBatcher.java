@@ -0,0 +1,112 @@
+package io.github.dornol.excelkit.core;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Buffers row results into {@link ReadBatch}es, flushing when a batch is full or its oldest row
+ * has waited {@code maxLatency}. The latency is checked as rows arrive; no timer thread is used,
+ * so batches are always delivered on the reading thread.
+ *
+ * @param <T> the row data type
+ * @author dhkim
+ */
+final class ReadBatcher<T> implements Consumer<ReadResult<T>> {
+    private final int batchSize;
+    private final long maxLatencyNanos;
+    private final Consumer<ReadBatch<T>> consumer;
+    private final List<T> successes;
+    private final List<RowError> errors;
+    private final List<T> successView;
+    private final List<RowError> errorView;
+    private long rowNum;
+    private long batchNumber;
+    private long batchStarted;
+    private long firstFileRowNum = -1;
+    private long lastFileRowNum = -1;
+    private final List<ReadCheckpoint> heldCheckpoints = new ArrayList<>();
+    private @Nullable Consumer<ReadCheckpoint> checkpointListener;
+    private boolean undelivered;
+
+    ReadBatcher(int batchSize, @Nullable Duration maxLatency, Consumer<ReadBatch<T>> consumer) {
+        validate(batchSize, maxLatency, consumer);
+        this.batchSize = batchSize;
+        this.maxLatencyNanos = maxLatency == null ? -1 : maxLatency.toNanos();
+        this.consumer = consumer;
+        this.successes = new ArrayList<>(batchSize);
+        this.errors = new ArrayList<>(Math.min(batchSize, 64));
+        this.successView = Collections.unmodifiableList(successes);
+        this.errorView = Collections.unmodifiableList(errors);
+    }
+
+    static void validate(int batchSize, @Nullable Duration maxLatency, Consumer<?> consumer) {
+        if (batchSize < 1) throw new IllegalArgumentException("batchSize must be positive");
+        if (maxLatency != null && (maxLatency.isNegative() || maxLatency.isZero()))
+            throw new IllegalArgumentException("maxLatency must be positive");
+        java.util.Objects.requireNonNull(consumer, "consumer cannot be null");
+    }
+
+    @Override
+    public void accept(ReadResult<T> result) {
+        long n = ++rowNum;
+        if (successes.isEmpty() && errors.isEmpty() && maxLatencyNanos >= 0) batchStarted = System.nanoTime();
+        if (result.success()) {
+            successes.add(result.data());
+        } else {
+            RowError.Type type = result.cause() != null ? RowError.Type.MAPPING : RowError.Type.VALIDATION;
+            errors.add(new RowError(n, result.fileRowNum(), type,
+                    result.messages() != null ? result.messages() : List.of(), result.cause(),
+                    result.cellErrors(), result.rawValues()));
+        }
+        long fileRowNum = result.fileRowNum();
+        if (fileRowNum >= 0) {
+            if (firstFileRowNum < 0 || fileRowNum < firstFileRowNum) firstFileRowNum = fileRowNum;
+            if (fileRowNum > lastFileRowNum) lastFileRowNum = fileRowNum;
+        }
+        if (successes.size() + errors.size() >= batchSize
+                || maxLatencyNanos >= 0 && System.nanoTime() - batchStarted >= maxLatencyNanos) {
+            flush();
+        }
+    }
+
+    /**
+     * Returns a checkpoint listener that passes checkpoints on to {@code listener} only once every
+     * row accepted before them has been delivered in a batch, so that a checkpoint never covers rows
+     * still buffered here. Once a batch fails, no further checkpoints are passed on.
+     */
+    Consumer<ReadCheckpoint> holdCheckpoints(Consumer<ReadCheckpoint> listener) {
+        this.checkpointListener = java.util.Objects.requireNonNull(listener, "listener cannot be null");
+        return checkpoint -> {
+            if (undelivered) return;
+            if (successes.isEmpty() && errors.isEmpty()) listener.accept(checkpoint);
+            else heldCheckpoints.add(checkpoint);
+        };
+    }
+
+    /** Delivers the buffered rows, if any, and resets the buffers for the next batch. */
+    void flush() {
+        if (successes.isEmpty() && errors.isEmpty()) return;
+        try {
+            consumer.accept(new ReadBatch<>(++batchNumber, successView, errorView, firstFileRowNum, lastFileRowNum));
+        } catch (RuntimeException | Error e) {
+            undelivered = true;
+            heldCheckpoints.clear();
+            throw e;
+        } finally {
+            successes.clear();
+            errors.clear();
+            firstFileRowNum = -1;
+            lastFileRowNum = -1;
+        }
+        Consumer<ReadCheckpoint> listener = checkpointListener;
+        if (listener == null || heldCheckpoints.isEmpty()) return;
+        List<ReadCheckpoint> released = List.copyOf(heldCheckpoints);
+        heldCheckpoints.clear();
+        released.forEach(listener);
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.dornol.excelkit.core;
+
+/**
+ * Position after the last row a reader's consumer fully accepted, from which a later read of the
+ * same input can resume with {@link AbstractReader#resumeFrom(ReadCheckpoint)}.
+ *
+ * @param contentHash hex SHA-256 of the input file, checked when resuming
+ * @param sheetIndex  the sheet read, or {@code -1} for CSV
+ * @param lastRow     1-based file row of the last consumed row, as in {@link ReadResult#fileRowNum()}
+ * @param byteOffset  CSV byte offset just after that row's record, or {@code -1} when unknown
+ * @since 0.22.0
+ */
+public record ReadCheckpoint(String contentHash, int sheetIndex, long lastRow, long byteOffset) {
+    public ReadCheckpoint {
+        java.util.Objects.requireNonNull(contentHash, "contentHash cannot be null");
+        if (sheetIndex < -1) throw new IllegalArgumentException("sheetIndex must be >= -1");
+        if (lastRow < 1) throw new IllegalArgumentException("lastRow must be positive");
+        if (byteOffset < -1) throw new IllegalArgumentException("byteOffset must be >= -1");
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.dornol.excelkit.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event committed at the end of every read, carrying its {@link ReadMetrics}. Only referenced
+ * through {@link ReadMetricsRecorder} when the {@code jdk.jfr} module is present.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+@Name("io.github.dornol.excelkit.Read")
+@Label("Excel Kit Read")
+@Category("Excel Kit")
+@Description("An Excel or CSV read with the time spent per phase")
+@StackTrace(false)
+final class ReadEvent extends Event {
+    @Label("Handler") String handler;
+    @Label("Rows") long rows;
+    @Label("Parsed Bytes") @DataAmount long parsedBytes;
+    @Label("Rows per Second") double rowsPerSecond;
+    @Label("Temp Copy") @Timespan long tempCopy;
+    @Label("Decryption") @Timespan long decryption;
+    @Label("Security Scan") @Timespan long securityScan;
+    @Label("Row Count") @Timespan long rowCount;
+    @Label("Shared Strings") @Timespan long sharedStrings;
+    @Label("Parse") @Timespan long parse;
+    @Label("Mapping") @Timespan long mapping;
+    @Label("Validation") @Timespan long validation;
+    @Label("Consumer") @Timespan long consumer;
+
+    static Object start() {
+        ReadEvent event = new ReadEvent();
+        event.begin();
+        return event;
+    }
+
+    static void commit(Object started, String handler, ReadMetrics metrics) {
+        ReadEvent event = (ReadEvent) started;
+        event.end();
+        if (!event.shouldCommit()) return;
+        event.handler = handler;
+        event.rows = metrics.rows();
+        event.parsedBytes = metrics.parsedBytes();
+        event.rowsPerSecond = metrics.rowsPerSecond();
+        event.tempCopy = metrics.phase(ReadPhase.TEMP_COPY).toNanos();
+        event.decryption = metrics.phase(ReadPhase.DECRYPTION).toNanos();
+        event.securityScan = metrics.phase(ReadPhase.SECURITY_SCAN).toNanos();
+        event.rowCount = metrics.phase(ReadPhase.ROW_COUNT).toNanos();
+        event.sharedStrings = metrics.phase(ReadPhase.SHARED_STRINGS).toNanos();
+        event.parse = metrics.phase(ReadPhase.PARSE).toNanos();
+        event.mapping = metrics.phase(ReadPhase.MAPPING).toNanos();
+        event.validation = metrics.phase(ReadPhase.VALIDATION).toNanos();
+        event.consumer = metrics.phase(ReadPhase.CONSUMER).toNanos();
+        event.commit();
+    }
+}
@@ -23,6 +23,10 @@ final class ReadLifecycle {
         else errors.incrementAndGet();
     }
 
+    long rows() {
+        return successes.get() + errors.get();
+    }
+
     void progress(long processed, int sheet, long total,
                   @Nullable ReadProgressCallback callback) {
         if (callback != null) callback.onProgress(event(processed, sheet, total, false, false));
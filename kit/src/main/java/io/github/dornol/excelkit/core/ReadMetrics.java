@@ -0,0 +1,44 @@
+package io.github.dornol.excelkit.core;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Phase timings and counters of one read, from creating the handler (including the temporary copy
+ * of the input) to the end of the read.
+ * <p>
+ * One-off phases are always timed. {@link ReadPhase#MAPPING}, {@link ReadPhase#VALIDATION} and
+ * {@link ReadPhase#CONSUMER} are timed per row only with {@link AbstractReader#timeRowPhases()};
+ * otherwise they read as zero and are part of {@link ReadPhase#PARSE}. With parallel mapping,
+ * mapping and validation times are summed across workers.
+ *
+ * @param phases      time spent per phase; phases that did not run are absent
+ * @param rows        rows delivered to the consumer
+ * @param parsedBytes bytes fed to the parser: inflated worksheet XML for xlsx, the workbook stream
+ *                    for {@code .xls}, and the file for CSV
+ * @param duration    wall-clock time of the whole read
+ * @since 0.22.0
+ */
+public record ReadMetrics(Map<ReadPhase, Duration> phases, long rows, long parsedBytes, Duration duration) {
+    /** Metrics of a read that recorded none. */
+    public static final ReadMetrics EMPTY = new ReadMetrics(Map.of(), 0, 0, Duration.ZERO);
+
+    public ReadMetrics {
+        java.util.Objects.requireNonNull(phases, "phases cannot be null");
+        java.util.Objects.requireNonNull(duration, "duration cannot be null");
+        if (rows < 0 || parsedBytes < 0) throw new IllegalArgumentException("counters must be non-negative");
+        phases = phases.isEmpty() ? Map.of() : java.util.Collections.unmodifiableMap(new EnumMap<>(phases));
+    }
+
+    /** Returns the time spent in {@code phase}, or {@link Duration#ZERO} when it did not run. */
+    public Duration phase(ReadPhase phase) {
+        return phases.getOrDefault(phase, Duration.ZERO);
+    }
+
+    /** Returns the delivered rows per second of {@link #duration()}. */
+    public double rowsPerSecond() {
+        long nanos = duration.toNanos();
+        return nanos == 0 ? 0 : rows * 1_000_000_000.0 / nanos;
+    }
+}
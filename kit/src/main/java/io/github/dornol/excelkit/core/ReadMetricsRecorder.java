@@ -0,0 +1,90 @@
+package io.github.dornol.excelkit.core;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates the phase timings of one read handler and commits its {@link ReadEvent} when the
+ * read completes. Row phases may be recorded from mapping workers.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+final class ReadMetricsRecorder {
+    private static final boolean JFR_AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+    private static final ReadPhase[] PHASES = ReadPhase.values();
+
+    private final long started = System.nanoTime();
+    /** The pending {@link ReadEvent}, typed as {@code Object} so that its class is only loaded with JFR. */
+    private final @Nullable Object event = JFR_AVAILABLE ? ReadEvent.start() : null;
+    private final LongAdder[] nanos = new LongAdder[PHASES.length];
+    private final LongAdder parsedBytes = new LongAdder();
+    /** One-off phase time recorded after {@link #readStarted}, which is not parse time. */
+    private final LongAdder setupWithinRead = new LongAdder();
+    private volatile long readStarted = -1;
+    private volatile long finished = -1;
+    private volatile @Nullable ReadMetrics result;
+
+    ReadMetricsRecorder() {
+        for (int i = 0; i < nanos.length; i++) nanos[i] = new LongAdder();
+    }
+
+    void readStarted() {
+        readStarted = System.nanoTime();
+    }
+
+    /**
+     * Adds time to a phase. {@link ReadPhase#MAPPING} is recorded around whole row mappings, so it
+     * includes the {@link ReadPhase#VALIDATION} time recorded within them.
+     */
+    void add(ReadPhase phase, long elapsedNanos) {
+        nanos[phase.ordinal()].add(elapsedNanos);
+        // the one-off phases precede PARSE in declaration order
+        if (readStarted >= 0 && phase.compareTo(ReadPhase.PARSE) < 0) setupWithinRead.add(elapsedNanos);
+    }
+
+    void addParsedBytes(long bytes) {
+        parsedBytes.add(bytes);
+    }
+
+    /**
+     * Fixes the metrics at the end of the read and commits the JFR event once.
+     *
+     * @param mappingOnWorkers whether mapping and validation ran off the reading thread
+     */
+    void finish(long rows, boolean mappingOnWorkers, String handler) {
+        if (finished >= 0) return;
+        finished = System.nanoTime();
+        ReadMetrics metrics = snapshot(rows, mappingOnWorkers);
+        result = metrics;
+        if (event != null) ReadEvent.commit(event, handler, metrics);
+    }
+
+    /** Returns the metrics fixed by {@link #finish}, or the metrics so far while the read runs. */
+    ReadMetrics metrics(long rows, boolean mappingOnWorkers) {
+        ReadMetrics metrics = result;
+        return metrics != null ? metrics : snapshot(rows, mappingOnWorkers);
+    }
+
+    private ReadMetrics snapshot(long rows, boolean mappingOnWorkers) {
+        long end = finished >= 0 ? finished : System.nanoTime();
+        long[] values = new long[PHASES.length];
+        for (ReadPhase phase : PHASES) values[phase.ordinal()] = nanos[phase.ordinal()].sum();
+        long mapping = values[ReadPhase.MAPPING.ordinal()];
+        values[ReadPhase.MAPPING.ordinal()] = Math.max(0, mapping - values[ReadPhase.VALIDATION.ordinal()]);
+        if (readStarted >= 0) {
+            long parse = end - readStarted - setupWithinRead.sum() - values[ReadPhase.CONSUMER.ordinal()];
+            values[ReadPhase.PARSE.ordinal()] = Math.max(0, mappingOnWorkers ? parse : parse - mapping);
+        }
+        Map<ReadPhase, Duration> phases = new EnumMap<>(ReadPhase.class);
+        for (ReadPhase phase : PHASES) {
+            long value = values[phase.ordinal()];
+            if (value > 0 || phase == ReadPhase.PARSE && readStarted >= 0) phases.put(phase, Duration.ofNanos(value));
+        }
+        return new ReadMetrics(phases, rows, parsedBytes.sum(), Duration.ofNanos(end - started));
+    }
+}
@@ -3,6 +3,7 @@ package io.github.dornol.excelkit.core;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
 /** Immutable snapshot of format-independent reader settings. */
@@ -18,7 +19,16 @@ public record ReadOptions(
         ReadLimits limits,
         CancellationToken cancellationToken,
         @Nullable ReadProgressCallback readProgressCallback,
-        ReadSecurityPolicy securityPolicy
+        ReadSecurityPolicy securityPolicy,
+        @Nullable ParallelMapping parallelMapping,
+        boolean reuseRowView,
+        boolean captureRawValues,
+        long fromRow,
+        long toRow,
+        long checkpointInterval,
+        @Nullable Consumer<ReadCheckpoint> checkpointListener,
+        @Nullable ReadCheckpoint resumeFrom,
+        boolean timeRowPhases
 ) {
     public ReadOptions {
         Objects.requireNonNull(duplicateHeaderPolicy, "duplicateHeaderPolicy cannot be null");
@@ -29,5 +39,21 @@ public record ReadOptions(
         if (maxRows < -1) throw new IllegalArgumentException("maxRows must be >= -1");
         if (stopAtBlankRows < 0) throw new IllegalArgumentException("stopAtBlankRows must be non-negative");
         if (maxErrors < -1) throw new IllegalArgumentException("maxErrors must be >= -1");
+        if (fromRow < -1 || fromRow == 0) throw new IllegalArgumentException("fromRow must be positive or -1");
+        if (toRow < -1 || toRow == 0) throw new IllegalArgumentException("toRow must be positive or -1");
+        if (fromRow > 0 && toRow > 0 && fromRow > toRow) {
+            throw new IllegalArgumentException("fromRow must not be greater than toRow");
+        }
+        if (checkpointInterval < 0) throw new IllegalArgumentException("checkpointInterval must be non-negative");
+    }
+
+    public ReadOptions(boolean strictHeaders, DuplicateHeaderPolicy duplicateHeaderPolicy,
+                       @Nullable CellConversionConfig cellConversionConfig, long maxRows, boolean skipBlankRows,
+                       int stopAtBlankRows, long maxErrors, UnaryOperator<String> headerNormalizer, ReadLimits limits,
+                       CancellationToken cancellationToken, @Nullable ReadProgressCallback readProgressCallback,
+                       ReadSecurityPolicy securityPolicy) {
+        this(strictHeaders, duplicateHeaderPolicy, cellConversionConfig, maxRows, skipBlankRows, stopAtBlankRows,
+                maxErrors, headerNormalizer, limits, cancellationToken, readProgressCallback, securityPolicy, null,
+                false, true, -1, -1, 0, null, null, false);
     }
 }
@@ -0,0 +1,28 @@
+package io.github.dornol.excelkit.core;
+
+/**
+ * Phases of a read timed in {@link ReadMetrics}.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+public enum ReadPhase {
+    /** Copying the input to a temporary file. */
+    TEMP_COPY,
+    /** Deriving the key of an encrypted workbook and, when random access is needed, decrypting it to disk. */
+    DECRYPTION,
+    /** Security policy scans run before parsing. */
+    SECURITY_SCAN,
+    /** Counting rows for progress totals in a separate pass. */
+    ROW_COUNT,
+    /** Loading the shared strings table, or the workbook globals of a {@code .xls} file. */
+    SHARED_STRINGS,
+    /** Parsing rows and building cells; includes the row phases below unless they are timed separately. */
+    PARSE,
+    /** Row mappers and column setters, including the cell conversions they call. */
+    MAPPING,
+    /** Bean Validation of mapped rows. */
+    VALIDATION,
+    /** The caller's row consumer. */
+    CONSUMER
+}
@@ -0,0 +1,137 @@
+package io.github.dornol.excelkit.core;
+
+import jakarta.validation.Validator;
+import jakarta.validation.metadata.BeanDescriptor;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Header handling compiled once from a reader's columns and header settings, and shared by every
+ * read of that reader, or of every reader created by the same {@link ExcelKitSchema}.
+ * <p>
+ * A plan holds the normalized header aliases of each column, the strictness and duplicate-header
+ * rules, which row types Bean Validation actually has to look at, and a bounded cache from header
+ * rows already seen to their resolved columns, so uploads with a known layout skip header
+ * resolution entirely. Plans are immutable apart from these caches and safe to share between
+ * concurrent reads.
+ *
+ * @param <T> the row data type
+ * @author dhkim
+ * @see AbstractReader#readPlan()
+ * @since 0.22.0
+ */
+public final class ReadPlan<T> {
+    /** Maximum number of distinct header rows remembered per plan. */
+    static final int MAX_HEADER_SIGNATURES = 64;
+
+    private final Key key;
+    private final HeaderResolver resolver;
+    private final @Nullable List<ReadColumn<T>> columns;
+    private final List<List<String>> normalizedAliases;
+    private final @Nullable Set<String> selectedColumns;
+    private final Map<List<String>, AbstractReadHandler.HeaderLayout> layouts = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Boolean> constrainedTypes = new ConcurrentHashMap<>();
+
+    ReadPlan(Key key, @Nullable List<ReadColumn<T>> columns) {
+        this.key = key;
+        this.resolver = new HeaderResolver(key.strictHeaders(), key.duplicateHeaderPolicy(), key.headerNormalizer(),
+                key.maxColumns());
+        this.columns = columns;
+        this.selectedColumns = key.selectedColumns();
+        List<List<String>> aliases = new ArrayList<>();
+        if (columns != null) {
+            for (ReadColumn<T> column : columns) {
+                aliases.add(column.headerAliases().stream().map(resolver::normalize).toList());
+            }
+        }
+        this.normalizedAliases = List.copyOf(aliases);
+    }
+
+    Key key() {
+        return key;
+    }
+
+    HeaderResolver resolver() {
+        return resolver;
+    }
+
+    /** Returns the number of distinct header rows currently remembered. */
+    public int cachedHeaderLayouts() {
+        return layouts.size();
+    }
+
+    /**
+     * Resolves a header row to column indices (setter mode) or a header index (mapping mode) and
+     * the column projection, reusing the result for a header row seen before. Failures are not
+     * cached.
+     */
+    AbstractReadHandler.HeaderLayout resolve(List<String> headerNames, String source) {
+        List<String> signature = Collections.unmodifiableList(new ArrayList<>(headerNames));
+        AbstractReadHandler.HeaderLayout layout = layouts.get(signature);
+        if (layout != null) return layout;
+        layout = columns != null ? resolveColumns(columns, signature, source) : resolveIndex(signature, source);
+        if (layouts.size() < MAX_HEADER_SIGNATURES) {
+            AbstractReadHandler.HeaderLayout existing = layouts.putIfAbsent(signature, layout);
+            if (existing != null) return existing;
+        }
+        return layout;
+    }
+
+    /**
+     * Returns whether Bean Validation has anything to check on instances of {@code type}; types
+     * without constraints or cascaded properties skip validation.
+     */
+    boolean validates(Object validator, Class<?> type) {
+        return constrainedTypes.computeIfAbsent(type, t -> constrained((Validator) validator, t));
+    }
+
+    private static boolean constrained(Validator validator, Class<?> type) {
+        try {
+            BeanDescriptor descriptor = validator.getConstraintsForClass(type);
+            return descriptor == null || descriptor.isBeanConstrained();
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+
+    private AbstractReadHandler.HeaderLayout resolveColumns(List<ReadColumn<T>> columns, List<String> headers,
+                                                            String source) {
+        int[] indices = resolver.resolve(columns.size(), i -> columns.get(i).headerAliases(), normalizedAliases::get,
+                i -> columns.get(i).columnIndex(), headers, source);
+        BitSet projection = new BitSet();
+        for (int index : indices) {
+            if (index >= 0) projection.set(index);
+        }
+        return new AbstractReadHandler.HeaderLayout(indices, null, projection);
+    }
+
+    private AbstractReadHandler.HeaderLayout resolveIndex(List<String> headers, String source) {
+        Map<String, Integer> index = resolver.index(headers, source);
+        resolver.validateSelected(selectedColumns, index, headers, source);
+        BitSet projection = null;
+        if (selectedColumns != null && !selectedColumns.isEmpty()) {
+            projection = new BitSet();
+            for (int i = 0; i < headers.size(); i++) {
+                if (selectedColumns.contains(headers.get(i))) projection.set(i);
+            }
+        }
+        return new AbstractReadHandler.HeaderLayout(null, Collections.unmodifiableMap(index), projection);
+    }
+
+    /**
+     * Everything a plan is compiled from. The validator is kept as an {@link Object} so that plans
+     * can be compared without Bean Validation on the class path.
+     */
+    record Key(@Nullable List<?> columns, @Nullable Set<String> selectedColumns, boolean strictHeaders,
+               DuplicateHeaderPolicy duplicateHeaderPolicy, UnaryOperator<String> headerNormalizer, int maxColumns,
+               @Nullable Object validator) {
+    }
+}
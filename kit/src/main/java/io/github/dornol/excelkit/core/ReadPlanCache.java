@@ -0,0 +1,29 @@
+package io.github.dornol.excelkit.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Compiled {@link ReadPlan}s keyed by the configuration they were compiled from, shared by one
+ * reader or by every reader of an {@link ExcelKitSchema}.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+final class ReadPlanCache {
+    /** Distinct configurations kept before the cache starts over. */
+    static final int MAX_PLANS = 8;
+
+    private final Map<ReadPlan.Key, ReadPlan<?>> plans = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    <T> ReadPlan<T> get(ReadPlan.Key key, Supplier<ReadPlan<T>> compiler) {
+        ReadPlan<?> plan = plans.get(key);
+        if (plan == null) {
+            if (plans.size() >= MAX_PLANS) plans.clear();
+            plan = plans.computeIfAbsent(key, k -> compiler.get());
+        }
+        return (ReadPlan<T>) plan;
+    }
+}
@@ -8,4 +8,13 @@ public record ReadReport(ReadSummary summary, List<RowError> errors, boolean err
         java.util.Objects.requireNonNull(summary, "summary cannot be null");
         errors = List.copyOf(errors);
     }
+
+    /**
+     * Returns the phase timings and counters of the read.
+     *
+     * @since 0.22.0
+     */
+    public ReadMetrics metrics() {
+        return summary.metrics();
+    }
 }
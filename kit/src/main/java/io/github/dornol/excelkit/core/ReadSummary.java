@@ -2,13 +2,23 @@ package io.github.dornol.excelkit.core;
 
 import java.time.Duration;
 
-/** Aggregate outcome of one reader execution. */
+/**
+ * Aggregate outcome of one reader execution.
+ *
+ * @param metrics phase timings and counters of the read (since 0.22.0); {@link ReadMetrics#EMPTY}
+ *                when the summary was built without them
+ */
 public record ReadSummary(long totalRows, long successRows, long errorRows,
-                          boolean stoppedEarly, Duration duration) {
+                          boolean stoppedEarly, Duration duration, ReadMetrics metrics) {
     public ReadSummary {
         if (totalRows < 0 || successRows < 0 || errorRows < 0) {
             throw new IllegalArgumentException("row counts must be non-negative");
         }
         java.util.Objects.requireNonNull(duration, "duration cannot be null");
+        java.util.Objects.requireNonNull(metrics, "metrics cannot be null");
+    }
+
+    public ReadSummary(long totalRows, long successRows, long errorRows, boolean stoppedEarly, Duration duration) {
+        this(totalRows, successRows, errorRows, stoppedEarly, duration, ReadMetrics.EMPTY);
     }
 }
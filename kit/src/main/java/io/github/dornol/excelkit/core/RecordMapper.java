@@ -0,0 +1,222 @@
+package io.github.dornol.excelkit.core;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Maps rows straight into a record's canonical constructor.
+ * <p>
+ * The constructor and component accessors are looked up once. Each record component is read from
+ * the column whose header matches the component name; the column positions are resolved once per
+ * header row, so rows are converted positionally into the constructor arguments without header
+ * lookups. Supported component types are {@code String}, the primitive number and boolean types and
+ * their wrappers, {@code BigDecimal}, {@code LocalDate}, {@code LocalDateTime}, {@code LocalTime},
+ * and enums (matched by constant name).
+ * <pre>{@code
+ * record Person(String name, int age) {}
+ *
+ * ExcelReader.mapping(RecordMapper.of(Person.class)).read(inputStream, result -> { ... });
+ * }</pre>
+ * Instances are immutable and may be shared between readers and threads.
+ *
+ * @param <R> the record type
+ * @author dhkim
+ * @see ExcelKitSchema#forRecord(Class)
+ * @since 0.22.0
+ */
+public final class RecordMapper<R extends Record> implements Function<RowData, R> {
+    private final Class<R> type;
+    private final List<String> headers;
+    private final List<Function<CellData, @Nullable Object>> converters;
+    private final List<Function<R, @Nullable Object>> accessors;
+    /** The canonical constructor adapted to {@code (Object[])Object}. */
+    private final MethodHandle constructor;
+    private volatile @Nullable Layout layout;
+
+    private RecordMapper(Class<R> type, MethodHandles.Lookup lookup) {
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException(type.getName() + " is not a record class");
+        }
+        RecordComponent[] components = type.getRecordComponents();
+        List<String> headers = new ArrayList<>();
+        List<Function<CellData, @Nullable Object>> converters = new ArrayList<>();
+        List<Function<R, @Nullable Object>> accessors = new ArrayList<>();
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        try {
+            for (int i = 0; i < components.length; i++) {
+                RecordComponent component = components[i];
+                headers.add(component.getName());
+                converters.add(converter(component));
+                accessors.add(accessor(lookup, lookup.unreflect(component.getAccessor())));
+                parameterTypes[i] = component.getType();
+            }
+            this.constructor = lookup.findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+                    .asSpreader(Object[].class, components.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExcelKitException("Cannot access record " + type.getName()
+                    + "; pass a lookup with access to it", e);
+        }
+        this.type = type;
+        this.headers = List.copyOf(headers);
+        this.converters = List.copyOf(converters);
+        this.accessors = List.copyOf(accessors);
+    }
+
+    /**
+     * Creates a mapper for a record class accessible to this library.
+     *
+     * @param type the record class
+     * @param <R>  the record type
+     * @return the mapper
+     * @throws IllegalArgumentException if {@code type} is not a record or has an unsupported component type
+     */
+    public static <R extends Record> RecordMapper<R> of(Class<R> type) {
+        java.util.Objects.requireNonNull(type, "type cannot be null");
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            lookup = MethodHandles.publicLookup();
+        }
+        return new RecordMapper<>(type, lookup);
+    }
+
+    /**
+     * Creates a mapper using the caller's lookup, for records that are not public or live in a
+     * module that is not open to this library.
+     *
+     * @param type   the record class
+     * @param lookup a lookup with access to the record, usually {@code MethodHandles.lookup()}
+     * @param <R>    the record type
+     * @return the mapper
+     */
+    public static <R extends Record> RecordMapper<R> of(Class<R> type, MethodHandles.Lookup lookup) {
+        java.util.Objects.requireNonNull(type, "type cannot be null");
+        java.util.Objects.requireNonNull(lookup, "lookup cannot be null");
+        return new RecordMapper<>(type, lookup);
+    }
+
+    /** Returns the record class. */
+    public Class<R> type() {
+        return type;
+    }
+
+    /** Returns the header name of each record component, in constructor order. */
+    public List<String> headers() {
+        return headers;
+    }
+
+    /** Returns a getter for each record component, in constructor order, for writing. */
+    List<Function<R, @Nullable Object>> accessors() {
+        return accessors;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply(RowData row) {
+        int[] columns = columns(row);
+        Object[] arguments = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] < 0) {
+                throw new IllegalArgumentException("Header '" + headers.get(i)
+                        + "' not found. Available headers: " + row.headerNames());
+            }
+            arguments[i] = converters.get(i).apply(row.get(columns[i]));
+        }
+        try {
+            return (R) (Object) constructor.invokeExact(arguments);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ExcelKitException("Failed to construct " + type.getName(), e);
+        }
+    }
+
+    /** Column of each component, resolved once per header index. */
+    private int[] columns(RowData row) {
+        Map<String, Integer> headerIndex = row.headerIndex();
+        Layout current = layout;
+        if (current != null && current.headerIndex() == headerIndex) return current.columns();
+        int[] columns = new int[headers.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = row.headerIndexOf(headers.get(i));
+        }
+        layout = new Layout(headerIndex, columns);
+        return columns;
+    }
+
+    private static Function<CellData, @Nullable Object> converter(RecordComponent component) {
+        Class<?> type = component.getType();
+        String name = component.getName();
+        if (type == String.class) return CellData::asString;
+        if (type == Integer.class) return CellData::asInt;
+        if (type == Long.class) return CellData::asLong;
+        if (type == Double.class) return CellData::asDouble;
+        if (type == Float.class) return CellData::asFloat;
+        if (type == Boolean.class) return CellData::asBooleanOrNull;
+        if (type == BigDecimal.class) return CellData::asBigDecimal;
+        if (type == LocalDate.class) return CellData::asLocalDate;
+        if (type == LocalDateTime.class) return CellData::asLocalDateTime;
+        if (type == LocalTime.class) return CellData::asLocalTime;
+        if (type == boolean.class) return cell -> required(cell.asBooleanOrNull(), name);
+        if (type == int.class) return cell -> required(cell.asInt(), name);
+        if (type == long.class) return cell -> required(cell.asLong(), name);
+        if (type == double.class) return cell -> required(cell.asDouble(), name);
+        if (type == float.class) return cell -> required(cell.asFloat(), name);
+        if (type.isEnum()) return cell -> enumValue(type, cell.asString().trim());
+        throw new IllegalArgumentException("Unsupported type " + type.getName() + " of record component '"
+                + name + "'; map it with ExcelReader.mapping(...) instead");
+    }
+
+    private static Object required(@Nullable Object value, String component) {
+        if (value == null) throw new IllegalArgumentException("Column '" + component + "' is empty");
+        return value;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static @Nullable Object enumValue(Class<?> type, String name) {
+        return name.isEmpty() ? null : Enum.valueOf((Class) type, name);
+    }
+
+    /**
+     * Builds a {@link Function} around a component accessor with {@link LambdaMetafactory}, falling
+     * back to the method handle when the lookup cannot define classes for the record.
+     */
+    @SuppressWarnings("unchecked")
+    private static <R> Function<R, @Nullable Object> accessor(MethodHandles.Lookup lookup, MethodHandle getter) {
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class), getter, getter.type().wrap());
+            return (Function<R, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            MethodHandle handle = getter.asType(MethodType.methodType(Object.class, Object.class));
+            return record -> {
+                try {
+                    return handle.invokeExact((Object) record);
+                } catch (RuntimeException | Error failure) {
+                    throw failure;
+                } catch (Throwable failure) {
+                    throw new ExcelKitException("Failed to read record component", failure);
+                }
+            };
+        }
+    }
+
+    private record Layout(Map<String, Integer> headerIndex, int[] columns) {
+    }
+}
@@ -112,14 +112,17 @@ public class RowData {
         return Collections.unmodifiableList(headerNames);
     }
 
+    /** Returns the normalized header index, shared by every row of a header layout. */
+    Map<String, Integer> headerIndex() {
+        return headerIndex;
+    }
+
     private CellData getCell(int index) {
         if (index < 0) {
             throw new IllegalArgumentException("Column index must be non-negative, but was: " + index);
         }
-        if (index >= cells.size()) {
-            return new CellData(index, null);
-        }
-        return cells.get(index);
+        CellData cell = index < cells.size() ? cells.get(index) : null;
+        return cell != null ? cell : new CellData(index, null);
     }
 
     private String normalize(String headerName) {
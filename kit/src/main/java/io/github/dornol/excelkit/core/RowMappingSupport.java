@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 /** Setter, row-mapper, and Bean Validation execution shared by format handlers. */
@@ -56,7 +57,7 @@ final class RowMappingSupport {
     }
 
     static <T> ReadResult<T> mapRow(Function<RowData, T> mapper, RowData rowData,
-                                    @Nullable Validator validator, long fileRow,
+                                    BiPredicate<T, List<String>> validation, long fileRow,
                                     List<String> rawValues) {
         T instance;
         try {
@@ -68,7 +69,7 @@ final class RowMappingSupport {
                     fileRow, List.of(), rawValues);
         }
         List<String> messages = new ArrayList<>();
-        boolean valid = validate(instance, validator, messages);
+        boolean valid = validation.test(instance, messages);
         return new ReadResult<>(instance, valid, messages.isEmpty() ? null : messages,
                 null, fileRow, List.of(), rawValues);
     }
@@ -0,0 +1,168 @@
+package io.github.dornol.excelkit.core;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Compression of a text input, recognised from its leading bytes.
+ * <p>
+ * A zip archive counts as {@link #ZIP} only when its first bytes hold a {@code .csv},
+ * {@code .tsv}, or {@code .txt} entry; other archives, such as xlsx workbooks, are {@link #NONE}.
+ * {@link #decompress(InputStream)} still looks for a text entry in any zip archive.
+ *
+ * <pre>{@code
+ * try (InputStream csv = TabularCompression.decompress(upload)) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+public enum TabularCompression {
+
+    /** Uncompressed content. */
+    NONE,
+
+    /** A gzip stream, such as a {@code .csv.gz} file; concatenated members are read in sequence. */
+    GZIP,
+
+    /** A zip archive whose first {@code .csv}, {@code .tsv}, or {@code .txt} entry is read. */
+    ZIP;
+
+    private static final int SAMPLE_SIZE = 1024;
+    private static final int INFLATE_BUFFER = 64 * 1024;
+
+    /** Detects compression from a mark-capable stream and restores its position. */
+    public static TabularCompression detect(InputStream input) {
+        java.util.Objects.requireNonNull(input, "input cannot be null");
+        if (!input.markSupported()) throw new IllegalArgumentException("input must support mark/reset");
+        try {
+            input.mark(SAMPLE_SIZE);
+            byte[] sample = input.readNBytes(SAMPLE_SIZE);
+            input.reset();
+            return of(sample);
+        } catch (IOException e) {
+            throw new ExcelKitException("Failed to inspect input", e);
+        }
+    }
+
+    /** Detects compression from the first bytes of {@code path}. */
+    public static TabularCompression detect(Path path) {
+        try (InputStream input = Files.newInputStream(java.util.Objects.requireNonNull(path, "path cannot be null"))) {
+            return of(input.readNBytes(SAMPLE_SIZE));
+        } catch (IOException e) {
+            throw new ExcelKitException("Failed to inspect input", e);
+        }
+    }
+
+    /**
+     * Returns the uncompressed content of {@code input}, inflating gzip streams and the first text
+     * entry of any zip archive while they are read. Closing the returned stream releases the
+     * inflater but leaves {@code input} open.
+     *
+     * @throws ExcelKitException if a zip archive has no {@code .csv}, {@code .tsv}, or {@code .txt} entry
+     */
+    public static InputStream decompress(InputStream input) throws IOException {
+        java.util.Objects.requireNonNull(input, "input cannot be null");
+        BufferedInputStream buffered = new BufferedInputStream(new FilterInputStream(input) {
+            @Override
+            public void close() {
+                // the caller owns the input
+            }
+        });
+        buffered.mark(SAMPLE_SIZE);
+        byte[] sample = buffered.readNBytes(SAMPLE_SIZE);
+        buffered.reset();
+        return switch (of(sample)) {
+            case GZIP -> new GZIPInputStream(buffered, INFLATE_BUFFER);
+            case ZIP -> textEntry(buffered);
+            case NONE -> isZip(sample) ? textEntry(buffered) : buffered;
+        };
+    }
+
+    /** Detects compression from the first bytes of an input. */
+    static TabularCompression of(byte[] sample) {
+        if (sample.length >= 2 && (sample[0] & 0xff) == 0x1f && (sample[1] & 0xff) == 0x8b) return GZIP;
+        return hasTextEntry(sample) ? ZIP : NONE;
+    }
+
+    /**
+     * Inflates as much of a compressed sample as it holds, or returns {@code null} when the sample
+     * is not valid compressed data.
+     */
+    byte @Nullable [] inflateSample(byte[] sample) {
+        if (this == NONE) return sample;
+        byte[] inflated = new byte[sample.length];
+        int n = 0;
+        try (InputStream input = this == GZIP ? new GZIPInputStream(new ByteArrayInputStream(sample))
+                : textEntry(new ByteArrayInputStream(sample))) {
+            for (int read; n < inflated.length && (read = input.read(inflated, n, inflated.length - n)) > 0; ) {
+                n += read;
+            }
+        } catch (EOFException e) {
+            // the sample ends inside the compressed data
+        } catch (IOException | ExcelKitException e) {
+            return null;
+        }
+        return n == 0 ? null : Arrays.copyOf(inflated, n);
+    }
+
+    /** Positions a zip archive on its first text entry. */
+    private static InputStream textEntry(InputStream input) throws IOException {
+        // entry names only decide which entry is read, so a legacy name encoding must not fail the read
+        ZipInputStream zip = new ZipInputStream(input, StandardCharsets.ISO_8859_1);
+        for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+            if (!entry.isDirectory() && isTextEntry(entry.getName())) return zip;
+        }
+        zip.close();
+        throw new ExcelKitException("ZIP input contains no .csv, .tsv, or .txt entry");
+    }
+
+    private static boolean isTextEntry(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        return !lower.startsWith("__macosx/")
+                && (lower.endsWith(".csv") || lower.endsWith(".tsv") || lower.endsWith(".txt"));
+    }
+
+    /**
+     * Returns whether a zip sample holds the local file header of a {@code .csv}, {@code .tsv}, or
+     * {@code .txt} entry. Entries written with a data descriptor do not record their size up front,
+     * so every header signature in the sample is checked rather than walking from entry to entry.
+     */
+    private static boolean hasTextEntry(byte[] sample) {
+        if (!isZip(sample)) return false;
+        for (int offset = 0; offset + 30 <= sample.length; offset++) {
+            if (sample[offset] != 0x50 || sample[offset + 1] != 0x4b
+                    || sample[offset + 2] != 0x03 || sample[offset + 3] != 0x04) {
+                continue;
+            }
+            int nameLength = uint16(sample, offset + 26);
+            if (offset + 30 + nameLength > sample.length) continue;
+            if (isTextEntry(new String(sample, offset + 30, nameLength, StandardCharsets.ISO_8859_1))) return true;
+        }
+        return false;
+    }
+
+    private static boolean isZip(byte[] sample) {
+        return sample.length >= 4 && sample[0] == 0x50 && sample[1] == 0x4b && sample[2] == 0x03 && sample[3] == 0x04;
+    }
+
+    private static int uint16(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xff) | (bytes[offset + 1] & 0xff) << 8;
+    }
+}
@@ -3,6 +3,20 @@ package io.github.dornol.excelkit.core;
 import org.jspecify.annotations.Nullable;
 import java.nio.charset.Charset;
 
-/** Detailed result of signature and text-sample inspection. */
+/**
+ * Detailed result of signature and text-sample inspection. For compressed text, the charset and
+ * delimiter describe the uncompressed content.
+ */
 public record TabularDetectionResult(TabularFileType type, DetectionConfidence confidence,
-        @Nullable Charset charset, @Nullable Character delimiter) {}
+        @Nullable Charset charset, @Nullable Character delimiter, TabularCompression compression) {
+
+    public TabularDetectionResult {
+        java.util.Objects.requireNonNull(compression, "compression cannot be null");
+    }
+
+    /** Creates a result for uncompressed content. */
+    public TabularDetectionResult(TabularFileType type, DetectionConfidence confidence,
+                                  @Nullable Charset charset, @Nullable Character delimiter) {
+        this(type, confidence, charset, delimiter, TabularCompression.NONE);
+    }
+}
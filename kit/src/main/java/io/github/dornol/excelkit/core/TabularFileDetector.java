@@ -1,12 +1,28 @@
 package io.github.dornol.excelkit.core;
 
+import org.jspecify.annotations.Nullable;
+
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
-/** Signature-based file type detection that does not depend on filename extensions. */
+/**
+ * Signature-based file type detection that does not depend on filename extensions.
+ * <p>
+ * Text charsets are taken from a byte order mark, or otherwise inferred from the sample: UTF-8
+ * when it is valid UTF-8, and MS949 (CP949, a superset of EUC-KR) when every high byte pairs up
+ * as a CP949 lead and trail byte and at least half of the pairs are Hangul syllables.
+ * <p>
+ * Gzip streams and zip archives of a CSV are reported as {@link TabularFileType#CSV} with their
+ * {@link TabularCompression}; the charset and delimiter are detected on the inflated sample.
+ */
 public final class TabularFileDetector {
+    /** MS949, or {@code null} when the runtime lacks the extended charsets. */
+    private static final @Nullable Charset MS949 = Charset.isSupported("x-windows-949")
+            ? Charset.forName("x-windows-949") : null;
+
     private TabularFileDetector() {}
 
     public static TabularFileType detect(Path path) {
@@ -33,16 +49,22 @@ public final class TabularFileDetector {
             input.mark(8192);
             byte[] bytes = input.readNBytes(8192);
             input.reset();
-            if (starts(bytes, 0x50, 0x4b, 0x03, 0x04)) return new TabularDetectionResult(
-                    TabularFileType.XLSX, DetectionConfidence.HIGH, null, null);
+            TabularCompression compression = TabularCompression.of(bytes);
+            boolean zip = starts(bytes, 0x50, 0x4b, 0x03, 0x04);
+            if (zip && compression != TabularCompression.ZIP) return xlsx();
             if (starts(bytes, 0xd0, 0xcf, 0x11, 0xe0, 0xa1, 0xb1, 0x1a, 0xe1)) return new TabularDetectionResult(
                     TabularFileType.XLS, DetectionConfidence.HIGH, null, null);
-            java.nio.charset.Charset charset = charset(bytes);
-            if (looksTextual(bytes, charset)) {
-                Character delimiter = delimiter(bytes, charset);
+            byte[] text = compression.inflateSample(bytes);
+            if (text == null && zip) return xlsx();
+            if (text == null) {
+                return new TabularDetectionResult(TabularFileType.UNKNOWN, DetectionConfidence.LOW, null, null);
+            }
+            java.nio.charset.Charset charset = charset(text);
+            if (looksTextual(text, charset)) {
+                Character delimiter = delimiter(text, charset);
                 return new TabularDetectionResult(TabularFileType.CSV,
                         delimiter == null ? DetectionConfidence.LOW : DetectionConfidence.MEDIUM,
-                        charset, delimiter);
+                        charset, delimiter, compression);
             }
             return new TabularDetectionResult(TabularFileType.UNKNOWN, DetectionConfidence.LOW, null, null);
         } catch (IOException e) {
@@ -50,12 +72,56 @@ public final class TabularFileDetector {
         }
     }
 
+    private static TabularDetectionResult xlsx() {
+        return new TabularDetectionResult(TabularFileType.XLSX, DetectionConfidence.HIGH, null, null);
+    }
+
     private static java.nio.charset.Charset charset(byte[] bytes) {
         if (starts(bytes, 0xff, 0xfe)) return java.nio.charset.StandardCharsets.UTF_16LE;
         if (starts(bytes, 0xfe, 0xff)) return java.nio.charset.StandardCharsets.UTF_16BE;
+        if (starts(bytes, 0xef, 0xbb, 0xbf) || validUtf8(bytes)) return java.nio.charset.StandardCharsets.UTF_8;
+        if (MS949 != null && looksCp949(bytes)) return MS949;
         return java.nio.charset.StandardCharsets.UTF_8;
     }
 
+    /** Returns whether the sample is well-formed UTF-8, allowing a sequence cut off by the end of the sample. */
+    private static boolean validUtf8(byte[] bytes) {
+        for (int i = 0; i < bytes.length; ) {
+            int b = bytes[i++] & 0xff;
+            int continuation = b < 0x80 ? 0 : b >= 0xc2 && b <= 0xdf ? 1 : b >= 0xe0 && b <= 0xef ? 2
+                    : b >= 0xf0 && b <= 0xf4 ? 3 : -1;
+            if (continuation < 0) return false;
+            for (int k = 0; k < continuation; k++, i++) {
+                if (i == bytes.length) return true;
+                if ((bytes[i] & 0xc0) != 0x80) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether every high byte of the sample starts a CP949 lead and trail pair and at least
+     * half of the pairs are Hangul syllables, from KS X 1001 ({@code B0-C8} leads) or the CP949
+     * extension (trails below {@code A1}).
+     */
+    private static boolean looksCp949(byte[] bytes) {
+        int pairs = 0;
+        int hangul = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            int lead = bytes[i] & 0xff;
+            if (lead < 0x80) continue;
+            if (++i == bytes.length) break;
+            int trail = bytes[i] & 0xff;
+            boolean extension = lead >= 0x81 && lead <= 0xc6 && (trail >= 0x41 && trail <= 0x5a
+                    || trail >= 0x61 && trail <= 0x7a || trail >= 0x81 && trail <= 0xa0);
+            boolean ksx1001 = lead >= 0xa1 && lead <= 0xfe && trail >= 0xa1 && trail <= 0xfe;
+            if (!extension && !ksx1001) return false;
+            pairs++;
+            if (extension || lead >= 0xb0 && lead <= 0xc8) hangul++;
+        }
+        return pairs > 0 && hangul * 2 >= pairs;
+    }
+
     private static Character delimiter(byte[] bytes, java.nio.charset.Charset charset) {
         String text = new String(bytes, charset);
         String first = text.lines().findFirst().orElse("");
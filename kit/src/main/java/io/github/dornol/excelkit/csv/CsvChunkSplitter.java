@@ -0,0 +1,152 @@
+package io.github.dornol.excelkit.csv;
+
+import com.opencsv.ICSVParser;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * Splits the data rows of a CSV file into byte ranges that start and end on record boundaries,
+ * for parsing the ranges in parallel.
+ * <p>
+ * The file is scanned once as bytes, tracking quote parity the way {@link CsvTokenizer} does, so
+ * line breaks inside quoted fields never end a range. Each range records how many records precede
+ * it, which gives every row its file row number before any range is parsed. Only charsets in
+ * which the delimiter, quote, escape, and line break characters are single bytes that never occur
+ * inside other characters can be split: UTF-8 with ASCII special characters, and single-byte
+ * charsets.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+final class CsvChunkSplitter {
+    private static final int SCAN_BUFFER = 64 * 1024;
+
+    /**
+     * A byte range of whole records.
+     *
+     * @param start       offset of the first record
+     * @param end         offset after the last record
+     * @param firstRecord number of data records before this range
+     */
+    record Chunk(long start, long end, long firstRecord) {}
+
+    private final int quote;
+    /** The escape byte, or {@code -1} without an escape character. */
+    private final int escape;
+    private final int carriageReturn;
+    private final int lineFeed;
+
+    private CsvChunkSplitter(int quote, int escape, int carriageReturn, int lineFeed) {
+        this.quote = quote;
+        this.escape = escape;
+        this.carriageReturn = carriageReturn;
+        this.lineFeed = lineFeed;
+    }
+
+    /**
+     * Returns a splitter for the given dialect, or {@code null} when byte offsets are not tracked
+     * for {@code charset} or a special character is not a single byte in it. Delimiters do not affect record boundaries, but are
+     * checked so that the parsed ranges line up with what {@link CsvTokenizer} reads.
+     *
+     * @param escapeChar the escape character, or opencsv's null character for none
+     */
+    static @Nullable CsvChunkSplitter forDialect(Charset charset, char delimiter, char quoteChar, char escapeChar) {
+        if (!CsvInput.tracksByteOffsets(charset)) return null;
+        boolean escapes = escapeChar != ICSVParser.NULL_CHARACTER && escapeChar != quoteChar;
+        int escape = escapes ? CsvInput.singleByte(charset, escapeChar) : -1;
+        int quote = CsvInput.singleByte(charset, quoteChar);
+        int carriageReturn = CsvInput.singleByte(charset, '\r');
+        int lineFeed = CsvInput.singleByte(charset, '\n');
+        if (CsvInput.singleByte(charset, delimiter) < 0 || quote < 0 || carriageReturn < 0 || lineFeed < 0
+                || escapes && escape < 0) {
+            return null;
+        }
+        return new CsvChunkSplitter(quote, escape, carriageReturn, lineFeed);
+    }
+
+    /**
+     * Splits {@code file} from {@code start} to its end into ranges of at least {@code chunkSize}
+     * bytes, except for the last one.
+     */
+    List<Chunk> split(Path file, long start, long chunkSize) throws IOException {
+        return split(file, start, chunkSize, records -> false);
+    }
+
+    /**
+     * Splits {@code file} like {@link #split(Path, long, long)}, but stops scanning after the first
+     * range at whose end {@code last} accepts the number of records read so far, so a read bounded
+     * to a prefix of the file does not scan the rest of it.
+     */
+    List<Chunk> split(Path file, long start, long chunkSize, LongPredicate last) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER);
+            long chunkStart = start;
+            long records = 0;
+            long chunkFirstRecord = 0;
+            long position = start;
+            boolean inQuotes = false;
+            boolean afterEscape = false;
+            boolean afterCarriageReturn = false;
+            channel.position(start);
+            while (channel.read(buffer.clear()) > 0) {
+                buffer.flip();
+                byte[] bytes = buffer.array();
+                int limit = buffer.limit();
+                for (int i = 0; i < limit; i++) {
+                    int b = bytes[i] & 0xFF;
+                    if (afterCarriageReturn) {
+                        afterCarriageReturn = false;
+                        if (b == lineFeed) {
+                            if (position + i + 1 - chunkStart >= chunkSize) {
+                                chunks.add(new Chunk(chunkStart, position + i + 1, chunkFirstRecord));
+                                chunkStart = position + i + 1;
+                                chunkFirstRecord = records;
+                                if (last.test(records)) return chunks;
+                            }
+                            continue;
+                        }
+                        // the record ended at the carriage return
+                        if (position + i - chunkStart >= chunkSize) {
+                            chunks.add(new Chunk(chunkStart, position + i, chunkFirstRecord));
+                            chunkStart = position + i;
+                            chunkFirstRecord = records;
+                            if (last.test(records)) return chunks;
+                        }
+                    }
+                    if (afterEscape) {
+                        afterEscape = false;
+                        if (b == quote || b == escape) continue;
+                    }
+                    if (b == quote) {
+                        inQuotes = !inQuotes;
+                    } else if (b == escape) {
+                        afterEscape = true;
+                    } else if (!inQuotes && (b == lineFeed || b == carriageReturn)) {
+                        records++;
+                        if (b == carriageReturn) {
+                            afterCarriageReturn = true;
+                        } else if (position + i + 1 - chunkStart >= chunkSize) {
+                            chunks.add(new Chunk(chunkStart, position + i + 1, chunkFirstRecord));
+                            chunkStart = position + i + 1;
+                            chunkFirstRecord = records;
+                            if (last.test(records)) return chunks;
+                        }
+                    }
+                }
+                position += limit;
+            }
+            if (position > chunkStart) chunks.add(new Chunk(chunkStart, position, chunkFirstRecord));
+            return chunks;
+        }
+    }
+}
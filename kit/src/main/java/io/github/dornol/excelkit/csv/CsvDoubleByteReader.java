@@ -0,0 +1,126 @@
+package io.github.dornol.excelkit.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Decoder for the Korean double-byte charsets MS949 (CP949) and EUC-KR that passes ASCII bytes
+ * straight through and only runs the charset decoder on runs of double-byte characters.
+ * <p>
+ * In both charsets a byte below {@code 0x80} outside a pair is an ASCII character, and every byte
+ * from {@code 0x80} up leads a two-byte pair whose trail byte may be ASCII. Runs of pairs are
+ * decoded in place and never split across reads, so files that are mostly ASCII cost one copy
+ * per byte. Well-formed input decodes exactly as with the charset decoder; malformed bytes are
+ * replaced, though not always at the same positions.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+final class CsvDoubleByteReader extends Reader {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ReadableByteChannel channel;
+    private final CharsetDecoder decoder;
+    /** Undecoded bytes, between its position and limit. */
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE).flip();
+    /** Decoded characters; never fewer than the bytes they came from, so one buffer's worth always fits. */
+    private final char[] chars = new char[BUFFER_SIZE];
+    private int charPosition;
+    private int charLimit;
+    private boolean endOfInput;
+
+    CsvDoubleByteReader(ReadableByteChannel channel, Charset charset) {
+        this.channel = channel;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /** Returns whether {@code charset} is read by this decoder. */
+    static boolean supports(Charset charset) {
+        String name = charset.name();
+        return name.equals("x-windows-949") || name.equals("EUC-KR");
+    }
+
+    @Override
+    public int read(char[] target, int offset, int length) throws IOException {
+        java.util.Objects.checkFromIndexSize(offset, length, target.length);
+        if (length == 0) return 0;
+        if (charPosition == charLimit && !fill()) return -1;
+        int n = Math.min(length, charLimit - charPosition);
+        System.arraycopy(chars, charPosition, target, offset, n);
+        charPosition += n;
+        return n;
+    }
+
+    @Override
+    public boolean ready() {
+        return charPosition < charLimit || bytes.hasRemaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /** Decodes the next characters, reading more bytes as needed; returns {@code false} at the end of input. */
+    private boolean fill() throws IOException {
+        charPosition = 0;
+        while ((charLimit = decodeBuffered()) == 0) {
+            if (endOfInput) return false;
+            bytes.compact();
+            int n;
+            do {
+                n = channel.read(bytes);
+            } while (n == 0);
+            if (n < 0) endOfInput = true;
+            bytes.flip();
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the buffered bytes into {@link #chars}, leaving a pair cut off by the end of the
+     * buffer for the next read, and returns the number of characters.
+     */
+    private int decodeBuffered() {
+        byte[] buffer = bytes.array();
+        int position = bytes.position();
+        int limit = bytes.limit();
+        int n = 0;
+        while (position < limit) {
+            if (buffer[position] >= 0) {
+                chars[n++] = (char) buffer[position++];
+                continue;
+            }
+            int end = position;
+            while (end < limit && buffer[end] < 0) end += 2;
+            if (end > limit) {
+                if (endOfInput) {
+                    end = limit;
+                } else {
+                    end -= 2;
+                    if (end == position) break;
+                }
+            }
+            n = decode(buffer, position, end, n);
+            position = end;
+        }
+        bytes.position(position);
+        return n;
+    }
+
+    private int decode(byte[] buffer, int from, int to, int n) {
+        CharBuffer out = CharBuffer.wrap(chars, n, chars.length - n);
+        decoder.reset();
+        decoder.decode(ByteBuffer.wrap(buffer, from, to - from), out, true);
+        decoder.flush(out);
+        return out.position();
+    }
+}
@@ -21,6 +21,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 public final class CsvHandler extends TempResourceContainer implements FileHandler {
     private final AtomicBoolean consumed = new AtomicBoolean(false);
+    private final boolean gzip;
 
     /**
      * Creates a new CsvHandler wrapping the given temp file and directory.
@@ -29,10 +30,33 @@ public final class CsvHandler extends TempResourceContainer implements FileHandl
      * @param tempFile The path to the CSV file to be output
      */
     CsvHandler(Path tempDir, Path tempFile) {
+        this(tempDir, tempFile, false);
+    }
+
+    /**
+     * Creates a new CsvHandler wrapping the given temp file and directory.
+     *
+     * @param tempDir  The temporary directory containing the CSV file
+     * @param tempFile The path to the CSV file to be output
+     * @param gzip     Whether the file holds gzip-compressed CSV
+     */
+    CsvHandler(Path tempDir, Path tempFile, boolean gzip) {
+        this.gzip = gzip;
         setTempFile(tempFile);
         setTempDir(tempDir);
     }
 
+    /**
+     * Returns whether {@link #writeTo(OutputStream)} writes gzip-compressed CSV, as configured
+     * with {@link CsvWriter#gzip(int)}.
+     *
+     * @return {@code true} for gzip output
+     * @since 0.22.0
+     */
+    public boolean isGzip() {
+        return gzip;
+    }
+
     /**
      * Writes the content of the CSV file to the given OutputStream.
      * <p>
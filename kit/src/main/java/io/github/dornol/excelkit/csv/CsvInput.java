@@ -0,0 +1,255 @@
+package io.github.dornol.excelkit.csv;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Character input of a CSV file that knows the byte offset of the next unread character, so
+ * checkpoints can record where a record ends and resumed reads can {@link #seek} back to it.
+ * <p>
+ * {@code CSVReader} uses a {@link BufferedReader} as given, so this class extends it and replaces
+ * every reading method with its own buffer. Offsets are exact for well-formed UTF-8 and
+ * single-byte charsets; for other charsets {@link #byteOffset()} is {@code -1}.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+final class CsvInput extends BufferedReader {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int UNKNOWN = 0;
+    private static final int SINGLE_BYTE = 1;
+    private static final int UTF_8 = 2;
+
+    private final FileChannel channel;
+    private final Charset charset;
+    private final int encoding;
+    private Reader source;
+    private char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private int markPosition = -1;
+    private int markLimit;
+    private long markBytes;
+    /** Bytes before {@code buffer[position]}. */
+    private long bytes;
+    /** Bytes skipped over by {@link #seek}, which were never read. */
+    private long skippedBytes;
+
+    CsvInput(Path file, Charset charset) throws IOException {
+        super(Reader.nullReader(), 1);
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.charset = charset;
+        this.encoding = encoding(charset);
+        this.source = newSource();
+    }
+
+    /** Returns the byte offset of the next unread character, or {@code -1} when the charset is not tracked. */
+    long byteOffset() {
+        return encoding == UNKNOWN ? -1 : bytes;
+    }
+
+    /**
+     * Returns the byte that encodes {@code c} in {@code charset}, or {@code -1} when {@code c} is
+     * not encoded as one byte that decodes back to it.
+     */
+    static int singleByte(Charset charset, char c) {
+        String text = String.valueOf(c);
+        byte[] bytes = text.getBytes(charset);
+        return bytes.length == 1 && new String(bytes, charset).equals(text) ? bytes[0] & 0xFF : -1;
+    }
+
+    /** Continues reading at {@code byteOffset}, which must be the start of a character. */
+    void seek(long byteOffset) throws IOException {
+        if (byteOffset > channel.size()) throw new CsvReadException("Byte offset beyond end of input: " + byteOffset);
+        skippedBytes += byteOffset - channel.position();
+        channel.position(byteOffset);
+        source = newSource();
+        position = limit = 0;
+        markPosition = -1;
+        bytes = byteOffset;
+    }
+
+    /** Returns the number of bytes taken from the file so far, including decoder read-ahead. */
+    long bytesRead() throws IOException {
+        return channel.position() - skippedBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position == limit && !fill()) return -1;
+        char c = buffer[position];
+        consume(1);
+        return c;
+    }
+
+    @Override
+    public int read(char[] target, int offset, int length) throws IOException {
+        java.util.Objects.checkFromIndexSize(offset, length, target.length);
+        if (length == 0) return 0;
+        if (position == limit && !fill()) return -1;
+        int n = Math.min(length, limit - position);
+        System.arraycopy(buffer, position, target, offset, n);
+        consume(n);
+        return n;
+    }
+
+    /**
+     * Returns whether unread characters are buffered, refilling the buffer once it is exhausted.
+     * {@link CsvTokenizer} scans the buffer in place through {@link #buffer()}, {@link #position()}
+     * and {@link #limit()}, and marks what it used with {@link #advance}.
+     */
+    boolean fillIfEmpty() throws IOException {
+        return position < limit || fill();
+    }
+
+    /** Returns the character buffer; valid until the next {@link #fillIfEmpty()}. */
+    char[] buffer() {
+        return buffer;
+    }
+
+    /** Returns the index of the next unread character in {@link #buffer()}. */
+    int position() {
+        return position;
+    }
+
+    /** Returns the index after the last buffered character in {@link #buffer()}. */
+    int limit() {
+        return limit;
+    }
+
+    /** Consumes {@code n} buffered characters. */
+    void advance(int n) {
+        consume(n);
+    }
+
+    /** Reads a line terminated by {@code \n}, {@code \r} or {@code \r\n}, like {@link BufferedReader#readLine()}. */
+    @Override
+    public @Nullable String readLine() throws IOException {
+        StringBuilder line = null;
+        while (position < limit || fill()) {
+            int start = position;
+            int end = start;
+            while (end < limit && buffer[end] != '\n' && buffer[end] != '\r') end++;
+            if (end == limit) {
+                if (line == null) line = new StringBuilder(end - start + 80);
+                line.append(buffer, start, end - start);
+                consume(end - start);
+                continue;
+            }
+            String text = line == null ? new String(buffer, start, end - start)
+                    : line.append(buffer, start, end - start).toString();
+            char terminator = buffer[end];
+            consume(end - start + 1);
+            if (terminator == '\r' && (position < limit || fill()) && buffer[position] == '\n') consume(1);
+            return text;
+        }
+        return line == null ? null : line.toString();
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n < 0) throw new IllegalArgumentException("skip value is negative");
+        long skipped = 0;
+        while (skipped < n && (position < limit || fill())) {
+            int step = (int) Math.min(n - skipped, limit - position);
+            consume(step);
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        return position < limit || source.ready();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(int readAheadLimit) {
+        if (readAheadLimit < 0) throw new IllegalArgumentException("Read-ahead limit < 0");
+        markPosition = position;
+        markLimit = readAheadLimit;
+        markBytes = bytes;
+    }
+
+    @Override
+    public void reset() throws IOException {
+        if (markPosition < 0) throw new IOException("Mark invalid");
+        position = markPosition;
+        bytes = markBytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void consume(int n) {
+        if (encoding == SINGLE_BYTE) {
+            bytes += n;
+        } else if (encoding == UTF_8) {
+            for (int i = position, end = position + n; i < end; i++) {
+                char c = buffer[i];
+                // each half of a surrogate pair counts two of the pair's four bytes
+                bytes += c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+            }
+        }
+        position += n;
+    }
+
+    /** Refills the exhausted buffer, keeping the marked characters while the mark is valid. */
+    private boolean fill() throws IOException {
+        int keep = position;
+        if (markPosition >= 0) {
+            if (position - markPosition < markLimit) keep = markPosition;
+            else markPosition = -1;
+        }
+        int retained = limit - keep;
+        if (keep > 0) System.arraycopy(buffer, keep, buffer, 0, retained);
+        if (markPosition >= 0) markPosition -= keep;
+        position -= keep;
+        limit = retained;
+        if (limit == buffer.length) buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        int n;
+        do {
+            n = source.read(buffer, limit, buffer.length - limit);
+        } while (n == 0);
+        if (n < 0) return false;
+        limit += n;
+        return true;
+    }
+
+    private Reader newSource() {
+        if (CsvDoubleByteReader.supports(charset)) return new CsvDoubleByteReader(channel, charset);
+        return Channels.newReader(channel, charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE), -1);
+    }
+
+    /** Returns whether byte offsets are tracked for {@code charset}: UTF-8 and single-byte charsets. */
+    static boolean tracksByteOffsets(Charset charset) {
+        return encoding(charset) != UNKNOWN;
+    }
+
+    private static int encoding(Charset charset) {
+        if (charset.equals(StandardCharsets.UTF_8)) return UTF_8;
+        if (!charset.canEncode()) return UNKNOWN;
+        return charset.newEncoder().maxBytesPerChar() == 1f && charset.newDecoder().maxCharsPerByte() == 1f
+                ? SINGLE_BYTE : UNKNOWN;
+    }
+}
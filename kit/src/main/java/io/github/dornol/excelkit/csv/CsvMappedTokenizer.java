@@ -0,0 +1,346 @@
+package io.github.dornol.excelkit.csv;
+
+import com.opencsv.ICSVParser;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Byte-level counterpart of {@link CsvTokenizer} for files read from a {@link Path}.
+ * <p>
+ * The file is memory-mapped in windows of up to 64 MB, so files larger than 2 GB are read by
+ * remapping; a record that crosses the end of a window continues in the next one. Delimiters,
+ * quotes, escapes, and line breaks are found on the raw bytes, field bytes are copied into one
+ * reusable byte buffer, and only the fields of the columns a read uses are decoded into strings.
+ * Quoting rules are the same as {@link CsvTokenizer}'s.
+ * <p>
+ * Only UTF-8 and ASCII-compatible single-byte charsets are read this way, with ASCII delimiter,
+ * quote, and escape characters: their bytes never occur inside other characters. Mapped windows
+ * are released by the garbage collector, not by {@link #close()}.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+final class CsvMappedTokenizer implements CsvRecordTokenizer, Closeable {
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+    private static final int INITIAL_FIELDS = 16;
+    private static final int CARRIAGE_RETURN = '\r';
+    private static final int LINE_FEED = '\n';
+
+    private final FileChannel channel;
+    private final long size;
+    private final long windowSize;
+    private final Charset charset;
+    private final int delimiter;
+    private final int quote;
+    /** The escape byte, or {@code -1} without an escape character. */
+    private final int escape;
+    private final boolean strictQuotes;
+    private final boolean ignoreLeadingWhiteSpace;
+
+    private @Nullable MappedByteBuffer window;
+    /** File offset of {@code window}'s first byte. */
+    private long windowStart;
+    private int position;
+    private int limit;
+    /** Bytes skipped over by {@link #seek}, which were never scanned. */
+    private long skippedBytes;
+
+    /** Bytes of the current record's fields, back to back. */
+    private byte[] bytes = new byte[1024];
+    private int length;
+    /** End offset in {@link #bytes} of each field of the current record. */
+    private int[] ends = new int[INITIAL_FIELDS];
+    private int fieldCount;
+
+    private CsvMappedTokenizer(FileChannel channel, long windowSize, Charset charset, int delimiter, int quote,
+                               int escape, boolean strictQuotes, boolean ignoreLeadingWhiteSpace) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.windowSize = windowSize;
+        this.charset = charset;
+        this.delimiter = delimiter;
+        this.quote = quote;
+        this.escape = escape;
+        this.strictQuotes = strictQuotes;
+        this.ignoreLeadingWhiteSpace = ignoreLeadingWhiteSpace;
+    }
+
+    /**
+     * Opens {@code file} for byte-level reading, or returns {@code null} when its charset or
+     * special characters cannot be scanned as bytes.
+     *
+     * @param escapeChar the escape character, or opencsv's null character for none
+     */
+    static @Nullable CsvMappedTokenizer open(Path file, Charset charset, char delimiter, char quoteChar,
+                                             char escapeChar, boolean strictQuotes,
+                                             boolean ignoreLeadingWhiteSpace) throws IOException {
+        return open(file, WINDOW_SIZE, charset, delimiter, quoteChar, escapeChar, strictQuotes, ignoreLeadingWhiteSpace);
+    }
+
+    /**
+     * Opens {@code file} like {@link #open(Path, Charset, char, char, char, boolean, boolean)},
+     * mapping {@code windowSize} bytes at a time.
+     */
+    static @Nullable CsvMappedTokenizer open(Path file, long windowSize, Charset charset, char delimiter,
+                                             char quoteChar, char escapeChar, boolean strictQuotes,
+                                             boolean ignoreLeadingWhiteSpace) throws IOException {
+        if (!CsvInput.tracksByteOffsets(charset) || !asciiCompatible(charset)) return null;
+        boolean escapes = escapeChar != ICSVParser.NULL_CHARACTER && escapeChar != quoteChar;
+        if (delimiter >= 0x80 || quoteChar >= 0x80 || escapes && escapeChar >= 0x80) return null;
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new CsvMappedTokenizer(channel, windowSize, charset, delimiter, quoteChar,
+                    escapes ? escapeChar : -1, strictQuotes, ignoreLeadingWhiteSpace);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /** Returns the byte offset of the next unread record. */
+    long byteOffset() {
+        return windowStart + position;
+    }
+
+    /** Continues reading at {@code byteOffset}, which must be the start of a record. */
+    void seek(long byteOffset) {
+        if (byteOffset > size) throw new CsvReadException("Byte offset beyond end of input: " + byteOffset);
+        skippedBytes += byteOffset - byteOffset();
+        windowStart = byteOffset;
+        window = null;
+        position = limit = 0;
+    }
+
+    /** Returns the number of bytes scanned so far. */
+    long bytesRead() {
+        return byteOffset() - skippedBytes;
+    }
+
+    /** Reads the next record, leaving the position at the start of the record after it. */
+    @Override
+    public boolean next() throws IOException {
+        length = 0;
+        fieldCount = 0;
+        int fieldStart = 0;
+        boolean started = false;
+        boolean inQuotes = false;
+        boolean afterQuote = false;
+        boolean afterEscape = false;
+        boolean afterCarriageReturn = false;
+        while (fillIfEmpty()) {
+            MappedByteBuffer buffer = java.util.Objects.requireNonNull(window);
+            int limit = this.limit;
+            int i = position;
+            started = true;
+            while (i < limit) {
+                int b = buffer.get(i) & 0xFF;
+                if (afterEscape) {
+                    afterEscape = false;
+                    if (b == quote || b == escape) {
+                        if (inQuotes || !strictQuotes) append(b);
+                        i++;
+                        continue;
+                    }
+                    if (inQuotes || !strictQuotes) append(escape);
+                }
+                if (afterQuote) {
+                    afterQuote = false;
+                    if (b == quote) {
+                        append(b);
+                        inQuotes = true;
+                        i++;
+                        continue;
+                    }
+                }
+                if (inQuotes) {
+                    int run = i;
+                    while (i < limit && (b = buffer.get(i) & 0xFF) != quote && b != escape
+                            && b != CARRIAGE_RETURN && b != LINE_FEED) {
+                        i++;
+                    }
+                    append(buffer, run, i - run);
+                    if (i > run) afterCarriageReturn = false;
+                    if (i == limit) break;
+                    if (b == quote) {
+                        inQuotes = false;
+                        afterQuote = true;
+                    } else if (b == escape) {
+                        afterEscape = true;
+                    } else if (b == LINE_FEED && afterCarriageReturn) {
+                        afterCarriageReturn = false;
+                    } else {
+                        append(LINE_FEED);
+                        afterCarriageReturn = b == CARRIAGE_RETURN;
+                        i++;
+                        continue;
+                    }
+                    afterCarriageReturn = false;
+                    i++;
+                    continue;
+                }
+                afterCarriageReturn = false;
+                int run = i;
+                while (i < limit && (b = buffer.get(i) & 0xFF) != delimiter && b != quote && b != escape
+                        && b != CARRIAGE_RETURN && b != LINE_FEED) {
+                    i++;
+                }
+                if (!strictQuotes) append(buffer, run, i - run);
+                if (i == limit) break;
+                i++;
+                if (b == delimiter) {
+                    endField();
+                    fieldStart = length;
+                } else if (b == quote) {
+                    if (ignoreLeadingWhiteSpace && isWhitespace(fieldStart)) length = fieldStart;
+                    inQuotes = true;
+                } else if (b == escape) {
+                    afterEscape = true;
+                } else {
+                    position = i;
+                    if (b == CARRIAGE_RETURN) skipLineFeed();
+                    endField();
+                    return true;
+                }
+            }
+            position = i;
+        }
+        if (!started) return false;
+        if (afterEscape && !strictQuotes) append(escape);
+        if (inQuotes) throw new CsvReadException("Unterminated quoted field at end of CSV input");
+        endField();
+        return true;
+    }
+
+    /**
+     * Skips up to {@code count} records without copying their fields, finding record ends the way
+     * {@link CsvRecordSkipper} does.
+     *
+     * @return the number of records skipped, less than {@code count} only at the end of input
+     */
+    long skip(long count) throws IOException {
+        long skipped = 0;
+        boolean pending = false;
+        boolean inQuotes = false;
+        boolean inField = false;
+        boolean pendingEscape = false;
+        while (skipped < count && fillIfEmpty()) {
+            int b = java.util.Objects.requireNonNull(window).get(position++) & 0xFF;
+            if (pendingEscape) {
+                pendingEscape = false;
+                if (b == quote || b == escape) continue;
+            }
+            if (b == escape) {
+                pendingEscape = inQuotes || inField;
+                inField = true;
+            } else if (b == quote) {
+                inQuotes = !inQuotes;
+                inField = true;
+            } else if (!inQuotes && (b == LINE_FEED || b == CARRIAGE_RETURN)) {
+                pending = false;
+                inField = false;
+                skipped++;
+                if (b == CARRIAGE_RETURN) skipLineFeed();
+                continue;
+            } else if (!inQuotes) {
+                inField = b != delimiter;
+            }
+            pending = true;
+        }
+        if (skipped < count) {
+            if (inQuotes) throw new CsvReadException("Unterminated quoted field at end of CSV input");
+            if (pending) skipped++;
+        }
+        return skipped;
+    }
+
+    @Override
+    public String[] fields(@Nullable BitSet wanted) {
+        String[] fields = new String[fieldCount];
+        if (wanted == null) {
+            for (int i = 0; i < fieldCount; i++) fields[i] = field(i);
+        } else {
+            for (int i = wanted.nextSetBit(0); i >= 0 && i < fieldCount; i = wanted.nextSetBit(i + 1)) {
+                fields[i] = field(i);
+            }
+        }
+        return fields;
+    }
+
+    @Override
+    public boolean isBlank() {
+        return isWhitespace(0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    /** Decodes field {@code index} of the current record. */
+    private String field(int index) {
+        int start = index == 0 ? 0 : ends[index - 1];
+        int end = ends[index];
+        return start == end ? "" : new String(bytes, start, end - start, charset);
+    }
+
+    private boolean isWhitespace(int from) {
+        for (int i = from; i < length; i++) {
+            int b = bytes[i] & 0xFF;
+            if (b >= 0x80) return new String(bytes, i, length - i, charset).isBlank();
+            if (!Character.isWhitespace(b)) return false;
+        }
+        return true;
+    }
+
+    /** Returns whether unscanned bytes are mapped, mapping the next window once the current one is exhausted. */
+    private boolean fillIfEmpty() throws IOException {
+        if (position < limit) return true;
+        long next = windowStart + position;
+        if (next >= size) return false;
+        int mapped = (int) Math.min(windowSize, size - next);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, next, mapped);
+        windowStart = next;
+        position = 0;
+        limit = mapped;
+        return true;
+    }
+
+    private void skipLineFeed() throws IOException {
+        if (fillIfEmpty() && (java.util.Objects.requireNonNull(window).get(position) & 0xFF) == LINE_FEED) position++;
+    }
+
+    private void endField() {
+        if (fieldCount == ends.length) ends = Arrays.copyOf(ends, fieldCount * 2);
+        ends[fieldCount++] = length;
+    }
+
+    private void append(int b) {
+        if (length == bytes.length) bytes = Arrays.copyOf(bytes, length * 2);
+        bytes[length++] = (byte) b;
+    }
+
+    private void append(MappedByteBuffer source, int offset, int count) {
+        if (count == 0) return;
+        if (length + count > bytes.length) bytes = Arrays.copyOf(bytes, Math.max(length + count, length * 2));
+        source.get(offset, bytes, length, count);
+        length += count;
+    }
+
+    /** Returns whether bytes below {@code 0x80} decode to the same ASCII characters in {@code charset}. */
+    private static boolean asciiCompatible(Charset charset) {
+        byte[] ascii = new byte[0x80];
+        for (int i = 0; i < ascii.length; i++) ascii[i] = (byte) i;
+        return new String(ascii, charset).equals(new String(ascii, StandardCharsets.US_ASCII));
+    }
+}
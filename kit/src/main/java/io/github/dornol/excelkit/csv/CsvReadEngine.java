@@ -0,0 +1,35 @@
+package io.github.dornol.excelkit.csv;
+
+/**
+ * Record tokenizer used by {@link CsvReader}.
+ *
+ * <pre>{@code
+ * CsvReader.forMap()
+ *     .engine(CsvReadEngine.NATIVE)
+ *     .read(inputStream, result -> { ... });
+ * }</pre>
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+public enum CsvReadEngine {
+
+    /**
+     * opencsv's {@code CSVReader} and {@code CSVParser}, which create a string for every field.
+     * This is the default.
+     */
+    OPENCSV,
+
+    /**
+     * Built-in tokenizer that scans records in the read buffer and keeps fields as offsets into a
+     * reusable character buffer, creating strings only for the columns that are used.
+     * <p>
+     * Well-formed input reads the same as with {@link #OPENCSV}, including quoted line breaks
+     * (read as {@code \n}), doubled quotes, and escape characters before a quote or another
+     * escape. Malformed quoting, such as text after a closing quote, may be split differently.
+     * <p>
+     * Files read from a {@code Path} in UTF-8 or an ASCII-compatible single-byte charset are
+     * memory-mapped and scanned as bytes, and only the fields of used columns are decoded.
+     */
+    NATIVE
+}
@@ -11,9 +11,11 @@ import io.github.dornol.excelkit.core.CellConversionConfig;
 import io.github.dornol.excelkit.core.DuplicateHeaderPolicy;
 import io.github.dornol.excelkit.core.ReadColumn;
 import io.github.dornol.excelkit.core.ReadAbortException;
+import io.github.dornol.excelkit.core.ReadCheckpoint;
 import io.github.dornol.excelkit.core.ReadResult;
 import io.github.dornol.excelkit.core.ProgressCallback;
 import io.github.dornol.excelkit.core.ReadLimitExceededException;
+import io.github.dornol.excelkit.core.ReadPhase;
 import io.github.dornol.excelkit.core.ReadStoppedException;
 import io.github.dornol.excelkit.core.CellError;
 import io.github.dornol.excelkit.core.RowData;
@@ -22,23 +24,36 @@ import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 /**
  * Reads CSV files and maps rows to Java objects.
@@ -47,7 +62,7 @@ import java.util.concurrent.atomic.AtomicReference;
  * On construction, the handler copies the input stream to a temporary file on disk.
  * Temporary resources are released when {@link #read(java.util.function.Consumer)},
  * {@link #readWhile(java.util.function.Predicate)}, or {@link #readStrict(java.util.function.Consumer)}
- * returns or throws.
+ * returns or throws, or when the {@link #stream()} is exhausted or closed.
  *
  * @param <T> The target row data type
  * @author dhkim
@@ -55,6 +70,12 @@ import java.util.concurrent.atomic.AtomicReference;
  */
 final class CsvReadHandler<T> extends AbstractReadHandler<T> {
     private static final Logger log = LoggerFactory.getLogger(CsvReadHandler.class);
+    private static final AtomicInteger POOL_SEQUENCE = new AtomicInteger();
+    /** Chunks per worker aimed for by {@link RowCursor#chunks()}, so that uneven chunks balance out. */
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final long MIN_CHUNK_BYTES = 64 * 1024;
+    /** Bounds the parsed rows held per chunk; at most two chunks per worker are in flight. */
+    private static final long MAX_CHUNK_BYTES = 8 * 1024 * 1024;
 
     CsvReadHandler(InputStream input, CsvReadSessionConfig<T> config) {
         this(input, config, false, null);
@@ -78,10 +99,15 @@ final class CsvReadHandler<T> extends AbstractReadHandler<T> {
         this.escapeChar = config.escapeChar();
         this.strictQuotes = config.strictQuotes();
         this.ignoreLeadingWhiteSpace = config.ignoreLeadingWhiteSpace();
+        this.engine = config.engine();
+        this.chunkWorkers = config.chunkWorkers();
+        this.orderedChunks = config.orderedChunks();
         this.progressInterval = config.progressInterval();
         this.progressCallback = config.progressCallback();
+        this.externalPath = externalPath;
         if (externalPath) useExternalInput(path);
         options(config.options());
+        readPlan(config.plan());
     }
 
     private final List<String> headerNames = new ArrayList<>();
@@ -93,80 +119,34 @@ final class CsvReadHandler<T> extends AbstractReadHandler<T> {
     private final char escapeChar;
     private final boolean strictQuotes;
     private final boolean ignoreLeadingWhiteSpace;
+    private final CsvReadEngine engine;
+    /** Whether the input is the caller's file, which the native engine maps instead of decoding a temporary copy. */
+    private final boolean externalPath;
+    /** Threads parsing byte ranges of the file in parallel, or {@code 0} for a sequential read. */
+    private final int chunkWorkers;
+    private final boolean orderedChunks;
     private final int progressInterval;
     private final @Nullable ProgressCallback progressCallback;
+    /** Cells of the current row and the row data over them, shared by every row while the row view is reused. */
+    private final List<CellData> rowCells = new ArrayList<>();
+    private @Nullable RowData rowView;
 
     @Override
     public void read(Consumer<ReadResult<T>> consumer) {
         markConsumed();
         Consumer<ReadResult<T>> guardedConsumer = guardedConsumer(consumer);
-        try (CSVReader reader = buildCsvReader()) {
-            skipToHeader(reader);
-            String[] headerLine = readHeaderLine(reader);
-            prepareColumnHeaders(headerLine);
-
-            String[] line;
-            long rowCount = 0;
-            long emittedRows = 0;
-            int consecutiveBlankRows = 0;
-
-            if (rowMapper != null) {
-                Map<String, Integer> headerIndexMap = buildHeaderIndexMap(headerNames, "CSV");
-                validateSelectedMapColumns(headerIndexMap, headerNames, "CSV");
-                while ((line = reader.readNext()) != null) {
-                    if (cancellationToken.isCancellationRequested()) throw new ReadStoppedException();
-                    List<String> rawValues = rawValues(line);
-                    if (isBlankValues(rawValues)) {
-                        consecutiveBlankRows++;
-                        if (stopAtBlankRows > 0 && consecutiveBlankRows >= stopAtBlankRows) {
-                            break;
-                        }
-                        if (skipBlankRows) {
-                            rowCount++;
-                            continue;
-                        }
-                    } else {
-                        consecutiveBlankRows = 0;
-                    }
-                    if (maxRows >= 0 && emittedRows >= maxRows) {
-                        break;
-                    }
-                    guardedConsumer.accept(processRowMapping(line, headerIndexMap, fileRowNum(rowCount), rawValues));
-                    emittedRows++;
-                    rowCount++;
-                    if (progressCallback != null && progressInterval > 0 && rowCount % progressInterval == 0) {
-                        progressCallback.onProgress(rowCount, null);
-                    }
-                    if (progressInterval > 0 && rowCount % progressInterval == 0) notifyReadProgress(rowCount, -1, -1);
-                }
-            } else {
-                int[] resolvedIndices = resolveIndices();
-                while ((line = reader.readNext()) != null) {
-                    if (cancellationToken.isCancellationRequested()) throw new ReadStoppedException();
-                    List<String> rawValues = rawValues(line);
-                    if (isBlankValues(rawValues)) {
-                        consecutiveBlankRows++;
-                        if (stopAtBlankRows > 0 && consecutiveBlankRows >= stopAtBlankRows) {
-                            break;
-                        }
-                        if (skipBlankRows) {
-                            rowCount++;
-                            continue;
-                        }
-                    } else {
-                        consecutiveBlankRows = 0;
-                    }
-                    if (maxRows >= 0 && emittedRows >= maxRows) {
-                        break;
-                    }
-                    guardedConsumer.accept(processRow(line, resolvedIndices, fileRowNum(rowCount), rawValues));
-                    emittedRows++;
-                    rowCount++;
-                    if (progressCallback != null && progressInterval > 0 && rowCount % progressInterval == 0) {
-                        progressCallback.onProgress(rowCount, null);
-                    }
-                    if (progressInterval > 0 && rowCount % progressInterval == 0) notifyReadProgress(rowCount, -1, -1);
+        try (RowCursor cursor = new RowCursor()) {
+            List<CsvChunkSplitter.Chunk> chunks = cursor.chunks();
+            if (chunks != null) {
+                cursor.readChunks(chunks, guardedConsumer);
+                return;
+            }
+            try (RowSink<T> sink = rowSink(guardedConsumer, cursor.checkpoints())) {
+                for (Supplier<ReadResult<T>> row; (row = cursor.next()) != null; ) {
+                    sink.submit(row);
+                    cursor.reportProgress();
                 }
+                sink.finish();
             }
         } catch (ReadStoppedException e) {
             // Normal early completion requested by readWhile.
@@ -183,8 +163,24 @@ final class CsvReadHandler<T> extends AbstractReadHandler<T> {
         }
     }
 
+    /**
+     * Returns the rows as a lazy stream that pulls CSV records only as the caller consumes them.
+     * The stream must be closed to release the temporary file when it is not fully consumed.
+     */
+    @Override
+    public Stream<ReadResult<T>> stream() {
+        markConsumed();
+        PullIterator rows = new PullIterator();
+        return toStream(rows, rows::close);
+    }
+
     boolean wasStoppedEarly() { return stoppedEarly; }
 
+    @Override
+    protected boolean mapsOnWorkers() {
+        return super.mapsOnWorkers() || chunkWorkers > 0;
+    }
+
     @Override
     public void readWhile(Predicate<ReadResult<T>> predicate) {
         AtomicReference<RuntimeException> failure = new AtomicReference<>();
@@ -203,6 +199,408 @@ final class CsvReadHandler<T> extends AbstractReadHandler<T> {
         if (failure.get() != null) throw failure.get();
     }
 
+    /**
+     * Reads data rows one at a time, applying blank-row, row-limit, and cancellation rules, and
+     * returns the mapping of each row for the caller to run.
+     */
+    private final class RowCursor implements AutoCloseable {
+        /** Character input of the file; {@code null} when it is read through {@link #mapped}. */
+        private final @Nullable CsvInput input;
+        /** Byte-level tokenizer of a mapped {@code Path} input read by the native engine. */
+        private final @Nullable CsvMappedTokenizer mapped;
+        /** Record source of the {@link CsvReadEngine#OPENCSV} engine; {@code null} with {@link #tokenizer}. */
+        private final @Nullable CSVReader reader;
+        private final @Nullable CsvRecordTokenizer tokenizer;
+        /** Columns whose strings are created by the tokenizer, or {@code null} for all. */
+        private final @Nullable BitSet wanted;
+        /** Fields of the current record read by {@link #reader}. */
+        private String @Nullable [] line;
+        /** Byte offsets after the rows that will carry checkpoints, in row order. */
+        private final @Nullable ArrayDeque<Long> checkpointOffsets;
+        private final @Nullable Map<String, Integer> headerIndexMap;
+        private final int @Nullable [] resolvedIndices;
+        private final @Nullable BitSet projection;
+        private long rowCount;
+        private long emittedRows;
+        private int consecutiveBlankRows;
+        private boolean finished;
+
+        RowCursor() throws Exception {
+            Path file = java.util.Objects.requireNonNull(getTempFile());
+            this.mapped = engine == CsvReadEngine.NATIVE && externalPath ? CsvMappedTokenizer.open(file, charset,
+                    delimiter, quoteChar, escapeChar, strictQuotes, ignoreLeadingWhiteSpace) : null;
+            if (mapped != null) {
+                this.input = null;
+                this.reader = null;
+                this.tokenizer = mapped;
+            } else if (engine == CsvReadEngine.NATIVE) {
+                this.input = new CsvInput(file, charset);
+                this.reader = null;
+                this.tokenizer = new CsvTokenizer(input, delimiter, quoteChar, escapeChar, strictQuotes,
+                        ignoreLeadingWhiteSpace);
+            } else {
+                this.input = new CsvInput(file, charset);
+                this.reader = buildCsvReader(input);
+                this.tokenizer = null;
+            }
+            this.checkpointOffsets = checkpointListener != null && byteOffset() >= 0 ? new ArrayDeque<>() : null;
+            try {
+                verifyResumeCheckpoint(-1, CsvReadException::new);
+                skipToHeader();
+                prepareColumnHeaders(readHeaderLine());
+                HeaderLayout layout = resolveHeader(rowMapper != null ? null : columns, headerNames, "CSV");
+                this.headerIndexMap = layout.headerIndex();
+                this.resolvedIndices = layout.columnIndices();
+                this.projection = rowMapper != null ? layout.projection() : null;
+                this.wanted = captureRawValues ? null : headerIndexMap != null ? projection : columnsOf(resolvedIndices);
+                // Neither CSVReader nor the tokenizer reads past a record, so the input can be moved between records.
+                ReadCheckpoint resume = resumeFrom;
+                if (resume != null && resume.byteOffset() >= 0 && byteOffset() >= 0) {
+                    if (resume.byteOffset() < byteOffset()) {
+                        throw new CsvReadException("Checkpoint byte offset precedes the data rows");
+                    }
+                    seek(resume.byteOffset());
+                    rowCount = resume.lastRow() + 1 - fileRowNum(0);
+                }
+                if (beforeFromRow(fileRowNum(rowCount))) {
+                    rowCount += skipRecords(fromRow - fileRowNum(rowCount));
+                }
+            } catch (Exception | Error e) {
+                closeQuietly(this::closeSource);
+                throw e;
+            }
+        }
+
+        /** Returns the byte offset of the next unread record, or {@code -1} when the charset is not tracked. */
+        private long byteOffset() {
+            return mapped != null ? mapped.byteOffset() : java.util.Objects.requireNonNull(input).byteOffset();
+        }
+
+        private void seek(long byteOffset) throws IOException {
+            if (mapped != null) mapped.seek(byteOffset);
+            else java.util.Objects.requireNonNull(input).seek(byteOffset);
+        }
+
+        /** Skips up to {@code count} records without splitting them into fields. */
+        private long skipRecords(long count) throws IOException {
+            if (mapped != null) return mapped.skip(count);
+            return new CsvRecordSkipper(delimiter, quoteChar, escapeChar)
+                    .skip(java.util.Objects.requireNonNull(input), count);
+        }
+
+        /** Reads the next record, returning {@code false} at the end of input. */
+        private boolean nextRecord() throws Exception {
+            if (tokenizer != null) return tokenizer.next();
+            line = java.util.Objects.requireNonNull(reader).readNext();
+            return line != null;
+        }
+
+        private boolean isBlankRecord() {
+            return tokenizer != null ? tokenizer.isBlank()
+                    : isBlankValues(Arrays.asList(java.util.Objects.requireNonNull(line)));
+        }
+
+        /** Returns the fields of the current record; the tokenizer only creates the {@link #wanted} ones. */
+        private String[] recordFields() {
+            return tokenizer != null ? tokenizer.fields(wanted) : java.util.Objects.requireNonNull(line);
+        }
+
+        private void skipToHeader() throws Exception {
+            for (int i = 0; i < headerRowIndex; i++) {
+                if (!nextRecord()) {
+                    throw new CsvReadException("CSV file has insufficient rows for headerRowIndex=" + headerRowIndex);
+                }
+            }
+        }
+
+        private String[] readHeaderLine() throws Exception {
+            if (!nextRecord()) {
+                throw new CsvReadException("CSV file is empty or missing header row");
+            }
+            return tokenizer != null ? tokenizer.fields(null) : java.util.Objects.requireNonNull(line);
+        }
+
+        /** Returns the mapping of the next data row, or {@code null} when no rows remain. */
+        @Nullable Supplier<ReadResult<T>> next() throws Exception {
+            if (finished) return null;
+            while (!pastToRow(fileRowNum(rowCount)) && nextRecord()) {
+                if (cancellationToken.isCancellationRequested()) throw new ReadStoppedException();
+                if (isBlankRecord()) {
+                    consecutiveBlankRows++;
+                    if (stopAtBlankRows > 0 && consecutiveBlankRows >= stopAtBlankRows) {
+                        break;
+                    }
+                    if (skipBlankRows) {
+                        rowCount++;
+                        continue;
+                    }
+                } else {
+                    consecutiveBlankRows = 0;
+                }
+                if (maxRows >= 0 && emittedRows >= maxRows) {
+                    break;
+                }
+                String[] values = recordFields();
+                List<String> rawValues = rawValues(values);
+                long fileRowNum = fileRowNum(rowCount);
+                emittedRows++;
+                rowCount++;
+                if (checkpointOffsets != null && emittedRows % checkpointInterval == 0) {
+                    checkpointOffsets.add(byteOffset());
+                }
+                return mapping(values, fileRowNum, rawValues);
+            }
+            finished = true;
+            return null;
+        }
+
+        private Supplier<ReadResult<T>> mapping(String[] values, long fileRowNum, List<String> rawValues) {
+            if (headerIndexMap != null) {
+                Map<String, Integer> index = headerIndexMap;
+                BitSet columns = projection;
+                return () -> processRowMapping(values, index, columns, fileRowNum, rawValues);
+            }
+            int[] indices = java.util.Objects.requireNonNull(resolvedIndices);
+            return () -> processRow(values, indices, fileRowNum, rawValues);
+        }
+
+        /**
+         * Splits the rest of the file into chunks for {@link #readChunks}, or returns {@code null}
+         * when the read stays sequential: without chunk workers, with checkpoints, which need
+         * record offsets in file order, or with a charset the splitter cannot scan. The scan ends
+         * once the chunks hold every row up to {@code toRow} or {@code maxRows}.
+         */
+        @Nullable List<CsvChunkSplitter.Chunk> chunks() throws IOException {
+            if (chunkWorkers == 0 || checkpointListener != null) return null;
+            CsvChunkSplitter splitter = CsvChunkSplitter.forDialect(charset, delimiter, quoteChar, escapeChar);
+            if (splitter == null) return null;
+            Path file = java.util.Objects.requireNonNull(getTempFile());
+            long start = byteOffset();
+            long chunkSize = Math.max(MIN_CHUNK_BYTES, Math.min(MAX_CHUNK_BYTES,
+                    (Files.size(file) - start) / ((long) chunkWorkers * CHUNKS_PER_WORKER)));
+            // every record is delivered unless blank rows are skipped, so maxRows bounds the records too
+            long rowsLeft = maxRows >= 0 && !skipBlankRows ? maxRows - emittedRows : -1;
+            return splitter.split(file, start, chunkSize, records ->
+                    pastToRow(fileRowNum(rowCount + records)) || rowsLeft >= 0 && records >= rowsLeft);
+        }
+
+        /**
+         * Parses, maps and validates the chunks on {@link #chunkWorkers} threads and delivers the
+         * results on the calling thread, in file order when {@link #orderedChunks} is set. At most two
+         * chunks per worker are parsed ahead of delivery.
+         */
+        void readChunks(List<CsvChunkSplitter.Chunk> chunks, Consumer<ReadResult<T>> consumer) throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(chunkWorkers, chunkThreadFactory());
+            try {
+                ExecutorCompletionService<List<ChunkRow<T>>> completion = new ExecutorCompletionService<>(executor);
+                ArrayDeque<Future<List<ChunkRow<T>>>> pending = new ArrayDeque<>();
+                Iterator<CsvChunkSplitter.Chunk> remaining = chunks.iterator();
+                long firstRecord = rowCount;
+                while (!pending.isEmpty() || remaining.hasNext()) {
+                    while (pending.size() < chunkWorkers * 2 && remaining.hasNext()) {
+                        Callable<List<ChunkRow<T>>> task = chunkTask(remaining.next(), firstRecord);
+                        pending.add(orderedChunks ? executor.submit(task) : completion.submit(task));
+                    }
+                    Future<List<ChunkRow<T>>> done;
+                    if (orderedChunks) {
+                        done = pending.removeFirst();
+                    } else {
+                        done = completion.take();
+                        pending.remove(done);
+                    }
+                    if (!deliver(chunkRows(done), consumer)) return;
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        /** Parses one chunk with its own input and tokenizer, mapping every row on the worker thread. */
+        private Callable<List<ChunkRow<T>>> chunkTask(CsvChunkSplitter.Chunk chunk, long firstRecord) {
+            Path file = java.util.Objects.requireNonNull(getTempFile());
+            return () -> {
+                List<ChunkRow<T>> rows = new ArrayList<>();
+                try (CsvInput chunkInput = new CsvInput(file, charset)) {
+                    chunkInput.seek(chunk.start());
+                    CsvTokenizer chunkTokenizer = new CsvTokenizer(chunkInput, delimiter, quoteChar, escapeChar,
+                            strictQuotes, ignoreLeadingWhiteSpace);
+                    for (long record = firstRecord + chunk.firstRecord();
+                         chunkInput.byteOffset() < chunk.end() && chunkTokenizer.next(); record++) {
+                        long fileRowNum = fileRowNum(record);
+                        if (pastToRow(fileRowNum) || cancellationToken.isCancellationRequested()) break;
+                        boolean blank = chunkTokenizer.isBlank();
+                        if (blank && skipBlankRows) {
+                            rows.add(new ChunkRow<>(record, true, null));
+                            continue;
+                        }
+                        String[] values = chunkTokenizer.fields(wanted);
+                        Supplier<ReadResult<T>> row = mapping(values, fileRowNum, rawValues(values));
+                        long started = timeRowPhases ? System.nanoTime() : 0;
+                        ReadResult<T> result = row.get();
+                        if (timeRowPhases) recordPhase(ReadPhase.MAPPING, started);
+                        rows.add(new ChunkRow<>(record, blank, result));
+                    }
+                    addParsedBytes(chunkInput.bytesRead());
+                }
+                return rows;
+            };
+        }
+
+        /**
+         * Applies the blank-row, row-limit and cancellation rules to a parsed chunk and delivers its
+         * results.
+         *
+         * @return {@code false} when the read ends within the chunk
+         */
+        private boolean deliver(List<ChunkRow<T>> rows, Consumer<ReadResult<T>> consumer) {
+            for (ChunkRow<T> row : rows) {
+                if (cancellationToken.isCancellationRequested()) throw new ReadStoppedException();
+                if (row.blank()) {
+                    consecutiveBlankRows++;
+                    if (stopAtBlankRows > 0 && consecutiveBlankRows >= stopAtBlankRows) return false;
+                    if (row.result() == null) {
+                        rowCount = row.record() + 1;
+                        continue;
+                    }
+                } else {
+                    consecutiveBlankRows = 0;
+                }
+                if (maxRows >= 0 && emittedRows >= maxRows) return false;
+                emittedRows++;
+                rowCount = row.record() + 1;
+                consumer.accept(java.util.Objects.requireNonNull(row.result()));
+                reportProgress();
+            }
+            return true;
+        }
+
+        /** Returns the checkpoint listener for committed rows, with the byte offsets recorded for them. */
+        @Nullable Consumer<ReadResult<T>> checkpoints() {
+            ArrayDeque<Long> offsets = checkpointOffsets;
+            return CsvReadHandler.this.checkpoints(-1, offsets == null ? null : offsets::removeFirst);
+        }
+
+        void reportProgress() {
+            if (progressCallback != null && progressInterval > 0 && rowCount % progressInterval == 0) {
+                progressCallback.onProgress(rowCount, null);
+            }
+            if (progressInterval > 0 && rowCount % progressInterval == 0) notifyReadProgress(rowCount, -1, -1);
+        }
+
+        /** Adds the bytes taken from the file to the read metrics and closes the input. */
+        @Override
+        public void close() throws IOException {
+            addParsedBytes(mapped != null ? mapped.bytesRead() : java.util.Objects.requireNonNull(input).bytesRead());
+            closeSource();
+        }
+
+        private void closeSource() throws IOException {
+            if (mapped != null) mapped.close();
+            else if (reader != null) reader.close();
+            else if (input != null) input.close();
+        }
+    }
+
+    /** A parsed data record of a chunk: its 0-based record index, and its result unless skipped as blank. */
+    private record ChunkRow<T>(long record, boolean blank, @Nullable ReadResult<T> result) {}
+
+    private List<ChunkRow<T>> chunkRows(Future<List<ChunkRow<T>>> chunk) {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CsvReadException("Interrupted while parsing CSV chunks", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            if (cause instanceof Error error) throw error;
+            throw new CsvReadException("Failed to read CSV", cause);
+        }
+    }
+
+    private static ThreadFactory chunkThreadFactory() {
+        int pool = POOL_SEQUENCE.incrementAndGet();
+        AtomicInteger sequence = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, "excel-kit-csv-" + pool + "-chunk-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Pull-style iterator over {@link RowCursor}: each {@link #hasNext()} reads only as many records
+     * as needed to produce the next result.
+     */
+    private final class PullIterator implements Iterator<ReadResult<T>>, AutoCloseable {
+        private final ArrayDeque<ReadResult<T>> ready = new ArrayDeque<>();
+        private @Nullable RowCursor cursor;
+        private @Nullable RowSink<T> sink;
+        private boolean exhausted;
+        private boolean closed;
+
+        @Override
+        public boolean hasNext() {
+            if (ready.isEmpty() && !exhausted && !closed) {
+                try {
+                    fill();
+                } catch (ReadStoppedException e) {
+                    stoppedEarly = true;
+                    exhausted = true;
+                } catch (ReadLimitExceededException | CsvReadException | ReadAbortException e) {
+                    close();
+                    throw e;
+                } catch (Exception e) {
+                    close();
+                    throw new CsvReadException("Failed to read CSV", e);
+                }
+            }
+            if (ready.isEmpty()) {
+                close();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public ReadResult<T> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return ready.poll();
+        }
+
+        private void fill() throws Exception {
+            if (cursor == null) {
+                cursor = new RowCursor();
+                sink = rowSink(guardedConsumer(ready::add), cursor.checkpoints());
+            }
+            RowSink<T> rows = java.util.Objects.requireNonNull(sink);
+            while (ready.isEmpty()) {
+                Supplier<ReadResult<T>> row = cursor.next();
+                if (row == null) {
+                    rows.finish();
+                    exhausted = true;
+                    return;
+                }
+                rows.submit(row);
+                cursor.reportProgress();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            ready.clear();
+            try {
+                if (sink != null) sink.close();
+            } finally {
+                closeQuietly(cursor);
+                notifyReadCompletion(-1, -1);
+                CsvReadHandler.this.close();
+            }
+        }
+    }
+
     private ReadResult<T> processRow(String[] line, int[] resolvedIndices, long fileRowNum, List<String> rawValues) {
         if (columns == null || instanceSupplier == null) {
             throw new IllegalStateException("columns and instanceSupplier must not be null in setter mode");
@@ -226,50 +624,48 @@ final class CsvReadHandler<T> extends AbstractReadHandler<T> {
                 null, fileRowNum, cellErrors, rawValues);
     }
 
-    private ReadResult<T> processRowMapping(String[] line, Map<String, Integer> headerIndexMap, long fileRowNum,
-                                            List<String> rawValues) {
-        List<CellData> cells = new ArrayList<>();
+    private ReadResult<T> processRowMapping(String[] line, Map<String, Integer> headerIndexMap,
+                                            @Nullable BitSet projection, long fileRowNum, List<String> rawValues) {
+        boolean reuse = reusesRowView();
+        List<CellData> cells = reuse ? rowCells : new ArrayList<>(line.length);
+        cells.clear();
         for (int i = 0; i < line.length; i++) {
-            cells.add(cellData(i, line[i]));
+            cells.add(projection == null || projection.get(i) ? cellData(i, line[i]) : null);
         }
-        RowData rowData = new RowData(cells, headerNames, headerIndexMap, headerNormalizer);
+        RowData rowData = reuse ? rowView(headerIndexMap)
+                : new RowData(cells, headerNames, headerIndexMap, headerNormalizer);
         return mapWithRowMapper(rowData, fileRowNum, rawValues);
     }
 
-    private List<String> rawValues(String[] line) {
-        return Arrays.asList(line.clone());
-    }
-
-    private void skipToHeader(CSVReader reader) throws Exception {
-        for (int i = 0; i < headerRowIndex; i++) {
-            if (reader.readNext() == null) {
-                throw new CsvReadException("CSV file has insufficient rows for headerRowIndex=" + headerRowIndex);
-            }
+    private RowData rowView(Map<String, Integer> headerIndexMap) {
+        RowData view = rowView;
+        if (view == null) {
+            view = new RowData(rowCells, headerNames, headerIndexMap, headerNormalizer);
+            rowView = view;
         }
+        return view;
     }
 
-    private String[] readHeaderLine(CSVReader reader) throws Exception {
-        String[] headerLine = reader.readNext();
-        if (headerLine == null) {
-            throw new CsvReadException("CSV file is empty or missing header row");
-        }
-        return headerLine;
+    /** Wraps the record's fields without copying; both record sources return a new array per record. */
+    private List<String> rawValues(String[] line) {
+        if (!captureRawValues) return List.of();
+        return Arrays.asList(line);
     }
 
-    private int[] resolveIndices() {
-        return resolveColumnIndices(
-                columns.size(),
-                i -> columns.get(i).headerAliases(),
-                i -> columns.get(i).columnIndex(),
-                headerNames, "CSV"
-        );
+    private static @Nullable BitSet columnsOf(int @Nullable [] indices) {
+        if (indices == null) return null;
+        BitSet columns = new BitSet();
+        for (int index : indices) {
+            if (index >= 0) columns.set(index);
+        }
+        return columns;
     }
 
     private long fileRowNum(long zeroBasedDataRowIndex) {
         return headerRowIndex + 2L + zeroBasedDataRowIndex;
     }
 
-    private void closeQuietly(@Nullable CSVReader reader) {
+    private void closeQuietly(@Nullable AutoCloseable reader) {
         if (reader == null) return;
         try {
             reader.close();
@@ -277,12 +673,12 @@ final class CsvReadHandler<T> extends AbstractReadHandler<T> {
             // Log at debug level — closeQuietly is used in cleanup paths
             // where reporting errors is less critical
             if (log.isDebugEnabled()) {
-                log.debug("Failed to close CSVReader", e);
+                log.debug("Failed to close CSV input", e);
             }
         }
     }
 
-    private CSVReader buildCsvReader() throws Exception {
+    private CSVReader buildCsvReader(CsvInput input) {
         CSVParser csvParser = new CSVParserBuilder()
                 .withSeparator(this.delimiter)
                 .withQuoteChar(this.quoteChar)
@@ -290,8 +686,7 @@ final class CsvReadHandler<T> extends AbstractReadHandler<T> {
                 .withStrictQuotes(this.strictQuotes)
                 .withIgnoreLeadingWhiteSpace(this.ignoreLeadingWhiteSpace)
                 .build();
-        return new CSVReaderBuilder(new InputStreamReader(Files.newInputStream(getTempFile()), this.charset))
-                .withCSVParser(csvParser).build();
+        return new CSVReaderBuilder(input).withCSVParser(csvParser).build();
     }
 
     private void prepareColumnHeaders(String[] line) {
@@ -15,4 +15,5 @@ record CsvReadSessionConfig<T>(@Nullable List<ReadColumn<T>> columns,
         @Nullable Validator validator, int headerRowIndex, char delimiter, Charset charset,
         int progressInterval, @Nullable ProgressCallback progressCallback,
         @Nullable Set<String> selectedColumns, char quoteChar, char escapeChar,
-        boolean strictQuotes, boolean ignoreLeadingWhiteSpace, ReadOptions options) {}
+        boolean strictQuotes, boolean ignoreLeadingWhiteSpace, CsvReadEngine engine, int chunkWorkers,
+        boolean orderedChunks, ReadOptions options, ReadPlan<T> plan) {}
@@ -19,15 +19,19 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 import java.util.function.Supplier;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import io.github.dornol.excelkit.core.InputStreamSource;
 import io.github.dornol.excelkit.core.ReadResult;
 import io.github.dornol.excelkit.core.RowError;
+import io.github.dornol.excelkit.core.ReadBatch;
 import io.github.dornol.excelkit.core.ReadSummary;
 import io.github.dornol.excelkit.core.ReadReport;
+import io.github.dornol.excelkit.core.TabularCompression;
 import io.github.dornol.excelkit.core.TabularFileDetector;
 import io.github.dornol.excelkit.core.TabularFileType;
 
@@ -37,6 +41,8 @@ import io.github.dornol.excelkit.core.TabularFileType;
  * {@code CsvReader} allows you to define how each CSV cell maps to your target object {@code T},
  * and optionally integrates Bean Validation support.
  * Once configuration is complete, call {@code read} with an input source and row consumer.
+ * Gzip streams ({@code .csv.gz}) and zip archives holding a CSV are recognised by their leading
+ * bytes and inflated while they are read.
  *
  * @param <T> The type of the object that represents one CSV row
  * @author dhkim
@@ -49,6 +55,9 @@ public class CsvReader<T> extends AbstractReader<T, CsvReader<T>> {
     private char escapeChar = ICSVParser.DEFAULT_ESCAPE_CHARACTER;
     private boolean strictQuotes = ICSVParser.DEFAULT_STRICT_QUOTES;
     private boolean ignoreLeadingWhiteSpace = ICSVParser.DEFAULT_IGNORE_LEADING_WHITESPACE;
+    private CsvReadEngine engine = CsvReadEngine.OPENCSV;
+    private int chunkWorkers;
+    private boolean orderedChunks = true;
 
     /**
      * Constructs a CsvReader in setter mode with instance supplier and optional validator.
@@ -274,18 +283,86 @@ public class CsvReader<T> extends AbstractReader<T, CsvReader<T>> {
         return this;
     }
 
+    /**
+     * Selects the CSV tokenizer. Defaults to {@link CsvReadEngine#OPENCSV}.
+     * <p>
+     * {@link CsvReadEngine#NATIVE} tokenizes records in a reusable buffer and only creates strings
+     * for the columns that are mapped, or for every column while {@link #captureRawValues(boolean)}
+     * is enabled. Delimiter, quote, escape, and whitespace settings apply to both engines.
+     *
+     * @param engine the engine to use
+     * @return this reader for chaining
+     * @since 0.22.0
+     */
+    public CsvReader<T> engine(CsvReadEngine engine) {
+        this.engine = java.util.Objects.requireNonNull(engine, "engine cannot be null");
+        return this;
+    }
+
+    /**
+     * Parses the file in byte ranges on {@code workers} threads, delivering results in file order.
+     *
+     * @param workers number of parsing threads (at least 1)
+     * @return this reader for chaining
+     * @see #parallelChunks(int, boolean)
+     * @since 0.22.0
+     */
+    public CsvReader<T> parallelChunks(int workers) {
+        return parallelChunks(workers, true);
+    }
+
+    /**
+     * Parses the file in byte ranges on {@code workers} threads.
+     * <p>
+     * The data rows are split into ranges of up to 8 MB, aligned to record boundaries with a
+     * quote-aware scan so quoted line breaks never split a record. Each range is tokenized with
+     * {@link CsvReadEngine#NATIVE}, mapped, and validated on a worker; results reach the consumer on
+     * the reading thread with their file row numbers, in file order when {@code ordered} is set and
+     * range by range as they finish otherwise. Blank-row rules and {@code maxRows} apply in delivery
+     * order. Setters, row mappers, and the instance supplier must be safe to call concurrently.
+     * <p>
+     * Reads stay sequential with {@code checkpoints(...)}, for {@link #stream(InputStream)}, and for
+     * charsets whose delimiter, quote, escape, or line breaks are not single bytes (such as UTF-16
+     * or CP949).
+     *
+     * @param workers number of parsing threads (at least 1)
+     * @param ordered whether results are delivered in file order
+     * @return this reader for chaining
+     * @since 0.22.0
+     */
+    public CsvReader<T> parallelChunks(int workers, boolean ordered) {
+        if (workers < 1) throw new IllegalArgumentException("workers must be positive");
+        this.chunkWorkers = workers;
+        this.orderedChunks = ordered;
+        return this;
+    }
+
     /**
      * Finalizes the configuration and builds a {@link CsvReadHandler} for parsing the given CSV stream.
+     * <p>
+     * Gzip streams and zipped CSVs are inflated while the handler spools them to its temporary
+     * file, so {@code ReadLimits.maxInputBytes} bounds the uncompressed size.
      *
      * @param inputStream The input stream of the CSV file
      * @return A handler to execute CSV parsing
      */
     private CsvReadHandler<T> createHandler(InputStream inputStream) {
-        inputStream = limitInput(inputStream);
-        return new CsvReadHandler<>(inputStream, sessionConfig());
+        try (InputStream uncompressed = TabularCompression.decompress(inputStream)) {
+            return new CsvReadHandler<>(limitInput(uncompressed), sessionConfig());
+        } catch (IOException e) {
+            throw new CsvReadException("Failed to read compressed CSV input", e);
+        }
     }
 
+    /** Reads plain files in place and spools compressed files through {@link #createHandler(InputStream)}. */
     private CsvReadHandler<T> createHandler(Path path) {
+        if (Files.isRegularFile(path) && TabularCompression.detect(path) != TabularCompression.NONE) {
+            try (InputStream input = Files.newInputStream(path)) {
+                return createHandler(input);
+            } catch (IOException e) {
+                throw new CsvReadException("Failed to open CSV input", e);
+            }
+        }
         return new CsvReadHandler<>(path, sessionConfig());
     }
 
@@ -294,7 +371,8 @@ public class CsvReader<T> extends AbstractReader<T, CsvReader<T>> {
                 instanceSupplier, rowMapper, validator, headerRowIndex, delimiter, charset,
                 progressInterval, progressCallback,
                 selectedMapColumns == null ? null : Set.copyOf(selectedMapColumns), quoteChar,
-                escapeChar, strictQuotes, ignoreLeadingWhiteSpace, snapshotReadOptions());
+                escapeChar, strictQuotes, ignoreLeadingWhiteSpace, engine, chunkWorkers, orderedChunks,
+                snapshotReadOptions(), readPlan());
     }
 
     /** Reads an input stream without closing it. */
@@ -335,7 +413,7 @@ public class CsvReader<T> extends AbstractReader<T, CsvReader<T>> {
 
     private ReadSummary summarize(CsvReadHandler<T> handler, Consumer<ReadResult<T>> consumer) {
         return summarizeRead(
-                handler::read, handler::wasStoppedEarly, consumer);
+                handler::read, handler::wasStoppedEarly, handler::metrics, consumer);
     }
 
     public ReadReport readReport(InputStream inputStream, int maxCollectedErrors) {
@@ -357,7 +435,8 @@ public class CsvReader<T> extends AbstractReader<T, CsvReader<T>> {
 
     private ReadReport report(CsvReadHandler<T> handler, int maxCollectedErrors) {
         return collectReadReport(
-                consumer -> handler.read(consumer), handler::wasStoppedEarly, maxCollectedErrors);
+                consumer -> handler.read(consumer), handler::wasStoppedEarly, handler::metrics,
+                maxCollectedErrors);
     }
 
     public void read(InputStream inputStream, Consumer<T> onSuccess, Consumer<RowError> onError) {
@@ -409,9 +488,99 @@ public class CsvReader<T> extends AbstractReader<T, CsvReader<T>> {
                 (message, error) -> new CsvReadException("Failed to open CSV input", error));
     }
 
+    /**
+     * Returns the rows of an input stream as a lazy stream. Rows are read only as the stream is
+     * consumed; close it (for example with try-with-resources) to release temporary resources when
+     * it is not fully consumed. The input stream is not closed.
+     *
+     * @since 0.22.0
+     */
+    public Stream<ReadResult<T>> stream(InputStream inputStream) {
+        return createHandler(inputStream).stream();
+    }
+
+    /**
+     * Returns the rows of a caller-owned path as a lazy stream.
+     *
+     * @since 0.22.0
+     */
+    public Stream<ReadResult<T>> stream(Path path) {
+        return createHandler(path).stream();
+    }
+
+    /**
+     * Returns the rows of a source as a lazy stream; the opened input is closed with the stream.
+     *
+     * @since 0.22.0
+     */
+    public Stream<ReadResult<T>> stream(InputStreamSource source) {
+        return streamInputSource(source, this::stream,
+                (message, error) -> new CsvReadException("Failed to open CSV input", error));
+    }
+
     private ReadSummary readWhile(CsvReadHandler<T> handler, Predicate<ReadResult<T>> predicate) {
         return summarizeReadWhile(
-                handler::readWhile, handler::wasStoppedEarly, predicate);
+                handler::readWhile, handler::wasStoppedEarly, handler::metrics, predicate);
+    }
+
+    /**
+     * Reads an input stream and delivers rows in batches of up to {@code batchSize}, plus a final
+     * partial batch at the end of input. Each {@link ReadBatch} holds the successful rows and the
+     * {@link RowError}s of its rows; its lists are reused once the callback returns.
+     * <p>
+     * {@code maxErrors} and cancellation are applied per row before batching: when the read aborts
+     * or is cancelled, the rows buffered so far are flushed before the exception propagates or the
+     * method returns. Progress callbacks count rows read, so they may run ahead of delivered batches.
+     *
+     * @since 0.22.0
+     */
+    public ReadSummary readBatches(InputStream inputStream, int batchSize, Consumer<ReadBatch<T>> consumer) {
+        validateBatches(batchSize, null, consumer);
+        return batches(createHandler(inputStream), batchSize, null, consumer);
+    }
+
+    /**
+     * Reads an input stream in batches, also flushing a partial batch once its oldest row has
+     * waited {@code maxLatency}. The latency is checked as rows arrive.
+     *
+     * @since 0.22.0
+     */
+    public ReadSummary readBatches(InputStream inputStream, int batchSize, Duration maxLatency,
+                                   Consumer<ReadBatch<T>> consumer) {
+        validateBatches(batchSize, java.util.Objects.requireNonNull(maxLatency, "maxLatency cannot be null"), consumer);
+        return batches(createHandler(inputStream), batchSize, maxLatency, consumer);
+    }
+
+    /** @since 0.22.0 */
+    public ReadSummary readBatches(Path path, int batchSize, Consumer<ReadBatch<T>> consumer) {
+        validateBatches(batchSize, null, consumer);
+        return batches(createHandler(path), batchSize, null, consumer);
+    }
+
+    /** @since 0.22.0 */
+    public ReadSummary readBatches(Path path, int batchSize, Duration maxLatency, Consumer<ReadBatch<T>> consumer) {
+        validateBatches(batchSize, java.util.Objects.requireNonNull(maxLatency, "maxLatency cannot be null"), consumer);
+        return batches(createHandler(path), batchSize, maxLatency, consumer);
+    }
+
+    /** @since 0.22.0 */
+    public ReadSummary readBatches(InputStreamSource source, int batchSize, Consumer<ReadBatch<T>> consumer) {
+        validateBatches(batchSize, null, consumer);
+        return withInputSource(source, input -> readBatches(input, batchSize, consumer),
+                (message, error) -> new CsvReadException("Failed to open CSV input", error));
+    }
+
+    /** @since 0.22.0 */
+    public ReadSummary readBatches(InputStreamSource source, int batchSize, Duration maxLatency,
+                                   Consumer<ReadBatch<T>> consumer) {
+        validateBatches(batchSize, java.util.Objects.requireNonNull(maxLatency, "maxLatency cannot be null"), consumer);
+        return withInputSource(source, input -> readBatches(input, batchSize, maxLatency, consumer),
+                (message, error) -> new CsvReadException("Failed to open CSV input", error));
+    }
+
+    private ReadSummary batches(CsvReadHandler<T> handler, int batchSize, @Nullable Duration maxLatency,
+                                Consumer<ReadBatch<T>> consumer) {
+        return summarizeBatches(handler, handler::wasStoppedEarly, batchSize, maxLatency, consumer);
     }
 
 }
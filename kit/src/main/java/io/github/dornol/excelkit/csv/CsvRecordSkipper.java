@@ -0,0 +1,98 @@
+package io.github.dornol.excelkit.csv;
+
+import com.opencsv.ICSVParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Skips whole CSV records on the reader underneath a {@code CSVReader} without splitting them into
+ * fields. Characters are scanned in chunks for record terminators outside quoted fields; quote and
+ * escape handling follows opencsv's {@code CSVParser} closely enough to find the same record
+ * boundaries.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+final class CsvRecordSkipper {
+    private static final int CHUNK = 8192;
+
+    private final char delimiter;
+    private final char quoteChar;
+    private final char escapeChar;
+    private final char[] chunk = new char[CHUNK];
+
+    private boolean inQuotes;
+    private boolean inField;
+    private boolean pendingEscape;
+
+    CsvRecordSkipper(char delimiter, char quoteChar, char escapeChar) {
+        this.delimiter = delimiter;
+        this.quoteChar = quoteChar;
+        this.escapeChar = escapeChar == quoteChar ? ICSVParser.NULL_CHARACTER : escapeChar;
+    }
+
+    /**
+     * Skips up to {@code count} records, leaving {@code input} at the start of the next record.
+     *
+     * @return the number of records skipped, less than {@code count} only at the end of input
+     */
+    long skip(BufferedReader input, long count) throws IOException {
+        long skipped = 0;
+        boolean pending = false;
+        while (skipped < count) {
+            input.mark(CHUNK);
+            int n = input.read(chunk, 0, CHUNK);
+            if (n < 0) {
+                if (inQuotes) throw new CsvReadException("Unterminated quoted field at end of CSV input");
+                return pending ? skipped + 1 : skipped;
+            }
+            for (int i = 0; i < n; i++) {
+                char c = chunk[i];
+                if (!endsRecord(c)) {
+                    pending = true;
+                    continue;
+                }
+                pending = false;
+                inField = false;
+                if (++skipped < count) {
+                    if (c == '\r' && i + 1 < n && chunk[i + 1] == '\n') i++;
+                    continue;
+                }
+                input.reset();
+                input.skip(i + 1L);
+                if (c == '\r') skipLineFeed(input);
+                return skipped;
+            }
+            if (chunk[n - 1] == '\r' && skipped < count) skipLineFeed(input);
+        }
+        return skipped;
+    }
+
+    /** Advances the scanner state by one character and returns whether it terminates a record. */
+    private boolean endsRecord(char c) {
+        if (pendingEscape) {
+            pendingEscape = false;
+            if (c == quoteChar || c == escapeChar) return false;
+        }
+        if (c == escapeChar && escapeChar != ICSVParser.NULL_CHARACTER) {
+            pendingEscape = inQuotes || inField;
+            inField = true;
+        } else if (c == quoteChar) {
+            inQuotes = !inQuotes;
+            inField = true;
+        } else if (inQuotes) {
+            return false;
+        } else if (c == '\n' || c == '\r') {
+            return true;
+        } else {
+            inField = c != delimiter;
+        }
+        return false;
+    }
+
+    private static void skipLineFeed(BufferedReader input) throws IOException {
+        input.mark(1);
+        if (input.read() != '\n') input.reset();
+    }
+}
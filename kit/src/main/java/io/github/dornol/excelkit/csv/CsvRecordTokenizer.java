@@ -0,0 +1,33 @@
+package io.github.dornol.excelkit.csv;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.BitSet;
+
+/**
+ * Record-at-a-time source of the fields read by {@link CsvReadEngine#NATIVE}.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+interface CsvRecordTokenizer {
+
+    /**
+     * Reads the next record.
+     *
+     * @return {@code false} at the end of input
+     */
+    boolean next() throws IOException;
+
+    /**
+     * Returns the fields of the current record, creating strings only for the columns in
+     * {@code wanted}; other entries are {@code null}.
+     *
+     * @param wanted the columns to create, or {@code null} for all
+     */
+    String[] fields(@Nullable BitSet wanted);
+
+    /** Returns whether every field of the current record is empty or whitespace, like {@link String#isBlank()}. */
+    boolean isBlank();
+}
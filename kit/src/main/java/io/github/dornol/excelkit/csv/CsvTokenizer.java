@@ -0,0 +1,215 @@
+package io.github.dornol.excelkit.csv;
+
+import com.opencsv.ICSVParser;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Built-in CSV tokenizer behind {@link CsvReadEngine#NATIVE}.
+ * <p>
+ * Records are scanned straight out of the {@link CsvInput} buffer. Field text is copied into one
+ * reusable character buffer, and each field is kept as an end offset into it. Strings are only
+ * created by {@link #field(int)} for the columns a read actually uses. Runs of characters that are
+ * not delimiters, quotes, escapes, or line breaks are found with a tight scan and copied in bulk,
+ * so plain unquoted fields cost one pass and one {@code arraycopy}.
+ * <p>
+ * Quoting follows opencsv's {@code CSVParser} for well-formed input:
+ * <ul>
+ *   <li>a quote character opens or closes a quoted section anywhere in a field;</li>
+ *   <li>a doubled quote inside a quoted section is a literal quote;</li>
+ *   <li>the escape character makes a following quote or escape character literal;</li>
+ *   <li>line breaks inside quoted sections read as {@code \n}.</li>
+ * </ul>
+ * With {@code strictQuotes}, characters outside quoted sections are dropped. With
+ * {@code ignoreLeadingWhiteSpace}, whitespace before an opening quote is dropped. No characters
+ * are read past the end of a record, so the input's byte offset stays exact between records.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+final class CsvTokenizer implements CsvRecordTokenizer {
+    private static final int INITIAL_FIELDS = 16;
+
+    private final CsvInput input;
+    private final char delimiter;
+    private final char quoteChar;
+    private final char escapeChar;
+    /** Whether {@link #escapeChar} is set; otherwise it is opencsv's null character, read literally. */
+    private final boolean escapes;
+    private final boolean strictQuotes;
+    private final boolean ignoreLeadingWhiteSpace;
+
+    /** Text of the current record's fields, back to back. */
+    private char[] chars = new char[1024];
+    private int length;
+    /** End offset in {@link #chars} of each field of the current record. */
+    private int[] ends = new int[INITIAL_FIELDS];
+    private int fieldCount;
+
+    CsvTokenizer(CsvInput input, char delimiter, char quoteChar, char escapeChar,
+                 boolean strictQuotes, boolean ignoreLeadingWhiteSpace) {
+        this.input = java.util.Objects.requireNonNull(input, "input cannot be null");
+        this.delimiter = delimiter;
+        this.quoteChar = quoteChar;
+        this.escapeChar = escapeChar == quoteChar ? ICSVParser.NULL_CHARACTER : escapeChar;
+        this.escapes = this.escapeChar != ICSVParser.NULL_CHARACTER;
+        this.strictQuotes = strictQuotes;
+        this.ignoreLeadingWhiteSpace = ignoreLeadingWhiteSpace;
+    }
+
+    /** Reads the next record, leaving the input at the start of the record after it. */
+    @Override
+    public boolean next() throws IOException {
+        length = 0;
+        fieldCount = 0;
+        int fieldStart = 0;
+        boolean started = false;
+        boolean inQuotes = false;
+        boolean afterQuote = false;
+        boolean afterEscape = false;
+        boolean afterCarriageReturn = false;
+        while (input.fillIfEmpty()) {
+            char[] buffer = input.buffer();
+            int start = input.position();
+            int limit = input.limit();
+            int i = start;
+            started = true;
+            while (i < limit) {
+                char c = buffer[i];
+                if (afterEscape) {
+                    afterEscape = false;
+                    if (c == quoteChar || c == escapeChar) {
+                        if (inQuotes || !strictQuotes) append(c);
+                        i++;
+                        continue;
+                    }
+                    if (inQuotes || !strictQuotes) append(escapeChar);
+                }
+                if (afterQuote) {
+                    afterQuote = false;
+                    if (c == quoteChar) {
+                        append(c);
+                        inQuotes = true;
+                        i++;
+                        continue;
+                    }
+                }
+                if (inQuotes) {
+                    int run = i;
+                    while (i < limit && (c = buffer[i]) != quoteChar && c != escapeChar && c != '\r' && c != '\n') i++;
+                    append(buffer, run, i - run);
+                    if (i > run) afterCarriageReturn = false;
+                    if (i == limit) break;
+                    if (c == quoteChar) {
+                        inQuotes = false;
+                        afterQuote = true;
+                    } else if (c == escapeChar) {
+                        if (escapes) afterEscape = true;
+                        else append(c);
+                    } else if (c == '\n' && afterCarriageReturn) {
+                        afterCarriageReturn = false;
+                    } else {
+                        append('\n');
+                        afterCarriageReturn = c == '\r';
+                        i++;
+                        continue;
+                    }
+                    afterCarriageReturn = false;
+                    i++;
+                    continue;
+                }
+                afterCarriageReturn = false;
+                int run = i;
+                while (i < limit && (c = buffer[i]) != delimiter && c != quoteChar && c != escapeChar
+                        && c != '\r' && c != '\n') {
+                    i++;
+                }
+                if (!strictQuotes) append(buffer, run, i - run);
+                if (i == limit) break;
+                i++;
+                if (c == delimiter) {
+                    endField();
+                    fieldStart = length;
+                } else if (c == quoteChar) {
+                    if (ignoreLeadingWhiteSpace && isWhitespace(fieldStart)) length = fieldStart;
+                    inQuotes = true;
+                } else if (c == escapeChar) {
+                    if (escapes) afterEscape = true;
+                    else if (!strictQuotes) append(c);
+                } else {
+                    input.advance(i - start);
+                    if (c == '\r') skipLineFeed();
+                    endField();
+                    return true;
+                }
+            }
+            input.advance(i - start);
+        }
+        if (!started) return false;
+        if (afterEscape && !strictQuotes) append(escapeChar);
+        if (inQuotes) throw new CsvReadException("Unterminated quoted field at end of CSV input");
+        endField();
+        return true;
+    }
+
+    /** Returns the number of fields of the current record. */
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    /** Creates the string of field {@code index} of the current record. */
+    String field(int index) {
+        int start = index == 0 ? 0 : ends[index - 1];
+        int end = ends[index];
+        return start == end ? "" : new String(chars, start, end - start);
+    }
+
+    @Override
+    public String[] fields(@Nullable BitSet wanted) {
+        String[] fields = new String[fieldCount];
+        if (wanted == null) {
+            for (int i = 0; i < fieldCount; i++) fields[i] = field(i);
+        } else {
+            for (int i = wanted.nextSetBit(0); i >= 0 && i < fieldCount; i = wanted.nextSetBit(i + 1)) {
+                fields[i] = field(i);
+            }
+        }
+        return fields;
+    }
+
+    @Override
+    public boolean isBlank() {
+        return isWhitespace(0);
+    }
+
+    private boolean isWhitespace(int from) {
+        for (int i = from; i < length; i++) {
+            if (!Character.isWhitespace(chars[i])) return false;
+        }
+        return true;
+    }
+
+    private void skipLineFeed() throws IOException {
+        if (input.fillIfEmpty() && input.buffer()[input.position()] == '\n') input.advance(1);
+    }
+
+    private void endField() {
+        if (fieldCount == ends.length) ends = Arrays.copyOf(ends, fieldCount * 2);
+        ends[fieldCount++] = length;
+    }
+
+    private void append(char c) {
+        if (length == chars.length) chars = Arrays.copyOf(chars, length * 2);
+        chars[length++] = c;
+    }
+
+    private void append(char[] source, int offset, int count) {
+        if (count == 0) return;
+        if (length + count > chars.length) chars = Arrays.copyOf(chars, Math.max(length + count, length * 2));
+        System.arraycopy(source, offset, chars, length, count);
+        length += count;
+    }
+}
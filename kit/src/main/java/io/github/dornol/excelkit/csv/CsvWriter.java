@@ -24,6 +24,8 @@ import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * CSV writer for streaming large datasets into a temporary file.
@@ -62,6 +64,7 @@ public class CsvWriter<T> {
     }
 
     private static final Logger log = LoggerFactory.getLogger(CsvWriter.class);
+    private static final int GZIP_BUFFER = 64 * 1024;
     private final List<CsvColumn<T>> columns = new ArrayList<>();
     private char delimiter = ',';
     private Charset charset = StandardCharsets.UTF_8;
@@ -71,6 +74,8 @@ public class CsvWriter<T> {
     private int progressInterval;
     private boolean csvInjectionDefense = true;
     private CsvQuoting quoting = CsvQuoting.MINIMAL;
+    private boolean gzip;
+    private int gzipLevel = Deflater.DEFAULT_COMPRESSION;
 
     /**
      * Creates a CsvWriter pre-configured to write rows of {@code Map<String, Object>},
@@ -298,6 +303,39 @@ public class CsvWriter<T> {
         return this;
     }
 
+    /**
+     * Compresses the output with gzip at the default level.
+     *
+     * @return This writer instance (for chaining)
+     * @see #gzip(int)
+     * @since 0.22.0
+     */
+    public CsvWriter<T> gzip() {
+        return gzip(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Compresses the output with gzip.
+     * <p>
+     * Rows are deflated as they are written, so the temporary file is already compressed and
+     * {@link CsvHandler#writeTo(OutputStream)} copies gzip bytes. Name the download
+     * {@code .csv.gz}, or send it with {@code Content-Encoding: gzip}; {@link CsvHandler#isGzip()}
+     * tells which handlers carry compressed content. {@code CsvReader} reads the result directly.
+     *
+     * @param level compression level from {@code 0} (store) to {@code 9} (smallest), or
+     *              {@link Deflater#DEFAULT_COMPRESSION}
+     * @return This writer instance (for chaining)
+     * @since 0.22.0
+     */
+    public CsvWriter<T> gzip(int level) {
+        if (level != Deflater.DEFAULT_COMPRESSION && (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("gzip level must be between 0 and 9");
+        }
+        this.gzip = true;
+        this.gzipLevel = level;
+        return this;
+    }
+
     /**
      * Writes the given stream of rows to a temporary CSV file.
      * <p>
@@ -313,16 +351,17 @@ public class CsvWriter<T> {
         }
         validateUniqueColumnNames();
         Path tempDir = TempResourceCreator.createTempDirectory();
-        Path tempFile = TempResourceCreator.createTempFile(tempDir, UUID.randomUUID().toString(), ".csv");
+        Path tempFile = TempResourceCreator.createTempFile(tempDir, UUID.randomUUID().toString(),
+                options.gzip() ? ".csv.gz" : ".csv");
 
-        try (OutputStream os = Files.newOutputStream(tempFile)) {
+        try (OutputStream os = openTempFile(tempFile, options)) {
             writeTempFile(stream, os, options);
         } catch (Exception e) {
             cleanup(tempDir);
             throw new CsvWriteException("Failed to write CSV", e);
         }
 
-        return new CsvHandler(tempDir, tempFile);
+        return new CsvHandler(tempDir, tempFile, options.gzip());
     }
 
     /** Writes rows from an Iterable without copying them. */
@@ -350,6 +389,21 @@ public class CsvWriter<T> {
         }
     }
 
+    private static OutputStream openTempFile(Path tempFile, CsvWriteOptions<?> options) throws IOException {
+        OutputStream file = Files.newOutputStream(tempFile);
+        if (!options.gzip()) return file;
+        try {
+            return new GZIPOutputStream(file, GZIP_BUFFER) {
+                {
+                    def.setLevel(options.gzipLevel());
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+    }
+
     /**
      * Internal method to write CSV lines into the output stream.
      *
@@ -445,7 +499,7 @@ public class CsvWriter<T> {
 
     private CsvWriteOptions<T> snapshotOptions() {
         return new CsvWriteOptions<>(List.copyOf(columns), delimiter, charset, bom, afterDataWriter,
-                progressCallback, progressInterval, csvInjectionDefense, quoting);
+                progressCallback, progressInterval, csvInjectionDefense, quoting, gzip, gzipLevel);
     }
 
     private record CsvWriteOptions<T>(
@@ -457,7 +511,9 @@ public class CsvWriter<T> {
             @Nullable ProgressCallback progressCallback,
             int progressInterval,
             boolean csvInjectionDefense,
-            CsvQuoting quoting
+            CsvQuoting quoting,
+            boolean gzip,
+            int gzipLevel
     ) {}
 
     private static boolean isNumeric(String value) {
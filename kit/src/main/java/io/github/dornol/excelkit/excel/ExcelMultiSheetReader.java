@@ -0,0 +1,294 @@
+package io.github.dornol.excelkit.excel;
+
+import io.github.dornol.excelkit.core.ReadResult;
+import io.github.dornol.excelkit.core.ReadSecurityPolicy;
+import io.github.dornol.excelkit.core.TempResourceCreator;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Reads several sheets of one workbook in a single pass, each with its own {@link ExcelReader}
+ * configuration and consumer.
+ * <p>
+ * The workbook is opened once: the sheet index, styles, and shared strings table are loaded a
+ * single time and shared by every sheet, and the security scan of each distinct
+ * {@link ReadSecurityPolicy} runs once for all sheets that use it.
+ * With {@link #parallel(int)} the sheets are parsed concurrently; each consumer is still called from
+ * one thread at a time.
+ *
+ * <pre>{@code
+ * ExcelMultiSheetReader.create()
+ *     .sheet(0, orderReader, orders::add)
+ *     .sheet("Items", itemReader, items::add)
+ *     .read(inputStream);
+ * }</pre>
+ *
+ * Encrypted workbooks are not supported.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+public final class ExcelMultiSheetReader {
+    private static final AtomicInteger POOL_SEQUENCE = new AtomicInteger();
+
+    private final List<SheetTask<?>> sheets = new ArrayList<>();
+    private int threads = 1;
+
+    private ExcelMultiSheetReader() {
+    }
+
+    /**
+     * Creates an empty multi-sheet reader.
+     *
+     * @return a new multi-sheet reader
+     */
+    public static ExcelMultiSheetReader create() {
+        return new ExcelMultiSheetReader();
+    }
+
+    /**
+     * Adds the sheet at {@code sheetIndex} (0-based), read with {@code reader}'s configuration.
+     * The reader's own sheet selection is ignored.
+     *
+     * @param sheetIndex 0-based sheet index
+     * @param reader     the reader configuration for this sheet
+     * @param consumer   receives the rows of this sheet
+     * @param <T>        the row type
+     * @return this reader
+     */
+    public <T> ExcelMultiSheetReader sheet(int sheetIndex, ExcelReader<T> reader, Consumer<ReadResult<T>> consumer) {
+        if (sheetIndex < 0) {
+            throw new IllegalArgumentException("sheetIndex must not be negative");
+        }
+        sheets.add(new SheetTask<>(sheetIndex, null,
+                java.util.Objects.requireNonNull(reader, "reader cannot be null"),
+                java.util.Objects.requireNonNull(consumer, "consumer cannot be null")));
+        return this;
+    }
+
+    /**
+     * Adds the sheet named {@code sheetName} (case-insensitive), read with {@code reader}'s
+     * configuration. The reader's own sheet selection is ignored.
+     *
+     * @param sheetName the sheet name
+     * @param reader    the reader configuration for this sheet
+     * @param consumer  receives the rows of this sheet
+     * @param <T>       the row type
+     * @return this reader
+     */
+    public <T> ExcelMultiSheetReader sheet(String sheetName, ExcelReader<T> reader, Consumer<ReadResult<T>> consumer) {
+        sheets.add(new SheetTask<>(0, java.util.Objects.requireNonNull(sheetName, "sheetName cannot be null"),
+                java.util.Objects.requireNonNull(reader, "reader cannot be null"),
+                java.util.Objects.requireNonNull(consumer, "consumer cannot be null")));
+        return this;
+    }
+
+    /**
+     * Parses up to {@code threads} sheets concurrently. Defaults to {@code 1} (sheets are read in
+     * the order they were added, on the calling thread).
+     *
+     * @param threads the number of sheets parsed at once
+     * @return this reader
+     */
+    public ExcelMultiSheetReader parallel(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1");
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * Reads all added sheets from the given input stream. The stream is copied to a temporary
+     * file once and the copy is deleted afterwards. The copy is bounded by the smallest
+     * {@code maxInputBytes} limit among the sheet readers.
+     *
+     * @param inputStream the workbook input
+     */
+    public void read(InputStream inputStream) {
+        java.util.Objects.requireNonNull(inputStream, "inputStream cannot be null");
+        if (sheets.isEmpty()) {
+            throw new IllegalStateException("No sheets added");
+        }
+        InputStream input = inputStream;
+        for (SheetTask<?> sheet : sheets) {
+            input = sheet.reader().boundedInput(input);
+        }
+        Path tempDir = null;
+        Path tempFile = null;
+        try {
+            tempDir = TempResourceCreator.createTempDirectory();
+            tempFile = TempResourceCreator.createTempFile(tempDir, UUID.randomUUID().toString(), ".xlsx");
+            Files.copy(input, tempFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            ExcelReader.cleanupTemp(tempDir, tempFile);
+            throw new ExcelReadException("Failed to buffer Excel input", e);
+        } catch (RuntimeException e) {
+            ExcelReader.cleanupTemp(tempDir, tempFile);
+            throw e;
+        }
+        try {
+            read(tempFile);
+        } finally {
+            ExcelReader.cleanupTemp(tempDir, tempFile);
+        }
+    }
+
+    /**
+     * Reads all added sheets from the given file. The file is opened read-only and never modified.
+     *
+     * @param file the workbook file
+     */
+    public void read(Path file) {
+        java.util.Objects.requireNonNull(file, "file cannot be null");
+        if (sheets.isEmpty()) {
+            throw new IllegalStateException("No sheets added");
+        }
+        int sharedStringsCacheSize = sheets.stream().mapToInt(sheet -> sheet.reader().sharedStringsCacheSize())
+                .max().orElse(0);
+        try (XlsxSharedWorkbook workbook = XlsxSharedWorkbook.open(file, sharedStringsCacheSize)) {
+            List<SheetRead<?>> reads = new ArrayList<>(sheets.size());
+            try {
+                for (SheetTask<?> sheet : sheets) {
+                    reads.add(sheet.open(workbook));
+                }
+                Map<ReadSecurityPolicy, UnaryOperator<InputStream>> guards = scan(workbook, reads);
+                if (threads == 1 || reads.size() == 1) {
+                    for (SheetRead<?> read : reads) {
+                        read.read(workbook, guards);
+                    }
+                } else {
+                    readParallel(workbook, reads, guards);
+                }
+            } finally {
+                // handlers close themselves after reading; this releases those that never started
+                reads.forEach(read -> read.handler().close());
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ExcelReadException("Failed to read Excel file", e);
+        }
+    }
+
+    /**
+     * Scans the workbook once per distinct security policy. The selected worksheets are left to the
+     * filters returned for their streams, so none of them is inflated twice.
+     */
+    private static Map<ReadSecurityPolicy, UnaryOperator<InputStream>> scan(XlsxSharedWorkbook workbook,
+                                                                          List<SheetRead<?>> reads) throws IOException {
+        Map<ReadSecurityPolicy, Set<String>> sheetParts = new HashMap<>();
+        for (SheetRead<?> read : reads) {
+            sheetParts.computeIfAbsent(read.handler().securityPolicy(), policy -> new HashSet<>()).add(read.sheetPart());
+        }
+        Map<ReadSecurityPolicy, UnaryOperator<InputStream>> guards = new HashMap<>();
+        for (Map.Entry<ReadSecurityPolicy, Set<String>> entry : sheetParts.entrySet()) {
+            guards.put(entry.getKey(), ExcelSecurityScanner.scan(workbook.file(), entry.getKey(), entry.getValue()));
+        }
+        return guards;
+    }
+
+    private void readParallel(XlsxSharedWorkbook workbook, List<SheetRead<?>> reads,
+                              Map<ReadSecurityPolicy, UnaryOperator<InputStream>> guards) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, reads.size()), threadFactory());
+        CompletionService<Void> completions = new ExecutorCompletionService<>(executor);
+        List<Future<Void>> futures = new ArrayList<>(reads.size());
+        AtomicBoolean failed = new AtomicBoolean();
+        try {
+            for (SheetRead<?> read : reads) {
+                // running sheets stop at their next row once another sheet has failed
+                read.handler().stopWhen(failed::get);
+                futures.add(completions.submit(() -> read.read(workbook, guards), null));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    completions.take().get();
+                } catch (ExecutionException e) {
+                    failed.set(true);
+                    futures.forEach(f -> f.cancel(true));
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException runtime) throw runtime;
+                    if (cause instanceof Error error) throw error;
+                    throw new ExcelReadException("Failed to read Excel sheet", cause);
+                }
+            }
+        } catch (InterruptedException e) {
+            failed.set(true);
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new ExcelReadException("Interrupted while reading Excel sheets", e);
+        } finally {
+            // The shared workbook is closed by the caller, so every sheet must be finished first.
+            executor.shutdown();
+            awaitTermination(executor);
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (executor.awaitTermination(1, TimeUnit.MINUTES)) break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        int pool = POOL_SEQUENCE.incrementAndGet();
+        AtomicInteger sequence = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, "excel-kit-read-" + pool + "-sheet-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record SheetTask<T>(int sheetIndex, @Nullable String sheetName, ExcelReader<T> reader,
+                                Consumer<ReadResult<T>> consumer) {
+        /** Creates the sheet's handler and resolves its worksheet part, failing early for a missing sheet. */
+        SheetRead<T> open(XlsxSharedWorkbook workbook) {
+            ExcelReadHandler<T> handler = reader.createSheetHandler(workbook.file(), sheetIndex, sheetName);
+            try {
+                return new SheetRead<>(handler, handler.sheetPart(workbook), consumer);
+            } catch (RuntimeException e) {
+                handler.close();
+                throw e;
+            }
+        }
+    }
+
+    private record SheetRead<T>(ExcelReadHandler<T> handler, String sheetPart, Consumer<ReadResult<T>> consumer) {
+        void read(XlsxSharedWorkbook workbook, Map<ReadSecurityPolicy, UnaryOperator<InputStream>> guards) {
+            handler.read(workbook, guards.get(handler.securityPolicy()), consumer);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.dornol.excelkit.excel;
+
+/**
+ * Worksheet parsing engine used by {@link ExcelReader}.
+ *
+ * <pre>{@code
+ * ExcelReader.forMap()
+ *     .engine(ExcelReadEngine.NATIVE)
+ *     .read(inputStream, result -> { ... });
+ * }</pre>
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+public enum ExcelReadEngine {
+
+    /**
+     * Apache POI's event API: JAXP SAX with {@code XSSFSheetXMLHandler}. This is the default.
+     */
+    POI,
+
+    /**
+     * Built-in byte-level worksheet tokenizer.
+     * <p>
+     * Reads only {@code <row>}, {@code <c>}, {@code <v>} and inline string elements from the
+     * inflated sheet XML, decodes column indices directly from the cell reference bytes, and
+     * formats values with the same POI {@code DataFormatter} rules as {@link #POI}. Shared
+     * strings and styles are still loaded through POI. Worksheet XML must be UTF-8 encoded,
+     * which is what every known xlsx producer writes.
+     * <p>
+     * Display text matches {@link #POI}, but numeric and date cells also keep their stored value.
+     * Numeric conversions such as {@code CellData.asBigDecimal()} return it at full precision,
+     * where {@link #POI} parses the display text rounded by the cell's number format.
+     */
+    NATIVE
+}
@@ -1,6 +1,7 @@
 package io.github.dornol.excelkit.excel;
 
 import io.github.dornol.excelkit.core.AbstractReadHandler;
+import io.github.dornol.excelkit.core.CancellationToken;
 import io.github.dornol.excelkit.core.Cursor;
 import io.github.dornol.excelkit.core.DuplicateHeaderPolicy;
 import io.github.dornol.excelkit.core.ExcelKitException;
@@ -14,10 +15,13 @@ import io.github.dornol.excelkit.core.RowData;
 import io.github.dornol.excelkit.core.ReadStoppedException;
 import io.github.dornol.excelkit.core.ReadLimitExceededException;
 import io.github.dornol.excelkit.core.ReadSecurityException;
+import io.github.dornol.excelkit.core.ReadSecurityPolicy;
+import io.github.dornol.excelkit.core.ReadPhase;
 import io.github.dornol.excelkit.core.CellError;
 import io.github.dornol.excelkit.core.TempResourceCreator;
 import jakarta.validation.Validator;
 import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.poifs.crypt.Decryptor;
 import org.apache.poi.poifs.crypt.EncryptionInfo;
 import org.apache.poi.poifs.filesystem.POIFSFileSystem;
@@ -28,17 +32,21 @@ import org.apache.poi.xssf.model.SharedStrings;
 import org.apache.poi.xssf.model.StylesTable;
 import org.apache.poi.xssf.usermodel.XSSFComment;
 import org.jspecify.annotations.Nullable;
+import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
 import org.xml.sax.helpers.DefaultHandler;
+import org.xml.sax.helpers.XMLFilterImpl;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.BitSet;
 import java.util.UUID;
 import java.util.List;
 import java.util.Map;
@@ -46,13 +54,13 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Reads Excel (.xlsx) files using Apache POI's event-based streaming API.
+ * Reads Excel (.xlsx and legacy .xls) files using Apache POI's event-based streaming API.
  * <p>
  * This handler parses sheet data row by row, maps values to Java objects, and performs optional validation.
  * It is optimized for large files and avoids loading the entire workbook into memory.
@@ -61,7 +69,8 @@ import org.slf4j.LoggerFactory;
  * On construction, the handler copies the input stream to a temporary file on disk so that
  * the underlying POI API can read it. These temp resources (and, if applicable, the decrypted
  * copy of an encrypted file) are released when {@link #read(Consumer)},
- * {@link #readWhile(java.util.function.Predicate)}, or {@link #readStrict(Consumer)} returns or throws.
+ * {@link #readWhile(java.util.function.Predicate)}, or {@link #readStrict(Consumer)} returns or throws,
+ * or when the {@link #stream()} is exhausted or closed.
  *
  * <h2>Large file tuning</h2>
  * For large or complex Excel files, you may need to adjust POI's internal limits via
@@ -89,31 +98,40 @@ final class ExcelReadHandler<T> extends AbstractReadHandler<T> {
     private ExcelReadHandler(InputStream input, ExcelReadSessionConfig<T> config,
                              boolean externalPath, @Nullable Path path) {
         super(input, config.supplier(), config.mapper(), config.validator(), ".xlsx",
-                config.options(), config.selectedColumns());
+                config.options(), config.selectedColumns(), externalPath || !config.streamingInput());
         if (config.columns() != null) validateColumns(config.columns());
         validateSheetIndex(config.sheetIndex());
         validateHeaderRowIndex(config.headerRowIndex());
         validateHeaderRows(config.headerRows());
         this.columns = config.columns();
         this.sheetIndex = config.sheetIndex();
+        this.sheetName = config.sheetName();
         this.headerRowIndex = config.headerRowIndex();
         this.headerRows = config.headerRows();
         this.progressInterval = config.progressInterval();
         this.progressCallback = config.progressCallback();
         this.password = config.password();
         this.countRows = config.countRows();
+        this.engine = config.engine();
+        this.sharedStringsCacheSize = config.sharedStringsCacheSize();
         if (externalPath) useExternalInput(path);
         options(config.options());
+        readPlan(config.plan());
     }
 
     private final @Nullable List<ReadColumn<T>> columns;
-    private final int sheetIndex;
+    /** The selected sheet; resolved from {@link #sheetName} once the workbook index is read. */
+    private int sheetIndex;
+    private final @Nullable String sheetName;
     private final int headerRowIndex;
     private final int headerRows;
     private final int progressInterval;
     private final @Nullable ProgressCallback progressCallback;
     private final @Nullable String password;
     private final boolean countRows;
+    private final ExcelReadEngine engine;
+    /** Decoded-string LRU size of the disk-backed shared strings table; {@code 0} keeps it on the heap. */
+    private final int sharedStringsCacheSize;
 
     private static void validateHeaderRows(int headerRows) {
         if (headerRows < 1) {
@@ -137,9 +155,44 @@ final class ExcelReadHandler<T> extends AbstractReadHandler<T> {
      */
     @Override
     public void read(Consumer<ReadResult<T>> consumer) {
+        read(consumer, this::readInternal);
+    }
+
+    /**
+     * Reads the selected sheet of a workbook that is already open, sharing its styles and shared
+     * strings with other sheet handlers.
+     *
+     * @param sheetGuard the security filter for the sheet's stream, from a scan of the whole workbook
+     */
+    void read(XlsxSharedWorkbook workbook, UnaryOperator<InputStream> sheetGuard, Consumer<ReadResult<T>> consumer) {
+        read(consumer, guarded -> {
+            XlsxWorkbookIndex.SheetRef selected = sheetSelector().select(workbook.index());
+            RowCounter rowCounter = countRows && progressCallback != null
+                    ? () -> preScanRowCount(workbook.pkg(), selected) : null;
+            ExcelSheetNavigator.consume(workbook.pkg(), selected, sheet -> parseSheet(sheetGuard.apply(sheet),
+                    workbook.styles(), workbook.sharedStrings(), guarded, rowCounter));
+        });
+    }
+
+    /** Returns the part name of the selected sheet in an open workbook. */
+    String sheetPart(XlsxSharedWorkbook workbook) {
+        return sheetSelector().select(workbook.index()).partName();
+    }
+
+    ReadSecurityPolicy securityPolicy() {
+        return securityPolicy;
+    }
+
+    /** Also stops this read, as a cancelled one, once {@code stop} requests it. */
+    void stopWhen(CancellationToken stop) {
+        CancellationToken own = cancellationToken;
+        cancellationToken = () -> own.isCancellationRequested() || stop.isCancellationRequested();
+    }
+
+    private void read(Consumer<ReadResult<T>> consumer, SheetReader<T> reader) {
         markConsumed();
         try {
-            readInternal(guardedConsumer(consumer));
+            reader.read(guardedConsumer(consumer));
         } catch (ReadStoppedException ignored) {
             stoppedEarly = true;
         } catch (ReadLimitExceededException | ReadSecurityException e) {
@@ -188,35 +241,67 @@ final class ExcelReadHandler<T> extends AbstractReadHandler<T> {
 
     boolean wasStoppedEarly() { return stoppedEarly; }
 
+    @FunctionalInterface
+    private interface SheetReader<T> {
+        void read(Consumer<ReadResult<T>> consumer) throws Exception;
+    }
+
     private void readInternal(Consumer<ReadResult<T>> consumer) throws Exception {
-        Path fileToRead = getTempFile();
+        if (getTempFile() == null) {
+            InputStream input = FileMagic.prepareToCheckMagic(streamInput());
+            if (FileMagic.valueOf(input) == FileMagic.OLE2) {
+                // BIFF8 records are read through a POIFS container, which needs random access
+                long copyStarted = System.nanoTime();
+                Path copy = TempResourceCreator.createTempFile(spillDirectory(), UUID.randomUUID().toString(), ".xls");
+                Files.copy(input, copy, StandardCopyOption.REPLACE_EXISTING);
+                recordPhase(ReadPhase.TEMP_COPY, copyStarted);
+                if (!readXls(copy, consumer)) throw new ExcelReadException("Excel file is password-protected");
+                return;
+            }
+            readPackage(input, consumer);
+            return;
+        }
+        Path file = java.util.Objects.requireNonNull(getTempFile());
+        if (FileMagic.valueOf(file.toFile()) == FileMagic.OLE2) {
+            if (readXls(file, consumer)) return;
+            if (password == null) throw new ExcelReadException("Excel file is password-protected");
+        }
+        if (password != null && !(countRows && progressCallback != null)
+                && securityPolicy.allowFormulas() && securityPolicy.allowExternalLinks()) {
+            readEncrypted(file, password, consumer);
+            return;
+        }
+        Path fileToRead = file;
         Path decryptedFile = null;
         if (password != null) {
-            decryptedFile = decryptFile(getTempFile(), password);
+            decryptedFile = decryptFile(file, password);
             fileToRead = decryptedFile;
         }
-        ExcelSecurityScanner.scan(fileToRead, securityPolicy);
+        long scanStarted = System.nanoTime();
+        UnaryOperator<InputStream> sheetGuard = ExcelSecurityScanner.scan(fileToRead, securityPolicy, sheetSelector());
+        recordPhase(ReadPhase.SECURITY_SCAN, scanStarted);
         try (OPCPackage pkg = OPCPackage.open(fileToRead.toFile())) {
-            long totalRows = -1;
-            if (countRows) {
-                totalRows = preScanRowCount(pkg);
-            }
+            XlsxWorkbookIndex.SheetRef selected = sheetSelector().select(ExcelSheetNavigator.index(pkg));
+            RowCounter rowCounter = countRows && progressCallback != null
+                    ? () -> preScanRowCount(pkg, selected) : null;
 
             XSSFReader reader = new XSSFReader(pkg);
-            ExcelSheetNavigator.enforceLimit(reader, limits.maxSheets());
-
-            SharedStrings ss = reader.getSharedStringsTable();
-            StylesTable styles = reader.getStylesTable();
 
-            XMLReader parser = XMLHelper.newXMLReader();
-            SheetHandler sheetHandler = new SheetHandler(consumer, totalRows);
-            XSSFSheetXMLHandler sheetParser = new XSSFSheetXMLHandler(styles, ss, sheetHandler, false);
-            parser.setContentHandler(sheetParser);
+            long sharedStringsStarted = System.nanoTime();
+            XlsxMappedSharedStrings mapped = null;
+            if (sharedStringsCacheSize > 0) {
+                try (InputStream sharedStringsData = reader.getSharedStringsData()) {
+                    mapped = XlsxMappedSharedStrings.load(sharedStringsData, spillDirectory(), sharedStringsCacheSize);
+                }
+            }
+            try (XlsxMappedSharedStrings ignored = mapped) {
+                SharedStrings ss = mapped != null ? mapped : reader.getSharedStringsTable();
+                recordPhase(ReadPhase.SHARED_STRINGS, sharedStringsStarted);
+                StylesTable styles = reader.getStylesTable();
 
-            ExcelSheetNavigator.consume(reader, sheetIndex, sheet -> {
-                try { parser.parse(new InputSource(sheet)); }
-                catch (StopReadingException ignored) { /* configured row stop */ }
-            });
+                ExcelSheetNavigator.consume(pkg, selected,
+                        sheet -> parseSheet(sheetGuard.apply(sheet), styles, ss, consumer, rowCounter));
+            }
         } finally {
             if (decryptedFile != null) {
                 try {
@@ -229,26 +314,136 @@ final class ExcelReadHandler<T> extends AbstractReadHandler<T> {
         }
     }
 
+    private ExcelSheetNavigator.SheetSelector sheetSelector() {
+        return ExcelSheetNavigator.selector(sheetIndex, sheetName, limits.maxSheets(), index -> sheetIndex = index);
+    }
+
     /**
-     * Performs a lightweight SAX pre-scan to count data rows (excluding header rows).
+     * Parses one worksheet stream with the configured engine.
+     *
+     * @param rowCounter counts data rows with a separate pass when {@link #countRows} is set and the
+     *                   sheet has no usable {@code <dimension>}; {@code null} leaves the total unknown
      */
-    private long preScanRowCount(OPCPackage pkg) throws Exception {
-        XSSFReader reader = new XSSFReader(pkg);
-        Iterator<InputStream> sheetsData = reader.getSheetsData();
-        int currentIndex = 0;
-        while (sheetsData.hasNext()) {
-            try (InputStream sheet = sheetsData.next()) {
-                if (currentIndex == sheetIndex) {
-                    XMLReader xmlReader = XMLHelper.newXMLReader();
-                    RowCountHandler counter = new RowCountHandler(headerRowIndex);
-                    xmlReader.setContentHandler(counter);
-                    xmlReader.parse(new InputSource(sheet));
-                    return counter.getDataRowCount();
+    private void parseSheet(InputStream sheet, @Nullable StylesTable styles, SharedStrings ss,
+                            Consumer<ReadResult<T>> consumer, @Nullable RowCounter rowCounter) throws Exception {
+        verifyResumeCheckpoint(sheetIndex, ExcelReadException::new);
+        SheetHandler sheetHandler = new SheetHandler(consumer, rowCounter,
+                engine == ExcelReadEngine.NATIVE ? new XlsxValueFormatter(styles, ss) : null);
+        try (RowSink<T> sink = sheetHandler.sink) {
+            try {
+                if (engine == ExcelReadEngine.NATIVE) {
+                    XlsxSheetParser sheetParser = new XlsxSheetParser(countParsedBytes(sheet), sheetHandler);
+                    while (sheetParser.nextRow()) {
+                        // rows are delivered to the sheet handler
+                    }
+                } else {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    // Reports the dimension and drops the cell events of rows before fromRow, so POI
+                    // neither formats nor resolves their values.
+                    XMLFilterImpl eventFilter = new XMLFilterImpl() {
+                        private int nextRowIndex;
+                        private int skippedDepth;
+
+                        @Override
+                        public void startElement(String uri, String localName, String qName, Attributes atts)
+                                throws SAXException {
+                            if (skippedDepth > 0) {
+                                skippedDepth++;
+                                return;
+                            }
+                            if ("dimension".equals(localName) && atts.getValue("ref") != null) {
+                                sheetHandler.dimension(atts.getValue("ref"));
+                            }
+                            super.startElement(uri, localName, qName, atts);
+                            if ("row".equals(localName)) {
+                                String ref = atts.getValue("r");
+                                int rowIndex = ref != null ? Integer.parseInt(ref) - 1 : nextRowIndex;
+                                nextRowIndex = rowIndex + 1;
+                                if (sheetHandler.skipsRow(rowIndex)) skippedDepth = 1;
+                            }
+                        }
+
+                        @Override
+                        public void endElement(String uri, String localName, String qName) throws SAXException {
+                            if (skippedDepth > 0 && --skippedDepth > 0) return;
+                            super.endElement(uri, localName, qName);
+                        }
+
+                        @Override
+                        public void characters(char[] ch, int start, int length) throws SAXException {
+                            if (skippedDepth == 0) super.characters(ch, start, length);
+                        }
+                    };
+                    eventFilter.setContentHandler(new XSSFSheetXMLHandler(styles, ss, sheetHandler, false));
+                    parser.setContentHandler(eventFilter);
+                    parser.parse(new InputSource(countParsedBytes(sheet)));
+                }
+            } catch (StopReadingException ignored) {
+                // configured row stop
+            }
+            sink.finish();
+        }
+    }
+
+    /**
+     * Reads the selected sheet of a legacy {@code .xls} workbook record by record with
+     * {@link XlsSheetParser}, enforcing the security policy on the records themselves.
+     *
+     * @return {@code false} when the OLE2 container holds an encrypted xlsx package instead
+     */
+    private boolean readXls(Path file, Consumer<ReadResult<T>> consumer) throws Exception {
+        try (POIFSFileSystem fs = new POIFSFileSystem(file.toFile(), true)) {
+            if (fs.getRoot().hasEntry(Decryptor.DEFAULT_POIFS_ENTRY)) return false;
+            try (XlsSheetParser parser = new XlsSheetParser(fs, password, securityPolicy)) {
+                long globalsStarted = System.nanoTime();
+                sheetSelector().select(parser.workbookIndex());
+                recordPhase(ReadPhase.SHARED_STRINGS, globalsStarted);
+                verifyResumeCheckpoint(sheetIndex, ExcelReadException::new);
+                SheetHandler sheetHandler = new SheetHandler(consumer, null, null);
+                try (RowSink<T> sink = sheetHandler.sink) {
+                    try {
+                        parser.readSheet(sheetIndex, sheetHandler);
+                    } catch (StopReadingException ignored) {
+                        // configured row stop
+                    } finally {
+                        addParsedBytes(parser.bytesRead());
+                    }
+                    sink.finish();
                 }
             }
-            currentIndex++;
         }
-        return -1;
+        return true;
+    }
+
+    /** Lazily creates the temp directory used for spill and shared strings files. */
+    private Path spillDirectory() {
+        if (getTempDir() == null) {
+            setTempDir(TempResourceCreator.createTempDirectory());
+        }
+        return java.util.Objects.requireNonNull(getTempDir());
+    }
+
+    @FunctionalInterface
+    private interface RowCounter {
+        long count() throws Exception;
+    }
+
+    /**
+     * Performs a lightweight SAX pre-scan to count data rows (excluding header rows).
+     * Only used for sheets without a usable {@code <dimension>} element.
+     */
+    private long preScanRowCount(OPCPackage pkg, XlsxWorkbookIndex.SheetRef selected) throws Exception {
+        long started = System.nanoTime();
+        long[] count = {-1};
+        ExcelSheetNavigator.consume(pkg, selected, sheet -> {
+            XMLReader xmlReader = XMLHelper.newXMLReader();
+            RowCountHandler counter = new RowCountHandler(headerRowIndex);
+            xmlReader.setContentHandler(counter);
+            xmlReader.parse(new InputSource(sheet));
+            count[0] = counter.getDataRowCount();
+        });
+        recordPhase(ReadPhase.ROW_COUNT, started);
+        return count[0];
     }
 
     /**
@@ -283,68 +478,171 @@ final class ExcelReadHandler<T> extends AbstractReadHandler<T> {
     }
 
 
-    private Path decryptFile(Path encryptedFile, String pwd) throws Exception {
-        try (POIFSFileSystem fs = new POIFSFileSystem(encryptedFile.toFile())) {
-            EncryptionInfo info = new EncryptionInfo(fs);
-            Decryptor dec = Decryptor.getInstance(info);
-            if (!dec.verifyPassword(pwd)) {
-                throw new ExcelReadException("Invalid password for encrypted Excel file");
+    /**
+     * Streams the decrypted package straight into {@link XlsxStreamingPackage}, so no decrypted copy
+     * is written; only a worksheet stored before the parts it depends on is spilled to disk.
+     */
+    private void readEncrypted(Path encryptedFile, String pwd, Consumer<ReadResult<T>> consumer) throws Exception {
+        try (POIFSFileSystem fs = new POIFSFileSystem(encryptedFile.toFile(), true)) {
+            long started = System.nanoTime();
+            Decryptor dec = decryptor(fs, pwd);
+            recordPhase(ReadPhase.DECRYPTION, started);
+            try (InputStream decrypted = dec.getDataStream(fs)) {
+                readPackage(decrypted, consumer);
             }
+        }
+    }
+
+    /** Reads the selected sheet from a forward-only xlsx package stream. */
+    private void readPackage(InputStream input, Consumer<ReadResult<T>> consumer) throws Exception {
+        XlsxStreamingPackage streamingPackage = new XlsxStreamingPackage(this::spillDirectory, sharedStringsCacheSize);
+        try {
+            streamingPackage.read(input, sheetSelector(),
+                    (sheet, styles, ss) -> parseSheet(sheet, styles, ss, consumer, null));
+        } finally {
+            addPhaseTime(ReadPhase.SHARED_STRINGS, streamingPackage.sharedStringsNanos());
+        }
+    }
+
+    /**
+     * Writes the decrypted package to a temporary file, for reads that need random access: security
+     * scans that reject formulas or external links, and row count pre-scans.
+     */
+    private Path decryptFile(Path encryptedFile, String pwd) throws Exception {
+        long started = System.nanoTime();
+        try (POIFSFileSystem fs = new POIFSFileSystem(encryptedFile.toFile(), true)) {
+            Decryptor dec = decryptor(fs, pwd);
             Path decryptedFile = TempResourceCreator.createTempFile(
                     getTempDir(), UUID.randomUUID().toString(), ".xlsx");
             try (InputStream decryptedStream = dec.getDataStream(fs);
                  OutputStream out = Files.newOutputStream(decryptedFile)) {
                 decryptedStream.transferTo(out);
             }
+            recordPhase(ReadPhase.DECRYPTION, started);
             return decryptedFile;
         }
     }
 
+    private static Decryptor decryptor(POIFSFileSystem fs, String pwd) throws Exception {
+        Decryptor dec = Decryptor.getInstance(new EncryptionInfo(fs));
+        if (!dec.verifyPassword(pwd)) {
+            throw new ExcelReadException("Invalid password for encrypted Excel file");
+        }
+        return dec;
+    }
+
     /**
-     * Internal handler for row-by-row Excel parsing.
+     * Internal handler for row-by-row Excel parsing. Receives events from POI's
+     * {@link XSSFSheetXMLHandler}, the native {@link XlsxSheetParser}, or the {@code .xls}
+     * {@link XlsSheetParser}.
      */
-    private class SheetHandler extends DefaultHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
-        private @Nullable T currentInstance;
-        private final List<CellData> currentRow = new ArrayList<>();
+    private class SheetHandler extends DefaultHandler implements XSSFSheetXMLHandler.SheetContentsHandler,
+            XlsxSheetParser.RowListener, XlsSheetParser.RowListener {
+        /** Cells of the current row by column index; {@code null} for columns skipped by {@link #projection}. */
+        private final List<@Nullable CellData> currentRow = new ArrayList<>();
         private final List<String> headerNames = new ArrayList<>();
         /** Accumulates bottom-most non-blank header value per column across multi-row headers. */
         private final List<@Nullable String> headerAccumulator = new ArrayList<>();
         private final Consumer<ReadResult<T>> consumer;
-        private @Nullable List<String> messages;
-        private @Nullable List<CellError> cellErrors;
+        private final RowSink<T> sink;
         private int @Nullable [] resolvedIndices;
+        /** Columns materialised for data rows; {@code null} until the header is read or when all are needed. */
+        private @Nullable BitSet projection;
+        /** Text of the skipped cells in the current row by column index, kept for raw values. */
+        private final List<@Nullable String> skippedTexts = new ArrayList<>();
+        /** Whether a skipped cell in the current row is non-blank, for blank-row handling. */
+        private boolean skippedValue;
+        /** One past the highest column index seen in the current row, including skipped cells. */
+        private int rowWidth;
+        /** Whether the current row precedes {@code fromRow}; its cells are ignored. */
+        private boolean skippingRow;
         private @Nullable Map<String, Integer> headerIndexMap;
+        /** Row data over {@link #currentRow}, shared by every row while the row view is reused. */
+        private @Nullable RowData rowView;
         private long dataRowCount;
         private long emittedRowCount;
         private int consecutiveBlankRows;
         private final @Nullable Cursor cursor;
+        private @Nullable RowCounter rowCounter;
+        private final @Nullable XlsxValueFormatter valueFormatter;
+        private final @Nullable NumericTextFormatter numericText;
 
-        public SheetHandler(Consumer<ReadResult<T>> consumer, long totalRows) {
+        public SheetHandler(Consumer<ReadResult<T>> consumer, @Nullable RowCounter rowCounter,
+                            @Nullable XlsxValueFormatter valueFormatter) {
             this.consumer = consumer;
-            if (progressCallback != null) {
-                this.cursor = new Cursor();
-                if (totalRows >= 0) {
-                    this.cursor.setTotalRows(totalRows);
-                }
-            } else {
-                this.cursor = null;
-            }
+            this.sink = rowSink(this::deliver, checkpoints(sheetIndex, null));
+            this.valueFormatter = valueFormatter;
+            this.numericText = valueFormatter == null ? null : valueFormatter::formatNumber;
+            this.cursor = progressCallback != null ? new Cursor() : null;
+            this.rowCounter = cursor != null ? rowCounter : null;
+        }
+
+        /**
+         * Takes the total row count from the sheet's {@code <dimension ref="A1:H1000">}, which precedes
+         * the sheet data, so {@link #countRows} needs no separate pass over the sheet.
+         */
+        @Override
+        public void dimension(String ref) {
+            if (!countRows || cursor == null || cursor.getTotalRows() >= 0) return;
+            int colon = ref.indexOf(':');
+            if (colon < 0) return; // a single-cell ref is also written for sheets whose extent is unknown
+            int end = ref.length(), start = end;
+            while (start > colon + 1 && Character.isDigit(ref.charAt(start - 1))) start--;
+            if (start == end || end - start > 9) return;
+            lastRow(Integer.parseInt(ref.substring(start, end)) - 1);
+        }
+
+        /**
+         * Takes the total row count from the last row index of the sheet's dimensions, which the
+         * {@code .xls} parser reports before the cell records.
+         */
+        @Override
+        public void lastRow(int rowIndex) {
+            if (!countRows || cursor == null || cursor.getTotalRows() >= 0) return;
+            cursor.setTotalRows(Math.max(0, (long) rowIndex - headerRowIndex));
         }
 
         /**
-         * Called at the start of each row. Resets the instance and message buffer.
+         * Called at the start of each row. Resets the cell buffer.
          */
         @Override
         public void startRow(int rowNum) {
             if (cancellationToken.isCancellationRequested()) {
                 throw new ReadStoppedException();
             }
-            if (instanceSupplier != null) {
-                currentInstance = instanceSupplier.get();
+            if (rowCounter != null) {
+                countRowsWithoutDimension();
             }
+            if (rowNum > headerRowIndex && pastToRow(rowNum + 1L)) {
+                throw new StopReadingException();
+            }
+            skippingRow = skipsRow(rowNum);
             currentRow.clear();
-            messages = null;
-            cellErrors = null;
+            skippedTexts.clear();
+            skippedValue = false;
+            rowWidth = 0;
+        }
+
+        /**
+         * Data rows before {@code fromRow} are skipped: the native parser jumps to their
+         * {@code </row>} without tokenizing cells, and the POI engine drops their cell events.
+         */
+        @Override
+        public boolean skipsRow(int rowIndex) {
+            return rowIndex > headerRowIndex && beforeFromRow(rowIndex + 1L);
+        }
+
+        private void countRowsWithoutDimension() {
+            RowCounter counter = java.util.Objects.requireNonNull(rowCounter);
+            rowCounter = null;
+            if (cursor == null || cursor.getTotalRows() >= 0) return;
+            try {
+                cursor.setTotalRows(counter.count());
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new ExcelReadException("Failed to count rows", e);
+            }
         }
 
         /**
@@ -355,6 +653,9 @@ final class ExcelReadHandler<T> extends AbstractReadHandler<T> {
          */
         @Override
         public void endRow(int rowNum) {
+            if (skippingRow) {
+                return;
+            }
             int firstHeaderRow = headerRowIndex - headerRows + 1;
             if (rowNum < firstHeaderRow) {
                 return;
@@ -363,17 +664,20 @@ final class ExcelReadHandler<T> extends AbstractReadHandler<T> {
                 accumulateHeaderRow();
                 if (rowNum == headerRowIndex) {
                     finalizeHeaderNames();
-                    if (rowMapper != null) {
-                        buildHeaderIndex();
-                    } else {
-                        resolveColumnIndices();
+                    if (rowMapper == null && columns == null) {
+                        throw new IllegalStateException("columns must not be null in setter mode");
                     }
+                    HeaderLayout layout = resolveHeader(rowMapper != null ? null : columns, headerNames, "sheet");
+                    resolvedIndices = layout.columnIndices();
+                    headerIndexMap = layout.headerIndex();
+                    projection = layout.projection();
                 }
                 return;
             }
 
-            List<String> rawValues = rawValues(currentRow);
-            if (isBlankValues(rawValues)) {
+            padRow(rowWidth);
+            List<String> rawValues = rawValues(currentRow, skippedTexts);
+            if (!skippedValue && isBlankCells(currentRow)) {
                 consecutiveBlankRows++;
                 if (stopAtBlankRows > 0 && consecutiveBlankRows >= stopAtBlankRows) {
                     throw new StopReadingException();
@@ -388,21 +692,33 @@ final class ExcelReadHandler<T> extends AbstractReadHandler<T> {
                 throw new StopReadingException();
             }
 
-            ReadResult<T> result;
+            emittedRowCount++;
+            long fileRowNum = rowNum + 1L;
             if (rowMapper != null) {
-                RowData rowData = new RowData(new ArrayList<>(currentRow), headerNames, headerIndexMap, headerNormalizer);
-                result = mapWithRowMapper(rowData, rowNum + 1L, rawValues);
+                RowData rowData = reusesRowView() ? rowView()
+                        : new RowData(new ArrayList<>(currentRow), headerNames, headerIndexMap, headerNormalizer);
+                sink.submit(() -> mapWithRowMapper(rowData, fileRowNum, rawValues));
             } else {
-                boolean mappingSuccess = mapValuesToInstance();
-                boolean validationSuccess = mappingSuccess && validateIfNeeded(currentInstance, getOrCreateMessages());
-                result = new ReadResult<>(currentInstance, validationSuccess, messages, null, rowNum + 1L,
-                        cellErrors == null ? List.of() : cellErrors, rawValues);
+                List<CellData> cells = parallelMapping == null ? currentRow : new ArrayList<>(currentRow);
+                sink.submit(() -> mapRow(cells, fileRowNum, rawValues));
             }
+        }
 
-            consumer.accept(result);
+        private RowData rowView() {
+            RowData view = rowView;
+            if (view == null) {
+                view = new RowData(currentRow, headerNames, headerIndexMap, headerNormalizer);
+                rowView = view;
+            }
+            return view;
+        }
 
+        /**
+         * Receives each row result on the reading thread, in delivery order, and reports progress.
+         */
+        private void deliver(ReadResult<T> result) {
+            consumer.accept(result);
             dataRowCount++;
-            emittedRowCount++;
             if (progressCallback != null && progressInterval > 0
                     && dataRowCount % progressInterval == 0) {
                 progressCallback.onProgress(dataRowCount, cursor);
@@ -417,11 +733,115 @@ final class ExcelReadHandler<T> extends AbstractReadHandler<T> {
          */
         @Override
         public void cell(String cellReference, String formattedValue, XSSFComment comment) {
-            int colIndex = getColumnIndex(cellReference);
-            while (currentRow.size() < colIndex) {
-                currentRow.add(cellData(currentRow.size(), null));
+            if (skippingRow) return;
+            cell(getColumnIndex(cellReference), formattedValue);
+        }
+
+        /**
+         * Called for each formatted cell value, by the {@code .xls} parser directly.
+         */
+        @Override
+        public void cell(int columnIndex, @Nullable String formattedValue) {
+            if (isSkipped(columnIndex)) {
+                skippedCell(columnIndex);
+                if (captureRawValues) {
+                    checkCellCharacters(formattedValue);
+                    keepSkippedText(columnIndex, formattedValue);
+                }
+                if (tracksSkippedValues()) skippedValue = formattedValue != null && !formattedValue.isBlank();
+                return;
+            }
+            addCell(cellData(columnIndex, formattedValue));
+        }
+
+        /**
+         * Cells outside the column projection are skipped by the native parser before their text is
+         * decoded, unless raw values are captured or blank-row handling still needs to know whether
+         * the row is blank.
+         */
+        @Override
+        public boolean skipsCell(int columnIndex) {
+            return isSkipped(columnIndex) && !captureRawValues && !tracksSkippedValues();
+        }
+
+        /**
+         * Keeps the row as wide as it would be without projection, so map-mode rows expose the same
+         * columns.
+         */
+        @Override
+        public void skippedCell(int columnIndex) {
+            rowWidth = Math.max(rowWidth, columnIndex + 1);
+        }
+
+        /**
+         * Called by the native parser for each cell carrying a value.
+         */
+        @Override
+        public void cell(int columnIndex, XlsxCellType type, int styleIndex, CharSequence value) {
+            if (isSkipped(columnIndex)) {
+                skippedCell(columnIndex);
+                if (captureRawValues) keepSkippedText(columnIndex, skippedText(type, styleIndex, value));
+                if (tracksSkippedValues()) skippedValue = !toCell(columnIndex, type, styleIndex, value).isEmpty();
+                return;
+            }
+            addCell(toCell(columnIndex, type, styleIndex, value));
+        }
+
+        private CellData toCell(int columnIndex, XlsxCellType type, int styleIndex, CharSequence value) {
+            XlsxValueFormatter formatter = valueFormatter;
+            if (formatter == null || numericText == null) {
+                throw new IllegalStateException("valueFormatter must not be null for the native engine");
+            }
+            return switch (type) {
+                case NUMBER -> value.length() > 0 && formatter.hasNumberFormat(styleIndex)
+                        ? numericCellData(columnIndex, XlsxValueFormatter.parseDouble(value),
+                                formatter.isDateFormat(styleIndex), styleIndex, numericText)
+                        : cellData(columnIndex, value.toString());
+                case BOOLEAN -> booleanCellData(columnIndex, value.length() == 0 || value.charAt(0) != '0');
+                case SHARED_STRING -> {
+                    int index = XlsxValueFormatter.parseIndex(value);
+                    yield index < 0 ? cellData(columnIndex, null)
+                            : sharedStringCellData(columnIndex, index, formatter.sharedString(index));
+                }
+                default -> cellData(columnIndex, formatter.format(type, styleIndex, value));
+            };
+        }
+
+        /**
+         * Formats a cell outside the projection for the raw values while the shared strings and
+         * styles are still open, so that results kept after the read do not reference them.
+         */
+        private @Nullable String skippedText(XlsxCellType type, int styleIndex, CharSequence value) {
+            String text = java.util.Objects.requireNonNull(valueFormatter).format(type, styleIndex, value);
+            checkCellCharacters(text);
+            return text;
+        }
+
+        /** Keeps the display text of a cell outside the projection; it gets no {@link CellData}. */
+        private void keepSkippedText(int columnIndex, @Nullable String text) {
+            while (skippedTexts.size() <= columnIndex) skippedTexts.add(null);
+            skippedTexts.set(columnIndex, text);
+        }
+
+        private boolean isSkipped(int columnIndex) {
+            return projection != null && !projection.get(columnIndex);
+        }
+
+        /** A skipped cell only matters while blank-row rules apply and the row still looks blank. */
+        private boolean tracksSkippedValues() {
+            return !skippedValue && (skipBlankRows || stopAtBlankRows > 0);
+        }
+
+        private void addCell(CellData cell) {
+            padRow(cell.columnIndex());
+            currentRow.add(cell);
+        }
+
+        private void padRow(int width) {
+            while (currentRow.size() < width) {
+                int index = currentRow.size();
+                currentRow.add(isSkipped(index) ? null : cellData(index, null));
             }
-            currentRow.add(cellData(colIndex, formattedValue));
         }
 
         /**
@@ -432,6 +852,7 @@ final class ExcelReadHandler<T> extends AbstractReadHandler<T> {
          */
         private void accumulateHeaderRow() {
             for (CellData cell : currentRow) {
+                if (cell == null) continue;
                 int idx = cell.columnIndex();
                 while (headerAccumulator.size() <= idx) {
                     headerAccumulator.add(null);
@@ -458,73 +879,40 @@ final class ExcelReadHandler<T> extends AbstractReadHandler<T> {
         }
 
         /**
-         * Resolves named columns to their actual indices based on header names (setter mode).
-         */
-        private void resolveColumnIndices() {
-            if (columns == null) {
-                throw new IllegalStateException("columns must not be null in setter mode");
-            }
-            resolvedIndices = ExcelReadHandler.this.resolveColumnIndices(
-                    columns.size(),
-                    i -> columns.get(i).headerAliases(),
-                    i -> columns.get(i).columnIndex(),
-                    headerNames, "sheet"
-            );
-        }
-
-        /**
-         * Builds header name to index map (mapping mode).
+         * Creates an instance, applies all column setters and validates it (setter mode). Touches
+         * no mutable handler state, so it may run on a mapping worker.
          */
-        private void buildHeaderIndex() {
-            headerIndexMap = buildHeaderIndexMap(headerNames, "sheet");
-            validateSelectedMapColumns(headerIndexMap, headerNames, "sheet");
-        }
-
-        /**
-         * Applies all column setters to the current row data (setter mode).
-         *
-         * @return true if all setters succeeded, false if any failed
-         */
-        private boolean mapValuesToInstance() {
-            if (columns == null || resolvedIndices == null) {
+        private ReadResult<T> mapRow(List<CellData> cells, long fileRowNum, List<String> rawValues) {
+            if (columns == null || resolvedIndices == null || instanceSupplier == null) {
                 throw new IllegalStateException("columns and resolvedIndices must not be null in setter mode");
             }
+            T instance = instanceSupplier.get();
+            List<String> messages = new ArrayList<>();
+            List<CellError> cellErrors = new ArrayList<>();
             boolean success = true;
 
             for (int i = 0; i < columns.size(); i++) {
                 int actualIndex = resolvedIndices[i];
-                if (actualIndex >= currentRow.size()) {
+                if (actualIndex >= cells.size()) {
                     if (columns.get(i).isRequired()) {
                         String header = (actualIndex < headerNames.size()) ? headerNames.get(actualIndex) : "column#" + actualIndex;
                         String message = "Required column '" + header + "' is empty";
-                        getOrCreateMessages().add(message);
-                        getOrCreateCellErrors().add(new CellError(actualIndex, header, null, message));
+                        messages.add(message);
+                        cellErrors.add(new CellError(actualIndex, header, null, message));
                         success = false;
                     }
                     continue;
                 }
 
-                if (!mapColumn(columns.get(i), currentInstance, currentRow.get(actualIndex),
-                        actualIndex, headerNames, getOrCreateMessages(), getOrCreateCellErrors())) {
+                if (!mapColumn(columns.get(i), instance, cells.get(actualIndex),
+                        actualIndex, headerNames, messages, cellErrors)) {
                     success = false;
                 }
             }
 
-            return success;
-        }
-
-        private List<String> getOrCreateMessages() {
-            if (messages == null) {
-                messages = new ArrayList<>();
-            }
-            return messages;
-        }
-
-        private List<CellError> getOrCreateCellErrors() {
-            if (cellErrors == null) {
-                cellErrors = new ArrayList<>();
-            }
-            return cellErrors;
+            boolean valid = success && validateIfNeeded(instance, messages);
+            return new ReadResult<>(instance, valid, messages, null, fileRowNum,
+                    cellErrors.isEmpty() ? List.of() : cellErrors, rawValues);
         }
 
         private int getColumnIndex(String cellReference) {
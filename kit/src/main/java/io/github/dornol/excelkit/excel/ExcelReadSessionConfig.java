@@ -11,7 +11,8 @@ import java.util.function.Supplier;
 /** Immutable execution configuration consumed by the Excel engine. */
 record ExcelReadSessionConfig<T>(@Nullable List<ReadColumn<T>> columns,
         @Nullable Supplier<T> supplier, @Nullable Function<RowData,T> mapper,
-        @Nullable Validator validator, int sheetIndex, int headerRowIndex, int headerRows,
+        @Nullable Validator validator, int sheetIndex, @Nullable String sheetName, int headerRowIndex, int headerRows,
         int progressInterval, @Nullable ProgressCallback progressCallback,
         @Nullable String password, boolean countRows, @Nullable Set<String> selectedColumns,
-        ReadOptions options) {}
+        ReadOptions options, ExcelReadEngine engine, boolean streamingInput,
+        int sharedStringsCacheSize, ReadPlan<T> plan) {}
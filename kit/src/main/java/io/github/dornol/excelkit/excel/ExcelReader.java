@@ -5,6 +5,8 @@ import io.github.dornol.excelkit.core.RowData;
 import io.github.dornol.excelkit.core.TempResourceCreator;
 import jakarta.validation.Validator;
 import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.util.XMLHelper;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
 import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
@@ -22,17 +24,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.nio.file.StandardCopyOption;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 import java.util.function.Supplier;
 import io.github.dornol.excelkit.core.InputStreamSource;
 import io.github.dornol.excelkit.core.ReadResult;
 import io.github.dornol.excelkit.core.RowError;
+import io.github.dornol.excelkit.core.ReadBatch;
 import io.github.dornol.excelkit.core.ReadSummary;
 import io.github.dornol.excelkit.core.ReadReport;
+import io.github.dornol.excelkit.core.ReadSecurityPolicy;
 
 /**
  * Builder-style class for configuring Excel row readers.
@@ -40,6 +46,10 @@ import io.github.dornol.excelkit.core.ReadReport;
  * {@code ExcelReader} allows you to define how each Excel cell maps to your target object {@code T},
  * and optionally integrates Bean Validation support.
  * Once configuration is complete, call {@code read} with an input source and row consumer.
+ * <p>
+ * Both xlsx workbooks and legacy BIFF8 {@code .xls} workbooks are read; the format is detected from
+ * the file signature. {@code .xls} files are streamed record by record through POI's HSSF event
+ * model, so neither format is loaded into a workbook object.
  *
  * @param <T> The type of the object that represents one Excel row
  *
@@ -48,9 +58,13 @@ import io.github.dornol.excelkit.core.ReadReport;
  */
 public class ExcelReader<T> extends AbstractReader<T, ExcelReader<T>> {
     private int sheetIndex = 0;
+    private @Nullable String sheetName;
     private int headerRows = 1;
     private boolean countRows = false;
     private @Nullable String password;
+    private ExcelReadEngine engine = ExcelReadEngine.POI;
+    private boolean streamingInput;
+    private int sharedStringsCacheSize;
 
     /**
      * Constructs an ExcelReader in setter mode with instance supplier and optional validator.
@@ -213,6 +227,18 @@ public class ExcelReader<T> extends AbstractReader<T, ExcelReader<T>> {
             throw new IllegalArgumentException("sheetIndex must be non-negative");
         }
         this.sheetIndex = sheetIndex;
+        this.sheetName = null;
+        return this;
+    }
+
+    /**
+     * Selects the sheet to read by name (case-insensitive, as in Excel) instead of by index.
+     * The name is looked up in the workbook metadata, and only that sheet is opened.
+     *
+     * @since 0.22.0
+     */
+    public ExcelReader<T> sheetName(String sheetName) {
+        this.sheetName = java.util.Objects.requireNonNull(sheetName, "sheetName cannot be null");
         return this;
     }
 
@@ -274,7 +300,9 @@ public class ExcelReader<T> extends AbstractReader<T, ExcelReader<T>> {
      * <p>
      * If the file is encrypted with the "agile" encryption mode (as produced by
      * {@link ExcelWriter#password(String)}), this password will be used to decrypt
-     * it before parsing.
+     * it before parsing. The decrypted package is streamed into the parser without a decrypted
+     * copy on disk, unless {@link #countRows()} or a security policy that rejects formulas or
+     * external links needs random access to it.
      *
      * @param password the file password
      * @return this reader for chaining
@@ -285,6 +313,83 @@ public class ExcelReader<T> extends AbstractReader<T, ExcelReader<T>> {
         return this;
     }
 
+    /**
+     * Selects the worksheet parsing engine. Defaults to {@link ExcelReadEngine#POI}.
+     * <p>
+     * {@link ExcelReadEngine#NATIVE} replaces the SAX pipeline with a byte-level tokenizer and
+     * produces the same {@link ReadResult}s with less CPU and allocation per cell. The engine only
+     * applies to xlsx worksheets; legacy {@code .xls} workbooks are always read from their records.
+     *
+     * @param engine the engine to use
+     * @return this reader for chaining
+     * @since 0.22.0
+     */
+    public ExcelReader<T> engine(ExcelReadEngine engine) {
+        this.engine = Objects.requireNonNull(engine, "engine cannot be null");
+        return this;
+    }
+
+    /**
+     * Reads {@code InputStream} inputs directly from the zip entries instead of first copying the
+     * whole upload to a temporary file.
+     * <p>
+     * Workbook metadata, styles and shared strings are buffered in memory as they are encountered.
+     * The selected sheet is parsed straight off the stream, unless the package stores it before the
+     * parts it depends on, in which case only that sheet's XML is spilled to disk. {@code Path}
+     * inputs are unaffected, and reads that need random access (encrypted files, a
+     * {@link io.github.dornol.excelkit.core.ReadSecurityPolicy} that rejects formulas or external
+     * links, {@link #countRows()}, or checkpoints) still use a temporary copy.
+     *
+     * @return this reader for chaining
+     * @since 0.22.0
+     */
+    public ExcelReader<T> streamingInput() {
+        return streamingInput(true);
+    }
+
+    /**
+     * Enables or disables direct zip-stream reading of {@code InputStream} inputs.
+     *
+     * @param enabled {@code true} to read without a temporary copy when possible
+     * @return this reader for chaining
+     * @since 0.22.0
+     * @see #streamingInput()
+     */
+    public ExcelReader<T> streamingInput(boolean enabled) {
+        this.streamingInput = enabled;
+        return this;
+    }
+
+    /**
+     * Keeps the workbook's shared strings table in a memory-mapped temporary file instead of on the heap.
+     * <p>
+     * Strings are written once to disk with an offset index and decoded on lookup; only the
+     * most recently used strings stay on the heap. Use this for workbooks with millions of unique
+     * strings, where the default in-memory table can take hundreds of megabytes before the first row.
+     *
+     * @return this reader for chaining
+     * @since 0.22.0
+     */
+    public ExcelReader<T> diskBackedSharedStrings() {
+        return diskBackedSharedStrings(XlsxMappedSharedStrings.DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Keeps shared strings in a memory-mapped temporary file with a decoded-string cache of the given size.
+     *
+     * @param cacheSize maximum number of decoded strings kept on the heap (must be positive)
+     * @return this reader for chaining
+     * @since 0.22.0
+     * @see #diskBackedSharedStrings()
+     */
+    public ExcelReader<T> diskBackedSharedStrings(int cacheSize) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("cacheSize must be positive");
+        }
+        this.sharedStringsCacheSize = cacheSize;
+        return this;
+    }
+
     /**
      * Finalizes the configuration and builds an {@link ExcelReadHandler} for parsing the given Excel stream.
      *
@@ -300,11 +405,39 @@ public class ExcelReader<T> extends AbstractReader<T, ExcelReader<T>> {
         return new ExcelReadHandler<>(path, sessionConfig());
     }
 
+    /** The decoded strings kept on the heap by {@link #diskBackedSharedStrings(int)}, or {@code 0} when disabled. */
+    int sharedStringsCacheSize() {
+        return sharedStringsCacheSize;
+    }
+
+    /** Applies this reader's {@code maxInputBytes} limit to a stream buffered by {@link ExcelMultiSheetReader}. */
+    InputStream boundedInput(InputStream input) {
+        return limitInput(input);
+    }
+
+    /**
+     * Builds a handler for one sheet of a workbook opened by {@link ExcelMultiSheetReader}, selecting
+     * the sheet by name when one is given and by index otherwise.
+     */
+    ExcelReadHandler<T> createSheetHandler(Path file, int sheetIndex, @Nullable String sheetName) {
+        if (password != null) {
+            throw new ExcelReadException("Encrypted workbooks are not supported by ExcelMultiSheetReader");
+        }
+        return new ExcelReadHandler<>(file, sessionConfig(sheetIndex, sheetName));
+    }
+
     private ExcelReadSessionConfig<T> sessionConfig() {
+        return sessionConfig(sheetIndex, sheetName);
+    }
+
+    private ExcelReadSessionConfig<T> sessionConfig(int sheetIndex, @Nullable String sheetName) {
         return new ExcelReadSessionConfig<>(rowMapper == null ? List.copyOf(columns) : null,
-                instanceSupplier, rowMapper, validator, sheetIndex, headerRowIndex, headerRows,
+                instanceSupplier, rowMapper, validator, sheetIndex, sheetName, headerRowIndex, headerRows,
                 progressInterval, progressCallback, password, countRows,
-                selectedMapColumns == null ? null : Set.copyOf(selectedMapColumns), snapshotReadOptions());
+                selectedMapColumns == null ? null : Set.copyOf(selectedMapColumns), snapshotReadOptions(), engine,
+                streamingInput && password == null && !countRows && checkpointListener == null && resumeFrom == null
+                        && securityPolicy.allowFormulas() && securityPolicy.allowExternalLinks(),
+                sharedStringsCacheSize, readPlan());
     }
 
     /** Reads an input stream without closing it. */
@@ -327,7 +460,7 @@ public class ExcelReader<T> extends AbstractReader<T, ExcelReader<T>> {
 
     private ReadSummary summarize(ExcelReadHandler<T> handler, Consumer<ReadResult<T>> consumer) {
         return summarizeRead(
-                handler::read, handler::wasStoppedEarly, consumer);
+                handler::read, handler::wasStoppedEarly, handler::metrics, consumer);
     }
 
     public ReadReport readReport(InputStream inputStream, int maxCollectedErrors) {
@@ -345,7 +478,8 @@ public class ExcelReader<T> extends AbstractReader<T, ExcelReader<T>> {
 
     private ReadReport report(ExcelReadHandler<T> handler, int maxCollectedErrors) {
         return collectReadReport(
-                consumer -> handler.read(consumer), handler::wasStoppedEarly, maxCollectedErrors);
+                consumer -> handler.read(consumer), handler::wasStoppedEarly, handler::metrics,
+                maxCollectedErrors);
     }
 
     public void read(InputStream inputStream, Consumer<T> onSuccess, Consumer<RowError> onError) {
@@ -398,13 +532,103 @@ public class ExcelReader<T> extends AbstractReader<T, ExcelReader<T>> {
                 (message, error) -> new ExcelReadException("Failed to open Excel input", error));
     }
 
+    /**
+     * Returns the rows of an input stream as a lazy stream. Rows are read only as the stream is
+     * consumed; close it (for example with try-with-resources) to release temporary resources when
+     * it is not fully consumed. The input stream is not closed.
+     *
+     * @since 0.22.0
+     */
+    public Stream<ReadResult<T>> stream(InputStream inputStream) {
+        return createHandler(inputStream).stream();
+    }
+
+    /**
+     * Returns the rows of a caller-owned path as a lazy stream.
+     *
+     * @since 0.22.0
+     */
+    public Stream<ReadResult<T>> stream(Path path) {
+        return createHandler(path).stream();
+    }
+
+    /**
+     * Returns the rows of a source as a lazy stream; the opened input is closed with the stream.
+     *
+     * @since 0.22.0
+     */
+    public Stream<ReadResult<T>> stream(InputStreamSource source) {
+        return streamInputSource(source, this::stream,
+                (message, error) -> new ExcelReadException("Failed to open Excel input", error));
+    }
+
     private ReadSummary readWhile(ExcelReadHandler<T> handler, Predicate<ReadResult<T>> predicate) {
         return summarizeReadWhile(
-                handler::readWhile, handler::wasStoppedEarly, predicate);
+                handler::readWhile, handler::wasStoppedEarly, handler::metrics, predicate);
+    }
+
+    /**
+     * Reads an input stream and delivers rows in batches of up to {@code batchSize}, plus a final
+     * partial batch at the end of input. Each {@link ReadBatch} holds the successful rows and the
+     * {@link RowError}s of its rows; its lists are reused once the callback returns.
+     * <p>
+     * {@code maxErrors} and cancellation are applied per row before batching: when the read aborts
+     * or is cancelled, the rows buffered so far are flushed before the exception propagates or the
+     * method returns. Progress callbacks count rows read, so they may run ahead of delivered batches.
+     *
+     * @since 0.22.0
+     */
+    public ReadSummary readBatches(InputStream inputStream, int batchSize, Consumer<ReadBatch<T>> consumer) {
+        validateBatches(batchSize, null, consumer);
+        return batches(createHandler(inputStream), batchSize, null, consumer);
+    }
+
+    /**
+     * Reads an input stream in batches, also flushing a partial batch once its oldest row has
+     * waited {@code maxLatency}. The latency is checked as rows arrive.
+     *
+     * @since 0.22.0
+     */
+    public ReadSummary readBatches(InputStream inputStream, int batchSize, Duration maxLatency,
+                                   Consumer<ReadBatch<T>> consumer) {
+        validateBatches(batchSize, java.util.Objects.requireNonNull(maxLatency, "maxLatency cannot be null"), consumer);
+        return batches(createHandler(inputStream), batchSize, maxLatency, consumer);
+    }
+
+    /** @since 0.22.0 */
+    public ReadSummary readBatches(Path path, int batchSize, Consumer<ReadBatch<T>> consumer) {
+        validateBatches(batchSize, null, consumer);
+        return batches(createHandler(path), batchSize, null, consumer);
+    }
+
+    /** @since 0.22.0 */
+    public ReadSummary readBatches(Path path, int batchSize, Duration maxLatency, Consumer<ReadBatch<T>> consumer) {
+        validateBatches(batchSize, java.util.Objects.requireNonNull(maxLatency, "maxLatency cannot be null"), consumer);
+        return batches(createHandler(path), batchSize, maxLatency, consumer);
+    }
+
+    /** @since 0.22.0 */
+    public ReadSummary readBatches(InputStreamSource source, int batchSize, Consumer<ReadBatch<T>> consumer) {
+        validateBatches(batchSize, null, consumer);
+        return withInputSource(source, input -> readBatches(input, batchSize, consumer),
+                (message, error) -> new ExcelReadException("Failed to open Excel input", error));
+    }
+
+    /** @since 0.22.0 */
+    public ReadSummary readBatches(InputStreamSource source, int batchSize, Duration maxLatency,
+                                   Consumer<ReadBatch<T>> consumer) {
+        validateBatches(batchSize, java.util.Objects.requireNonNull(maxLatency, "maxLatency cannot be null"), consumer);
+        return withInputSource(source, input -> readBatches(input, batchSize, maxLatency, consumer),
+                (message, error) -> new ExcelReadException("Failed to open Excel input", error));
+    }
+
+    private ReadSummary batches(ExcelReadHandler<T> handler, int batchSize, @Nullable Duration maxLatency,
+                                Consumer<ReadBatch<T>> consumer) {
+        return summarizeBatches(handler, handler::wasStoppedEarly, batchSize, maxLatency, consumer);
     }
 
     /**
-     * Returns the list of sheet names and indices from an Excel file.
+     * Returns the list of sheet names and indices from an Excel file (xlsx or legacy .xls).
      *
      * @param inputStream The input stream of the Excel file (will be consumed)
      * @return A list of {@link ExcelSheetInfo} records containing sheet names and indices
@@ -418,6 +642,15 @@ public class ExcelReader<T> extends AbstractReader<T, ExcelReader<T>> {
             Files.copy(java.util.Objects.requireNonNull(inputStream, "inputStream cannot be null"),
                     tempFile, StandardCopyOption.REPLACE_EXISTING);
 
+            if (FileMagic.valueOf(tempFile.toFile()) == FileMagic.OLE2) {
+                try (POIFSFileSystem fs = new POIFSFileSystem(tempFile.toFile(), true);
+                     XlsSheetParser parser = new XlsSheetParser(fs, null, ReadSecurityPolicy.DEFAULT)) {
+                    List<XlsxWorkbookIndex.SheetRef> sheets = parser.workbookIndex().sheets();
+                    List<ExcelSheetInfo> result = new ArrayList<>();
+                    for (int i = 0; i < sheets.size(); i++) result.add(new ExcelSheetInfo(i, sheets.get(i).name()));
+                    return result;
+                }
+            }
             try (OPCPackage pkg = OPCPackage.open(tempFile.toFile())) {
                 XSSFReader reader = new XSSFReader(pkg);
                 XSSFReader.SheetIterator sheetsData = (XSSFReader.SheetIterator) reader.getSheetsData();
@@ -529,7 +762,7 @@ public class ExcelReader<T> extends AbstractReader<T, ExcelReader<T>> {
 
     private static final Logger log = LoggerFactory.getLogger(ExcelReader.class);
 
-    private static void cleanupTemp(Path tempDir, Path tempFile) {
+    static void cleanupTemp(@Nullable Path tempDir, @Nullable Path tempFile) {
         if (tempFile != null) {
             try {
                 Files.deleteIfExists(tempFile);
@@ -2,39 +2,99 @@ package io.github.dornol.excelkit.excel;
 
 import io.github.dornol.excelkit.core.ReadSecurityException;
 import io.github.dornol.excelkit.core.ReadSecurityPolicy;
+import org.jspecify.annotations.Nullable;
+
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
-/** Bounded preflight scanner for formula and external-link policy enforcement. */
+/**
+ * Bounded preflight scanner for formula and external-link policy enforcement.
+ * <p>
+ * The worksheet that is about to be parsed is not inflated here; {@link #scan} returns a filter
+ * that runs the same formula and size checks on the parser's own input stream, so the selected
+ * sheet is decompressed only once.
+ */
 final class ExcelSecurityScanner {
     private ExcelSecurityScanner() {}
 
-    static void scan(Path file, ReadSecurityPolicy policy) throws IOException {
-        if (policy.allowFormulas() && policy.allowExternalLinks()) return;
-        long total = 0;
+    /**
+     * Scans every part except the selected worksheet and returns the filter for that worksheet's stream.
+     *
+     * @param selector picks the sheet that will be parsed
+     */
+    static UnaryOperator<InputStream> scan(Path file, ReadSecurityPolicy policy,
+                                           ExcelSheetNavigator.SheetSelector selector) throws IOException {
+        if (policy.allowFormulas() && policy.allowExternalLinks()) return UnaryOperator.identity();
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            String deferred = policy.allowFormulas() ? null : sheetPart(zip, selector);
+            return scan(zip, policy, deferred == null ? Set.of() : Set.of(deferred));
+        }
+    }
+
+    /**
+     * Scans a workbook once for several sheets that are about to be parsed: every part except the
+     * worksheets in {@code sheetParts}, whose streams are checked by the returned filter instead.
+     * The filtered streams share one byte total with the parts scanned up front, so the total limit
+     * holds across all of the sheets, even when they are parsed concurrently.
+     *
+     * @param sheetParts part names of the worksheets that will be parsed
+     */
+    static UnaryOperator<InputStream> scan(Path file, ReadSecurityPolicy policy, Set<String> sheetParts)
+            throws IOException {
+        if (policy.allowFormulas() && policy.allowExternalLinks()) return UnaryOperator.identity();
         try (ZipFile zip = new ZipFile(file.toFile())) {
-            var entries = zip.entries();
-            while (entries.hasMoreElements()) {
-                ZipEntry entry = entries.nextElement();
-                String name = entry.getName();
-                if (!policy.allowExternalLinks() && name.startsWith("xl/externalLinks/"))
-                    throw security(ReadSecurityException.Reason.EXTERNAL_LINK, "External workbook links are not allowed");
-                if (!policy.allowFormulas() && name.startsWith("xl/worksheets/") && name.endsWith(".xml")) {
-                    validateEntry(entry, policy);
-                    try (InputStream input = zip.getInputStream(entry)) {
-                        ScanResult result = scanFormula(input, policy.maxScannedEntryBytes());
-                        total += result.bytes();
-                        if (total > policy.maxTotalScannedBytes())
-                            throw security(ReadSecurityException.Reason.TOTAL_SCAN_SIZE,
-                                    "Workbook security scan exceeds total byte limit");
-                        if (result.formula()) throw security(ReadSecurityException.Reason.FORMULA,
-                                "Excel formulas are not allowed");
-                    }
+            return scan(zip, policy, policy.allowFormulas() ? Set.of() : sheetParts);
+        }
+    }
+
+    private static UnaryOperator<InputStream> scan(ZipFile zip, ReadSecurityPolicy policy, Set<String> deferred)
+            throws IOException {
+        AtomicLong total = new AtomicLong();
+        var entries = zip.entries();
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            String name = entry.getName();
+            if (!policy.allowExternalLinks() && name.startsWith("xl/externalLinks/"))
+                throw security(ReadSecurityException.Reason.EXTERNAL_LINK, "External workbook links are not allowed");
+            if (!policy.allowFormulas() && name.startsWith("xl/worksheets/") && name.endsWith(".xml")) {
+                validateEntry(entry, policy);
+                if (deferred.contains(name)) continue;
+                try (FormulaScanInputStream input = new FormulaScanInputStream(zip.getInputStream(entry), policy, total)) {
+                    input.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+        }
+        if (deferred.isEmpty()) return UnaryOperator.identity();
+        return sheet -> new FormulaScanInputStream(sheet, policy, total);
+    }
+
+    /** Resolves the part name of the selected sheet, or {@code null} when the package metadata is unusable. */
+    private static @Nullable String sheetPart(ZipFile zip, ExcelSheetNavigator.SheetSelector selector) {
+        try {
+            String workbookPart = XlsxWorkbookIndex.DEFAULT_WORKBOOK_PART;
+            ZipEntry packageRels = zip.getEntry("_rels/.rels");
+            if (packageRels != null) {
+                try (InputStream input = zip.getInputStream(packageRels)) {
+                    workbookPart = XlsxWorkbookIndex.officeDocumentPart(input);
                 }
             }
+            ZipEntry workbook = zip.getEntry(workbookPart);
+            ZipEntry workbookRels = zip.getEntry(XlsxWorkbookIndex.relationshipsPart(workbookPart));
+            if (workbook == null || workbookRels == null) return null;
+            try (InputStream xml = zip.getInputStream(workbook); InputStream rels = zip.getInputStream(workbookRels)) {
+                return selector.select(XlsxWorkbookIndex.parse(workbookPart, xml, rels)).partName();
+            }
+        } catch (Exception e) {
+            // fall back to scanning every worksheet up front
+            return null;
         }
     }
 
@@ -47,23 +107,69 @@ final class ExcelSecurityScanner {
                     "Worksheet XML exceeds compression ratio limit");
     }
 
-    private static ScanResult scanFormula(InputStream input, long maximum) throws IOException {
-        int state = 0; long bytes = 0;
-        for (int value; (value = input.read()) >= 0;) {
-            if (++bytes > maximum) throw security(ReadSecurityException.Reason.ENTRY_SIZE,
-                    "Worksheet XML exceeds security scan entry limit");
-            if (state == 0) state = value == '<' ? 1 : 0;
-            else if (state == 1) state = value == 'f' ? 2 : (value == '<' ? 1 : 0);
-            else {
-                if (value == '>' || Character.isWhitespace(value)) return new ScanResult(true, bytes);
-                state = value == '<' ? 1 : 0;
+    private static ReadSecurityException security(ReadSecurityException.Reason reason, String message) {
+        return new ReadSecurityException(reason, message);
+    }
+
+    /** Rejects {@code <f>} / {@code <f ...>} start tags and enforces the entry and total byte limits while reading. */
+    private static final class FormulaScanInputStream extends FilterInputStream {
+        private final ReadSecurityPolicy policy;
+        private long bytes;
+        /** Bytes scanned by every stream of the same {@link #scan}. */
+        private final AtomicLong total;
+        private int state;
+
+        FormulaScanInputStream(InputStream in, ReadSecurityPolicy policy, AtomicLong total) {
+            super(in);
+            this.policy = policy;
+            this.total = total;
+        }
+
+        @Override public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count(1);
+                state = scan(state, value);
             }
+            return value;
         }
-        return new ScanResult(false, bytes);
-    }
 
-    private static ReadSecurityException security(ReadSecurityException.Reason reason, String message) {
-        return new ReadSecurityException(reason, message);
+        @Override public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) scan(buffer, offset, read);
+            return read;
+        }
+
+        @Override public long skip(long n) throws IOException {
+            byte[] scratch = new byte[(int) Math.min(Math.max(n, 0), 8192)];
+            int read = scratch.length == 0 ? 0 : read(scratch, 0, scratch.length);
+            return Math.max(read, 0);
+        }
+
+        @Override public boolean markSupported() { return false; }
+
+        private void scan(byte[] buffer, int offset, int length) {
+            count(length);
+            int s = state;
+            for (int i = offset, end = offset + length; i < end; i++) s = scan(s, buffer[i] & 0xFF);
+            state = s;
+        }
+
+        private void count(int length) {
+            bytes += length;
+            if (bytes > policy.maxScannedEntryBytes()) throw security(ReadSecurityException.Reason.ENTRY_SIZE,
+                    "Worksheet XML exceeds security scan entry limit");
+            if (total.addAndGet(length) > policy.maxTotalScannedBytes())
+                throw security(ReadSecurityException.Reason.TOTAL_SCAN_SIZE, "Workbook security scan exceeds total byte limit");
+        }
+
+        /** Advances the {@code <f} matcher by one byte and returns the new state. */
+        private static int scan(int state, int value) {
+            if (state == 0) return value == '<' ? 1 : 0;
+            if (state == 1) return value == 'f' ? 2 : (value == '<' ? 1 : 0);
+            if (value == '>' || Character.isWhitespace(value)) throw security(
+                    ReadSecurityException.Reason.FORMULA, "Excel formulas are not allowed");
+            return value == '<' ? 1 : 0;
+        }
     }
-    private record ScanResult(boolean formula, long bytes) {}
 }
@@ -1,35 +1,82 @@
 package io.github.dornol.excelkit.excel;
 
 import io.github.dornol.excelkit.core.ReadLimitExceededException;
-import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.openxml4j.opc.PackageRelationship;
+import org.apache.poi.openxml4j.opc.PackageRelationshipCollection;
+import org.apache.poi.openxml4j.opc.PackageRelationshipTypes;
+import org.apache.poi.openxml4j.opc.PackagingURIHelper;
+import org.apache.poi.openxml4j.opc.TargetMode;
+import org.jspecify.annotations.Nullable;
+
 import java.io.InputStream;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
 
-/** Sheet counting, limit enforcement, and selected-sheet navigation. */
+/**
+ * Sheet lookup, limit enforcement, and selected-sheet access from workbook metadata. Only the
+ * selected worksheet part is ever opened.
+ */
 final class ExcelSheetNavigator {
     private ExcelSheetNavigator() {}
     @FunctionalInterface interface SheetConsumer { void accept(InputStream sheet) throws Exception; }
 
-    static void enforceLimit(XSSFReader reader, int maximum) throws Exception {
-        if (maximum < 0) return;
-        int count = 0;
-        Iterator<InputStream> iterator = reader.getSheetsData();
-        while (iterator.hasNext()) {
-            try (InputStream ignored = iterator.next()) { count++; }
-            if (count > maximum) throw new ReadLimitExceededException(
-                    ReadLimitExceededException.Limit.SHEETS, maximum, count);
+    /** Picks the worksheet to read from a workbook index. */
+    @FunctionalInterface interface SheetSelector { XlsxWorkbookIndex.SheetRef select(XlsxWorkbookIndex index); }
+
+    /**
+     * Selects a sheet by name when one is given, otherwise by index, after checking the sheet
+     * count limit.
+     *
+     * @param resolved receives the index of the selected sheet
+     */
+    static SheetSelector selector(int sheetIndex, @Nullable String sheetName, int maximum, IntConsumer resolved) {
+        return index -> {
+            if (maximum >= 0 && index.sheetCount() > maximum) throw new ReadLimitExceededException(
+                    ReadLimitExceededException.Limit.SHEETS, maximum, index.sheetCount());
+            int selected = sheetName != null ? index.indexOf(sheetName) : sheetIndex;
+            XlsxWorkbookIndex.SheetRef sheet = index.sheet(selected);
+            if (sheet == null) {
+                throw new ExcelReadException(sheetName != null
+                        ? "Sheet '" + sheetName + "' not found. Available sheets: "
+                                + index.sheets().stream().map(XlsxWorkbookIndex.SheetRef::name).toList()
+                        : "Sheet index " + sheetIndex + " not found. File has " + index.sheetCount() + " sheet(s).");
+            }
+            resolved.accept(selected);
+            return sheet;
+        };
+    }
+
+    /** Builds the workbook index from the package's workbook part and its relationships. */
+    static XlsxWorkbookIndex index(OPCPackage pkg) throws Exception {
+        PackageRelationshipCollection documents = pkg.getRelationshipsByType(PackageRelationshipTypes.CORE_DOCUMENT);
+        if (documents.size() == 0) {
+            documents = pkg.getRelationshipsByType(PackageRelationshipTypes.STRICT_CORE_DOCUMENT);
+        }
+        if (documents.size() == 0) throw new ExcelReadException("Workbook part not found");
+        PackagePart workbook = pkg.getPart(documents.getRelationship(0));
+        if (workbook == null) throw new ExcelReadException("Workbook part not found");
+        Map<String, XlsxWorkbookIndex.Relationship> relationships = new HashMap<>();
+        for (PackageRelationship relationship : workbook.getRelationships()) {
+            if (relationship.getTargetMode() == TargetMode.EXTERNAL) continue;
+            String target = PackagingURIHelper.resolvePartUri(workbook.getPartName().getURI(),
+                    relationship.getTargetURI()).getPath();
+            relationships.put(relationship.getId(), new XlsxWorkbookIndex.Relationship(
+                    relationship.getRelationshipType(), XlsxWorkbookIndex.normalizePartName(target)));
+        }
+        try (InputStream xml = workbook.getInputStream()) {
+            return XlsxWorkbookIndex.parse(xml, relationships);
         }
     }
 
-    static void consume(XSSFReader reader, int selected, SheetConsumer consumer) throws Exception {
-        Iterator<InputStream> iterator = reader.getSheetsData();
-        int index = 0;
-        while (iterator.hasNext()) {
-            try (InputStream sheet = iterator.next()) {
-                if (index == selected) { consumer.accept(sheet); return; }
-            }
-            index++;
+    /** Opens the selected worksheet part and hands it to {@code consumer}. */
+    static void consume(OPCPackage pkg, XlsxWorkbookIndex.SheetRef sheet, SheetConsumer consumer) throws Exception {
+        PackagePart part = pkg.getPart(PackagingURIHelper.createPartName("/" + sheet.partName()));
+        if (part == null) throw new ExcelReadException("Worksheet part not found: " + sheet.partName());
+        try (InputStream input = part.getInputStream()) {
+            consumer.accept(input);
         }
-        throw new ExcelReadException("Sheet index " + selected + " not found. File has " + index + " sheet(s).");
     }
 }
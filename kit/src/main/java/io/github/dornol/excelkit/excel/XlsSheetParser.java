@@ -0,0 +1,318 @@
+package io.github.dornol.excelkit.excel;
+
+import io.github.dornol.excelkit.core.ReadSecurityException;
+import io.github.dornol.excelkit.core.ReadSecurityPolicy;
+import org.apache.poi.EncryptedDocumentException;
+import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BlankRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.DimensionsRecord;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.MulBlankRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.RecordFactoryInputStream;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.hssf.record.SupBookRecord;
+import org.apache.poi.hssf.record.crypto.Biff8EncryptionKey;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.DocumentEntry;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Record-level reader for legacy BIFF8 workbooks ({@code .xls}) built on POI's HSSF event model.
+ * <p>
+ * Records are pulled one at a time from the {@code Workbook} stream of the POIFS container, so
+ * only the workbook globals (sheet list, formats, shared strings) are kept in memory; cell records
+ * of the selected worksheet are turned into row events as they are read, and the stream is left
+ * as soon as that worksheet ends, unless a policy that disallows formulas needs the remaining
+ * sheets checked. Values are formatted with POI's {@code DataFormatter} rules,
+ * like the xlsx read path.
+ * <p>
+ * Event semantics follow {@link XlsxSheetParser}: rows without cell records are not reported,
+ * blank cells produce no {@link RowListener#cell} call, formula cells report their cached
+ * result, and booleans and errors read as {@code TRUE}/{@code FALSE} and {@code ERROR:#DIV/0!}.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+final class XlsSheetParser implements Closeable {
+
+    /**
+     * Receives the rows and cells of the selected worksheet in record order.
+     */
+    interface RowListener {
+        void startRow(int rowIndex);
+
+        void cell(int columnIndex, String formattedValue);
+
+        void endRow(int rowIndex);
+
+        /** Called with the 0-based index of the last row from the worksheet's dimensions record. */
+        default void lastRow(int rowIndex) {
+        }
+
+        /**
+         * Returns {@code true} when the row at {@code rowIndex} is of no interest; its cell records
+         * are then dropped without formatting, and neither {@link #startRow} nor {@link #endRow} is
+         * called.
+         */
+        default boolean skipsRow(int rowIndex) {
+            return false;
+        }
+    }
+
+    private final InputStream workbookStream;
+    private final long workbookSize;
+    private final RecordFactoryInputStream records;
+    private final ReadSecurityPolicy policy;
+    /** Tracks format and extended format records of the globals, for number and date formatting. */
+    private final FormatTrackingHSSFListener formats = new FormatTrackingHSSFListener(record -> { });
+    private final List<BoundSheetRecord> boundSheets = new ArrayList<>();
+    private @Nullable SSTRecord sharedStrings;
+    private @Nullable XlsxWorkbookIndex index;
+
+    private int currentRow = -1;
+    private boolean skippingRow;
+    /** Column of a formula whose string result follows in a {@link StringRecord}, or {@code -1}. */
+    private int pendingFormulaColumn = -1;
+
+    /**
+     * Opens the workbook stream, decrypting it with {@code password} when the workbook carries a
+     * {@code FILEPASS} record.
+     */
+    XlsSheetParser(POIFSFileSystem fs, @Nullable String password, ReadSecurityPolicy policy) throws IOException {
+        this.policy = java.util.Objects.requireNonNull(policy, "policy cannot be null");
+        String workbookEntry = HSSFWorkbook.getWorkbookDirEntryName(fs.getRoot());
+        this.workbookSize = ((DocumentEntry) fs.getRoot().getEntry(workbookEntry)).getSize();
+        this.workbookStream = fs.createDocumentInputStream(workbookEntry);
+        String previousPassword = Biff8EncryptionKey.getCurrentUserPassword();
+        Biff8EncryptionKey.setCurrentUserPassword(password);
+        try {
+            this.records = new RecordFactoryInputStream(workbookStream, false);
+        } catch (EncryptedDocumentException e) {
+            workbookStream.close();
+            throw new ExcelReadException(password == null ? "Excel file is password-protected"
+                    : "Invalid password for encrypted Excel file", e);
+        } catch (RuntimeException e) {
+            workbookStream.close();
+            throw e;
+        } finally {
+            Biff8EncryptionKey.setCurrentUserPassword(previousPassword);
+        }
+    }
+
+    /**
+     * Reads the workbook globals on first use and returns the sheets in workbook order, as
+     * {@link HSSFWorkbook} indexes them.
+     */
+    XlsxWorkbookIndex workbookIndex() {
+        XlsxWorkbookIndex sheets = index;
+        if (sheets != null) return sheets;
+        int depth = 0;
+        Record record;
+        while ((record = records.nextRecord()) != null) {
+            formats.processRecordInternally(record);
+            if (record instanceof BOFRecord) {
+                depth++;
+            } else if (record instanceof EOFRecord) {
+                if (--depth == 0) break;
+            } else if (record instanceof BoundSheetRecord sheet) {
+                boundSheets.add(sheet);
+            } else if (record instanceof SSTRecord sst) {
+                sharedStrings = sst;
+            } else if (record instanceof SupBookRecord book && book.isExternalReferences()
+                    && !policy.allowExternalLinks()) {
+                throw new ReadSecurityException(ReadSecurityException.Reason.EXTERNAL_LINK,
+                        "External workbook links are not allowed");
+            }
+        }
+        sheets = XlsxWorkbookIndex.of(boundSheets.stream()
+                .map(sheet -> new XlsxWorkbookIndex.SheetRef(sheet.getSheetname(), "")).toList());
+        index = sheets;
+        return sheets;
+    }
+
+    /**
+     * Delivers the rows of the sheet at {@code sheetIndex} (in workbook order), skipping the
+     * records of the substreams before it. Can be called once per parser.
+     * <p>
+     * When the policy disallows formulas, every sheet substream is checked, as the xlsx preflight
+     * checks every worksheet: the substreams before the selected sheet while they are skipped, and
+     * the ones after it before the read ends, even when the listener stops the read early. Each
+     * substream is held to {@link ReadSecurityPolicy#maxScannedEntryBytes()} and all of them together
+     * to {@link ReadSecurityPolicy#maxTotalScannedBytes()}; BIFF8 records are not compressed, so the
+     * compression ratio limit does not apply.
+     */
+    void readSheet(int sheetIndex, RowListener listener) {
+        workbookIndex();
+        if (sheetIndex < 0 || sheetIndex >= boundSheets.size()) {
+            throw new ExcelReadException("Sheet index " + sheetIndex + " not found. File has "
+                    + boundSheets.size() + " sheet(s).");
+        }
+        // substreams follow the globals in BOF position order, which may differ from tab order
+        BoundSheetRecord[] byPosition = BoundSheetRecord.orderByBofPosition(boundSheets);
+        int target = 0;
+        while (byPosition[target] != boundSheets.get(sheetIndex)) target++;
+
+        boolean scanAll = !policy.allowFormulas();
+        int substream = 0;
+        int depth = 0;
+        boolean selected = false;
+        long substreamStart = 0;
+        long scanned = 0;
+        // thrown by the listener while the remaining sheets still have to be scanned
+        RuntimeException stopped = null;
+        Record record;
+        while ((record = records.nextRecord()) != null) {
+            if (record instanceof BOFRecord) {
+                if (depth++ == 0) {
+                    selected = substream++ == target;
+                    substreamStart = bytesRead();
+                }
+            } else if (record instanceof EOFRecord) {
+                if (--depth == 0) {
+                    if (selected && !scanAll) break;
+                    if (scanAll) scanned += checkScanned(substreamStart, scanned);
+                    selected = false;
+                }
+            } else {
+                if (scanAll) checkScanned(substreamStart, scanned);
+                if (record instanceof FormulaRecord && !policy.allowFormulas()) {
+                    throw new ReadSecurityException(ReadSecurityException.Reason.FORMULA, "Excel formulas are not allowed");
+                }
+                if (selected && depth == 1 && stopped == null) {
+                    try {
+                        sheetRecord(record, listener);
+                    } catch (RuntimeException e) {
+                        if (!scanAll) throw e;
+                        stopped = e;
+                    }
+                }
+            }
+        }
+        if (stopped != null) throw stopped;
+        if (currentRow >= 0 && !skippingRow) listener.endRow(currentRow);
+    }
+
+    /**
+     * Checks the bytes of the current sheet substream, and of all substreams so far, against the
+     * policy's scan limits.
+     *
+     * @return the bytes of the current substream
+     */
+    private long checkScanned(long substreamStart, long scanned) {
+        long bytes = bytesRead() - substreamStart;
+        if (bytes > policy.maxScannedEntryBytes()) throw new ReadSecurityException(
+                ReadSecurityException.Reason.ENTRY_SIZE, "Worksheet exceeds security scan entry limit");
+        if (scanned + bytes > policy.maxTotalScannedBytes()) throw new ReadSecurityException(
+                ReadSecurityException.Reason.TOTAL_SCAN_SIZE, "Workbook security scan exceeds total byte limit");
+        return bytes;
+    }
+
+    private void sheetRecord(Record record, RowListener listener) {
+        if (record instanceof NumberRecord number) {
+            if (moveTo(number.getRow(), listener)) {
+                listener.cell(number.getColumn(), formats.formatNumberDateCell(number));
+            }
+        } else if (record instanceof LabelSSTRecord label) {
+            if (moveTo(label.getRow(), listener)) {
+                listener.cell(label.getColumn(), sharedString(label.getSSTIndex()));
+            }
+        } else if (record instanceof FormulaRecord formula) {
+            if (!moveTo(formula.getRow(), listener)) return;
+            if (formula.hasCachedResultString()) {
+                pendingFormulaColumn = formula.getColumn();
+            } else {
+                listener.cell(formula.getColumn(), formulaResult(formula));
+            }
+        } else if (record instanceof StringRecord string) {
+            if (pendingFormulaColumn >= 0) {
+                listener.cell(pendingFormulaColumn, string.getString());
+                pendingFormulaColumn = -1;
+            }
+        } else if (record instanceof BoolErrRecord boolErr) {
+            if (moveTo(boolErr.getRow(), listener)) {
+                listener.cell(boolErr.getColumn(), boolErr.isBoolean()
+                        ? booleanText(boolErr.getBooleanValue()) : errorText(boolErr.getErrorValue()));
+            }
+        } else if (record instanceof LabelRecord label) {
+            if (moveTo(label.getRow(), listener)) listener.cell(label.getColumn(), label.getValue());
+        } else if (record instanceof BlankRecord blank) {
+            moveTo(blank.getRow(), listener);
+        } else if (record instanceof MulBlankRecord blanks) {
+            moveTo(blanks.getRow(), listener);
+        } else if (record instanceof DimensionsRecord dimensions && dimensions.getLastRow() > 0) {
+            listener.lastRow(dimensions.getLastRow() - 1);
+        }
+    }
+
+    /**
+     * Ends the current row and starts the row at {@code rowIndex} when the cell records move on to
+     * it; cell records are stored in ascending row order within a worksheet.
+     *
+     * @return whether cells of that row are wanted
+     */
+    private boolean moveTo(int rowIndex, RowListener listener) {
+        if (rowIndex != currentRow) {
+            if (currentRow >= 0 && !skippingRow) listener.endRow(currentRow);
+            currentRow = rowIndex;
+            pendingFormulaColumn = -1;
+            skippingRow = listener.skipsRow(rowIndex);
+            if (!skippingRow) listener.startRow(rowIndex);
+        }
+        return !skippingRow;
+    }
+
+    private String sharedString(int sstIndex) {
+        SSTRecord sst = sharedStrings;
+        if (sst == null || sstIndex < 0 || sstIndex >= sst.getNumUniqueStrings()) {
+            throw new ExcelReadException("Shared string index out of range: " + sstIndex);
+        }
+        return sst.getString(sstIndex).getString();
+    }
+
+    private String formulaResult(FormulaRecord formula) {
+        int type = formula.getCachedResultType();
+        if (type == CellType.BOOLEAN.getCode()) return booleanText(formula.getCachedBooleanValue());
+        if (type == CellType.ERROR.getCode()) return errorText(formula.getCachedErrorValue());
+        return formats.formatNumberDateCell(formula);
+    }
+
+    private static String booleanText(boolean value) {
+        return value ? "TRUE" : "FALSE";
+    }
+
+    private static String errorText(int code) {
+        return "ERROR:" + (FormulaError.isValidCode(code) ? FormulaError.forInt(code).getString() : "#" + code);
+    }
+
+    /** Returns the number of workbook stream bytes read so far. */
+    long bytesRead() {
+        try {
+            return workbookSize - workbookStream.available();
+        } catch (IOException e) {
+            return workbookSize;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        workbookStream.close();
+    }
+}
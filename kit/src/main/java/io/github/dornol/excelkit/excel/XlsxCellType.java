@@ -0,0 +1,19 @@
+package io.github.dornol.excelkit.excel;
+
+/**
+ * Cell value kinds distinguished by the {@code t} attribute of a worksheet {@code <c>} element.
+ */
+enum XlsxCellType {
+    /** No {@code t} attribute (or {@code t="n"}): the value is a number, possibly date-formatted. */
+    NUMBER,
+    /** {@code t="s"}: the value is an index into the shared strings table. */
+    SHARED_STRING,
+    /** {@code t="inlineStr"}: the text is stored in the cell's {@code <is>} element. */
+    INLINE_STRING,
+    /** {@code t="str"}: cached string result of a formula. */
+    FORMULA_STRING,
+    /** {@code t="b"}: {@code 0} or {@code 1}. */
+    BOOLEAN,
+    /** {@code t="e"}: an error literal such as {@code #DIV/0!}. */
+    ERROR
+}
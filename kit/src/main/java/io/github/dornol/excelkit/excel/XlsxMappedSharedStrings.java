@@ -0,0 +1,273 @@
+package io.github.dornol.excelkit.excel;
+
+import io.github.dornol.excelkit.core.TempResourceCreator;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Shared strings table kept in a temporary file instead of on the heap.
+ * <p>
+ * {@code sharedStrings.xml} is parsed once; every string is written as UTF-8 to a data file and its
+ * start offset to an index file. Both files are read back through {@link MappedByteBuffer}s, so the
+ * heap only holds a small LRU of recently decoded strings regardless of how many unique strings the
+ * workbook contains. String text matches {@code XSSFRichTextString#getString()}: rich text runs are
+ * concatenated, phonetic runs are skipped, and {@code _xHHHH_} escapes are decoded.
+ *
+ * @author dhkim
+ */
+final class XlsxMappedSharedStrings implements SharedStrings, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(XlsxMappedSharedStrings.class);
+    /** Number of decoded strings kept on the heap by default. */
+    static final int DEFAULT_CACHE_SIZE = 1024;
+    /** Mapping window; a string crossing a window boundary is assembled from both windows. */
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    private final Path dataFile;
+    private final Path indexFile;
+    private final int count;
+    private final int uniqueCount;
+    private final MappedByteBuffer[] data;
+    private final MappedByteBuffer[] index;
+    private final Map<Integer, String> cache;
+
+    private XlsxMappedSharedStrings(Path dataFile, Path indexFile, int count, int uniqueCount, int cacheSize)
+            throws IOException {
+        this.dataFile = dataFile;
+        this.indexFile = indexFile;
+        this.count = count;
+        this.uniqueCount = uniqueCount;
+        this.data = map(dataFile);
+        this.index = map(indexFile);
+        this.cache = new LinkedHashMap<>(Math.min(cacheSize, 1 << 12), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Parses a shared strings part into temporary files under {@code directory}.
+     *
+     * @param sharedStringsXml the {@code sharedStrings.xml} content, or {@code null} when the workbook has none
+     * @param directory        directory for the data and index files
+     * @param cacheSize        maximum number of decoded strings kept on the heap
+     */
+    static XlsxMappedSharedStrings load(@Nullable InputStream sharedStringsXml, Path directory, int cacheSize)
+            throws Exception {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("cacheSize must be positive");
+        }
+        Path dataFile = TempResourceCreator.createTempFile(directory, UUID.randomUUID().toString(), ".sst");
+        Path indexFile = TempResourceCreator.createTempFile(directory, UUID.randomUUID().toString(), ".idx");
+        try {
+            Writer writer = new Writer(dataFile, indexFile);
+            try (writer) {
+                if (sharedStringsXml != null) {
+                    XMLReader reader = XMLHelper.newXMLReader();
+                    reader.setContentHandler(writer);
+                    reader.parse(new InputSource(sharedStringsXml));
+                }
+                writer.finish();
+            }
+            return new XlsxMappedSharedStrings(dataFile, indexFile,
+                    writer.count < 0 ? writer.written : writer.count, writer.written, cacheSize);
+        } catch (Exception | Error e) {
+            delete(dataFile);
+            delete(indexFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the string at {@code idx} for POI, re-escaping {@code _xHHHH_} sequences that were
+     * literal text, since {@link XSSFRichTextString#getString()} decodes them again.
+     */
+    @Override
+    public RichTextString getItemAt(int idx) {
+        return new XSSFRichTextString(XlsxValueFormatter.encodeEscapes(getString(idx)));
+    }
+
+    /** Returns the plain text of the string at {@code idx}. */
+    synchronized String getString(int idx) {
+        Objects.checkIndex(idx, uniqueCount);
+        String cached = cache.get(idx);
+        if (cached != null) return cached;
+        long start = offset(idx);
+        int length = (int) (offset(idx + 1) - start);
+        String value = new String(bytes(start, length), StandardCharsets.UTF_8);
+        cache.put(idx, value);
+        return value;
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int getUniqueCount() {
+        return uniqueCount;
+    }
+
+    /** Drops the mappings and deletes the temporary files. */
+    @Override
+    public synchronized void close() {
+        cache.clear();
+        delete(dataFile);
+        delete(indexFile);
+    }
+
+    private long offset(int idx) {
+        long position = (long) idx * Long.BYTES;
+        MappedByteBuffer segment = index[(int) (position / SEGMENT_SIZE)];
+        return segment.getLong((int) (position % SEGMENT_SIZE));
+    }
+
+    private byte[] bytes(long start, int length) {
+        byte[] bytes = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            long position = start + copied;
+            ByteBuffer segment = data[(int) (position / SEGMENT_SIZE)].duplicate();
+            segment.position((int) (position % SEGMENT_SIZE));
+            int chunk = Math.min(length - copied, segment.remaining());
+            segment.get(bytes, copied, chunk);
+            copied += chunk;
+        }
+        return bytes;
+    }
+
+    private static MappedByteBuffer[] map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = i * SEGMENT_SIZE;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+            }
+            return segments;
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // a mapped file cannot be deleted on some platforms until the mapping is collected
+            log.warn("Failed to delete shared strings file: {}", file, e);
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    /** SAX handler that streams each {@code <si>} to the data file and its offset to the index file. */
+    private static final class Writer extends DefaultHandler implements AutoCloseable {
+        private final OutputStream data;
+        private final DataOutputStream index;
+        private final StringBuilder text = new StringBuilder();
+        private long offset;
+        private int written;
+        private int count = -1;
+        private int phoneticDepth;
+        private boolean inText;
+
+        Writer(Path dataFile, Path indexFile) throws IOException {
+            this.data = new BufferedOutputStream(Files.newOutputStream(dataFile), 1 << 16);
+            this.index = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFile), 1 << 16));
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName(localName, qName)) {
+                case "sst" -> {
+                    String value = attributes.getValue("count");
+                    if (value != null) count = parseCount(value);
+                }
+                case "si" -> text.setLength(0);
+                case "rPh" -> phoneticDepth++;
+                case "t" -> inText = phoneticDepth == 0;
+                default -> { }
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName(localName, qName)) {
+                case "si" -> write(XlsxValueFormatter.decodeEscapes(text.toString()));
+                case "rPh" -> phoneticDepth--;
+                case "t" -> inText = false;
+                default -> { }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inText) text.append(ch, start, length);
+        }
+
+        private void write(String value) {
+            try {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                index.writeLong(offset);
+                data.write(bytes);
+                offset += bytes.length;
+                written++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            index.writeLong(offset);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (data; index) {
+                data.flush();
+                index.flush();
+            }
+        }
+
+        private static int parseCount(String value) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+
+        private static String localName(String localName, String qName) {
+            if (localName != null && !localName.isEmpty()) return localName;
+            int colon = qName.indexOf(':');
+            return colon < 0 ? qName : qName.substring(colon + 1);
+        }
+    }
+}
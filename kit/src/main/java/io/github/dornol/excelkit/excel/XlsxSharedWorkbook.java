@@ -0,0 +1,97 @@
+package io.github.dornol.excelkit.excel;
+
+import io.github.dornol.excelkit.core.TempResourceCreator;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.jspecify.annotations.Nullable;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * A workbook opened once and read by several sheet handlers: the package, its sheet index, styles,
+ * and shared strings table. Everything is loaded up front and only read afterwards, so sheets may
+ * be parsed concurrently. With a positive shared strings cache size the table is spilled to a
+ * memory-mapped temporary file, as {@link ExcelReader#diskBackedSharedStrings(int)} does for one sheet.
+ *
+ * @author dhkim
+ * @since 0.22.0
+ */
+final class XlsxSharedWorkbook implements AutoCloseable {
+    private final Path file;
+    private final OPCPackage pkg;
+    private final XlsxWorkbookIndex index;
+    private final @Nullable StylesTable styles;
+    private final SharedStrings sharedStrings;
+    private final @Nullable Path spillDirectory;
+
+    private XlsxSharedWorkbook(Path file, OPCPackage pkg, XlsxWorkbookIndex index,
+                               @Nullable StylesTable styles, SharedStrings sharedStrings,
+                               @Nullable Path spillDirectory) {
+        this.file = file;
+        this.pkg = pkg;
+        this.index = index;
+        this.styles = styles;
+        this.sharedStrings = sharedStrings;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Opens {@code file} read-only.
+     *
+     * @param sharedStringsCacheSize decoded strings kept on the heap for a disk-backed shared strings
+     *                               table, or {@code 0} to load the table into memory
+     */
+    static XlsxSharedWorkbook open(Path file, int sharedStringsCacheSize) throws Exception {
+        OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+        Path spillDirectory = null;
+        XlsxMappedSharedStrings mapped = null;
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            SharedStrings sharedStrings;
+            if (sharedStringsCacheSize > 0) {
+                spillDirectory = TempResourceCreator.createTempDirectory();
+                try (InputStream sharedStringsData = reader.getSharedStringsData()) {
+                    mapped = XlsxMappedSharedStrings.load(sharedStringsData, spillDirectory, sharedStringsCacheSize);
+                }
+                sharedStrings = mapped;
+            } else {
+                sharedStrings = reader.getSharedStringsTable();
+            }
+            return new XlsxSharedWorkbook(file, pkg, ExcelSheetNavigator.index(pkg),
+                    reader.getStylesTable(), sharedStrings, spillDirectory);
+        } catch (Exception | Error e) {
+            if (mapped != null) {
+                mapped.close();
+            }
+            ExcelReader.cleanupTemp(spillDirectory, null);
+            pkg.revert();
+            throw e;
+        }
+    }
+
+    Path file() { return file; }
+
+    OPCPackage pkg() { return pkg; }
+
+    XlsxWorkbookIndex index() { return index; }
+
+    @Nullable StylesTable styles() { return styles; }
+
+    SharedStrings sharedStrings() { return sharedStrings; }
+
+    @Override
+    public void close() {
+        try {
+            if (sharedStrings instanceof XlsxMappedSharedStrings mapped) {
+                mapped.close();
+            }
+            ExcelReader.cleanupTemp(spillDirectory, null);
+        } finally {
+            pkg.revert();
+        }
+    }
+}
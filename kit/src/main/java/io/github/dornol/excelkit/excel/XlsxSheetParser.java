@@ -0,0 +1,715 @@
+package io.github.dornol.excelkit.excel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Byte-level pull tokenizer for worksheet XML ({@code xl/worksheets/sheetN.xml}).
+ * <p>
+ * Only {@code <sheetData>}, {@code <row>}, {@code <c>}, {@code <v>} and {@code <is>/<t>} are
+ * interpreted; every other element is skipped without creating strings. Column and row indices are
+ * decoded straight from the {@code r} attribute bytes, and cell text is accumulated in a reusable
+ * buffer that is decoded (UTF-8, predefined and numeric entities, CR/LF normalization) only when a
+ * cell actually carries a value. Rows are produced on demand by {@link #nextRow()}.
+ * <p>
+ * Event semantics follow POI's {@code XSSFSheetXMLHandler}: every {@code <row>} produces
+ * {@link RowListener#startRow(int)}/{@link RowListener#endRow(int)}, cells without a value element
+ * are not reported, and inline string runs are concatenated.
+ *
+ * @author dhkim
+ */
+final class XlsxSheetParser {
+
+    /**
+     * Receives parsed rows and cells in document order.
+     */
+    interface RowListener {
+        void startRow(int rowIndex);
+
+        /**
+         * @param value decoded cell text; only valid for the duration of the call
+         */
+        void cell(int columnIndex, XlsxCellType type, int styleIndex, CharSequence value);
+
+        void endRow(int rowIndex);
+
+        /**
+         * Called with the {@code ref} of the {@code <dimension>} element (for example {@code A1:H1000}),
+         * which precedes the sheet data when present.
+         */
+        default void dimension(String ref) {
+        }
+
+        /**
+         * Returns {@code true} when the cell at {@code columnIndex} is of no interest; its text is then
+         * neither captured nor decoded and {@link #skippedCell} is called instead of {@link #cell}.
+         */
+        default boolean skipsCell(int columnIndex) {
+            return false;
+        }
+
+        /**
+         * Called instead of {@link #cell} for a cell carrying a value that {@link #skipsCell} rejected.
+         */
+        default void skippedCell(int columnIndex) {
+        }
+
+        /**
+         * Returns {@code true} when the row at {@code rowIndex} is of no interest; the parser then
+         * advances to its {@code </row>} without tokenizing cells, and neither {@link #startRow} nor
+         * {@link #endRow} is called.
+         */
+        default boolean skipsRow(int rowIndex) {
+            return false;
+        }
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_NAME = 32;
+
+    private static final int OTHER = 0;
+    private static final int SHEET_DATA = 1;
+    private static final int ROW = 2;
+    private static final int CELL = 3;
+    private static final int VALUE = 4;
+    private static final int INLINE_STRING = 5;
+    private static final int TEXT = 6;
+    private static final int DIMENSION = 7;
+
+    private final InputStream input;
+    private final RowListener listener;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean started;
+
+    private final byte[] name = new byte[MAX_NAME];
+    private int nameLength;
+    private final byte[] attributeName = new byte[MAX_NAME];
+    private final byte[] refValue = new byte[MAX_NAME];
+    private final byte[] typeValue = new byte[MAX_NAME];
+    private final byte[] styleValue = new byte[MAX_NAME];
+    private int refLength;
+    private int typeLength;
+    private int styleLength;
+
+    private byte[] text = new byte[256];
+    private int textLength;
+    private final StringBuilder value = new StringBuilder(64);
+
+    private boolean inSheetData;
+    private boolean inRow;
+    private boolean inCell;
+    private boolean inInlineString;
+    private boolean capturing;
+    private boolean skippingCell;
+    private boolean hasValue;
+    private int rowIndex;
+    private int nextRowIndex;
+    private int columnIndex;
+    private int nextColumnIndex;
+    private XlsxCellType cellType = XlsxCellType.NUMBER;
+    private int styleIndex;
+
+    XlsxSheetParser(InputStream input, RowListener listener) {
+        this.input = input;
+        this.listener = listener;
+    }
+
+    /**
+     * Parses up to and including the next {@code </row>}.
+     *
+     * @return {@code false} once the end of the document is reached
+     */
+    boolean nextRow() throws IOException {
+        if (!started) {
+            started = true;
+            checkEncoding();
+        }
+        while (true) {
+            if (capturing) {
+                captureText();
+            } else {
+                skipText();
+            }
+            if (read() < 0) {
+                if (inRow) throw truncated();
+                return false;
+            }
+            int b = read();
+            if (b < 0) throw truncated();
+            if (b == '/') {
+                int terminator = readName(read());
+                if (terminator != '>') skipPast('>');
+                if (endElement()) return true;
+            } else if (b == '?') {
+                skipProcessingInstruction();
+            } else if (b == '!') {
+                markupDeclaration();
+            } else if (startElement(b)) {
+                return true;
+            }
+        }
+    }
+
+    // ---- elements ----
+
+    private boolean startElement(int first) throws IOException {
+        int terminator = readName(first);
+        int element = elementCode();
+        boolean relevant = (element == ROW && inSheetData) || (element == CELL && inRow)
+                || (element == DIMENSION && !inSheetData);
+        refLength = typeLength = styleLength = -1;
+        boolean selfClosing;
+        if (terminator == '>') {
+            selfClosing = false;
+        } else if (terminator == '/') {
+            if (read() != '>') throw malformed("expected '>'");
+            selfClosing = true;
+        } else if (terminator < 0) {
+            throw truncated();
+        } else {
+            selfClosing = readAttributes(relevant);
+        }
+
+        switch (element) {
+            case SHEET_DATA -> inSheetData = !selfClosing;
+            case ROW -> {
+                if (!inSheetData) return false;
+                rowIndex = refLength > 0 ? parseRowNumber() - 1 : nextRowIndex;
+                nextColumnIndex = 0;
+                if (listener.skipsRow(rowIndex)) {
+                    if (!selfClosing) skipRowContent();
+                    nextRowIndex = rowIndex + 1;
+                    return false;
+                }
+                inRow = true;
+                listener.startRow(rowIndex);
+                if (selfClosing) return finishRow();
+            }
+            case CELL -> {
+                if (!inRow) return false;
+                columnIndex = refLength > 0 ? parseColumnIndex() : nextColumnIndex;
+                cellType = parseCellType();
+                styleIndex = styleLength > 0 ? parseStyleIndex() : -1;
+                skippingCell = listener.skipsCell(columnIndex);
+                hasValue = false;
+                textLength = 0;
+                if (selfClosing) {
+                    nextColumnIndex = columnIndex + 1;
+                } else {
+                    inCell = true;
+                }
+            }
+            case VALUE -> {
+                if (!inCell) return false;
+                if (!inInlineString) textLength = 0;
+                hasValue = true;
+                capturing = !selfClosing && !skippingCell;
+            }
+            case INLINE_STRING -> {
+                if (!inCell) return false;
+                if (selfClosing) {
+                    hasValue = true;
+                } else {
+                    inInlineString = true;
+                }
+            }
+            case TEXT -> {
+                if (inInlineString) capturing = !selfClosing && !skippingCell;
+            }
+            case DIMENSION -> {
+                if (refLength > 0 && !inSheetData) listener.dimension(ascii(refValue, refLength));
+            }
+            default -> {
+                // not interpreted
+            }
+        }
+        return false;
+    }
+
+    private boolean endElement() throws IOException {
+        switch (elementCode()) {
+            case VALUE, TEXT -> capturing = false;
+            case INLINE_STRING -> {
+                if (inInlineString) {
+                    inInlineString = false;
+                    hasValue = true;
+                }
+            }
+            case CELL -> {
+                if (inCell) {
+                    inCell = false;
+                    inInlineString = false;
+                    capturing = false;
+                    if (hasValue && skippingCell) {
+                        listener.skippedCell(columnIndex);
+                    } else if (hasValue) {
+                        decodeText();
+                        listener.cell(columnIndex, cellType, styleIndex, value);
+                    }
+                    nextColumnIndex = columnIndex + 1;
+                }
+            }
+            case ROW -> {
+                if (inRow) return finishRow();
+            }
+            case SHEET_DATA -> inSheetData = false;
+            default -> {
+                // not interpreted
+            }
+        }
+        return false;
+    }
+
+    private boolean finishRow() {
+        inRow = false;
+        inCell = false;
+        listener.endRow(rowIndex);
+        nextRowIndex = rowIndex + 1;
+        return true;
+    }
+
+    /**
+     * Advances past the current row's {@code </row>}. Since {@code <} cannot occur in text or
+     * attribute values, only tags are looked at, and only end tags are named.
+     */
+    private void skipRowContent() throws IOException {
+        while (true) {
+            skipText();
+            if (read() < 0) throw truncated();
+            int b = read();
+            if (b == '/') {
+                int terminator = readName(read());
+                if (elementCode() == ROW) {
+                    if (terminator != '>') skipPast('>');
+                    return;
+                }
+            } else if (b == '!') {
+                markupDeclaration();
+            } else if (b == '?') {
+                skipProcessingInstruction();
+            } else if (b < 0) {
+                throw truncated();
+            }
+        }
+    }
+
+    private int elementCode() {
+        switch (nameLength) {
+            case 1:
+                if (name[0] == 'c') return CELL;
+                if (name[0] == 'v') return VALUE;
+                if (name[0] == 't') return TEXT;
+                return OTHER;
+            case 2:
+                return name[0] == 'i' && name[1] == 's' ? INLINE_STRING : OTHER;
+            case 3:
+                return name[0] == 'r' && name[1] == 'o' && name[2] == 'w' ? ROW : OTHER;
+            case 9:
+                if (equalsAscii(name, 9, "sheetData")) return SHEET_DATA;
+                return equalsAscii(name, 9, "dimension") ? DIMENSION : OTHER;
+            default:
+                return OTHER;
+        }
+    }
+
+    // ---- attribute values ----
+
+    private int parseRowNumber() {
+        int number = 0;
+        for (int i = 0; i < refLength; i++) {
+            int d = refValue[i] - '0';
+            if (d < 0 || d > 9 || i >= 10) {
+                throw new ExcelReadException("Invalid row number: " + ascii(refValue, refLength));
+            }
+            number = number * 10 + d;
+        }
+        return number;
+    }
+
+    private int parseColumnIndex() {
+        int colIdx = 0;
+        for (int i = 0; i < refLength; i++) {
+            int c = refValue[i];
+            if (c >= 'a' && c <= 'z') c -= 'a' - 'A';
+            if (c < 'A' || c > 'Z') break;
+            colIdx = colIdx * 26 + (c - 'A' + 1);
+            if (colIdx > ExcelReadSupport.EXCEL_MAX_COLUMNS) {
+                throw new ExcelReadException("Column index exceeds Excel maximum (XFD): " + ascii(refValue, refLength));
+            }
+        }
+        if (colIdx == 0) {
+            throw new ExcelReadException("Invalid cell reference: " + ascii(refValue, refLength));
+        }
+        return colIdx - 1;
+    }
+
+    private XlsxCellType parseCellType() {
+        if (typeLength == 1) {
+            switch (typeValue[0]) {
+                case 's': return XlsxCellType.SHARED_STRING;
+                case 'b': return XlsxCellType.BOOLEAN;
+                case 'e': return XlsxCellType.ERROR;
+                default: return XlsxCellType.NUMBER;
+            }
+        }
+        if (typeLength == 3 && equalsAscii(typeValue, 3, "str")) return XlsxCellType.FORMULA_STRING;
+        if (typeLength == 9 && equalsAscii(typeValue, 9, "inlineStr")) return XlsxCellType.INLINE_STRING;
+        return XlsxCellType.NUMBER;
+    }
+
+    private int parseStyleIndex() {
+        int index = 0;
+        for (int i = 0; i < styleLength; i++) {
+            int d = styleValue[i] - '0';
+            if (d < 0 || d > 9 || i >= 10) {
+                throw new ExcelReadException("Invalid style index: " + ascii(styleValue, styleLength));
+            }
+            index = index * 10 + d;
+        }
+        return index;
+    }
+
+    // ---- markup scanning ----
+
+    /**
+     * Reads a tag name starting with {@code b}, keeping only the local part (after any prefix).
+     *
+     * @return the byte that terminated the name
+     */
+    private int readName(int b) throws IOException {
+        nameLength = 0;
+        while (b >= 0 && b != '>' && b != '/' && !isWhitespace(b)) {
+            if (b == ':') {
+                nameLength = 0;
+            } else {
+                if (nameLength < MAX_NAME) name[nameLength] = (byte) b;
+                nameLength++;
+            }
+            b = read();
+        }
+        return b;
+    }
+
+    /**
+     * Consumes attributes up to the end of the start tag. When {@code capture} is set, the values of
+     * {@code r}, {@code t} and {@code s} (or a dimension's {@code ref}) are kept.
+     *
+     * @return whether the tag was self-closing
+     */
+    private boolean readAttributes(boolean capture) throws IOException {
+        while (true) {
+            int b = read();
+            if (b < 0) throw truncated();
+            if (b == '>') return false;
+            if (b == '/') {
+                if (read() != '>') throw malformed("expected '>'");
+                return true;
+            }
+            if (isWhitespace(b)) continue;
+
+            int attributeLength = 0;
+            do {
+                if (attributeLength < MAX_NAME) attributeName[attributeLength] = (byte) b;
+                attributeLength++;
+                b = read();
+            } while (b >= 0 && b != '=' && !isWhitespace(b));
+            while (isWhitespace(b)) b = read();
+            if (b != '=') throw malformed("attribute without value");
+            b = read();
+            while (isWhitespace(b)) b = read();
+            if (b != '"' && b != '\'') throw malformed("unquoted attribute value");
+            int quote = b;
+
+            byte[] target = null;
+            if (capture && attributeLength == 1) {
+                switch (attributeName[0]) {
+                    case 'r' -> target = refValue;
+                    case 't' -> target = typeValue;
+                    case 's' -> target = styleValue;
+                    default -> { }
+                }
+            } else if (capture && attributeLength == 3 && equalsAscii(attributeName, 3, "ref")) {
+                target = refValue;
+            }
+            int length = 0;
+            while ((b = read()) != quote) {
+                if (b < 0) throw truncated();
+                if (target != null && length < MAX_NAME) target[length] = (byte) b;
+                length++;
+            }
+            if (target == refValue) refLength = Math.min(length, MAX_NAME);
+            else if (target == typeValue) typeLength = Math.min(length, MAX_NAME);
+            else if (target == styleValue) styleLength = Math.min(length, MAX_NAME);
+        }
+    }
+
+    private void markupDeclaration() throws IOException {
+        int b = read();
+        if (b == '-') {
+            if (read() != '-') throw malformed("invalid comment");
+            skipComment();
+        } else if (b == '[') {
+            for (int i = 0; i < 6; i++) {
+                if (read() < 0) throw truncated();
+            }
+            readCData();
+        } else {
+            int depth = 0;
+            while (true) {
+                b = read();
+                if (b < 0) throw truncated();
+                if (b == '[') depth++;
+                else if (b == ']') depth--;
+                else if (b == '>' && depth <= 0) return;
+            }
+        }
+    }
+
+    private void skipComment() throws IOException {
+        int dashes = 0;
+        while (true) {
+            int b = read();
+            if (b < 0) throw truncated();
+            if (b == '>' && dashes >= 2) return;
+            dashes = b == '-' ? dashes + 1 : 0;
+        }
+    }
+
+    private void skipProcessingInstruction() throws IOException {
+        int previous = 0;
+        while (true) {
+            int b = read();
+            if (b < 0) throw truncated();
+            if (b == '>' && previous == '?') return;
+            previous = b;
+        }
+    }
+
+    /**
+     * Copies CDATA content into the text buffer. Since entity decoding happens later, literal
+     * ampersands are re-escaped so they survive decoding unchanged.
+     */
+    private void readCData() throws IOException {
+        int brackets = 0;
+        while (true) {
+            int b = read();
+            if (b < 0) throw truncated();
+            if (b == '>' && brackets >= 2) {
+                // only the last two brackets close the section, as in "a]]]>"
+                if (capturing) for (; brackets > 2; brackets--) appendText(']');
+                return;
+            }
+            if (b == ']') {
+                brackets++;
+                continue;
+            }
+            if (capturing) {
+                for (; brackets > 0; brackets--) appendText(']');
+                if (b == '&') {
+                    appendText('&');
+                    appendText('a');
+                    appendText('m');
+                    appendText('p');
+                    appendText(';');
+                } else {
+                    appendText(b);
+                }
+            }
+            brackets = 0;
+        }
+    }
+
+    private void skipPast(int terminator) throws IOException {
+        while (true) {
+            int b = read();
+            if (b < 0) throw truncated();
+            if (b == terminator) return;
+        }
+    }
+
+    private void skipText() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) return;
+            while (position < limit) {
+                if (buffer[position] == '<') return;
+                position++;
+            }
+        }
+    }
+
+    private void captureText() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) return;
+            int start = position;
+            while (position < limit && buffer[position] != '<') position++;
+            appendText(buffer, start, position - start);
+            if (position < limit) return;
+        }
+    }
+
+    // ---- text decoding ----
+
+    private void appendText(int b) {
+        if (textLength == text.length) text = Arrays.copyOf(text, text.length * 2);
+        text[textLength++] = (byte) b;
+    }
+
+    private void appendText(byte[] source, int offset, int length) {
+        if (textLength + length > text.length) {
+            text = Arrays.copyOf(text, Math.max(text.length * 2, textLength + length));
+        }
+        System.arraycopy(source, offset, text, textLength, length);
+        textLength += length;
+    }
+
+    /**
+     * Decodes the raw UTF-8 text bytes into {@link #value}, resolving entities and normalizing
+     * line breaks the way an XML parser would.
+     */
+    private void decodeText() {
+        StringBuilder out = value;
+        out.setLength(0);
+        byte[] bytes = text;
+        int length = textLength;
+        int i = 0;
+        while (i < length) {
+            int b = bytes[i];
+            if (b >= 0) {
+                if (b == '&') {
+                    i = appendEntity(i);
+                } else if (b == '\r') {
+                    out.append('\n');
+                    i += (i + 1 < length && bytes[i + 1] == '\n') ? 2 : 1;
+                } else {
+                    out.append((char) b);
+                    i++;
+                }
+                continue;
+            }
+            b &= 0xff;
+            if (b >= 0xC0 && b < 0xE0 && i + 1 < length) {
+                out.append((char) (((b & 0x1F) << 6) | (bytes[i + 1] & 0x3F)));
+                i += 2;
+            } else if (b >= 0xE0 && b < 0xF0 && i + 2 < length) {
+                out.append((char) (((b & 0x0F) << 12) | ((bytes[i + 1] & 0x3F) << 6) | (bytes[i + 2] & 0x3F)));
+                i += 3;
+            } else if (b >= 0xF0 && i + 3 < length) {
+                out.appendCodePoint(((b & 0x07) << 18) | ((bytes[i + 1] & 0x3F) << 12)
+                        | ((bytes[i + 2] & 0x3F) << 6) | (bytes[i + 3] & 0x3F));
+                i += 4;
+            } else {
+                out.append('\uFFFD');
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Appends the entity starting at {@code start} ({@code '&'}) and returns the index after it.
+     * Unknown entities are kept literally.
+     */
+    private int appendEntity(int start) {
+        int end = start + 1;
+        while (end < textLength && end - start <= 10 && text[end] != ';') end++;
+        if (end >= textLength || text[end] != ';') {
+            value.append('&');
+            return start + 1;
+        }
+        int length = end - start - 1;
+        int from = start + 1;
+        if (length > 1 && text[from] == '#') {
+            int codePoint = 0;
+            boolean hex = text[from + 1] == 'x';
+            int digits = from + (hex ? 2 : 1);
+            for (int i = digits; i < end; i++) {
+                int d = Character.digit(text[i], hex ? 16 : 10);
+                if (d < 0) {
+                    value.append('&');
+                    return start + 1;
+                }
+                codePoint = codePoint * (hex ? 16 : 10) + d;
+            }
+            // a reference without digits, such as &#x;, is malformed
+            if (digits < end && Character.isValidCodePoint(codePoint)) {
+                value.appendCodePoint(codePoint);
+                return end + 1;
+            }
+        } else if (length == 3 && equalsAscii(text, from, 3, "amp")) {
+            value.append('&');
+            return end + 1;
+        } else if (length == 2 && equalsAscii(text, from, 2, "lt")) {
+            value.append('<');
+            return end + 1;
+        } else if (length == 2 && equalsAscii(text, from, 2, "gt")) {
+            value.append('>');
+            return end + 1;
+        } else if (length == 4 && equalsAscii(text, from, 4, "quot")) {
+            value.append('"');
+            return end + 1;
+        } else if (length == 4 && equalsAscii(text, from, 4, "apos")) {
+            value.append('\'');
+            return end + 1;
+        }
+        value.append('&');
+        return start + 1;
+    }
+
+    // ---- buffer ----
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position++] & 0xff;
+    }
+
+    private boolean fill() throws IOException {
+        int n;
+        do {
+            n = input.read(buffer, 0, buffer.length);
+        } while (n == 0);
+        if (n < 0) return false;
+        position = 0;
+        limit = n;
+        return true;
+    }
+
+    private void checkEncoding() throws IOException {
+        if (!fill()) return;
+        if (limit >= 3 && (buffer[0] & 0xff) == 0xEF && (buffer[1] & 0xff) == 0xBB && (buffer[2] & 0xff) == 0xBF) {
+            position = 3;
+        } else if (limit >= 2 && ((buffer[0] & 0xff) == 0xFE || (buffer[0] & 0xff) == 0xFF || buffer[1] == 0)) {
+            throw new ExcelReadException("Native engine supports UTF-8 worksheet XML only; use ExcelReadEngine.POI");
+        }
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static boolean equalsAscii(byte[] bytes, int length, String expected) {
+        return equalsAscii(bytes, 0, length, expected);
+    }
+
+    private static boolean equalsAscii(byte[] bytes, int offset, int length, String expected) {
+        if (length != expected.length()) return false;
+        for (int i = 0; i < length; i++) {
+            if (bytes[offset + i] != expected.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static String ascii(byte[] bytes, int length) {
+        return new String(bytes, 0, Math.max(length, 0), StandardCharsets.ISO_8859_1);
+    }
+
+    private static ExcelReadException truncated() {
+        return new ExcelReadException("Unexpected end of worksheet XML");
+    }
+
+    private static ExcelReadException malformed(String detail) {
+        return new ExcelReadException("Malformed worksheet XML: " + detail);
+    }
+}
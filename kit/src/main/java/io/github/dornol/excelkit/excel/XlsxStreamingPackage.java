@@ -0,0 +1,289 @@
+package io.github.dornol.excelkit.excel;
+
+import io.github.dornol.excelkit.core.ReadSecurityException;
+import io.github.dornol.excelkit.core.TempResourceCreator;
+import org.apache.poi.openxml4j.util.ZipSecureFile;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.SharedStringsTable;
+import org.apache.poi.xssf.model.StylesTable;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads one worksheet of an xlsx package in a single forward pass over a {@link ZipInputStream}.
+ * <p>
+ * The workbook part, its relationships, styles and shared strings are parsed in memory as their
+ * entries go by. The selected worksheet is parsed straight from the zip stream when everything it
+ * depends on has already been seen; otherwise (for example when the shared strings entry follows
+ * the sheet) its inflated XML is spilled to a temporary file and parsed once the remaining entries
+ * have been read. Entry size and inflate-ratio limits follow {@link ZipSecureFile}.
+ *
+ * @author dhkim
+ */
+final class XlsxStreamingPackage {
+    private static final Logger log = LoggerFactory.getLogger(XlsxStreamingPackage.class);
+    /** Entries smaller than this are not subject to the inflate ratio check, as in POI. */
+    private static final long GRACE_ENTRY_SIZE = 100 * 1024;
+
+    @FunctionalInterface
+    interface SheetConsumer {
+        void accept(InputStream sheet, @Nullable StylesTable styles, SharedStrings sharedStrings) throws Exception;
+    }
+
+    private final Supplier<Path> spillDirectory;
+    private final int sharedStringsCacheSize;
+    private final Map<String, Path> spilled = new HashMap<>();
+    private String workbookPart = XlsxWorkbookIndex.DEFAULT_WORKBOOK_PART;
+    private byte @Nullable [] workbookXml;
+    private byte @Nullable [] workbookRels;
+    private @Nullable XlsxWorkbookIndex index;
+    private @Nullable StylesTable styles;
+    private @Nullable SharedStrings sharedStrings;
+    private long sharedStringsNanos;
+
+    /**
+     * @param spillDirectory         supplies the directory for spill files; only called when a spill is needed
+     * @param sharedStringsCacheSize decoded-string cache of a disk-backed shared strings table, or {@code 0}
+     *                               to keep shared strings on the heap
+     */
+    XlsxStreamingPackage(Supplier<Path> spillDirectory, int sharedStringsCacheSize) {
+        this.spillDirectory = spillDirectory;
+        this.sharedStringsCacheSize = sharedStringsCacheSize;
+    }
+
+    /**
+     * Reads the package and hands the selected worksheet to {@code consumer}. The input is not
+     * closed and is not read past the selected sheet when no spill was necessary.
+     */
+    void read(InputStream input, ExcelSheetNavigator.SheetSelector selector, SheetConsumer consumer) throws Exception {
+        CountingInputStream compressed = new CountingInputStream(input);
+        try {
+            ZipInputStream zip = new ZipInputStream(compressed);
+            String target = null;
+            for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                if (entry.isDirectory()) continue;
+                String name = XlsxWorkbookIndex.normalizePartName(entry.getName());
+                InputStream data = new GuardedEntryStream(zip, compressed, name);
+                if (name.equals("_rels/.rels")) {
+                    workbookPart = XlsxWorkbookIndex.officeDocumentPart(new ByteArrayInputStream(data.readAllBytes()));
+                } else if (name.equals(workbookPart)) {
+                    workbookXml = data.readAllBytes();
+                } else if (name.equals(XlsxWorkbookIndex.relationshipsPart(workbookPart))) {
+                    workbookRels = data.readAllBytes();
+                } else if (name.equals(stylesPart())) {
+                    StylesTable table = new StylesTable();
+                    table.readFrom(data);
+                    styles = table;
+                } else if (name.equals(sharedStringsPart())) {
+                    sharedStrings = loadSharedStrings(data);
+                } else if (isSheetCandidate(name)) {
+                    if (target == null) {
+                        // workbook order is not known yet; keep every sheet until it is
+                        spill(name, data);
+                    } else if (name.equals(target)) {
+                        if (dependenciesLoaded()) {
+                            consumer.accept(data, styles, sharedStringsOrEmpty());
+                            return;
+                        }
+                        spill(name, data);
+                    }
+                }
+                if (target == null && workbookXml != null && workbookRels != null) {
+                    target = resolveTarget(selector);
+                    discardSpillsExcept(target);
+                }
+            }
+
+            if (target == null) {
+                throw new ExcelReadException("Workbook part not found: " + workbookPart);
+            }
+            Path file = spilled.get(target);
+            if (file == null) {
+                throw new ExcelReadException("Worksheet part not found: " + target);
+            }
+            try (InputStream sheet = Files.newInputStream(file)) {
+                consumer.accept(sheet, styles, sharedStringsOrEmpty());
+            }
+        } finally {
+            deleteSpills();
+            if (sharedStrings instanceof XlsxMappedSharedStrings mapped) mapped.close();
+        }
+    }
+
+    /** Returns the time spent inflating and loading the shared strings table. */
+    long sharedStringsNanos() {
+        return sharedStringsNanos;
+    }
+
+    private SharedStrings loadSharedStrings(InputStream data) throws Exception {
+        long started = System.nanoTime();
+        try {
+            if (sharedStringsCacheSize > 0) {
+                return XlsxMappedSharedStrings.load(data, spillDirectory.get(), sharedStringsCacheSize);
+            }
+            SharedStringsTable table = new SharedStringsTable();
+            table.readFrom(data);
+            return table;
+        } finally {
+            sharedStringsNanos += System.nanoTime() - started;
+        }
+    }
+
+    private String resolveTarget(ExcelSheetNavigator.SheetSelector selector) throws Exception {
+        XlsxWorkbookIndex index = XlsxWorkbookIndex.parse(workbookPart,
+                new ByteArrayInputStream(Objects.requireNonNull(workbookXml)),
+                new ByteArrayInputStream(Objects.requireNonNull(workbookRels)));
+        this.index = index;
+        return selector.select(index).partName();
+    }
+
+    private void discardSpillsExcept(String target) {
+        spilled.entrySet().removeIf(entry -> {
+            if (entry.getKey().equals(target)) return false;
+            delete(entry.getValue());
+            return true;
+        });
+    }
+
+    private boolean isSheetCandidate(String name) {
+        if (index != null) return index.isSheetPart(name);
+        return (name.startsWith("xl/worksheets/") || name.startsWith("xl/chartsheets/")
+                || name.startsWith("xl/macrosheets/")) && name.endsWith(".xml") && !name.contains("/_rels/");
+    }
+
+    /** Styles and shared strings are required before parsing; absent parts only count once the relationships are known. */
+    private boolean dependenciesLoaded() {
+        if (index == null) return false;
+        return (index.stylesPart() == null || styles != null)
+                && (index.sharedStringsPart() == null || sharedStrings != null);
+    }
+
+    private String stylesPart() {
+        if (index != null) return index.stylesPart() == null ? "" : index.stylesPart();
+        return "xl/styles.xml";
+    }
+
+    private String sharedStringsPart() {
+        if (index != null) return index.sharedStringsPart() == null ? "" : index.sharedStringsPart();
+        return "xl/sharedStrings.xml";
+    }
+
+    private SharedStrings sharedStringsOrEmpty() {
+        return sharedStrings != null ? sharedStrings : new SharedStringsTable();
+    }
+
+    private void spill(String name, InputStream data) throws IOException {
+        Path file = TempResourceCreator.createTempFile(spillDirectory.get(), UUID.randomUUID().toString(), ".xml");
+        spilled.put(name, file);
+        try (OutputStream out = Files.newOutputStream(file)) {
+            data.transferTo(out);
+        }
+    }
+
+    private void deleteSpills() {
+        spilled.values().forEach(XlsxStreamingPackage::delete);
+        spilled.clear();
+    }
+
+    private static void delete(@Nullable Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete spill file: {}", file, e);
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    /** Counts bytes read from the compressed source. */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) { super(in); }
+
+        long count() { return count; }
+
+        @Override public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) count++;
+            return value;
+        }
+
+        @Override public int read(byte[] bytes, int offset, int length) throws IOException {
+            int read = super.read(bytes, offset, length);
+            if (read > 0) count += read;
+            return read;
+        }
+
+        @Override public void close() { }
+    }
+
+    /**
+     * Entry stream that is never closed by parsers and enforces {@link ZipSecureFile}'s maximum
+     * entry size and minimum inflate ratio while inflating.
+     */
+    private static final class GuardedEntryStream extends FilterInputStream {
+        private final CountingInputStream compressed;
+        private final long compressedStart;
+        private final String name;
+        private long inflated;
+
+        GuardedEntryStream(ZipInputStream zip, CountingInputStream compressed, String name) {
+            super(zip);
+            this.compressed = compressed;
+            this.compressedStart = compressed.count();
+            this.name = name;
+        }
+
+        @Override public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) inflated(1);
+            return value;
+        }
+
+        @Override public int read(byte[] bytes, int offset, int length) throws IOException {
+            int read = super.read(bytes, offset, length);
+            if (read > 0) inflated(read);
+            return read;
+        }
+
+        @Override public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            if (skipped > 0) inflated(skipped);
+            return skipped;
+        }
+
+        private void inflated(long amount) {
+            inflated += amount;
+            if (inflated > ZipSecureFile.getMaxEntrySize()) {
+                throw new ReadSecurityException(ReadSecurityException.Reason.ENTRY_SIZE,
+                        "Zip entry exceeds maximum size: " + name);
+            }
+            if (inflated > GRACE_ENTRY_SIZE) {
+                double ratio = (double) (compressed.count() - compressedStart) / inflated;
+                if (ratio < ZipSecureFile.getMinInflateRatio()) {
+                    throw new ReadSecurityException(ReadSecurityException.Reason.COMPRESSION_RATIO,
+                            "Zip entry exceeds compression ratio limit: " + name);
+                }
+            }
+        }
+
+        @Override public void close() { }
+    }
+}
@@ -0,0 +1,264 @@
+package io.github.dornol.excelkit.excel;
+
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Turns raw worksheet cell values into the display strings produced by POI's
+ * {@code XSSFSheetXMLHandler}, so that {@link ExcelReadEngine#NATIVE} and
+ * {@link ExcelReadEngine#POI} yield identical results.
+ * <p>
+ * Number format lookups are cached per style index; the {@link DataFormatter} is not thread-safe,
+ * so one instance serves a single read.
+ *
+ * @author dhkim
+ */
+final class XlsxValueFormatter {
+    private static final int UNRESOLVED = Integer.MIN_VALUE;
+    private static final int NO_STYLE = -1;
+
+    private final @Nullable StylesTable styles;
+    private final SharedStrings sharedStrings;
+    private final DataFormatter formatter = new DataFormatter();
+    private int[] formatIndexes = new int[0];
+    private @Nullable String[] formatStrings = new String[0];
+    private boolean[] dateFormats = new boolean[0];
+
+    XlsxValueFormatter(@Nullable StylesTable styles, SharedStrings sharedStrings) {
+        this.styles = styles;
+        this.sharedStrings = sharedStrings;
+    }
+
+    synchronized @Nullable String format(XlsxCellType type, int styleIndex, CharSequence raw) {
+        return switch (type) {
+            case BOOLEAN -> raw.length() > 0 && raw.charAt(0) == '0' ? "FALSE" : "TRUE";
+            case ERROR -> "ERROR:" + raw;
+            case FORMULA_STRING -> raw.toString();
+            case INLINE_STRING -> decodeEscapes(raw.toString());
+            case SHARED_STRING -> sharedString(raw);
+            case NUMBER -> number(styleIndex, raw);
+        };
+    }
+
+    private @Nullable String sharedString(CharSequence raw) {
+        int index = parseIndex(raw);
+        return index < 0 ? null : sharedString(index);
+    }
+
+    String sharedString(int index) {
+        if (sharedStrings instanceof XlsxMappedSharedStrings mapped) return mapped.getString(index);
+        return sharedStrings.getItemAt(index).getString();
+    }
+
+    private String number(int styleIndex, CharSequence raw) {
+        String n = raw.toString();
+        if (n.isEmpty() || !hasNumberFormat(styleIndex)) return n;
+        return formatNumber(Double.parseDouble(n), styleIndex);
+    }
+
+    /**
+     * Returns whether numbers with the given {@code s} attribute are run through the DataFormatter;
+     * otherwise the raw value text is used as-is.
+     */
+    synchronized boolean hasNumberFormat(int styleIndex) {
+        int style = resolveStyle(styleIndex);
+        return style != NO_STYLE && formatStrings[style] != null;
+    }
+
+    synchronized boolean isDateFormat(int styleIndex) {
+        int style = resolveStyle(styleIndex);
+        return style != NO_STYLE && dateFormats[style];
+    }
+
+    /**
+     * Formats a stored number exactly like {@code XSSFSheetXMLHandler}. Synchronized because
+     * typed cells may format their text lazily from other threads.
+     */
+    synchronized String formatNumber(double value, int styleIndex) {
+        int style = resolveStyle(styleIndex);
+        return formatter.formatRawCellContents(value, formatIndexes[style], formatStrings[style]);
+    }
+
+    /**
+     * Resolves the effective style index (cells without {@code s} use style 0 when styles exist)
+     * and fills the format cache for it.
+     */
+    private int resolveStyle(int styleIndex) {
+        if (styles == null) return NO_STYLE;
+        int style = styleIndex;
+        if (style < 0) {
+            if (styles.getNumCellStyles() <= 0) return NO_STYLE;
+            style = 0;
+        }
+        if (style >= formatIndexes.length) {
+            int size = Math.max(style + 1, formatIndexes.length * 2);
+            int from = formatIndexes.length;
+            formatIndexes = Arrays.copyOf(formatIndexes, size);
+            formatStrings = Arrays.copyOf(formatStrings, size);
+            dateFormats = Arrays.copyOf(dateFormats, size);
+            Arrays.fill(formatIndexes, from, size, UNRESOLVED);
+        }
+        if (formatIndexes[style] == UNRESOLVED) {
+            XSSFCellStyle cellStyle = styles.getStyleAt(style);
+            if (cellStyle == null) {
+                formatIndexes[style] = NO_STYLE;
+                formatStrings[style] = null;
+            } else {
+                int formatIndex = cellStyle.getDataFormat();
+                String formatString = cellStyle.getDataFormatString();
+                if (formatString == null) {
+                    formatString = BuiltinFormats.getBuiltinFormat(formatIndex);
+                }
+                formatIndexes[style] = formatIndex;
+                formatStrings[style] = formatString;
+                dateFormats[style] = formatString != null && DateUtil.isADateFormat(formatIndex, formatString);
+            }
+        }
+        return style;
+    }
+
+    /**
+     * Parses a non-negative decimal index such as an SST reference.
+     *
+     * @return the index, or {@code -1} if the text is empty or not a valid index
+     */
+    static int parseIndex(CharSequence raw) {
+        int length = raw.length();
+        if (length == 0 || length > 10) return -1;
+        long index = 0;
+        for (int i = 0; i < length; i++) {
+            int d = raw.charAt(i) - '0';
+            if (d < 0 || d > 9) return -1;
+            index = index * 10 + d;
+        }
+        return index > Integer.MAX_VALUE ? -1 : (int) index;
+    }
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Parses a worksheet number without allocating. Values with at most 15 significant digits and a
+     * decimal exponent within ±22 are computed with a single correctly rounded multiplication or
+     * division; anything else falls back to {@link Double#parseDouble(String)}, so the result is
+     * always identical to it.
+     */
+    static double parseDouble(CharSequence raw) {
+        int length = raw.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (raw.charAt(0) == '-' || raw.charAt(0) == '+')) {
+            negative = raw.charAt(0) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean digits = false;
+        boolean fraction = false;
+        for (; i < length; i++) {
+            char c = raw.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+                if (mantissa == 0 && c == '0') {
+                    if (fraction) exponent--;
+                    continue;
+                }
+                if (++significantDigits > 15) return Double.parseDouble(raw.toString());
+                mantissa = mantissa * 10 + (c - '0');
+                if (fraction) exponent--;
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (i < length) {
+            char c = raw.charAt(i);
+            if (!digits || (c != 'e' && c != 'E')) return Double.parseDouble(raw.toString());
+            i++;
+            boolean negativeExponent = false;
+            if (i < length && (raw.charAt(i) == '-' || raw.charAt(i) == '+')) {
+                negativeExponent = raw.charAt(i) == '-';
+                i++;
+            }
+            if (i == length || length - i > 4) return Double.parseDouble(raw.toString());
+            int explicit = 0;
+            for (; i < length; i++) {
+                int d = raw.charAt(i) - '0';
+                if (d < 0 || d > 9) return Double.parseDouble(raw.toString());
+                explicit = explicit * 10 + d;
+            }
+            exponent += negativeExponent ? -explicit : explicit;
+        }
+        if (!digits) return Double.parseDouble(raw.toString());
+        double value;
+        if (mantissa == 0) {
+            value = 0;
+        } else if (exponent == 0) {
+            value = mantissa;
+        } else if (exponent > 0 && exponent <= 22) {
+            value = mantissa * POWERS_OF_TEN[exponent];
+        } else if (exponent < 0 && exponent >= -22) {
+            value = mantissa / POWERS_OF_TEN[-exponent];
+        } else {
+            return Double.parseDouble(raw.toString());
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Decodes OOXML {@code _xHHHH_} character escapes the same way {@code XSSFRichTextString} does.
+     */
+    static String decodeEscapes(String value) {
+        int start = value.indexOf("_x");
+        if (start < 0) return value;
+        StringBuilder decoded = null;
+        int copied = 0;
+        for (int i = start; i >= 0 && i + 7 <= value.length(); i = value.indexOf("_x", i + 1)) {
+            if (value.charAt(i + 6) != '_' || !isHex(value, i + 2, i + 6)) continue;
+            if (decoded == null) decoded = new StringBuilder(value.length());
+            decoded.append(value, copied, i).append((char) Integer.parseInt(value.substring(i + 2, i + 6), 16));
+            copied = i + 7;
+            i += 6;
+        }
+        if (decoded == null) return value;
+        return decoded.append(value, copied, value.length()).toString();
+    }
+
+    /**
+     * Escapes every {@code _xHHHH_} sequence of already decoded text as {@code _x005F_xHHHH_}, so
+     * that {@link #decodeEscapes} and {@code XSSFRichTextString} give the text back unchanged.
+     */
+    static String encodeEscapes(String value) {
+        int start = value.indexOf("_x");
+        if (start < 0) return value;
+        StringBuilder encoded = null;
+        int copied = 0;
+        for (int i = start; i >= 0 && i + 7 <= value.length(); i = value.indexOf("_x", i + 1)) {
+            if (value.charAt(i + 6) != '_' || !isHex(value, i + 2, i + 6)) continue;
+            if (encoded == null) encoded = new StringBuilder(value.length() + 7);
+            encoded.append(value, copied, i).append("_x005F");
+            copied = i;
+        }
+        if (encoded == null) return value;
+        return encoded.append(value, copied, value.length()).toString();
+    }
+
+    private static boolean isHex(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F')) return false;
+        }
+        return true;
+    }
+}
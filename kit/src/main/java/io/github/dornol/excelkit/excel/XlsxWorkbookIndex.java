@@ -0,0 +1,200 @@
+package io.github.dornol.excelkit.excel;
+
+import org.apache.poi.util.XMLHelper;
+import org.jspecify.annotations.Nullable;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sheet list and part names taken from {@code workbook.xml} and its relationships, without
+ * opening an {@code OPCPackage}.
+ * <p>
+ * Sheets are listed in workbook order and filtered the same way as POI's
+ * {@code XSSFReader.SheetIterator}, so indices match the POI read path.
+ *
+ * @author dhkim
+ */
+final class XlsxWorkbookIndex {
+    static final String DEFAULT_WORKBOOK_PART = "xl/workbook.xml";
+    private static final String RELATIONSHIPS_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    /** A sheet entry from {@code <sheets>}: its display name and resolved part name. */
+    record SheetRef(String name, String partName) {}
+
+    private final List<SheetRef> sheets;
+    private final @Nullable String stylesPart;
+    private final @Nullable String sharedStringsPart;
+
+    private XlsxWorkbookIndex(List<SheetRef> sheets, @Nullable String stylesPart, @Nullable String sharedStringsPart) {
+        this.sheets = List.copyOf(sheets);
+        this.stylesPart = stylesPart;
+        this.sharedStringsPart = sharedStringsPart;
+    }
+
+    List<SheetRef> sheets() { return sheets; }
+
+    int sheetCount() { return sheets.size(); }
+
+    @Nullable String stylesPart() { return stylesPart; }
+
+    @Nullable String sharedStringsPart() { return sharedStringsPart; }
+
+    /** Returns the sheet at {@code index} in workbook order, or {@code null}. */
+    @Nullable SheetRef sheet(int index) {
+        return index >= 0 && index < sheets.size() ? sheets.get(index) : null;
+    }
+
+    /** Returns the index of the sheet with the given name (case-insensitive, as in Excel), or -1. */
+    int indexOf(String sheetName) {
+        for (int i = 0; i < sheets.size(); i++) {
+            if (sheets.get(i).name().equalsIgnoreCase(sheetName)) return i;
+        }
+        return -1;
+    }
+
+    boolean isSheetPart(String partName) {
+        for (SheetRef sheet : sheets) {
+            if (sheet.partName().equals(partName)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Builds an index over sheets listed outside a package, such as the BoundSheet records of a
+     * legacy {@code .xls} workbook, whose sheets have no part names.
+     */
+    static XlsxWorkbookIndex of(List<SheetRef> sheets) {
+        return new XlsxWorkbookIndex(sheets, null, null);
+    }
+
+    /**
+     * Builds the index from the workbook part and its relationships part.
+     *
+     * @param workbookPart  the workbook part name, used to resolve relative targets
+     * @param workbookXml   the workbook part content
+     * @param relationships the workbook relationships part content
+     */
+    static XlsxWorkbookIndex parse(String workbookPart, InputStream workbookXml, InputStream relationships)
+            throws Exception {
+        return parse(workbookXml, parseRelationships(workbookPart, relationships));
+    }
+
+    /**
+     * Builds the index from the workbook part and relationships already resolved to part names,
+     * keyed by relationship id.
+     */
+    static XlsxWorkbookIndex parse(InputStream workbookXml, Map<String, Relationship> rels)
+            throws Exception {
+        String styles = null;
+        String sharedStrings = null;
+        for (Relationship rel : rels.values()) {
+            if (rel.type().endsWith("/styles")) styles = rel.target();
+            else if (rel.type().endsWith("/sharedStrings")) sharedStrings = rel.target();
+        }
+
+        List<SheetRef> sheets = new ArrayList<>();
+        parse(workbookXml, new DefaultHandler() {
+            @Override
+            public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                if (!"sheet".equals(localName(localName, qName))) return;
+                Relationship rel = rels.get(relationshipId(attributes));
+                if (rel != null && isSheetRelationship(rel.type())) {
+                    String name = attributes.getValue("name");
+                    sheets.add(new SheetRef(name == null ? "" : name, rel.target()));
+                }
+            }
+        });
+        return new XlsxWorkbookIndex(sheets, styles, sharedStrings);
+    }
+
+    /**
+     * Returns the workbook part named by the package relationships ({@code _rels/.rels}).
+     */
+    static String officeDocumentPart(InputStream packageRelationships) throws Exception {
+        for (Relationship rel : parseRelationships("", packageRelationships).values()) {
+            if (rel.type().endsWith("/officeDocument")) return rel.target();
+        }
+        return DEFAULT_WORKBOOK_PART;
+    }
+
+    /** Returns the relationships part name for a part, e.g. {@code xl/_rels/workbook.xml.rels}. */
+    static String relationshipsPart(String partName) {
+        int slash = partName.lastIndexOf('/');
+        return partName.substring(0, slash + 1) + "_rels/" + partName.substring(slash + 1) + ".rels";
+    }
+
+    /** Normalizes a zip entry name to a part name without a leading slash. */
+    static String normalizePartName(String name) {
+        String normalized = name.replace('\\', '/');
+        return normalized.startsWith("/") ? normalized.substring(1) : normalized;
+    }
+
+    private static boolean isSheetRelationship(String type) {
+        return type.endsWith("/worksheet") || type.endsWith("/chartsheet") || type.endsWith("/xlMacrosheet");
+    }
+
+    /** An internal relationship: its type and target part name. */
+    record Relationship(String type, String target) {}
+
+    private static Map<String, Relationship> parseRelationships(String sourcePart, InputStream input) throws Exception {
+        Map<String, Relationship> rels = new HashMap<>();
+        parse(input, new DefaultHandler() {
+            @Override
+            public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                if (!"Relationship".equals(localName(localName, qName))) return;
+                String id = attributes.getValue("Id");
+                String type = attributes.getValue("Type");
+                String target = attributes.getValue("Target");
+                if (id == null || type == null || target == null
+                        || "External".equalsIgnoreCase(attributes.getValue("TargetMode"))) return;
+                rels.put(id, new Relationship(type, resolve(sourcePart, target)));
+            }
+        });
+        return rels;
+    }
+
+    /** Resolves a relationship target against the directory of its source part. */
+    private static String resolve(String sourcePart, String target) {
+        if (target.startsWith("/")) return normalizePartName(target);
+        String base = sourcePart.substring(0, sourcePart.lastIndexOf('/') + 1);
+        List<String> segments = new ArrayList<>();
+        for (String segment : (base + target).split("/")) {
+            if (segment.isEmpty() || segment.equals(".")) continue;
+            if (segment.equals("..")) {
+                if (!segments.isEmpty()) segments.remove(segments.size() - 1);
+            } else {
+                segments.add(segment);
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    private static @Nullable String relationshipId(Attributes attributes) {
+        String id = attributes.getValue(RELATIONSHIPS_NS, "id");
+        if (id != null) return id;
+        for (int i = 0; i < attributes.getLength(); i++) {
+            if (attributes.getQName(i).endsWith(":id")) return attributes.getValue(i);
+        }
+        return null;
+    }
+
+    private static String localName(String localName, String qName) {
+        if (localName != null && !localName.isEmpty()) return localName;
+        int colon = qName.indexOf(':');
+        return colon < 0 ? qName : qName.substring(colon + 1);
+    }
+
+    private static void parse(InputStream input, DefaultHandler handler) throws Exception {
+        XMLReader reader = XMLHelper.newXMLReader();
+        reader.setContentHandler(handler);
+        reader.parse(new InputSource(input));
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.dornol.excelkit.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compiled text conversions shared by the cells of a read.
+ */
+class CellConversionContextTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "-0.0", "1.0", "5.", ".5", "-12.50", "007", "1,234.56", "$1,000", "12%",
+            " 42 ", "12abc", "1E5", "3.14159265358979323846", "9223372036854775807", "123456789012345678901",
+            "1.2.3", "+5", "-", "(5)"})
+    void number_matchesNumberFormat(String text) {
+        for (Locale locale : List.of(Locale.US, Locale.GERMANY, Locale.FRANCE, Locale.KOREA)) {
+            CellConversionContext context = CellConversionContext.of(locale, List.of(), List.of());
+            Object expected = numberFormat(text, locale);
+            Object actual;
+            try {
+                actual = context.number(text);
+            } catch (ParseException e) {
+                actual = "unparseable";
+            }
+            assertEquals(expected, actual, locale + " " + text);
+            if (expected != null) assertEquals(expected.getClass(), actual.getClass(), locale + " " + text);
+        }
+    }
+
+    @Test
+    void decimalText_normalizesSeparators() {
+        CellConversionContext german = CellConversionContext.of(Locale.GERMANY, List.of(), List.of());
+        assertEquals("1234.56", german.decimalText("1.234,56 €"));
+    }
+
+    @Test
+    void dates_keepFirstMatchOrder() {
+        CellConversionContext context = CellConversionContext.of(Locale.US,
+                List.of(DateTimeFormatter.ofPattern("dd/MM/yyyy"), DateTimeFormatter.ofPattern("MM/dd/yyyy")),
+                List.of(DateTimeFormatter.ofPattern("yyyy-MM-dd[ HH:mm]")));
+        assertEquals(LocalDate.of(2024, 12, 25), context.date("12/25/2024"));
+        assertEquals(LocalDate.of(2024, 2, 1), context.date("01/02/2024"));
+        assertEquals(LocalDate.of(2024, 3, 5), context.date("2024-03-05"));
+        assertEquals(LocalDateTime.of(2024, 3, 5, 9, 30), context.dateTime("2024-03-05 09:30"));
+        assertThrows(DateTimeParseException.class, () -> context.dateTime("05.03.2024"));
+        assertThrows(DateTimeParseException.class, () -> context.date("31/31/2024"));
+    }
+
+    @Test
+    void config_sharesOneContextAcrossCells() {
+        CellConversionConfig config = CellConversionConfig.builder().locale(Locale.GERMANY)
+                .addDateFormat("dd.MM.yyyy").build();
+        assertSame(config.context(), config.context());
+        assertEquals(1234.5, new CellData(0, "1.234,5", config).asDouble());
+        assertEquals(LocalDate.of(2024, 12, 25), new CellData(0, "25.12.2024", config).asLocalDate());
+        assertEquals(1234.5, new CellData(0, "1,234.5", config).asNumber(Locale.US));
+    }
+
+    private static Object numberFormat(String text, Locale locale) {
+        String cleaned = text.replace("\u00A0", " ").replaceAll("[$₩€%원]", "").replace(" ", "").trim();
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        if (symbols.getGroupingSeparator() != symbols.getDecimalSeparator()) {
+            cleaned = cleaned.replace(String.valueOf(symbols.getGroupingSeparator()), "");
+        }
+        try {
+            return NumberFormat.getNumberInstance(locale).parse(cleaned);
+        } catch (ParseException e) {
+            return "unparseable";
+        }
+    }
+}
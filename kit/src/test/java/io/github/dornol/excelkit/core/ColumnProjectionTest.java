@@ -0,0 +1,154 @@
+package io.github.dornol.excelkit.core;
+
+import io.github.dornol.excelkit.csv.CsvReader;
+import io.github.dornol.excelkit.excel.ExcelReadEngine;
+import io.github.dornol.excelkit.excel.ExcelReader;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Column projection pushed down into the Excel and CSV parsers.
+ */
+class ColumnProjectionTest {
+
+    @Test
+    void excelForMap_readsOnlySelectedColumns() throws IOException {
+        byte[] file = workbook();
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            List<ReadResult<Map<String, String>>> results = new ArrayList<>();
+            ExcelReader.forMap("Name", "Age").engine(engine).read(new ByteArrayInputStream(file), results::add);
+            assertEquals(List.of(Map.of("Name", "kim", "Age", "30"), Map.of("Name", "lee", "Age", "41")),
+                    results.stream().map(ReadResult::data).toList(), engine.name());
+            assertEquals(List.of("kim", "kim@example.com", "30", "a"), results.get(0).rawValues(), engine.name());
+        }
+    }
+
+    @Test
+    void excelSetterMode_matchesUnprojectedValues() throws IOException {
+        byte[] file = workbook();
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            List<ReadResult<Person>> results = new ArrayList<>();
+            new ExcelReader<>(Person::new, null).engine(engine)
+                    .column("Email", (p, cell) -> p.email = cell.asString())
+                    .read(new ByteArrayInputStream(file), results::add);
+            assertEquals(List.of("kim@example.com", "lee@example.com"),
+                    results.stream().map(r -> r.data().email).toList(), engine.name());
+            assertEquals(List.of("lee", "lee@example.com", "41", "b"), results.get(1).rawValues(), engine.name());
+        }
+    }
+
+    @Test
+    void excelSkipBlankRows_stillSeesUnselectedColumns() throws IOException {
+        byte[] file = workbook();
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            List<Map<String, String>> rows = new ArrayList<>();
+            ExcelReader.forMap("Name").engine(engine).skipBlankRows()
+                    .read(new ByteArrayInputStream(withNoteOnlyRow(file)), r -> rows.add(r.data()));
+            assertEquals(3, rows.size(), engine.name());
+            assertEquals("", rows.get(2).get("Name"), engine.name());
+        }
+    }
+
+    @Test
+    void excelNative_formatsSkippedColumnsWhileTheSheetIsRead() throws IOException {
+        byte[] file = rewriteSheet(workbook(), xml -> xml.replaceAll("(<c r=\"D[23]\"[^>]*><v>)\\d+(</v>)", "$1999$2"));
+        List<ReadResult<Map<String, String>>> results = new ArrayList<>();
+        ExcelReader.forMap("Name", "Age").engine(ExcelReadEngine.NATIVE).captureRawValues(false)
+                .read(new ByteArrayInputStream(file), results::add);
+        assertEquals(List.of(Map.of("Name", "kim", "Age", "30"), Map.of("Name", "lee", "Age", "41")),
+                results.stream().map(ReadResult::data).toList());
+
+        // captured raw values are plain text by the time the result is delivered
+        assertThrows(RuntimeException.class, () -> ExcelReader.forMap("Name", "Age").engine(ExcelReadEngine.NATIVE)
+                .read(new ByteArrayInputStream(file), r -> { }));
+    }
+
+    @Test
+    void csvForMap_readsOnlySelectedColumns() {
+        byte[] csv = "Name,Email,Age,Note\nkim,kim@example.com,30,x\nlee,lee@example.com,41,y\n"
+                .getBytes(StandardCharsets.UTF_8);
+        List<ReadResult<Map<String, String>>> results = new ArrayList<>();
+        CsvReader.forMap("Age").read(new ByteArrayInputStream(csv), results::add);
+        assertEquals(List.of(Map.of("Age", "30"), Map.of("Age", "41")),
+                results.stream().map(ReadResult::data).toList());
+        assertEquals(List.of("kim", "kim@example.com", "30", "x"), results.get(0).rawValues());
+    }
+
+    @Test
+    void rowData_treatsSkippedCellsAsEmpty() {
+        RowData row = new RowData(Arrays.asList(new CellData(0, "a"), null), List.of("A", "B"),
+                Map.of("A", 0, "B", 1));
+        assertEquals("a", row.get("A").asString());
+        assertTrue(row.get("B").isEmpty());
+    }
+
+    /** Rewrites the first worksheet's XML, here to point cells at shared strings that do not exist. */
+    private static byte[] rewriteSheet(byte[] file, UnaryOperator<String> rewrite) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(file));
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (ZipEntry entry; (entry = in.getNextEntry()) != null; ) {
+                byte[] data = in.readAllBytes();
+                if (entry.getName().equals("xl/worksheets/sheet1.xml")) {
+                    data = rewrite.apply(new String(data, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+                }
+                zip.putNextEntry(new ZipEntry(entry.getName()));
+                zip.write(data);
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] withNoteOnlyRow(byte[] file) throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(new ByteArrayInputStream(file));
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            wb.getSheetAt(0).createRow(3).createCell(3).setCellValue("note only");
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static byte[] workbook() throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = wb.createSheet("data");
+            Row header = sheet.createRow(0);
+            String[] headers = {"Name", "Email", "Age", "Note"};
+            for (int i = 0; i < headers.length; i++) header.createCell(i).setCellValue(headers[i]);
+            Object[][] data = {{"kim", "kim@example.com", 30, "a"}, {"lee", "lee@example.com", 41, "b"}};
+            for (int r = 0; r < data.length; r++) {
+                Row row = sheet.createRow(r + 1);
+                for (int c = 0; c < data[r].length; c++) {
+                    if (data[r][c] instanceof Integer number) {
+                        row.createCell(c).setCellValue(number);
+                    } else {
+                        row.createCell(c).setCellValue((String) data[r][c]);
+                    }
+                }
+            }
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    static class Person {
+        String email;
+    }
+}
@@ -177,7 +177,7 @@ class NextApiTest {
         assertEquals(StandardCharsets.UTF_16LE, result.charset());
         assertEquals(';', result.delimiter());
         assertTrue(TabularFileType.XLSX.isReadable());
-        assertFalse(TabularFileType.XLS.isReadable());
+        assertTrue(TabularFileType.XLS.isReadable());
     }
 
     @Test void rolloverCreatesUniqueStructuredTables() throws Exception {
@@ -0,0 +1,142 @@
+package io.github.dornol.excelkit.core;
+
+import io.github.dornol.excelkit.csv.CsvReader;
+import io.github.dornol.excelkit.excel.ExcelReadEngine;
+import io.github.dornol.excelkit.excel.ExcelReader;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Row mapping and validation on a worker pool via {@link AbstractReader#parallelMapping(int)}.
+ */
+class ParallelMappingTest {
+    private static final int ROWS = 500;
+
+    @Test
+    void excel_orderedMatchesSequentialRead() throws IOException {
+        byte[] file = workbook();
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            List<Map<String, String>> expected = new ArrayList<>();
+            ExcelReader.forMap().engine(engine).read(new ByteArrayInputStream(file), r -> expected.add(r.data()));
+            List<Map<String, String>> actual = new ArrayList<>();
+            ExcelReader.forMap().engine(engine).parallelMapping(4)
+                    .read(new ByteArrayInputStream(file), r -> actual.add(r.data()));
+            assertEquals(ROWS, actual.size(), engine.name());
+            assertEquals(expected, actual, engine.name());
+        }
+    }
+
+    @Test
+    void excel_setterModeKeepsFileRowNumbers() throws IOException {
+        byte[] file = workbook();
+        List<ReadResult<Item>> results = new ArrayList<>();
+        new ExcelReader<>(Item::new, null).parallelMapping(new ParallelMapping(3, 3, true))
+                .column("Name", (item, cell) -> item.name = cell.asString())
+                .read(new ByteArrayInputStream(file), results::add);
+        assertEquals(ROWS, results.size());
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(i + 2L, results.get(i).fileRowNum());
+            assertEquals("row" + (i + 1), results.get(i).data().name);
+        }
+    }
+
+    @Test
+    void csv_orderedMatchesSequentialRead() {
+        byte[] csv = csv();
+        List<String> expected = new ArrayList<>();
+        new CsvReader<>(Item::new, null).column((item, cell) -> item.name = cell.asString())
+                .read(new ByteArrayInputStream(csv), r -> expected.add(r.data().name));
+        List<String> actual = new ArrayList<>();
+        new CsvReader<>(Item::new, null).parallelMapping(4).column((item, cell) -> item.name = cell.asString())
+                .read(new ByteArrayInputStream(csv), r -> actual.add(r.data().name));
+        assertEquals(ROWS, actual.size());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void unordered_deliversEveryRowOnce() {
+        List<Long> rows = new ArrayList<>();
+        CsvReader.forMap().parallelMapping(ParallelMapping.of(4).unordered())
+                .read(new ByteArrayInputStream(csv()), r -> rows.add(r.fileRowNum()));
+        assertEquals(LongStream.rangeClosed(2, ROWS + 1).boxed().toList(), rows.stream().sorted().toList());
+    }
+
+    @Test
+    void maxErrors_stillAbortsRead() {
+        List<ReadResult<String>> results = new ArrayList<>();
+        ReadAbortException e = assertThrows(ReadAbortException.class, () -> CsvReader.<String>mapping(row -> {
+                    String name = row.get(0).asString();
+                    if (name.endsWith("0")) throw new IllegalArgumentException("bad " + name);
+                    return name;
+                }).parallelMapping(4).maxErrors(2)
+                .read(new ByteArrayInputStream(csv()), results::add));
+        assertEquals(ReadAbortReason.MAX_ERRORS_EXCEEDED, e.reason());
+        assertEquals(List.of("row1", "row2", "row3", "row4", "row5", "row6", "row7", "row8", "row9"),
+                results.stream().filter(ReadResult::success).limit(9).map(ReadResult::data).toList());
+    }
+
+    @Test
+    void maxRowsAndReadWhile_stopAtTheSameRow() throws IOException {
+        byte[] file = workbook();
+        List<Map<String, String>> limited = new ArrayList<>();
+        ExcelReader.forMap().parallelMapping(2).maxRows(10)
+                .read(new ByteArrayInputStream(file), r -> limited.add(r.data()));
+        assertEquals(10, limited.size());
+        assertEquals("row10", limited.get(9).get("Name"));
+
+        List<Map<String, String>> partial = new ArrayList<>();
+        ExcelReader.forMap().parallelMapping(2).readWhile(new ByteArrayInputStream(file), r -> {
+            partial.add(r.data());
+            return partial.size() < 7;
+        });
+        assertEquals(7, partial.size());
+        assertEquals("row7", partial.get(6).get("Name"));
+    }
+
+    @Test
+    void settings_areValidated() {
+        assertThrows(IllegalArgumentException.class, () -> ParallelMapping.of(0));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMapping(4, 2, true));
+        assertEquals(new ParallelMapping(2, 128, true), ParallelMapping.of(2));
+        assertFalse(ParallelMapping.of(2).unordered().ordered());
+    }
+
+    private static byte[] csv() {
+        StringBuilder csv = new StringBuilder("Name,Value\n");
+        for (int r = 1; r <= ROWS; r++) csv.append("row").append(r).append(',').append(r).append('\n');
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] workbook() throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = wb.createSheet("data");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Name");
+            header.createCell(1).setCellValue("Value");
+            for (int r = 1; r <= ROWS; r++) {
+                Row row = sheet.createRow(r);
+                row.createCell(0).setCellValue("row" + r);
+                row.createCell(1).setCellValue(r * 0.5);
+            }
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    static class Item {
+        String name;
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.dornol.excelkit.core;
+
+import io.github.dornol.excelkit.csv.CsvReader;
+import io.github.dornol.excelkit.excel.ExcelReader;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Batched delivery through {@code readBatches(...)}.
+ */
+class ReadBatchTest {
+
+    @Test
+    void csv_flushesOnSizeAndAtEnd() {
+        List<ReadBatch<String>> batches = new ArrayList<>();
+        List<List<String>> rows = new ArrayList<>();
+        ReadSummary summary = names().readBatches(new ByteArrayInputStream(csv(25)), 10, batch -> {
+            batches.add(batch);
+            rows.add(List.copyOf(batch.successes()));
+        });
+        assertEquals(List.of(10, 10, 5), rows.stream().map(List::size).toList());
+        assertEquals(List.of(1L, 2L, 3L), batches.stream().map(ReadBatch::batchNumber).toList());
+        assertEquals(2, batches.get(0).firstFileRowNum());
+        assertEquals(11, batches.get(0).lastFileRowNum());
+        assertEquals(22, batches.get(2).firstFileRowNum());
+        assertEquals(26, batches.get(2).lastFileRowNum());
+        assertEquals("row21", rows.get(2).get(0));
+        assertEquals(25, summary.totalRows());
+        assertFalse(summary.stoppedEarly());
+    }
+
+    @Test
+    void errors_areReportedInTheirBatch() {
+        List<RowError> errors = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        failingOn("row7").readBatches(new ByteArrayInputStream(csv(12)), 5, batch -> {
+            sizes.add(batch.size());
+            if (batch.hasErrors()) errors.addAll(batch.errors());
+        });
+        assertEquals(List.of(5, 5, 2), sizes);
+        assertEquals(1, errors.size());
+        assertEquals(7, errors.get(0).rowNum());
+        assertEquals(8, errors.get(0).fileRowNum());
+        assertEquals(RowError.Type.MAPPING, errors.get(0).type());
+    }
+
+    @Test
+    void maxErrors_flushesBufferedRowsBeforeAborting() {
+        List<String> delivered = new ArrayList<>();
+        assertThrows(ReadAbortException.class, () -> failingOn("row7").maxErrors(0)
+                .readBatches(new ByteArrayInputStream(csv(12)), 5, batch -> delivered.addAll(batch.successes())));
+        assertEquals(List.of("row1", "row2", "row3", "row4", "row5", "row6"), delivered);
+    }
+
+    @Test
+    void cancellation_flushesBufferedRowsAndStops() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        List<Integer> sizes = new ArrayList<>();
+        ReadSummary summary = names().cancellationToken(cancelled::get)
+                .readBatches(new ByteArrayInputStream(csv(100)), 10, batch -> {
+                    sizes.add(batch.size());
+                    cancelled.set(true);
+                });
+        assertEquals(List.of(10), sizes);
+        assertTrue(summary.stoppedEarly());
+    }
+
+    @Test
+    void maxLatency_flushesPartialBatches() {
+        List<Integer> sizes = new ArrayList<>();
+        CsvReader.mapping(row -> {
+            try {
+                Thread.sleep(3);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return row.get(0).asString();
+        }).readBatches(new ByteArrayInputStream(csv(6)), 100, Duration.ofMillis(1), batch -> sizes.add(batch.size()));
+        assertTrue(sizes.size() >= 3, sizes.toString());
+        assertTrue(sizes.stream().allMatch(size -> size <= 2), sizes.toString());
+        assertEquals(6, sizes.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void excel_deliversEveryRowInOrder() throws IOException {
+        List<String> names = new ArrayList<>();
+        ExcelReader.<String>mapping(row -> row.get(0).asString())
+                .readBatches(new ByteArrayInputStream(workbook(23)), 8, batch -> names.addAll(batch.successes()));
+        assertEquals(23, names.size());
+        assertEquals("row1", names.get(0));
+        assertEquals("row23", names.get(22));
+    }
+
+    @Test
+    void invalidArguments_areRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> names().readBatches(new ByteArrayInputStream(csv(1)), 0, batch -> { }));
+        assertThrows(IllegalArgumentException.class,
+                () -> names().readBatches(new ByteArrayInputStream(csv(1)), 1, Duration.ZERO, batch -> { }));
+    }
+
+    @Test
+    void invalidArguments_areRejectedBeforeTheInputIsSpooled() {
+        assertThrows(IllegalArgumentException.class, () -> names().readBatches(unreadable(), 0, batch -> { }));
+        assertThrows(IllegalArgumentException.class,
+                () -> ExcelReader.forMap().readBatches(unreadable(), 1, Duration.ofSeconds(-1), batch -> { }));
+        assertThrows(NullPointerException.class,
+                () -> ExcelReader.forMap().readBatches(unreadable(), 1, (Duration) null, batch -> { }));
+    }
+
+    /** Fails the test if the reader starts copying it. */
+    private static InputStream unreadable() {
+        return new InputStream() {
+            @Override public int read() {
+                throw new AssertionError("input read before the arguments were checked");
+            }
+        };
+    }
+
+    private static CsvReader<String> names() {
+        return CsvReader.mapping(row -> row.get(0).asString());
+    }
+
+    private static CsvReader<String> failingOn(String name) {
+        return CsvReader.mapping(row -> {
+            String value = row.get(0).asString();
+            if (value.equals(name)) throw new IllegalArgumentException("bad " + value);
+            return value;
+        });
+    }
+
+    private static byte[] csv(int rows) {
+        StringBuilder csv = new StringBuilder("Name\n");
+        for (int r = 1; r <= rows; r++) csv.append("row").append(r).append('\n');
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] workbook(int rows) throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = wb.createSheet("data");
+            sheet.createRow(0).createCell(0).setCellValue("Name");
+            for (int r = 1; r <= rows; r++) {
+                Row row = sheet.createRow(r);
+                row.createCell(0).setCellValue("row" + r);
+            }
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+}
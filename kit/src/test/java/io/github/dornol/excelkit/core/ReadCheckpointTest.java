@@ -0,0 +1,184 @@
+package io.github.dornol.excelkit.core;
+
+import io.github.dornol.excelkit.csv.CsvReadException;
+import io.github.dornol.excelkit.csv.CsvReader;
+import io.github.dornol.excelkit.excel.ExcelReadEngine;
+import io.github.dornol.excelkit.excel.ExcelReadException;
+import io.github.dornol.excelkit.excel.ExcelReader;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checkpoints emitted during reads and reads resumed from them.
+ */
+class ReadCheckpointTest {
+
+    @Test
+    void csv_resumesAtCheckpointByteOffset() {
+        byte[] csv = csv(StandardCharsets.UTF_8);
+        List<ReadCheckpoint> checkpoints = new ArrayList<>();
+        List<String> firstRun = new ArrayList<>();
+        assertThrows(RuntimeException.class, () -> CsvReader.forMap().checkpoints(3, checkpoints::add)
+                .read(new ByteArrayInputStream(csv), failAt(8, firstRun)));
+        assertEquals(List.of(4L, 7L), checkpoints.stream().map(ReadCheckpoint::lastRow).toList());
+        ReadCheckpoint last = checkpoints.get(1);
+        assertEquals(-1, last.sheetIndex());
+        assertEquals(prefixBytes(csv, "n6,"), last.byteOffset());
+
+        List<String> resumed = new ArrayList<>();
+        CsvReader.forMap().resumeFrom(last)
+                .read(new ByteArrayInputStream(csv), r -> resumed.add(r.fileRowNum() + ":" + r.data().get("Name")));
+        assertEquals(List.of("8:n6", "9:n7", "10:n8", "11:n9"), resumed);
+    }
+
+    @Test
+    void csv_withoutByteOffsets_resumesBySkippingRecords() {
+        Charset cp949 = Charset.forName("MS949");
+        byte[] csv = csv(cp949);
+        List<ReadCheckpoint> checkpoints = new ArrayList<>();
+        CsvReader.forMap().charset(cp949).checkpoints(5, checkpoints::add).read(new ByteArrayInputStream(csv), r -> { });
+        ReadCheckpoint first = checkpoints.get(0);
+        assertEquals(-1, first.byteOffset());
+
+        List<String> resumed = new ArrayList<>();
+        CsvReader.forMap().charset(cp949).resumeFrom(first)
+                .read(new ByteArrayInputStream(csv), r -> resumed.add(r.data().get("Name")));
+        assertEquals(List.of("n5", "n6", "n7", "n8", "n9"), resumed);
+    }
+
+    @Test
+    void csv_differentInput_isRejected() {
+        List<ReadCheckpoint> checkpoints = new ArrayList<>();
+        CsvReader.forMap().checkpoints(2, checkpoints::add)
+                .read(new ByteArrayInputStream(csv(StandardCharsets.UTF_8)), r -> { });
+        byte[] other = "Name\nx\ny\nz\n".getBytes(StandardCharsets.UTF_8);
+        CsvReadException e = assertThrows(CsvReadException.class, () -> CsvReader.forMap()
+                .resumeFrom(checkpoints.get(0)).read(new ByteArrayInputStream(other), r -> { }));
+        assertTrue(e.getMessage().contains("content hash"), e.getMessage());
+    }
+
+    @Test
+    void csv_unorderedMapping_checkpointsOnlyContiguousRows() {
+        StringBuilder text = new StringBuilder("Name\n");
+        Set<String> all = new HashSet<>();
+        for (int i = 0; i < 40; i++) {
+            text.append("n").append(i).append('\n');
+            all.add("n" + i);
+        }
+        byte[] csv = text.toString().getBytes(StandardCharsets.UTF_8);
+        List<String> accepted = new ArrayList<>();
+        List<ReadCheckpoint> checkpoints = new ArrayList<>();
+        List<Set<String>> acceptedAtCheckpoint = new ArrayList<>();
+        slowMapper().parallelMapping(ParallelMapping.of(4).unordered())
+                .checkpoints(3, checkpoint -> {
+                    checkpoints.add(checkpoint);
+                    acceptedAtCheckpoint.add(new HashSet<>(accepted));
+                })
+                .read(new ByteArrayInputStream(csv), r -> accepted.add(r.data()));
+        assertEquals(13, checkpoints.size());
+
+        for (int i = 0; i < checkpoints.size(); i++) {
+            ReadCheckpoint checkpoint = checkpoints.get(i);
+            Set<String> seen = acceptedAtCheckpoint.get(i);
+            for (long row = 2; row <= checkpoint.lastRow(); row++) {
+                assertTrue(seen.contains("n" + (row - 2)), "row " + row + " before " + checkpoint);
+            }
+            slowMapper().resumeFrom(checkpoint).read(new ByteArrayInputStream(csv), r -> seen.add(r.data()));
+            assertEquals(all, seen, checkpoint.toString());
+        }
+    }
+
+    @Test
+    void csv_batches_checkpointOnlyDeliveredBatches() {
+        byte[] csv = csv(StandardCharsets.UTF_8);
+        List<ReadCheckpoint> checkpoints = new ArrayList<>();
+        List<String> persisted = new ArrayList<>();
+        assertThrows(RuntimeException.class, () -> CsvReader.forMap().checkpoints(3, checkpoints::add)
+                .readBatches(new ByteArrayInputStream(csv), 4, batch -> {
+                    if (batch.batchNumber() == 2) throw new IllegalStateException("database unavailable");
+                    batch.successes().forEach(row -> persisted.add(row.get("Name")));
+                }));
+        assertEquals(List.of("n0", "n1", "n2", "n3"), persisted);
+        assertEquals(List.of(4L), checkpoints.stream().map(ReadCheckpoint::lastRow).toList());
+
+        CsvReader.forMap().resumeFrom(checkpoints.get(0)).readBatches(new ByteArrayInputStream(csv), 4,
+                batch -> batch.successes().forEach(row -> persisted.add(row.get("Name"))));
+        assertEquals(List.of("n0", "n1", "n2", "n3", "n3", "n4", "n5", "n6", "n7", "n8", "n9"), persisted);
+    }
+
+    @Test
+    void excel_resumesAfterLastCheckpoint() throws IOException {
+        byte[] file = workbook();
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            List<ReadCheckpoint> checkpoints = new ArrayList<>();
+            assertThrows(RuntimeException.class, () -> ExcelReader.forMap().engine(engine).sheetIndex(1)
+                    .streamingInput().checkpoints(4, checkpoints::add)
+                    .read(new ByteArrayInputStream(file), failAt(7, new ArrayList<>())));
+            ReadCheckpoint last = checkpoints.get(checkpoints.size() - 1);
+            assertEquals(new ReadCheckpoint(last.contentHash(), 1, 5, -1), last, engine.name());
+
+            List<String> resumed = new ArrayList<>();
+            ExcelReader.forMap().engine(engine).sheetIndex(1).resumeFrom(last)
+                    .read(new ByteArrayInputStream(file), r -> resumed.add(r.data().get("Name")));
+            assertEquals(List.of("n4", "n5", "n6", "n7", "n8", "n9"), resumed, engine.name());
+
+            assertThrows(ExcelReadException.class, () -> ExcelReader.forMap().resumeFrom(last)
+                    .read(new ByteArrayInputStream(file), r -> { }));
+        }
+    }
+
+    /** Maps the name column, taking much longer for every fifth row so later rows overtake it. */
+    private static CsvReader<String> slowMapper() {
+        return CsvReader.mapping(row -> {
+            String name = row.get("Name").asString();
+            if (name.endsWith("0") || name.endsWith("5")) LockSupport.parkNanos(20_000_000);
+            return name;
+        });
+    }
+
+    /** Records names and fails once the given number of rows has been accepted, like a lost database. */
+    private static Consumer<ReadResult<Map<String, String>>> failAt(int rows, List<String> names) {
+        return r -> {
+            if (names.size() == rows) throw new IllegalStateException("database unavailable");
+            names.add(r.data().get("Name"));
+        };
+    }
+
+    private static long prefixBytes(byte[] csv, String marker) {
+        String text = new String(csv, StandardCharsets.UTF_8);
+        return text.substring(0, text.indexOf(marker)).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static byte[] csv(Charset charset) {
+        StringBuilder csv = new StringBuilder("Name,Note\r\n");
+        for (int i = 0; i < 10; i++) csv.append("n").append(i).append(",\"메모\n").append(i).append("\"\r\n");
+        return csv.toString().getBytes(charset);
+    }
+
+    private static byte[] workbook() throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            wb.createSheet("first").createRow(0).createCell(0).setCellValue("Other");
+            Sheet sheet = wb.createSheet("second");
+            sheet.createRow(0).createCell(0).setCellValue("Name");
+            for (int i = 0; i < 10; i++) sheet.createRow(i + 1).createCell(0).setCellValue("n" + i);
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.dornol.excelkit.core;
+
+import io.github.dornol.excelkit.csv.CsvReader;
+import io.github.dornol.excelkit.excel.ExcelReadEngine;
+import io.github.dornol.excelkit.excel.ExcelReader;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Phase metrics attached to read summaries and reports, and the JFR event committed per read.
+ */
+class ReadMetricsTest {
+
+    @Test
+    void csvSummary_carriesCountersAndOneOffPhases() {
+        byte[] csv = csv();
+        ReadSummary summary = CsvReader.forMap().readWithSummary(new ByteArrayInputStream(csv), r -> { });
+        ReadMetrics metrics = summary.metrics();
+
+        assertEquals(20, metrics.rows());
+        assertEquals(csv.length, metrics.parsedBytes());
+        assertTrue(metrics.phases().containsKey(ReadPhase.TEMP_COPY));
+        assertTrue(metrics.phases().containsKey(ReadPhase.PARSE));
+        // row phases are only timed on request
+        assertFalse(metrics.phases().containsKey(ReadPhase.CONSUMER));
+        assertTrue(metrics.duration().compareTo(metrics.phase(ReadPhase.PARSE)) >= 0);
+    }
+
+    @Test
+    void excelSummary_timesRowPhasesOnRequest() throws IOException {
+        byte[] file = workbook();
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            ReadSummary summary = ExcelReader.forMap().engine(engine).timeRowPhases()
+                    .readWithSummary(new ByteArrayInputStream(file), r -> sleep());
+            ReadMetrics metrics = summary.metrics();
+
+            assertEquals(20, metrics.rows(), engine.name());
+            assertTrue(metrics.parsedBytes() > 0, engine.name());
+            assertTrue(metrics.phases().containsKey(ReadPhase.SHARED_STRINGS), engine.name());
+            assertTrue(metrics.phase(ReadPhase.CONSUMER).compareTo(Duration.ofMillis(20)) >= 0, engine.name());
+            assertTrue(metrics.phases().containsKey(ReadPhase.MAPPING), engine.name());
+            assertTrue(metrics.rowsPerSecond() > 0, engine.name());
+        }
+    }
+
+    @Test
+    void report_exposesMetrics() {
+        ReadReport report = CsvReader.forMap().readReport(new ByteArrayInputStream(csv()), 10);
+        assertEquals(20, report.metrics().rows());
+        assertEquals(report.summary().metrics(), report.metrics());
+    }
+
+    @Test
+    void metricsCopyPhases_andRejectNegativeCounters() {
+        assertEquals(Duration.ZERO, ReadMetrics.EMPTY.phase(ReadPhase.PARSE));
+        assertEquals(0, ReadMetrics.EMPTY.rowsPerSecond());
+        ReadMetrics metrics = new ReadMetrics(new java.util.HashMap<>(java.util.Map.of(
+                ReadPhase.PARSE, Duration.ofSeconds(1))), 10, 0, Duration.ofSeconds(2));
+        assertEquals(5, metrics.rowsPerSecond());
+        assertThrows(UnsupportedOperationException.class, () -> metrics.phases().clear());
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReadMetrics(java.util.Map.of(), -1, 0, Duration.ZERO));
+    }
+
+    @Test
+    void jfrRecording_containsReadEvent() throws Exception {
+        Path dump = Files.createTempFile("excel-kit-read", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.github.dornol.excelkit.Read");
+            recording.start();
+            CsvReader.forMap().read(new ByteArrayInputStream(csv()), r -> { });
+            recording.stop();
+            recording.dump(dump);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                    .filter(e -> e.getEventType().getName().equals("io.github.dornol.excelkit.Read")).toList();
+            assertEquals(1, events.size());
+            assertEquals("CsvReadHandler", events.get(0).getString("handler"));
+            assertEquals(20, events.get(0).getLong("rows"));
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] csv() {
+        StringBuilder csv = new StringBuilder("Name,Qty\n");
+        for (int i = 0; i < 20; i++) csv.append("n").append(i).append(',').append(i).append('\n');
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] workbook() throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = wb.createSheet("data");
+            sheet.createRow(0).createCell(0).setCellValue("Name");
+            for (int i = 0; i < 20; i++) sheet.createRow(i + 1).createCell(0).setCellValue("n" + i);
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.dornol.excelkit.core;
+
+import io.github.dornol.excelkit.csv.CsvReader;
+import io.github.dornol.excelkit.excel.ExcelReader;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compiled {@link ReadPlan}s shared between reads and readers.
+ */
+class ReadPlanTest {
+
+    @Test
+    void reader_reusesPlanAndHeaderLayout() {
+        CsvReader<Person> reader = new CsvReader<>(Person::new, null)
+                .column(List.of("Name", "이름"), (p, cell) -> p.name = cell.asString())
+                .column("Age", (p, cell) -> p.age = cell.asInt());
+        ReadPlan<Person> plan = reader.readPlan();
+        for (int i = 0; i < 3; i++) {
+            List<Person> people = new ArrayList<>();
+            reader.read(csv("Name,Age\nkim,30\n"), r -> people.add(r.data()));
+            assertEquals("kim", people.get(0).name);
+            assertEquals(30, people.get(0).age);
+        }
+        assertSame(plan, reader.readPlan());
+        assertEquals(1, plan.cachedHeaderLayouts());
+
+        List<Person> reordered = new ArrayList<>();
+        reader.read(csv("Age,이름\n41,lee\n"), r -> reordered.add(r.data()));
+        assertEquals("lee", reordered.get(0).name);
+        assertEquals(41, reordered.get(0).age);
+        assertEquals(2, plan.cachedHeaderLayouts());
+    }
+
+    @Test
+    void changedSettings_compileNewPlan() {
+        CsvReader<Map<String, String>> reader = CsvReader.forMap();
+        ReadPlan<Map<String, String>> plan = reader.readPlan();
+        reader.headerNormalizer(header -> header.trim().toLowerCase());
+        assertNotSame(plan, reader.readPlan());
+        List<String> names = new ArrayList<>();
+        CsvReader.<String>mapping(row -> row.get("NAME").asString())
+                .headerNormalizer(header -> header.trim().toLowerCase())
+                .read(csv(" Name ,Age\nkim,30\n"), r -> names.add(r.data()));
+        assertEquals(List.of("kim"), names);
+    }
+
+    @Test
+    void failedHeader_isNotCached() {
+        CsvReader<Person> reader = new CsvReader<>(Person::new, null)
+                .column("Name", (p, cell) -> p.name = cell.asString());
+        assertThrows(ExcelKitException.class, () -> reader.read(csv("Email\nx\n"), r -> { }));
+        assertEquals(0, reader.readPlan().cachedHeaderLayouts());
+    }
+
+    @Test
+    void schemaReaders_sharePlans() throws IOException {
+        ExcelKitSchema<Person> schema = ExcelKitSchema.<Person>builder()
+                .column("Name", p -> p.name, (p, cell) -> p.name = cell.asString())
+                .column("Age", p -> p.age, (p, cell) -> p.age = cell.asInt())
+                .build();
+        ExcelReader<Person> first = schema.excelReader(Person::new);
+        ExcelReader<Person> second = schema.excelReader(Person::new);
+        assertSame(first.readPlan(), second.readPlan());
+        assertNotSame(first.readPlan(), schema.csvReader(Person::new).strictHeaders().readPlan());
+
+        byte[] file = workbook();
+        List<Person> people = new ArrayList<>();
+        first.read(new ByteArrayInputStream(file), r -> people.add(r.data()));
+        second.read(new ByteArrayInputStream(file), r -> people.add(r.data()));
+        assertEquals(2, people.size());
+        assertEquals(30, people.get(1).age);
+        assertEquals(1, first.readPlan().cachedHeaderLayouts());
+    }
+
+    private static ByteArrayInputStream csv(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] workbook() throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = wb.createSheet("data");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Age");
+            header.createCell(1).setCellValue("Name");
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue(30);
+            row.createCell(1).setCellValue("kim");
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    static class Person {
+        String name;
+        int age;
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.dornol.excelkit.core;
+
+import io.github.dornol.excelkit.csv.CsvReader;
+import io.github.dornol.excelkit.excel.ExcelReadEngine;
+import io.github.dornol.excelkit.excel.ExcelReader;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pull-based reads through {@code ExcelReader.stream(...)} and {@code CsvReader.stream(...)}.
+ */
+class ReadStreamTest {
+    private static final int ROWS = 1_000;
+
+    @Test
+    void excelStream_matchesCallbackRead() throws IOException {
+        byte[] file = workbook();
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            List<Map<String, String>> expected = new ArrayList<>();
+            ExcelReader.forMap().engine(engine).read(new ByteArrayInputStream(file), r -> expected.add(r.data()));
+            try (Stream<ReadResult<Map<String, String>>> rows = ExcelReader.forMap().engine(engine)
+                    .stream(new ByteArrayInputStream(file))) {
+                assertEquals(expected, rows.map(ReadResult::data).toList(), engine.name());
+            }
+        }
+    }
+
+    @Test
+    void csvStream_matchesCallbackRead() {
+        byte[] csv = csv();
+        List<Map<String, String>> expected = new ArrayList<>();
+        CsvReader.forMap().read(new ByteArrayInputStream(csv), r -> expected.add(r.data()));
+        try (Stream<ReadResult<Map<String, String>>> rows = CsvReader.forMap().stream(new ByteArrayInputStream(csv))) {
+            assertEquals(expected, rows.map(ReadResult::data).toList());
+        }
+    }
+
+    @Test
+    void csvStream_pullsOnlyWhatIsConsumed() {
+        int[] mapped = {0};
+        try (Stream<ReadResult<String>> rows = CsvReader.mapping(row -> {
+            mapped[0]++;
+            return row.get(0).asString();
+        }).stream(new ByteArrayInputStream(csv()))) {
+            Iterator<ReadResult<String>> iterator = rows.iterator();
+            assertEquals("row1", iterator.next().data());
+            assertEquals("row2", iterator.next().data());
+            assertEquals(2, mapped[0]);
+        }
+    }
+
+    @Test
+    void excelStream_earlyCloseStopsReaderThread() throws Exception {
+        byte[] file = workbook();
+        try (Stream<ReadResult<Map<String, String>>> rows = ExcelReader.forMap().stream(new ByteArrayInputStream(file))) {
+            assertEquals(List.of("row1", "row2", "row3"), rows.limit(3).map(r -> r.data().get("Name")).toList());
+        }
+        assertTrue(Thread.getAllStackTraces().keySet().stream()
+                .noneMatch(t -> t.isAlive() && t.getName().startsWith("excel-kit-read-stream")));
+    }
+
+    @Test
+    void stream_closesSourceInputWithStream() throws IOException {
+        byte[] file = workbook();
+        boolean[] closed = {false};
+        InputStreamSource source = () -> new ByteArrayInputStream(file) {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+                super.close();
+            }
+        };
+        try (Stream<ReadResult<Map<String, String>>> rows = ExcelReader.forMap().streamingInput().stream(source)) {
+            assertEquals(1, rows.limit(1).count());
+            assertFalse(closed[0]);
+        }
+        assertTrue(closed[0]);
+    }
+
+    @Test
+    void stream_rethrowsFailureAfterEarlierRows() throws IOException {
+        byte[] file = workbook();
+        List<String> seen = new ArrayList<>();
+        try (Stream<ReadResult<String>> rows = ExcelReader.<String>mapping(row -> {
+            String name = row.get(0).asString();
+            if (name.equals("row3")) throw new IllegalArgumentException("bad row");
+            return name;
+        }).maxErrors(0).stream(new ByteArrayInputStream(file))) {
+            ReadAbortException e = assertThrows(ReadAbortException.class,
+                    () -> rows.filter(ReadResult::success).forEach(r -> seen.add(r.data())));
+            assertEquals(ReadAbortReason.MAX_ERRORS_EXCEEDED, e.reason());
+        }
+        assertEquals(List.of("row1", "row2"), seen);
+    }
+
+    private static byte[] csv() {
+        StringBuilder csv = new StringBuilder("Name,Value\n");
+        for (int r = 1; r <= ROWS; r++) csv.append("row").append(r).append(',').append(r).append('\n');
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] workbook() throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = wb.createSheet("data");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Name");
+            header.createCell(1).setCellValue("Value");
+            for (int r = 1; r <= ROWS; r++) {
+                Row row = sheet.createRow(r);
+                row.createCell(0).setCellValue("row" + r);
+                row.createCell(1).setCellValue(r);
+            }
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.dornol.excelkit.core;
+
+import io.github.dornol.excelkit.csv.CsvReader;
+import io.github.dornol.excelkit.excel.ExcelReader;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Record rows mapped through {@link RecordMapper} and {@link ExcelKitSchema#forRecord(Class)}.
+ */
+class RecordMapperTest {
+
+    enum Grade { GOLD, SILVER }
+
+    record Member(String name, int age, BigDecimal point, LocalDate joined, Grade grade, Boolean active) {
+    }
+
+    record Flag(String name, boolean enabled) {
+    }
+
+    record Unsupported(List<String> tags) {
+    }
+
+    @Test
+    void csv_mapsColumnsByComponentName() {
+        byte[] csv = ("grade,name,joined,point,age,active,note\n"
+                + "GOLD,kim,2024-03-05,12.50,30,true,x\n"
+                + "SILVER,lee,2024-04-01,0,41,,y\n").getBytes(StandardCharsets.UTF_8);
+        List<Member> members = new ArrayList<>();
+        CsvReader.mapping(RecordMapper.of(Member.class)).read(new ByteArrayInputStream(csv), r -> members.add(r.data()));
+        assertEquals(List.of(
+                new Member("kim", 30, new BigDecimal("12.50"), LocalDate.of(2024, 3, 5), Grade.GOLD, true),
+                new Member("lee", 41, new BigDecimal("0"), LocalDate.of(2024, 4, 1), Grade.SILVER, null)), members);
+    }
+
+    @Test
+    void emptyPrimitiveOrMissingHeader_failsTheRow() {
+        byte[] csv = "name,age,point,joined,grade,active\nkim,,1,2024-03-05,GOLD,true\n"
+                .getBytes(StandardCharsets.UTF_8);
+        List<ReadResult<Member>> results = new ArrayList<>();
+        CsvReader.mapping(RecordMapper.of(Member.class)).read(new ByteArrayInputStream(csv), results::add);
+        assertFalse(results.get(0).success());
+        assertTrue(results.get(0).messages().get(0).contains("Column 'age' is empty"));
+
+        List<ReadResult<Member>> missing = new ArrayList<>();
+        CsvReader.mapping(RecordMapper.of(Member.class))
+                .read(new ByteArrayInputStream("name\nkim\n".getBytes(StandardCharsets.UTF_8)), missing::add);
+        assertFalse(missing.get(0).success());
+        assertTrue(missing.get(0).messages().get(0).contains("Header 'age' not found"));
+    }
+
+    @Test
+    void emptyPrimitiveBoolean_failsTheRow() {
+        byte[] csv = "name,enabled\nkim,yes\nlee,\n".getBytes(StandardCharsets.UTF_8);
+        List<ReadResult<Flag>> results = new ArrayList<>();
+        CsvReader.mapping(RecordMapper.of(Flag.class)).read(new ByteArrayInputStream(csv), results::add);
+        assertEquals(new Flag("kim", true), results.get(0).data());
+        assertFalse(results.get(1).success());
+        assertTrue(results.get(1).messages().get(0).contains("Column 'enabled' is empty"));
+    }
+
+    @Test
+    void schema_readsAndWritesRecords() throws IOException {
+        ExcelKitSchema<Member> schema = ExcelKitSchema.forRecord(Member.class).build();
+        Member member = new Member("kim", 30, BigDecimal.ONE, LocalDate.of(2024, 3, 5), Grade.GOLD, false);
+        List<Object> written = schema.getRecordColumns().stream().map(c -> c.writeFunction().apply(member)).toList();
+        assertEquals(List.of("kim", 30, BigDecimal.ONE, LocalDate.of(2024, 3, 5), Grade.GOLD, false), written);
+        assertEquals(List.of("name", "age", "point", "joined", "grade", "active"),
+                schema.getRecordColumns().stream().map(ExcelKitSchema.RecordColumn::name).toList());
+        assertTrue(schema.getColumns().isEmpty());
+
+        List<Member> members = new ArrayList<>();
+        ExcelReader<Member> reader = schema.excelReader();
+        reader.read(new ByteArrayInputStream(workbook()), r -> members.add(r.data()));
+        assertEquals(List.of(new Member("kim", 30, new BigDecimal("2.5"), LocalDate.of(2024, 3, 5), Grade.GOLD,
+                true)), members);
+        assertThrows(IllegalStateException.class, () -> schema.excelReader(() -> null));
+        assertThrows(IllegalStateException.class, () -> schema.csvReader(() -> null));
+    }
+
+    @Test
+    void unsupportedComponentType_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> RecordMapper.of(Unsupported.class));
+        assertThrows(IllegalStateException.class, () -> ExcelKitSchema.<Member>builder()
+                .column("name", Member::name, (m, cell) -> { }).build().recordMapper());
+        assertThrows(NullPointerException.class, () -> ExcelKitSchema.<Member>builder()
+                .column("name", Member::name, null));
+        assertThrows(IllegalStateException.class, () -> ExcelKitSchema.forRecord(Member.class)
+                .requiredColumn("nickname", m -> m.name(), (m, cell) -> { }));
+    }
+
+    private static byte[] workbook() throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = wb.createSheet("data");
+            Row header = sheet.createRow(0);
+            String[] headers = {"active", "grade", "joined", "point", "age", "name"};
+            for (int i = 0; i < headers.length; i++) header.createCell(i).setCellValue(headers[i]);
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue("true");
+            row.createCell(1).setCellValue("GOLD");
+            row.createCell(2).setCellValue("2024-03-05");
+            row.createCell(3).setCellValue(2.5);
+            row.createCell(4).setCellValue(30);
+            row.createCell(5).setCellValue("kim");
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+}
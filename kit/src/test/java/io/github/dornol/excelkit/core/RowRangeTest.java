@@ -0,0 +1,95 @@
+package io.github.dornol.excelkit.core;
+
+import io.github.dornol.excelkit.csv.CsvReader;
+import io.github.dornol.excelkit.excel.ExcelReadEngine;
+import io.github.dornol.excelkit.excel.ExcelReader;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Row ranges selected with {@code fromRow}/{@code toRow} on Excel and CSV readers.
+ */
+class RowRangeTest {
+
+    @Test
+    void excel_readsOnlyTheRange() throws IOException {
+        byte[] file = workbook(10);
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            for (boolean streaming : new boolean[] {false, true}) {
+                ExcelReader<Map<String, String>> reader = ExcelReader.forMap().engine(engine).fromRow(4).toRow(6);
+                if (streaming) reader.streamingInput();
+                List<ReadResult<Map<String, String>>> results = new ArrayList<>();
+                reader.read(new ByteArrayInputStream(file), results::add);
+                String label = engine + ", streaming=" + streaming;
+                assertEquals(List.of(4L, 5L, 6L), results.stream().map(ReadResult::fileRowNum).toList(), label);
+                assertEquals(List.of("v3", "v4", "v5"), results.stream().map(r -> r.data().get("Value")).toList(), label);
+            }
+        }
+    }
+
+    @Test
+    void excel_combinesWithMaxRows() throws IOException {
+        List<ReadResult<Map<String, String>>> results = new ArrayList<>();
+        ExcelReader.forMap().engine(ExcelReadEngine.NATIVE).fromRow(8).maxRows(2)
+                .read(new ByteArrayInputStream(workbook(20)), results::add);
+        assertEquals(List.of(8L, 9L), results.stream().map(ReadResult::fileRowNum).toList());
+    }
+
+    @Test
+    void csv_skipsQuotedMultilineRecords() {
+        String csv = "Value,Note\r\n"
+                + "v1,\"line\r\nbreak\"\r\n"
+                + "v2,\"say \"\"hi\"\", ok\"\r\n"
+                + "v3,\"escaped \\\" quote\nstill quoted\"\r\n"
+                + "v4,plain\r\n"
+                + "v5,\"last\"\r\n"
+                + "v6,tail";
+        List<ReadResult<Map<String, String>>> results = new ArrayList<>();
+        CsvReader.forMap().fromRow(5).toRow(6)
+                .read(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), results::add);
+        assertEquals(List.of(5L, 6L), results.stream().map(ReadResult::fileRowNum).toList());
+        assertEquals(List.of(Map.of("Value", "v4", "Note", "plain"), Map.of("Value", "v5", "Note", "last")),
+                results.stream().map(ReadResult::data).toList());
+    }
+
+    @Test
+    void csv_rangeBeyondInput_readsNothing() {
+        List<ReadResult<Map<String, String>>> results = new ArrayList<>();
+        CsvReader.forMap().fromRow(10)
+                .read(new ByteArrayInputStream("Value\na\nb\n".getBytes(StandardCharsets.UTF_8)), results::add);
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    void invalidRange_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CsvReader.forMap().fromRow(0));
+        assertThrows(IllegalArgumentException.class, () -> ExcelReader.forMap().toRow(-1));
+        assertThrows(IllegalArgumentException.class, () -> CsvReader.forMap().fromRow(5).toRow(4)
+                .read(new ByteArrayInputStream("Value\na\n".getBytes(StandardCharsets.UTF_8)), r -> { }));
+    }
+
+    private static byte[] workbook(int rows) throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = wb.createSheet("data");
+            sheet.createRow(0).createCell(0).setCellValue("Value");
+            for (int i = 1; i <= rows; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue("v" + i);
+            }
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+}
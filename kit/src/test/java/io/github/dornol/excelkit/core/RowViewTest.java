@@ -0,0 +1,125 @@
+package io.github.dornol.excelkit.core;
+
+import io.github.dornol.excelkit.csv.CsvReader;
+import io.github.dornol.excelkit.excel.ExcelReadEngine;
+import io.github.dornol.excelkit.excel.ExcelReader;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reusable row view via {@link AbstractReader#reuseRowView()} and optional raw value capture.
+ */
+class RowViewTest {
+    private static final int ROWS = 50;
+
+    @Test
+    void excel_reusesRowDataAndCells() throws IOException {
+        byte[] file = workbook();
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            Set<RowData> rows = Collections.newSetFromMap(new IdentityHashMap<>());
+            Set<CellData> cells = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<ReadResult<String>> results = new ArrayList<>();
+            ExcelReader.<String>mapping(row -> {
+                rows.add(row);
+                cells.add(row.get(0));
+                return row.get(0).asString() + ":" + row.get(1).asInt();
+            }).engine(engine).reuseRowView().read(new ByteArrayInputStream(file), results::add);
+            assertEquals(ROWS, results.size(), engine.name());
+            assertEquals("row1:1", results.get(0).data(), engine.name());
+            assertEquals("row50:50", results.get(ROWS - 1).data(), engine.name());
+            assertEquals(List.of("row7", "7"), results.get(6).rawValues(), engine.name());
+            assertEquals(1, rows.size(), engine.name());
+            assertEquals(1, cells.size(), engine.name());
+        }
+    }
+
+    @Test
+    void excel_forMapMatchesDefaultRead() throws IOException {
+        byte[] file = workbook();
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            List<Map<String, String>> expected = new ArrayList<>();
+            ExcelReader.forMap().engine(engine).read(new ByteArrayInputStream(file), r -> expected.add(r.data()));
+            List<Map<String, String>> actual = new ArrayList<>();
+            ExcelReader.forMap().engine(engine).reuseRowView()
+                    .read(new ByteArrayInputStream(file), r -> actual.add(r.data()));
+            assertEquals(expected, actual, engine.name());
+        }
+    }
+
+    @Test
+    void csv_reusesRowData() {
+        Set<RowData> rows = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<String> names = new ArrayList<>();
+        CsvReader.<String>mapping(row -> {
+            rows.add(row);
+            return row.get("Name").asString();
+        }).reuseRowView().read(new ByteArrayInputStream(csv()), r -> names.add(r.data()));
+        assertEquals(ROWS, names.size());
+        assertEquals("row50", names.get(ROWS - 1));
+        assertEquals(1, rows.size());
+    }
+
+    @Test
+    void captureRawValuesDisabled_leavesRawValuesEmpty() throws IOException {
+        List<ReadResult<Map<String, String>>> excel = new ArrayList<>();
+        ExcelReader.forMap().captureRawValues(false).read(new ByteArrayInputStream(workbook()), excel::add);
+        assertTrue(excel.get(0).rawValues().isEmpty());
+
+        List<ReadResult<Map<String, String>>> csv = new ArrayList<>();
+        CsvReader.forMap().captureRawValues(false).skipBlankRows()
+                .read(new ByteArrayInputStream(csv()), csv::add);
+        assertEquals(ROWS, csv.size());
+        assertTrue(csv.get(0).rawValues().isEmpty());
+        assertEquals("row1", csv.get(0).data().get("Name"));
+    }
+
+    @Test
+    void parallelMapping_ignoresRowView() throws IOException {
+        Set<RowData> rows = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        List<String> names = new ArrayList<>();
+        ExcelReader.<String>mapping(row -> {
+            rows.add(row);
+            return row.get(0).asString();
+        }).reuseRowView().parallelMapping(2).read(new ByteArrayInputStream(workbook()), r -> names.add(r.data()));
+        assertEquals(ROWS, names.size());
+        assertEquals("row50", names.get(ROWS - 1));
+        assertEquals(ROWS, rows.size());
+    }
+
+    private static byte[] csv() {
+        StringBuilder csv = new StringBuilder("Name,Value\n");
+        for (int r = 1; r <= ROWS; r++) csv.append("row").append(r).append(',').append(r).append('\n');
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] workbook() throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = wb.createSheet("data");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Name");
+            header.createCell(1).setCellValue("Value");
+            for (int r = 1; r <= ROWS; r++) {
+                Row row = sheet.createRow(r);
+                row.createCell(0).setCellValue("row" + r);
+                row.createCell(1).setCellValue(r);
+            }
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+}
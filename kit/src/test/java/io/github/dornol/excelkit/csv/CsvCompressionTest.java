@@ -0,0 +1,164 @@
+package io.github.dornol.excelkit.csv;
+
+import io.github.dornol.excelkit.core.ExcelKitException;
+import io.github.dornol.excelkit.core.ReadLimitExceededException;
+import io.github.dornol.excelkit.core.ReadLimits;
+import io.github.dornol.excelkit.core.TabularCompression;
+import io.github.dornol.excelkit.core.TabularDetectionResult;
+import io.github.dornol.excelkit.core.TabularFileDetector;
+import io.github.dornol.excelkit.core.TabularFileType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Gzip and zip CSV inputs, compression detection, and gzip output.
+ */
+class CsvCompressionTest {
+
+    private static final String CSV = "Name;Qty\nAlice;1\nBob;2\n";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void gzipStreamAndPath_areInflated() throws IOException {
+        byte[] gzip = gzip(CSV);
+        assertEquals(List.of("Alice", "Bob"), names(new ByteArrayInputStream(gzip)));
+
+        Path file = dir.resolve("rows.csv.gz");
+        Files.write(file, gzip);
+        List<String> names = new ArrayList<>();
+        reader().read(file, r -> names.add(r.data().get("Name")));
+        assertEquals(List.of("Alice", "Bob"), names);
+    }
+
+    @Test
+    void zip_readsFirstTextEntry() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("export/"));
+            zip.putNextEntry(new ZipEntry("export/readme.md"));
+            zip.write("ignored".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("export/rows.CSV"));
+            zip.write(CSV.getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(List.of("Alice", "Bob"), names(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test
+    void zipWithoutCsvEntry_isRejected() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("data/"));
+            zip.putNextEntry(new ZipEntry("data/image.png"));
+            zip.write(new byte[]{1, 2, 3});
+        }
+        ExcelKitException e = assertThrows(ExcelKitException.class,
+                () -> names(new ByteArrayInputStream(out.toByteArray())));
+        assertTrue(e.getMessage().contains("no .csv"), e.getMessage());
+    }
+
+    @Test
+    void detector_reportsCompressionAndInflatedDialect() throws IOException {
+        TabularDetectionResult gzip = TabularFileDetector.detectDetailed(new ByteArrayInputStream(gzip(CSV)));
+        assertEquals(TabularFileType.CSV, gzip.type());
+        assertEquals(TabularCompression.GZIP, gzip.compression());
+        assertEquals(';', gzip.delimiter());
+
+        TabularDetectionResult plain = TabularFileDetector.detectDetailed(
+                new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(TabularCompression.NONE, plain.compression());
+
+        // an xlsx package is a zip whose first entry is not a text file
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+            zip.write("<Types/>".getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(TabularCompression.NONE, TabularCompression.detect(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test
+    void detector_reportsXlsxWithLeadingDirectoryEntries() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("_rels/"));
+            zip.putNextEntry(new ZipEntry("_rels/.rels"));
+            zip.write("<Relationships/>".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+            zip.write("<Types/>".getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] xlsx = out.toByteArray();
+        assertEquals(TabularCompression.NONE, TabularCompression.detect(new ByteArrayInputStream(xlsx)));
+        assertEquals(TabularFileType.XLSX, TabularFileDetector.detect(new ByteArrayInputStream(xlsx)));
+    }
+
+    @Test
+    void maxInputBytes_limitsUncompressedSize() throws IOException {
+        String csv = "Name;Qty\n" + "Alice;1\n".repeat(10_000);
+        byte[] gzip = gzip(csv);
+        CsvReader<java.util.Map<String, String>> reader = reader().limits(new ReadLimits(gzip.length * 2L, -1, -1, -1));
+        ReadLimitExceededException e = assertThrows(ReadLimitExceededException.class,
+                () -> reader.read(new ByteArrayInputStream(gzip), r -> { }));
+        assertEquals(ReadLimitExceededException.Limit.INPUT_BYTES, e.limit());
+    }
+
+    @Test
+    void gzipWriter_roundTrips() throws IOException {
+        CsvHandler handler = CsvWriter.<String[]>create()
+                .delimiter(';')
+                .column("Name", r -> r[0])
+                .column("Qty", r -> r[1])
+                .gzip(9)
+                .write(Stream.of(new String[]{"Alice", "1"}, new String[]{"Bob", "2"}));
+        assertTrue(handler.isGzip());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        handler.writeTo(out);
+        byte[] bytes = out.toByteArray();
+
+        assertEquals(0x1f, bytes[0] & 0xff);
+        assertEquals(0x8b, bytes[1] & 0xff);
+        assertEquals(List.of("Alice", "Bob"), names(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void gzipLevel_isValidated() {
+        assertThrows(IllegalArgumentException.class, () -> CsvWriter.create().gzip(10));
+        assertThrows(IllegalArgumentException.class, () -> CsvWriter.create().gzip(-2));
+        assertDoesNotThrow(() -> CsvWriter.create().gzip(0));
+    }
+
+    private static CsvReader<java.util.Map<String, String>> reader() {
+        return CsvReader.forMap().delimiter(';');
+    }
+
+    private static List<String> names(InputStream input) {
+        List<String> names = new ArrayList<>();
+        reader().read(input, r -> names.add(r.data().get("Name")));
+        return names;
+    }
+
+    private static byte[] gzip(String csv) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(csv.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
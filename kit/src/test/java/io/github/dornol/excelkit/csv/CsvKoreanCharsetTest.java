@@ -0,0 +1,114 @@
+package io.github.dornol.excelkit.csv;
+
+import io.github.dornol.excelkit.core.TabularDetectionResult;
+import io.github.dornol.excelkit.core.TabularFileDetector;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MS949 / EUC-KR detection from the sample prefix and the ASCII pass-through decoder.
+ */
+class CsvKoreanCharsetTest {
+
+    private static final Charset MS949 = Charset.forName("x-windows-949");
+    private static final String CSV = "이름,메모,수량\r\n홍길동,\"서울, 강남\",1\r\n똠방각하,plain ascii,2\r\nKim,펲,3\r\n";
+
+    @Test
+    void detector_recognizesMs949AndEucKr() {
+        for (Charset charset : List.of(MS949, Charset.forName("EUC-KR"))) {
+            String csv = charset.name().equals("EUC-KR") ? CSV.replace("똠방각하", "방각하").replace("펲", "펀") : CSV;
+            TabularDetectionResult result = TabularFileDetector.detectDetailed(
+                    new ByteArrayInputStream(csv.getBytes(charset)));
+            assertEquals(MS949, result.charset(), charset.name());
+            assertEquals(',', result.delimiter());
+        }
+    }
+
+    @Test
+    void detector_prefersUtf8AndKeepsLatinTextOutOfMs949() {
+        assertEquals(StandardCharsets.UTF_8, TabularFileDetector.detectDetailed(
+                new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8))).charset());
+        // a multi-byte sequence cut off by the end of the 8 KB sample is still UTF-8
+        byte[] cut = ("ab," + "가".repeat(3000)).getBytes(StandardCharsets.UTF_8);
+        assertEquals(StandardCharsets.UTF_8, TabularFileDetector.detectDetailed(new ByteArrayInputStream(cut)).charset());
+        assertEquals(StandardCharsets.UTF_8, TabularFileDetector.detectDetailed(new ByteArrayInputStream(
+                "name,city\ncafé,Zürich\n".getBytes(StandardCharsets.ISO_8859_1))).charset());
+    }
+
+    @Test
+    void readDetected_decodesMs949() {
+        List<Map<String, String>> rows = new ArrayList<>();
+        CsvReader.forMap().readDetected(new ByteArrayInputStream(CSV.getBytes(MS949)), r -> rows.add(r.data()));
+        assertEquals(List.of("홍길동", "똠방각하", "Kim"), rows.stream().map(r -> r.get("이름")).toList());
+        assertEquals("서울, 강남", rows.get(0).get("메모"));
+        assertEquals("펲", rows.get(2).get("메모"));
+    }
+
+    @Test
+    void doubleByteReader_matchesCharsetDecoderAcrossReadBoundaries() throws IOException {
+        Random random = new Random(42);
+        String pool = "abcXYZ,\"\r\n 09가나다똠펲한글漢字";
+        for (int round = 0; round < 50; round++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = random.nextInt(30_000); i > 0; i--) text.append(pool.charAt(random.nextInt(pool.length())));
+            byte[] bytes = text.toString().getBytes(MS949);
+            int chunk = 1 + random.nextInt(9_000);
+            StringBuilder decoded = new StringBuilder();
+            try (Reader reader = new CsvDoubleByteReader(channel(bytes, chunk), MS949)) {
+                char[] buffer = new char[1 + random.nextInt(5_000)];
+                for (int n; (n = reader.read(buffer, 0, buffer.length)) > 0; ) decoded.append(buffer, 0, n);
+            }
+            assertEquals(text.toString(), decoded.toString(), "round " + round);
+        }
+    }
+
+    @Test
+    void doubleByteReader_replacesTrailingLeadByte() throws IOException {
+        byte[] bytes = {'a', (byte) 0xb0};
+        StringBuilder decoded = new StringBuilder();
+        try (Reader reader = new CsvDoubleByteReader(channel(bytes, 1), MS949)) {
+            for (int c; (c = reader.read()) >= 0; ) decoded.append((char) c);
+        }
+        assertEquals(new String(bytes, MS949), decoded.toString());
+        assertTrue(CsvDoubleByteReader.supports(Charset.forName("EUC-KR")));
+        assertFalse(CsvDoubleByteReader.supports(StandardCharsets.UTF_8));
+    }
+
+    /** A channel that hands out at most {@code chunk} bytes per read. */
+    private static ReadableByteChannel channel(byte[] bytes, int chunk) {
+        return new ReadableByteChannel() {
+            private int position;
+
+            @Override
+            public int read(ByteBuffer target) {
+                if (position == bytes.length) return -1;
+                int n = Math.min(Math.min(target.remaining(), chunk), bytes.length - position);
+                target.put(bytes, position, n);
+                position += n;
+                return n;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
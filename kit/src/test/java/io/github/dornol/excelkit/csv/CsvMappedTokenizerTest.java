@@ -0,0 +1,131 @@
+package io.github.dornol.excelkit.csv;
+
+import io.github.dornol.excelkit.core.ReadCheckpoint;
+import io.github.dornol.excelkit.core.ReadResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Memory-mapped reads of {@code Path} inputs with {@link CsvReadEngine#NATIVE}, checked against
+ * the character tokenizer.
+ */
+class CsvMappedTokenizerTest {
+
+    private static final String SAMPLE = "\uFEFFName,Note,Qty\r\n"
+            + "plain,text,1\r\n"
+            + "\"quoted, comma\",\"say \"\"hi\"\"\",2\r\n"
+            + "multi,\"line one\r\nline two\nline three\",3\r\n"
+            + ",,\r\n"
+            + "empty,\"\",\r\n"
+            + "유니코드,\"메모 \\\"escaped\\\"\",4\n"
+            + "last,no newline,5";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void smallWindows_matchCharacterTokenizer() throws IOException {
+        Path file = write(SAMPLE, StandardCharsets.UTF_8);
+        List<List<String>> expected = new ArrayList<>();
+        try (CsvInput input = new CsvInput(file, StandardCharsets.UTF_8)) {
+            CsvTokenizer tokenizer = new CsvTokenizer(input, ',', '"', '\\', false, false);
+            while (tokenizer.next()) expected.add(Arrays.asList(tokenizer.fields(null)));
+        }
+        // windows of a few bytes split records, quoted sections, and multi-byte characters
+        for (long window : new long[]{1, 3, 7, 64}) {
+            List<List<String>> actual = new ArrayList<>();
+            try (CsvMappedTokenizer tokenizer = CsvMappedTokenizer.open(file, window, StandardCharsets.UTF_8,
+                    ',', '"', '\\', false, false)) {
+                assertNotNull(tokenizer);
+                while (tokenizer.next()) actual.add(Arrays.asList(tokenizer.fields(null)));
+                assertEquals(Files.size(file), tokenizer.bytesRead());
+            }
+            assertEquals(expected, actual, "window " + window);
+        }
+    }
+
+    @Test
+    void fields_decodeOnlyWantedColumns() throws IOException {
+        Path file = write("a,b,c\n", StandardCharsets.UTF_8);
+        try (CsvMappedTokenizer tokenizer = CsvMappedTokenizer.open(file, StandardCharsets.UTF_8,
+                ',', '"', '\\', false, false)) {
+            assertTrue(java.util.Objects.requireNonNull(tokenizer).next());
+            BitSet wanted = new BitSet();
+            wanted.set(2);
+            assertArrayEquals(new String[]{null, null, "c"}, tokenizer.fields(wanted));
+            assertFalse(tokenizer.next());
+        }
+    }
+
+    @Test
+    void pathRead_matchesOpenCsv() throws IOException {
+        Path file = write(SAMPLE, StandardCharsets.UTF_8);
+        List<ReadResult<Map<String, String>>> expected = new ArrayList<>();
+        List<ReadResult<Map<String, String>>> mapped = new ArrayList<>();
+        CsvReader.forMap().read(file, expected::add);
+        CsvReader.forMap().engine(CsvReadEngine.NATIVE).read(file, mapped::add);
+
+        assertEquals(expected, mapped);
+        assertEquals("line one\nline two\nline three", mapped.get(2).data().get("Note"));
+    }
+
+    @Test
+    void checkpointResumeAndRowRange_useByteOffsets() throws IOException {
+        Path file = write(SAMPLE, StandardCharsets.UTF_8);
+        List<ReadCheckpoint> mapped = new ArrayList<>();
+        List<ReadCheckpoint> opencsv = new ArrayList<>();
+        CsvReader.forMap().engine(CsvReadEngine.NATIVE).checkpoints(2, mapped::add).read(file, r -> { });
+        CsvReader.forMap().checkpoints(2, opencsv::add).read(file, r -> { });
+        assertEquals(opencsv, mapped);
+
+        List<String> resumed = new ArrayList<>();
+        CsvReader.forMap().engine(CsvReadEngine.NATIVE).resumeFrom(mapped.get(0))
+                .read(file, r -> resumed.add(r.data().get("Name")));
+        assertEquals(List.of("multi", "", "empty", "유니코드", "last"), resumed);
+
+        List<Long> ranged = new ArrayList<>();
+        CsvReader.forMap().engine(CsvReadEngine.NATIVE).fromRow(4).toRow(7)
+                .read(file, r -> ranged.add(r.fileRowNum()));
+        assertEquals(List.of(4L, 5L, 6L, 7L), ranged);
+    }
+
+    @Test
+    void singleByteCharset_isMapped_andUtf16FallsBack() throws IOException {
+        Charset latin1 = StandardCharsets.ISO_8859_1;
+        Path file = write("Name\ncafé\n", latin1);
+        try (CsvMappedTokenizer tokenizer = CsvMappedTokenizer.open(file, latin1, ',', '"', '\\', false, false)) {
+            assertNotNull(tokenizer);
+        }
+        List<String> names = new ArrayList<>();
+        CsvReader.forMap().engine(CsvReadEngine.NATIVE).charset(latin1).read(file, r -> names.add(r.data().get("Name")));
+        assertEquals(List.of("café"), names);
+
+        assertNull(CsvMappedTokenizer.open(file, StandardCharsets.UTF_16LE, ',', '"', '\\', false, false));
+        assertNull(CsvMappedTokenizer.open(file, StandardCharsets.UTF_8, '§', '"', '\\', false, false));
+    }
+
+    @Test
+    void unterminatedQuote_isRejected() throws IOException {
+        Path file = write("Name\n\"open\n", StandardCharsets.UTF_8);
+        assertThrows(CsvReadException.class, () -> CsvReader.forMap().engine(CsvReadEngine.NATIVE).read(file, r -> { }));
+    }
+
+    private Path write(String csv, Charset charset) throws IOException {
+        Path file = Files.createTempFile(dir, "mapped", ".csv");
+        Files.writeString(file, csv, charset);
+        return file;
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.dornol.excelkit.csv;
+
+import io.github.dornol.excelkit.core.ReadCheckpoint;
+import io.github.dornol.excelkit.core.ReadResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reads with {@link CsvReadEngine#NATIVE}, checked against the opencsv engine.
+ */
+class CsvNativeEngineTest {
+
+    private static final String SAMPLE = "\uFEFFName,Note,Qty\r\n"
+            + "plain,text,1\r\n"
+            + "\"quoted, comma\",\"say \"\"hi\"\"\",2\r\n"
+            + "multi,\"line one\r\nline two\nline three\",3\r\n"
+            + ",,\r\n"
+            + "empty,\"\",\r\n"
+            + "유니코드,\"메모 \\\"escaped\\\"\",4\n"
+            + "last,no newline,5";
+
+    public static class Item {
+        private String name;
+        private int qty;
+
+        public void setName(String name) { this.name = name; }
+        public void setQty(int qty) { this.qty = qty; }
+    }
+
+    @Test
+    void mapMode_matchesOpenCsv() {
+        assertEquals(read(CsvReadEngine.OPENCSV, SAMPLE), read(CsvReadEngine.NATIVE, SAMPLE));
+        List<ReadResult<Map<String, String>>> rows = read(CsvReadEngine.NATIVE, SAMPLE);
+        assertEquals("say \"hi\"", rows.get(1).data().get("Note"));
+        assertEquals("line one\nline two\nline three", rows.get(2).data().get("Note"));
+        assertEquals("메모 \"escaped\"", rows.get(5).data().get("Note"));
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 7L, 8L), rows.stream().map(ReadResult::fileRowNum).toList());
+    }
+
+    @Test
+    void tabDelimited_matchesOpenCsv() {
+        String tsv = "a\tb\n1\t\"x\ty\"\n2\t\n";
+        List<List<String>> expected = rows(CsvReader.forMap().dialect(CsvDialect.TSV), tsv);
+        assertEquals(expected, rows(CsvReader.forMap().dialect(CsvDialect.TSV).engine(CsvReadEngine.NATIVE), tsv));
+        assertEquals(List.of(List.of("1", "x\ty"), List.of("2", "")), expected);
+    }
+
+    @Test
+    void setterMode_withoutRawValues_createsMappedColumnsOnly() {
+        List<ReadResult<Item>> results = new ArrayList<>();
+        CsvReader.setter(Item::new).engine(CsvReadEngine.NATIVE).captureRawValues(false)
+                .column("Name", (item, cell) -> item.setName(cell.asString()))
+                .column("Qty", (item, cell) -> item.setQty(cell.asInt()))
+                .read(new ByteArrayInputStream("Name,Note,Qty\nn1,skip,1\n\"n2\",\"x,y\",2\n"
+                        .getBytes(StandardCharsets.UTF_8)), results::add);
+        assertEquals(List.of("n1", "n2"), results.stream().map(r -> r.data().name).toList());
+        assertEquals(List.of(1, 2), results.stream().map(r -> r.data().qty).toList());
+        assertTrue(results.get(0).rawValues().isEmpty());
+    }
+
+    @Test
+    void checkpointAndRowRange_keepByteOffsets() {
+        byte[] csv = SAMPLE.getBytes(StandardCharsets.UTF_8);
+        List<ReadCheckpoint> native_ = new ArrayList<>();
+        List<ReadCheckpoint> opencsv = new ArrayList<>();
+        CsvReader.forMap().engine(CsvReadEngine.NATIVE).checkpoints(2, native_::add)
+                .read(new ByteArrayInputStream(csv), r -> { });
+        CsvReader.forMap().checkpoints(2, opencsv::add).read(new ByteArrayInputStream(csv), r -> { });
+        assertEquals(opencsv, native_);
+
+        List<String> resumed = new ArrayList<>();
+        CsvReader.forMap().engine(CsvReadEngine.NATIVE).resumeFrom(native_.get(0))
+                .read(new ByteArrayInputStream(csv), r -> resumed.add(r.data().get("Name")));
+        assertEquals(List.of("multi", "", "empty", "유니코드", "last"), resumed);
+
+        List<String> ranged = new ArrayList<>();
+        CsvReader.forMap().engine(CsvReadEngine.NATIVE).fromRow(4).toRow(7)
+                .read(new ByteArrayInputStream(csv), r -> ranged.add(r.data().get("Name")));
+        assertEquals(List.of("multi", "", "empty", "유니코드"), ranged);
+    }
+
+    @Test
+    void unterminatedQuote_isRejected() {
+        byte[] csv = "Name\n\"open\n".getBytes(StandardCharsets.UTF_8);
+        CsvReadException e = assertThrows(CsvReadException.class, () -> CsvReader.forMap()
+                .engine(CsvReadEngine.NATIVE).read(new ByteArrayInputStream(csv), r -> { }));
+        assertTrue(e.getMessage().contains("Unterminated"), e.getMessage());
+    }
+
+    private static List<ReadResult<Map<String, String>>> read(CsvReadEngine engine, String csv) {
+        List<ReadResult<Map<String, String>>> results = new ArrayList<>();
+        CsvReader.forMap().engine(engine).read(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                results::add);
+        return results;
+    }
+
+    private static List<List<String>> rows(CsvReader<Map<String, String>> reader, String csv) {
+        List<List<String>> rows = new ArrayList<>();
+        reader.read(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                r -> rows.add(List.copyOf(r.data().values())));
+        return rows;
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.dornol.excelkit.csv;
+
+import io.github.dornol.excelkit.core.ReadResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Parallel chunked reads, checked against a sequential read of the same file.
+ */
+class CsvParallelChunksTest {
+
+    private static final int ROWS = 20_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void ordered_matchesSequentialRead() throws IOException {
+        Path file = sample();
+        List<ReadResult<Map<String, String>>> expected = read(CsvReader.forMap(), file);
+        List<ReadResult<Map<String, String>>> parallel = read(CsvReader.forMap().parallelChunks(4), file);
+
+        assertEquals(ROWS, expected.size());
+        assertEquals(expected.stream().map(ReadResult::data).toList(), parallel.stream().map(ReadResult::data).toList());
+        assertEquals(expected.stream().map(ReadResult::fileRowNum).toList(),
+                parallel.stream().map(ReadResult::fileRowNum).toList());
+        assertEquals("line\nbreak, \"quoted\" 7", parallel.get(7).data().get("Note"));
+    }
+
+    @Test
+    void unordered_deliversEveryRow() throws IOException {
+        Path file = sample();
+        List<Long> rows = new ArrayList<>();
+        CsvReader.forMap().parallelChunks(3, false).read(file, r -> rows.add(r.fileRowNum()));
+        Collections.sort(rows);
+
+        assertEquals(ROWS, rows.size());
+        assertEquals(2L, rows.get(0));
+        assertEquals(ROWS + 1L, rows.get(ROWS - 1));
+    }
+
+    @Test
+    void rowLimitsAndRange_areHonored() throws IOException {
+        Path file = sample();
+        assertEquals(100, read(CsvReader.forMap().parallelChunks(4).maxRows(100), file).size());
+
+        List<ReadResult<Map<String, String>>> ranged = read(CsvReader.forMap().parallelChunks(4)
+                .fromRow(5_000).toRow(15_000), file);
+        assertEquals(10_001, ranged.size());
+        assertEquals(5_000L, ranged.get(0).fileRowNum());
+        assertEquals(15_000L, ranged.get(ranged.size() - 1).fileRowNum());
+    }
+
+    @Test
+    void unsupportedCharset_fallsBackToSequentialRead() throws IOException {
+        Path file = dir.resolve("utf16.csv");
+        Files.writeString(file, "Name,Qty\na,1\nb,2\n", StandardCharsets.UTF_16LE);
+        List<ReadResult<Map<String, String>>> rows = read(CsvReader.forMap()
+                .charset(StandardCharsets.UTF_16LE).parallelChunks(2), file);
+        assertEquals(List.of("a", "b"), rows.stream().map(r -> r.data().get("Name")).toList());
+    }
+
+    @Test
+    void splitter_cutsOnRecordBoundariesOnly() throws IOException {
+        Path file = dir.resolve("quoted.csv");
+        Files.writeString(file, "\"a\r\nb\",1\r\n\"c\"\"\nd\",2\n\"e\",3\rf,4", StandardCharsets.UTF_8);
+        CsvChunkSplitter splitter = CsvChunkSplitter.forDialect(StandardCharsets.UTF_8, ',', '"', '\\');
+        List<CsvChunkSplitter.Chunk> chunks = java.util.Objects.requireNonNull(splitter).split(file, 0, 1);
+
+        assertEquals(List.of(
+                new CsvChunkSplitter.Chunk(0, 10, 0),
+                new CsvChunkSplitter.Chunk(10, 20, 1),
+                new CsvChunkSplitter.Chunk(20, 26, 2),
+                new CsvChunkSplitter.Chunk(26, 29, 3)), chunks);
+    }
+
+    @Test
+    void splitter_stopsAtTheLastNeededRange() throws IOException {
+        Path file = sample();
+        CsvChunkSplitter splitter = java.util.Objects.requireNonNull(
+                CsvChunkSplitter.forDialect(StandardCharsets.UTF_8, ',', '"', '\\'));
+        List<CsvChunkSplitter.Chunk> all = splitter.split(file, 0, 1);
+        List<CsvChunkSplitter.Chunk> bounded = splitter.split(file, 0, 1, records -> records >= 9);
+
+        assertEquals(ROWS + 1, all.size());
+        assertEquals(all.subList(0, 9), bounded);
+    }
+
+    @Test
+    void splitter_rejectsMultiByteSpecialCharacters() {
+        assertNull(CsvChunkSplitter.forDialect(StandardCharsets.UTF_16LE, ',', '"', '\\'));
+        assertNull(CsvChunkSplitter.forDialect(StandardCharsets.UTF_8, '§', '"', '\\'));
+    }
+
+    @Test
+    void workers_mustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> CsvReader.forMap().parallelChunks(0));
+    }
+
+    private Path sample() throws IOException {
+        StringBuilder csv = new StringBuilder("Name,Note,Qty\r\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append("name ").append(i).append(',');
+            if (i % 7 == 0) csv.append("\"line\nbreak, \"\"quoted\"\" ").append(i).append('"');
+            else csv.append("note ").append(i);
+            csv.append(',').append(i).append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        Path file = dir.resolve("sample.csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static List<ReadResult<Map<String, String>>> read(CsvReader<Map<String, String>> reader, Path file) {
+        List<ReadResult<Map<String, String>>> results = new ArrayList<>();
+        reader.read(file, results::add);
+        return results;
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.dornol.excelkit.excel;
+
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Shared strings kept in a memory-mapped temporary file via {@link ExcelReader#diskBackedSharedStrings()}.
+ */
+class DiskBackedSharedStringsTest {
+
+    @Test
+    void diskBackedSharedStrings_matchesHeapTable() throws IOException {
+        byte[] file = workbook();
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            List<Map<String, String>> expected = read(ExcelReader.forMap().engine(engine), file);
+            assertEquals(expected, read(ExcelReader.forMap().engine(engine).diskBackedSharedStrings(), file), engine.name());
+            assertEquals(expected, read(ExcelReader.forMap().engine(engine).diskBackedSharedStrings(2), file), engine.name());
+        }
+    }
+
+    @Test
+    void diskBackedSharedStrings_worksWithStreamingInput() throws IOException {
+        byte[] file = workbook();
+        List<Map<String, String>> expected = read(ExcelReader.forMap(), file);
+        assertEquals(expected, read(ExcelReader.forMap().engine(ExcelReadEngine.NATIVE)
+                .streamingInput().diskBackedSharedStrings(2), file));
+    }
+
+    @Test
+    void diskBackedSharedStrings_workbookWithoutSharedStrings() throws IOException {
+        byte[] file;
+        try (SXSSFWorkbook wb = new SXSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = wb.createSheet();
+            sheet.createRow(0).createCell(0).setCellValue("Name");
+            sheet.createRow(1).createCell(0).setCellValue("inline");
+            wb.write(out);
+            wb.dispose();
+            file = out.toByteArray();
+        }
+        assertEquals(List.of(Map.of("Name", "inline")),
+                read(ExcelReader.forMap().engine(ExcelReadEngine.NATIVE).diskBackedSharedStrings(), file));
+    }
+
+    @Test
+    void mappedTable_skipsPhoneticRunsAndCleansUp(@TempDir Path dir) throws Exception {
+        String xml = "<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" count=\"5\" uniqueCount=\"3\">"
+                + "<si><t>plain</t></si>"
+                + "<si><r><t>ri</t></r><r><t xml:space=\"preserve\">ch </t></r><rPh sb=\"0\" eb=\"1\"><t>ph</t></rPh></si>"
+                + "<si><t>A_x000D_B</t></si></sst>";
+        try (InputStream input = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+             XlsxMappedSharedStrings table = XlsxMappedSharedStrings.load(input, dir, 1)) {
+            assertEquals(3, table.getUniqueCount());
+            assertEquals(5, table.getCount());
+            for (int pass = 0; pass < 2; pass++) {
+                assertEquals("plain", table.getString(0));
+                assertEquals("rich ", table.getString(1));
+                assertEquals("A\rB", table.getString(2));
+            }
+            assertEquals("rich ", table.getItemAt(1).getString());
+            assertThrows(IndexOutOfBoundsException.class, () -> table.getString(3));
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void mappedTable_keepsLiteralEscapeSequencesForPoi(@TempDir Path dir) throws Exception {
+        String xml = "<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" count=\"2\" uniqueCount=\"2\">"
+                + "<si><t>_x005F_x0041_</t></si><si><t>_x005F_x005F_x005F_x0041_</t></si></sst>";
+        try (InputStream input = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+             XlsxMappedSharedStrings table = XlsxMappedSharedStrings.load(input, dir, 1)) {
+            assertEquals("_x0041_", table.getString(0));
+            assertEquals("_x0041_", table.getItemAt(0).getString());
+            assertEquals("_x005F_x0041_", table.getString(1));
+            assertEquals("_x005F_x0041_", table.getItemAt(1).getString());
+        }
+    }
+
+    @Test
+    void diskBackedSharedStrings_rejectsNonPositiveCache() {
+        assertThrows(IllegalArgumentException.class, () -> ExcelReader.forMap().diskBackedSharedStrings(0));
+    }
+
+    private static List<Map<String, String>> read(ExcelReader<Map<String, String>> reader, byte[] file) {
+        List<Map<String, String>> rows = new ArrayList<>();
+        reader.read(new ByteArrayInputStream(file), r -> rows.add(r.data()));
+        return rows;
+    }
+
+    private static byte[] workbook() throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = wb.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Id");
+            header.createCell(1).setCellValue("City");
+            header.createCell(2).setCellValue("Note");
+            Font bold = wb.createFont();
+            bold.setBold(true);
+            for (int r = 1; r <= 50; r++) {
+                Row row = sheet.createRow(r);
+                row.createCell(0).setCellValue("ID-" + r);
+                row.createCell(1).setCellValue(r % 3 == 0 ? "서울" : "Busan");
+                XSSFRichTextString note = new XSSFRichTextString("rich " + r);
+                note.applyFont(0, 4, bold);
+                row.createCell(2).setCellValue(note);
+            }
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.dornol.excelkit.excel;
+
+import io.github.dornol.excelkit.core.ReadResult;
+import io.github.dornol.excelkit.core.ReadSecurityPolicy;
+import org.apache.poi.poifs.crypt.EncryptionInfo;
+import org.apache.poi.poifs.crypt.EncryptionMode;
+import org.apache.poi.poifs.crypt.Encryptor;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reads of password-protected workbooks, streamed from the decrypted package or, when random
+ * access is needed, from a decrypted temporary copy.
+ */
+class EncryptedReadTest {
+
+    @Test
+    void streamsDecryptedPackage_withBothEngines() throws Exception {
+        byte[] file = encryptedWorkbook("secret");
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            List<String> names = new ArrayList<>();
+            ExcelReader.forMap().engine(engine).password("secret").sheetName("second")
+                    .read(new ByteArrayInputStream(file), r -> names.add(r.data().get("Name")));
+            assertEquals(List.of("n0", "n1", "n2", "n3", "n4"), names, engine.name());
+        }
+    }
+
+    @Test
+    void strictPolicyAndRowCount_fallBackToDecryptedCopy() throws Exception {
+        byte[] file = encryptedWorkbook("secret");
+        List<String> strict = new ArrayList<>();
+        ExcelReader.forMap().password("secret").sheetIndex(1).securityPolicy(ReadSecurityPolicy.STRICT)
+                .read(new ByteArrayInputStream(file), r -> strict.add(r.data().get("Name")));
+        assertEquals(5, strict.size());
+
+        AtomicLong progress = new AtomicLong();
+        List<ReadResult<Map<String, String>>> counted = new ArrayList<>();
+        ExcelReader.forMap().password("secret").sheetIndex(1).countRows()
+                .onProgress(1, (rows, cursor) -> progress.set(rows))
+                .read(new ByteArrayInputStream(file), counted::add);
+        assertEquals(5, counted.size());
+        assertEquals(5, progress.get());
+    }
+
+    @Test
+    void wrongPassword_isRejected() throws Exception {
+        byte[] file = encryptedWorkbook("secret");
+        ExcelReadException e = assertThrows(ExcelReadException.class, () -> ExcelReader.forMap()
+                .password("wrong").read(new ByteArrayInputStream(file), r -> { }));
+        assertTrue(e.getMessage().contains("Invalid password"), e.getMessage());
+    }
+
+    private static byte[] encryptedWorkbook(String password) throws Exception {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        try (XSSFWorkbook wb = new XSSFWorkbook()) {
+            wb.createSheet("first").createRow(0).createCell(0).setCellValue("Other");
+            Sheet sheet = wb.createSheet("second");
+            sheet.createRow(0).createCell(0).setCellValue("Name");
+            for (int i = 0; i < 5; i++) sheet.createRow(i + 1).createCell(0).setCellValue("n" + i);
+            wb.write(plain);
+        }
+        try (POIFSFileSystem fs = new POIFSFileSystem(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Encryptor encryptor = new EncryptionInfo(EncryptionMode.agile).getEncryptor();
+            encryptor.confirmPassword(password);
+            try (OutputStream os = encryptor.getDataStream(fs)) {
+                plain.writeTo(os);
+            }
+            fs.writeFilesystem(out);
+            return out.toByteArray();
+        }
+    }
+}
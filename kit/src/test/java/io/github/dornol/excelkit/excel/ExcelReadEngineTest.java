@@ -0,0 +1,168 @@
+package io.github.dornol.excelkit.excel;
+
+import io.github.dornol.excelkit.core.ReadResult;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CreationHelper;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that {@link ExcelReadEngine#NATIVE} yields the same results as {@link ExcelReadEngine#POI}.
+ */
+class ExcelReadEngineTest {
+
+    record Person(String name, Integer age) {}
+
+    @Test
+    void nativeEngine_matchesPoiForSharedStringWorkbook() throws IOException {
+        byte[] file = write(new XSSFWorkbook());
+        assertSameResults(file);
+    }
+
+    @Test
+    void nativeEngine_matchesPoiForInlineStringWorkbook() throws IOException {
+        byte[] file = write(new SXSSFWorkbook());
+        assertSameResults(file);
+    }
+
+    @Test
+    void nativeEngine_mapsRows() throws IOException {
+        byte[] file = write(new XSSFWorkbook());
+        List<Person> people = new ArrayList<>();
+        ExcelReader.<Person>mapping(row -> new Person(row.get("Name").asString(), row.get("Age").asInt()))
+                .engine(ExcelReadEngine.NATIVE)
+                .read(new ByteArrayInputStream(file), r -> people.add(r.data()));
+        assertEquals(new Person("Alice & Co <1>", 30), people.get(0));
+        assertEquals(new Person("홍길동", 41), people.get(1));
+    }
+
+    @Test
+    void nativeEngine_honorsMaxRowsAndBlankRows() throws IOException {
+        byte[] file = write(new XSSFWorkbook());
+        List<ReadResult<Map<String, String>>> results = new ArrayList<>();
+        ExcelReader.forMap().engine(ExcelReadEngine.NATIVE).skipBlankRows().maxRows(2)
+                .read(new ByteArrayInputStream(file), results::add);
+        assertEquals(2, results.size());
+        assertEquals(3L, results.get(1).fileRowNum());
+    }
+
+    @Test
+    void nativeParser_keepsBracketsBeforeCDataEnd() throws IOException {
+        assertEquals(List.of("a]", "b]]", "c]>d"), parseCells(
+                "<c r=\"A1\" t=\"inlineStr\"><is><t><![CDATA[a]]]></t></is></c>"
+                + "<c r=\"B1\" t=\"inlineStr\"><is><t><![CDATA[b]]]]></t></is></c>"
+                + "<c r=\"C1\" t=\"inlineStr\"><is><t><![CDATA[c]>d]]></t></is></c>"));
+    }
+
+    @Test
+    void nativeParser_keepsCharacterReferencesWithoutDigits() throws IOException {
+        assertEquals(List.of("&#x;", "&#;", "A"), parseCells(
+                "<c r=\"A1\" t=\"inlineStr\"><is><t>&#x;</t></is></c>"
+                + "<c r=\"B1\" t=\"inlineStr\"><is><t>&#;</t></is></c>"
+                + "<c r=\"C1\" t=\"inlineStr\"><is><t>&#x41;</t></is></c>"));
+    }
+
+    @Test
+    void engine_rejectsNull() {
+        assertThrows(NullPointerException.class, () -> ExcelReader.forMap().engine(null));
+    }
+
+    /** Runs the native parser over one row of cells and returns their values. */
+    private static List<String> parseCells(String cells) throws IOException {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><worksheet><sheetData><row r=\"1\">"
+                + cells + "</row></sheetData></worksheet>";
+        List<String> values = new ArrayList<>();
+        XlsxSheetParser parser = new XlsxSheetParser(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)),
+                new XlsxSheetParser.RowListener() {
+                    @Override public void startRow(int rowIndex) { }
+                    @Override public void cell(int columnIndex, XlsxCellType type, int styleIndex, CharSequence value) {
+                        values.add(value.toString());
+                    }
+                    @Override public void endRow(int rowIndex) { }
+                });
+        while (parser.nextRow()) { }
+        return values;
+    }
+
+    private static void assertSameResults(byte[] file) {
+        List<ReadResult<Map<String, String>>> poi = readAll(file, ExcelReadEngine.POI);
+        List<ReadResult<Map<String, String>>> fast = readAll(file, ExcelReadEngine.NATIVE);
+        assertFalse(poi.isEmpty());
+        assertEquals(poi.size(), fast.size());
+        for (int i = 0; i < poi.size(); i++) {
+            assertEquals(poi.get(i).data(), fast.get(i).data(), "row " + i);
+            assertEquals(poi.get(i).rawValues(), fast.get(i).rawValues(), "row " + i);
+            assertEquals(poi.get(i).fileRowNum(), fast.get(i).fileRowNum(), "row " + i);
+            assertEquals(poi.get(i).success(), fast.get(i).success(), "row " + i);
+        }
+    }
+
+    private static List<ReadResult<Map<String, String>>> readAll(byte[] file, ExcelReadEngine engine) {
+        List<ReadResult<Map<String, String>>> results = new ArrayList<>();
+        ExcelReader.forMap().engine(engine).read(new ByteArrayInputStream(file), results::add);
+        return results;
+    }
+
+    private static byte[] write(Workbook wb) throws IOException {
+        try (wb; ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            CreationHelper helper = wb.getCreationHelper();
+            CellStyle date = wb.createCellStyle();
+            date.setDataFormat(helper.createDataFormat().getFormat("yyyy-mm-dd"));
+            CellStyle money = wb.createCellStyle();
+            money.setDataFormat(helper.createDataFormat().getFormat("#,##0.00"));
+            CellStyle percent = wb.createCellStyle();
+            percent.setDataFormat(helper.createDataFormat().getFormat("0%"));
+
+            Sheet sheet = wb.createSheet("data");
+            Row header = sheet.createRow(0);
+            String[] names = {"Name", "Age", "Joined", "Salary", "Rate", "Active", "Formula", "Error", "Note"};
+            for (int i = 0; i < names.length; i++) header.createCell(i).setCellValue(names[i]);
+
+            Row r1 = sheet.createRow(1);
+            r1.createCell(0).setCellValue("Alice & Co <1>");
+            r1.createCell(1).setCellValue(30);
+            r1.createCell(2).setCellValue(LocalDate.of(2024, 3, 15));
+            r1.getCell(2).setCellStyle(date);
+            r1.createCell(3).setCellValue(1234567.891);
+            r1.getCell(3).setCellStyle(money);
+            r1.createCell(4).setCellValue(0.125);
+            r1.getCell(4).setCellStyle(percent);
+            r1.createCell(5).setCellValue(true);
+            r1.createCell(6).setCellFormula("B2*2");
+            r1.createCell(7).setCellErrorValue(FormulaError.DIV0.getCode());
+            r1.createCell(8).setCellValue("line1\nline2 \"quoted\"");
+
+            Row r2 = sheet.createRow(2);
+            r2.createCell(0).setCellValue("홍길동");
+            r2.createCell(1).setCellValue(41);
+            r2.createCell(3).setCellValue(-0.5);
+            r2.createCell(5).setCellValue(false);
+            r2.createCell(8).setCellValue("😀 emoji");
+
+            sheet.createRow(3);
+
+            Row r4 = sheet.createRow(5);
+            r4.createCell(0).setCellValue("Sparse");
+            r4.createCell(8).setCellValue(1e-7);
+            wb.write(out);
+            if (wb instanceof SXSSFWorkbook sxssf) sxssf.dispose();
+            return out.toByteArray();
+        }
+    }
+}
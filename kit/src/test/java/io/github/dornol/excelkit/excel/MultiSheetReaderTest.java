@@ -0,0 +1,245 @@
+package io.github.dornol.excelkit.excel;
+
+import io.github.dornol.excelkit.core.ReadLimitExceededException;
+import io.github.dornol.excelkit.core.ReadLimits;
+import io.github.dornol.excelkit.core.ReadResult;
+import io.github.dornol.excelkit.core.ReadSecurityException;
+import io.github.dornol.excelkit.core.ReadSecurityPolicy;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Several sheets of one workbook read in one pass by {@link ExcelMultiSheetReader}.
+ */
+class MultiSheetReaderTest {
+
+    record Item(String sku, int qty) {
+    }
+
+    @Test
+    void readsEachSheetWithItsOwnReader() throws IOException {
+        byte[] file = workbook();
+        for (int threads : new int[] {1, 3}) {
+            List<Map<String, String>> orders = new CopyOnWriteArrayList<>();
+            List<Item> items = new CopyOnWriteArrayList<>();
+            List<Map<String, String>> notes = new CopyOnWriteArrayList<>();
+            ExcelMultiSheetReader.create()
+                    .sheet(0, ExcelReader.forMap(), r -> orders.add(r.data()))
+                    .sheet("items", ExcelReader.<Item>mapping(row -> new Item(row.get("SKU").asString(),
+                            row.get("Qty").asInt())), r -> items.add(r.data()))
+                    .sheet(2, ExcelReader.forMap(), r -> notes.add(r.data()))
+                    .parallel(threads)
+                    .read(new ByteArrayInputStream(file));
+
+            assertEquals(List.of(Map.of("Order", "A-1", "Customer", "kim")), orders, "threads=" + threads);
+            assertEquals(List.of(new Item("S-1", 2), new Item("S-2", 5)), items, "threads=" + threads);
+            assertEquals(List.of(Map.of("Note", "shared"), Map.of("Note", "kim")), notes, "threads=" + threads);
+        }
+    }
+
+    @Test
+    void readPath_leavesFileUntouched(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("book.xlsx");
+        Files.write(path, workbook());
+        byte[] before = Files.readAllBytes(path);
+        List<ReadResult<Map<String, String>>> results = new CopyOnWriteArrayList<>();
+        ExcelMultiSheetReader.create().sheet("Notes", ExcelReader.forMap(), results::add).read(path);
+        assertEquals(2, results.size());
+        assertArrayEquals(before, Files.readAllBytes(path));
+    }
+
+    @Test
+    void missingSheet_failsTheRead() throws IOException {
+        byte[] file = workbook();
+        ExcelReadException e = assertThrows(ExcelReadException.class, () -> ExcelMultiSheetReader.create()
+                .sheet(0, ExcelReader.forMap(), r -> { })
+                .sheet("Missing", ExcelReader.forMap(), r -> { })
+                .parallel(2)
+                .read(new ByteArrayInputStream(file)));
+        assertTrue(e.getMessage().contains("[Orders, Items, Notes]"), e.getMessage());
+        assertThrows(IllegalStateException.class,
+                () -> ExcelMultiSheetReader.create().read(new ByteArrayInputStream(file)));
+    }
+
+    @Test
+    void strictPolicy_scansTheWorkbookOnceForAllSheets() throws IOException {
+        byte[] file = withFormula(workbook(), "Notes");
+        for (int threads : new int[] {1, 2}) {
+            ReadSecurityException selected = assertThrows(ReadSecurityException.class, () -> ExcelMultiSheetReader.create()
+                    .sheet(0, ExcelReader.forMap().securityPolicy(ReadSecurityPolicy.STRICT), r -> { })
+                    .sheet("Notes", ExcelReader.forMap().securityPolicy(ReadSecurityPolicy.STRICT), r -> { })
+                    .parallel(threads)
+                    .read(new ByteArrayInputStream(file)));
+            assertEquals(ReadSecurityException.Reason.FORMULA, selected.reason(), "threads=" + threads);
+
+            List<Map<String, String>> rows = new CopyOnWriteArrayList<>();
+            assertThrows(ReadSecurityException.class, () -> ExcelMultiSheetReader.create()
+                    .sheet(0, ExcelReader.forMap().securityPolicy(ReadSecurityPolicy.STRICT), r -> rows.add(r.data()))
+                    .sheet(1, ExcelReader.forMap().securityPolicy(ReadSecurityPolicy.STRICT), r -> rows.add(r.data()))
+                    .parallel(threads)
+                    .read(new ByteArrayInputStream(file)));
+            assertTrue(rows.isEmpty(), "unselected sheets are scanned before any row is read");
+
+            ExcelMultiSheetReader.create()
+                    .sheet(0, ExcelReader.forMap(), r -> rows.add(r.data()))
+                    .sheet(1, ExcelReader.forMap().securityPolicy(ReadSecurityPolicy.STRICT), r -> rows.add(r.data()))
+                    .parallel(threads)
+                    .read(new ByteArrayInputStream(withFormula(workbook(), "Orders")));
+            assertEquals(3, rows.size(), "threads=" + threads);
+            rows.clear();
+        }
+    }
+
+    @Test
+    void strictPolicy_totalScanLimitCoversAllDeferredSheets() throws IOException {
+        byte[] file = workbook();
+        Map<String, Long> sizes = worksheetSizes(file);
+        long orders = sizes.get("xl/worksheets/sheet1.xml"), items = sizes.get("xl/worksheets/sheet2.xml");
+        // enough for the up-front scan plus either deferred sheet, but not for both
+        long limit = sizes.get("xl/worksheets/sheet3.xml") + Math.max(orders, items) + Math.min(orders, items) / 2;
+        ReadSecurityPolicy policy = new ReadSecurityPolicy(false, false, 1 << 20, limit, 1000.0);
+        for (int threads : new int[] {1, 2}) {
+            ReadSecurityException e = assertThrows(ReadSecurityException.class, () -> ExcelMultiSheetReader.create()
+                    .sheet(0, ExcelReader.forMap().securityPolicy(policy), r -> { })
+                    .sheet(1, ExcelReader.forMap().securityPolicy(policy), r -> { })
+                    .parallel(threads)
+                    .read(new ByteArrayInputStream(file)));
+            assertEquals(ReadSecurityException.Reason.TOTAL_SCAN_SIZE, e.reason(), "threads=" + threads);
+        }
+    }
+
+    @Test
+    void streamInput_honorsTheSmallestMaxInputBytes() throws IOException {
+        byte[] file = workbook();
+        ReadLimitExceededException e = assertThrows(ReadLimitExceededException.class, () -> ExcelMultiSheetReader.create()
+                .sheet(0, ExcelReader.forMap(), r -> { })
+                .sheet(1, ExcelReader.forMap().limits(new ReadLimits(file.length / 2, -1, -1, -1)), r -> { })
+                .read(new ByteArrayInputStream(file)));
+        assertEquals(ReadLimitExceededException.Limit.INPUT_BYTES, e.limit());
+
+        List<ReadResult<Map<String, String>>> rows = new CopyOnWriteArrayList<>();
+        ExcelMultiSheetReader.create()
+                .sheet(0, ExcelReader.forMap().limits(new ReadLimits(file.length, -1, -1, -1)), rows::add)
+                .read(new ByteArrayInputStream(file));
+        assertEquals(1, rows.size());
+    }
+
+    @Test
+    void diskBackedSharedStrings_areHonoredForTheSharedWorkbook(@TempDir Path dir) throws Exception {
+        Path path = dir.resolve("book.xlsx");
+        Files.write(path, workbook());
+        try (XlsxSharedWorkbook workbook = XlsxSharedWorkbook.open(path, 2)) {
+            assertInstanceOf(XlsxMappedSharedStrings.class, workbook.sharedStrings());
+        }
+
+        List<String> notes = new CopyOnWriteArrayList<>();
+        ExcelMultiSheetReader.create()
+                .sheet(0, ExcelReader.forMap(), r -> { })
+                .sheet("Notes", ExcelReader.forMap().diskBackedSharedStrings(2), r -> notes.add(r.data().get("Note")))
+                .parallel(2)
+                .read(path);
+        assertEquals(List.of("shared", "kim"), notes);
+    }
+
+    @Test
+    void parallel_firstFailureStopsTheOtherSheets() throws IOException {
+        byte[] file;
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet slow = wb.createSheet("Slow");
+            row(slow, 0, "No");
+            for (int i = 1; i <= 50; i++) {
+                row(slow, i, String.valueOf(i));
+            }
+            Sheet bad = wb.createSheet("Bad");
+            row(bad, 0, "No");
+            row(bad, 1, "1");
+            wb.write(out);
+            file = out.toByteArray();
+        }
+
+        List<String> slowRows = new CopyOnWriteArrayList<>();
+        ExcelReadException e = assertThrows(ExcelReadException.class, () -> ExcelMultiSheetReader.create()
+                .sheet("Slow", ExcelReader.forMap(), r -> {
+                    slowRows.add(r.data().get("No"));
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .sheet("Bad", ExcelReader.forMap(), r -> {
+                    throw new IllegalStateException("bad row");
+                })
+                .parallel(2)
+                .read(new ByteArrayInputStream(file)));
+        Throwable cause = e;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        assertEquals("bad row", cause.getMessage());
+        assertTrue(slowRows.size() < 50, "slow sheet kept reading: " + slowRows.size());
+    }
+
+    private static byte[] withFormula(byte[] file, String sheetName) throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(new ByteArrayInputStream(file));
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            wb.getSheet(sheetName).getRow(1).createCell(0).setCellFormula("1+1");
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    /** Uncompressed size of each worksheet part. */
+    private static Map<String, Long> worksheetSizes(byte[] file) throws IOException {
+        Map<String, Long> sizes = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(file))) {
+            for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                if (entry.getName().startsWith("xl/worksheets/")) {
+                    sizes.put(entry.getName(), zip.transferTo(OutputStream.nullOutputStream()));
+                }
+            }
+        }
+        return sizes;
+    }
+
+    private static byte[] workbook() throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet orders = wb.createSheet("Orders");
+            row(orders, 0, "Order", "Customer");
+            row(orders, 1, "A-1", "kim");
+            Sheet items = wb.createSheet("Items");
+            row(items, 0, "SKU", "Qty");
+            row(items, 1, "S-1", "2");
+            row(items, 2, "S-2", "5");
+            Sheet notes = wb.createSheet("Notes");
+            row(notes, 0, "Note");
+            row(notes, 1, "shared");
+            row(notes, 2, "kim");
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static void row(Sheet sheet, int index, String... values) {
+        Row row = sheet.createRow(index);
+        for (int i = 0; i < values.length; i++) row.createCell(i).setCellValue(values[i]);
+    }
+}
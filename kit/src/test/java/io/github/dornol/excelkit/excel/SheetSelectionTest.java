@@ -0,0 +1,78 @@
+package io.github.dornol.excelkit.excel;
+
+import io.github.dornol.excelkit.core.ReadLimitExceededException;
+import io.github.dornol.excelkit.core.ReadLimits;
+import io.github.dornol.excelkit.core.ReadResult;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sheet selection by index or name, resolved from the workbook metadata.
+ */
+class SheetSelectionTest {
+
+    @Test
+    void sheetName_selectsSheetCaseInsensitively() throws IOException {
+        byte[] file = workbook();
+        for (boolean streaming : new boolean[] {false, true}) {
+            ExcelReader<Map<String, String>> reader = ExcelReader.forMap().sheetName("second sheet");
+            if (streaming) reader.streamingInput();
+            assertEquals(List.of(Map.of("Name", "second")), names(reader, file), "streaming=" + streaming);
+        }
+    }
+
+    @Test
+    void sheetIndex_readsLaterSheet() throws IOException {
+        byte[] file = workbook();
+        assertEquals(List.of(Map.of("Name", "third")), names(ExcelReader.forMap().sheetIndex(2), file));
+        assertEquals(List.of(Map.of("Name", "first")),
+                names(ExcelReader.forMap().sheetName("Second Sheet").sheetIndex(0), file));
+    }
+
+    @Test
+    void missingSheet_listsAvailableSheets() throws IOException {
+        byte[] file = workbook();
+        ExcelReadException byName = assertThrows(ExcelReadException.class,
+                () -> names(ExcelReader.forMap().sheetName("Fourth"), file));
+        assertTrue(byName.getMessage().contains("[First, Second Sheet, Third]"), byName.getMessage());
+        ExcelReadException byIndex = assertThrows(ExcelReadException.class,
+                () -> names(ExcelReader.forMap().sheetIndex(5), file));
+        assertTrue(byIndex.getMessage().contains("File has 3 sheet(s)"), byIndex.getMessage());
+    }
+
+    @Test
+    void sheetLimit_isCheckedFromMetadata() throws IOException {
+        byte[] file = workbook();
+        ReadLimitExceededException e = assertThrows(ReadLimitExceededException.class,
+                () -> names(ExcelReader.forMap().limits(new ReadLimits(-1, 2, -1, -1)), file));
+        assertEquals(3, e.actual());
+    }
+
+    private static List<Map<String, String>> names(ExcelReader<Map<String, String>> reader, byte[] file) {
+        List<ReadResult<Map<String, String>>> results = new ArrayList<>();
+        reader.read(new ByteArrayInputStream(file), results::add);
+        return results.stream().map(ReadResult::data).toList();
+    }
+
+    private static byte[] workbook() throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String name : List.of("First", "Second Sheet", "Third")) {
+                Sheet sheet = wb.createSheet(name);
+                sheet.createRow(0).createCell(0).setCellValue("Name");
+                sheet.createRow(1).createCell(0).setCellValue(name.split(" ")[0].toLowerCase());
+            }
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+}
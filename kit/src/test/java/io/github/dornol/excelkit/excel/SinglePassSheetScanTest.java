@@ -0,0 +1,133 @@
+package io.github.dornol.excelkit.excel;
+
+import io.github.dornol.excelkit.core.ReadSecurityException;
+import io.github.dornol.excelkit.core.ReadSecurityPolicy;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Row totals from {@code <dimension>} and the security filter on the parsed worksheet stream.
+ */
+class SinglePassSheetScanTest {
+
+    @Test
+    void countRows_takesTotalFromDimension() throws IOException {
+        byte[] file = rewriteSheet(workbook(false), xml -> xml.replaceFirst("<dimension ref=\"[^\"]*\"/>",
+                "<dimension ref=\"A1:B101\"/>"));
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            assertEquals(List.of(100L, 100L, 100L), totals(file, engine), engine.name());
+        }
+    }
+
+    @Test
+    void countRows_countsSheetWithoutDimension() throws IOException {
+        byte[] file = rewriteSheet(workbook(false), xml -> xml.replaceFirst("<dimension ref=\"[^\"]*\"/>", ""));
+        assertFalse(sheetXml(file).contains("<dimension"));
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            assertEquals(List.of(3L, 3L, 3L), totals(file, engine), engine.name());
+        }
+    }
+
+    @Test
+    void strictPolicy_rejectsFormulaInParsedSheet() throws IOException {
+        byte[] file = workbook(true);
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            ReadSecurityException e = assertThrows(ReadSecurityException.class, () -> ExcelReader.forMap()
+                    .engine(engine).securityPolicy(ReadSecurityPolicy.STRICT).countRows().onProgress(1, (c, cursor) -> { })
+                    .read(new ByteArrayInputStream(file), r -> { }));
+            assertEquals(ReadSecurityException.Reason.FORMULA, e.reason());
+        }
+    }
+
+    @Test
+    void strictPolicy_stillScansOtherSheets() throws IOException {
+        byte[] file;
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            wb.createSheet("clean").createRow(0).createCell(0).setCellValue("Name");
+            wb.createSheet("formulas").createRow(0).createCell(0).setCellFormula("1+1");
+            wb.write(out);
+            file = out.toByteArray();
+        }
+        ReadSecurityException e = assertThrows(ReadSecurityException.class, () -> ExcelReader.forMap()
+                .securityPolicy(ReadSecurityPolicy.STRICT).read(new ByteArrayInputStream(file), r -> { }));
+        assertEquals(ReadSecurityException.Reason.FORMULA, e.reason());
+    }
+
+    @Test
+    void strictPolicy_readsCleanSheet() throws IOException {
+        byte[] file = workbook(false);
+        List<Map<String, String>> rows = new ArrayList<>();
+        ExcelReader.forMap().securityPolicy(ReadSecurityPolicy.STRICT)
+                .read(new ByteArrayInputStream(file), r -> rows.add(r.data()));
+        assertEquals(3, rows.size());
+    }
+
+    private static List<Long> totals(byte[] file, ExcelReadEngine engine) {
+        List<Long> totals = new ArrayList<>();
+        ExcelReader.forMap().engine(engine).countRows()
+                .onProgress(1, (count, cursor) -> totals.add(cursor.getTotalRows()))
+                .read(new ByteArrayInputStream(file), r -> { });
+        return totals;
+    }
+
+    private static byte[] workbook(boolean formula) throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = wb.createSheet("data");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Name");
+            header.createCell(1).setCellValue("Value");
+            for (int r = 1; r <= 3; r++) {
+                Row row = sheet.createRow(r);
+                row.createCell(0).setCellValue("row" + r);
+                if (formula && r == 3) row.createCell(1).setCellFormula("1+1");
+                else row.createCell(1).setCellValue(r);
+            }
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static String sheetXml(byte[] file) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(file))) {
+            for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                if (entry.getName().equals("xl/worksheets/sheet1.xml")) {
+                    return new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        throw new IllegalStateException("sheet1.xml not found");
+    }
+
+    private static byte[] rewriteSheet(byte[] file, UnaryOperator<String> rewrite) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(file));
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (ZipEntry entry; (entry = in.getNextEntry()) != null; ) {
+                byte[] data = in.readAllBytes();
+                if (entry.getName().equals("xl/worksheets/sheet1.xml")) {
+                    data = rewrite.apply(new String(data, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+                }
+                zip.putNextEntry(new ZipEntry(entry.getName()));
+                zip.write(data);
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.dornol.excelkit.excel;
+
+import io.github.dornol.excelkit.core.ReadLimitExceededException;
+import io.github.dornol.excelkit.core.ReadLimits;
+import io.github.dornol.excelkit.core.ReadResult;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reads {@code InputStream} inputs straight from the zip entries via {@link ExcelReader#streamingInput()}.
+ */
+class StreamingInputReadTest {
+
+    @Test
+    void streamingInput_matchesTempFileRead() throws IOException {
+        byte[] file = write(new XSSFWorkbook(), 2);
+        for (ExcelReadEngine engine : ExcelReadEngine.values()) {
+            assertEquals(read(file, engine, false, 0), read(file, engine, true, 0), engine.name());
+        }
+    }
+
+    @Test
+    void streamingInput_readsInlineStringWorkbook() throws IOException {
+        byte[] file = write(new SXSSFWorkbook(), 1);
+        assertEquals(read(file, ExcelReadEngine.NATIVE, false, 0), read(file, ExcelReadEngine.NATIVE, true, 0));
+    }
+
+    @Test
+    void streamingInput_selectsSheetByWorkbookOrder() throws IOException {
+        byte[] file = write(new XSSFWorkbook(), 2);
+        List<Map<String, String>> rows = read(file, ExcelReadEngine.NATIVE, true, 1);
+        assertEquals("sheet1-row1", rows.get(0).get("Name"));
+    }
+
+    @Test
+    void streamingInput_spillsSheetStoredBeforeSharedStrings() throws IOException {
+        byte[] file = write(new XSSFWorkbook(), 2);
+        byte[] reordered = sheetsFirst(file);
+        for (int sheet = 0; sheet < 2; sheet++) {
+            assertEquals(read(file, ExcelReadEngine.POI, false, sheet), read(reordered, ExcelReadEngine.POI, true, sheet));
+            assertEquals(read(file, ExcelReadEngine.NATIVE, false, sheet), read(reordered, ExcelReadEngine.NATIVE, true, sheet));
+        }
+    }
+
+    @Test
+    void streamingInput_rejectsMissingSheet() throws IOException {
+        byte[] file = write(new XSSFWorkbook(), 2);
+        ExcelReadException e = assertThrows(ExcelReadException.class,
+                () -> read(file, ExcelReadEngine.NATIVE, true, 5));
+        assertTrue(e.getMessage().contains("Sheet index 5 not found"));
+    }
+
+    @Test
+    void streamingInput_enforcesSheetLimit() throws IOException {
+        byte[] file = write(new XSSFWorkbook(), 2);
+        ReadLimitExceededException e = assertThrows(ReadLimitExceededException.class,
+                () -> ExcelReader.forMap().streamingInput().limits(new ReadLimits(-1, 1, -1, -1))
+                        .read(new ByteArrayInputStream(file), r -> { }));
+        assertEquals(ReadLimitExceededException.Limit.SHEETS, e.limit());
+    }
+
+    @Test
+    void streamingInput_leavesCallerStreamOpen() throws IOException {
+        byte[] file = write(new XSSFWorkbook(), 1);
+        boolean[] closed = {false};
+        ByteArrayInputStream input = new ByteArrayInputStream(file) {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+                super.close();
+            }
+        };
+        List<ReadResult<Map<String, String>>> results = new ArrayList<>();
+        ExcelReader.forMap().streamingInput().read(input, results::add);
+        assertEquals(3, results.size());
+        assertFalse(closed[0]);
+    }
+
+    private static List<Map<String, String>> read(byte[] file, ExcelReadEngine engine, boolean streaming, int sheet) {
+        List<Map<String, String>> rows = new ArrayList<>();
+        ExcelReader.forMap().engine(engine).streamingInput(streaming).sheetIndex(sheet)
+                .read(new ByteArrayInputStream(file), r -> rows.add(r.data()));
+        return rows;
+    }
+
+    /** Rewrites the package so that worksheet entries precede every other part. */
+    private static byte[] sheetsFirst(byte[] file) throws IOException {
+        Map<String, byte[]> sheets = new LinkedHashMap<>();
+        Map<String, byte[]> others = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(file))) {
+            for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                (entry.getName().startsWith("xl/worksheets/") ? sheets : others).put(entry.getName(), zip.readAllBytes());
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map<String, byte[]> entries : List.of(sheets, others)) {
+                for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                    zip.putNextEntry(new ZipEntry(entry.getKey()));
+                    zip.write(entry.getValue());
+                    zip.closeEntry();
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] write(Workbook wb, int sheets) throws IOException {
+        try (wb; ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int s = 0; s < sheets; s++) {
+                Sheet sheet = wb.createSheet("sheet" + s);
+                Row header = sheet.createRow(0);
+                header.createCell(0).setCellValue("Name");
+                header.createCell(1).setCellValue("Amount");
+                for (int r = 1; r <= 3; r++) {
+                    Row row = sheet.createRow(r);
+                    row.createCell(0).setCellValue("sheet" + s + "-row" + r);
+                    row.createCell(1).setCellValue(r * 1.5);
+                }
+            }
+            wb.write(out);
+            if (wb instanceof SXSSFWorkbook sxssf) sxssf.dispose();
+            return out.toByteArray();
+        }
+    }
+}
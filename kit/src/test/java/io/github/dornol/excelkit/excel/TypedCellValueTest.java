@@ -0,0 +1,170 @@
+package io.github.dornol.excelkit.excel;
+
+import io.github.dornol.excelkit.core.CellData;
+import io.github.dornol.excelkit.core.CellValueType;
+import io.github.dornol.excelkit.core.ReadResult;
+import io.github.dornol.excelkit.core.RowData;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Typed cell values produced by {@link ExcelReadEngine#NATIVE}.
+ */
+class TypedCellValueTest {
+
+    @Test
+    void numericCells_keepStoredPrecision() throws IOException {
+        RowData row = readFirstRow();
+        CellData amount = row.get("Amount");
+        assertEquals(CellValueType.NUMBER, amount.valueType());
+        assertEquals("1,234,567.89", amount.formattedValue());
+        assertEquals(1234567.891, amount.asDouble());
+        assertEquals(new BigDecimal("1234567.891"), amount.asBigDecimal());
+    }
+
+    @Test
+    void integralNumbers_areLongs() throws IOException {
+        CellData count = readFirstRow().get("Count");
+        assertEquals(42L, count.asNumber());
+        assertEquals(42, count.asInt());
+        assertEquals(new BigDecimal("42"), count.asBigDecimal());
+    }
+
+    @Test
+    void percentCells_returnStoredFraction() throws IOException {
+        CellData rate = readFirstRow().get("Rate");
+        assertEquals("13%", rate.formattedValue());
+        assertEquals(0.125, rate.asDouble());
+    }
+
+    @Test
+    void dateCells_convertFromSerial() throws IOException {
+        RowData row = readFirstRow();
+        CellData joined = row.get("Joined");
+        assertEquals(CellValueType.DATE, joined.valueType());
+        assertEquals(LocalDate.of(2024, 3, 15), joined.asLocalDate());
+        CellData updated = row.get("Updated");
+        assertEquals(LocalDateTime.of(2024, 3, 15, 13, 45, 30), updated.asLocalDateTime());
+        assertEquals(LocalTime.of(13, 45, 30), updated.asLocalTime());
+    }
+
+    @Test
+    void rawValues_areTextOnceTheReadEnds() throws IOException {
+        List<ReadResult<RowData>> results = new ArrayList<>();
+        ExcelReader.<RowData>mapping(r -> r).engine(ExcelReadEngine.NATIVE).diskBackedSharedStrings()
+                .read(new ByteArrayInputStream(workbook()), results::add);
+        // the shared strings file is closed by now; raw values no longer depend on it
+        assertEquals(List.of("Alice", "1,234,567.89", "42", "13%", "2024-03-15", "2024-03-15 13:45:30", "TRUE"),
+                results.get(0).rawValues());
+    }
+
+    @Test
+    void booleanAndSharedStringCells_areTyped() throws IOException {
+        RowData row = readFirstRow();
+        CellData active = row.get("Active");
+        assertEquals(CellValueType.BOOLEAN, active.valueType());
+        assertTrue(active.asBoolean());
+        assertEquals("TRUE", active.asString());
+        CellData name = row.get("Name");
+        assertEquals(CellValueType.TEXT, name.valueType());
+        assertTrue(name.sharedStringIndex() >= 0);
+        assertThrows(IllegalStateException.class, name::numericValue);
+    }
+
+    @Test
+    void booleanAndDateCells_convertToNumbersAsOnPoi() throws IOException {
+        RowData typed = readFirstRow();
+        RowData text = readFirstRow(ExcelReadEngine.POI);
+        for (String column : List.of("Joined", "Updated", "Active")) {
+            assertEquals(outcome(() -> text.get(column).asNumber()), outcome(() -> typed.get(column).asNumber()), column);
+            assertEquals(outcome(() -> text.get(column).asBigDecimal()),
+                    outcome(() -> typed.get(column).asBigDecimal()), column);
+        }
+        assertThrows(IllegalArgumentException.class, () -> typed.get("Active").asNumber());
+    }
+
+    @Test
+    void poiEngine_keepsTextCells() throws IOException {
+        List<RowData> rows = new ArrayList<>();
+        ExcelReader.<RowData>mapping(r -> r).read(new ByteArrayInputStream(workbook()), r -> rows.add(r.data()));
+        assertEquals(CellValueType.TEXT, rows.get(0).get("Amount").valueType());
+        assertEquals(-1, rows.get(0).get("Name").sharedStringIndex());
+    }
+
+    @Test
+    void rawValues_matchFormattedText() throws IOException {
+        List<ReadResult<RowData>> results = new ArrayList<>();
+        ExcelReader.<RowData>mapping(r -> r).engine(ExcelReadEngine.NATIVE)
+                .read(new ByteArrayInputStream(workbook()), results::add);
+        assertEquals(List.of("Alice", "1,234,567.89", "42", "13%", "2024-03-15", "2024-03-15 13:45:30", "TRUE"),
+                results.get(0).rawValues());
+    }
+
+    private static RowData readFirstRow() throws IOException {
+        return readFirstRow(ExcelReadEngine.NATIVE);
+    }
+
+    private static RowData readFirstRow(ExcelReadEngine engine) throws IOException {
+        List<RowData> rows = new ArrayList<>();
+        ExcelReader.<RowData>mapping(r -> r).engine(engine)
+                .read(new ByteArrayInputStream(workbook()), r -> rows.add(r.data()));
+        return rows.get(0);
+    }
+
+    /** The converted value, or the type of exception the conversion threw. */
+    private static Object outcome(Supplier<?> conversion) {
+        try {
+            return String.valueOf(conversion.get());
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    private static byte[] workbook() throws IOException {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            CellStyle money = wb.createCellStyle();
+            money.setDataFormat(wb.createDataFormat().getFormat("#,##0.00"));
+            CellStyle percent = wb.createCellStyle();
+            percent.setDataFormat(wb.createDataFormat().getFormat("0%"));
+            CellStyle date = wb.createCellStyle();
+            date.setDataFormat(wb.createDataFormat().getFormat("yyyy-mm-dd"));
+            CellStyle dateTime = wb.createCellStyle();
+            dateTime.setDataFormat(wb.createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+
+            Sheet sheet = wb.createSheet();
+            String[] headers = {"Name", "Amount", "Count", "Rate", "Joined", "Updated", "Active"};
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < headers.length; i++) header.createCell(i).setCellValue(headers[i]);
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue("Alice");
+            row.createCell(1).setCellValue(1234567.891);
+            row.getCell(1).setCellStyle(money);
+            row.createCell(2).setCellValue(42);
+            row.createCell(3).setCellValue(0.125);
+            row.getCell(3).setCellStyle(percent);
+            row.createCell(4).setCellValue(LocalDate.of(2024, 3, 15));
+            row.getCell(4).setCellStyle(date);
+            row.createCell(5).setCellValue(LocalDateTime.of(2024, 3, 15, 13, 45, 30));
+            row.getCell(5).setCellStyle(dateTime);
+            row.createCell(6).setCellValue(true);
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.dornol.excelkit.excel;
+
+import io.github.dornol.excelkit.core.ReadResult;
+import io.github.dornol.excelkit.core.ReadSecurityException;
+import io.github.dornol.excelkit.core.ReadSecurityPolicy;
+import org.apache.poi.hssf.record.crypto.Biff8EncryptionKey;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reads of legacy BIFF8 ({@code .xls}) workbooks through the HSSF record reader.
+ */
+class XlsReaderTest {
+
+    @Test
+    void readsFormattedValues_likeXlsx() throws IOException {
+        List<ReadResult<Map<String, String>>> results = new ArrayList<>();
+        ExcelReader.forMap().sheetName("DATA").read(new ByteArrayInputStream(workbook(null)), results::add);
+
+        assertEquals(List.of(2L, 3L, 6L), results.stream().map(ReadResult::fileRowNum).toList());
+        Map<String, String> first = results.get(0).data();
+        assertEquals("apple", first.get("Name"));
+        assertEquals("3", first.get("Qty"));
+        assertEquals("2024-01-15", first.get("Date"));
+        assertEquals("TRUE", first.get("Flag"));
+        assertEquals("6", first.get("Total"));
+        assertEquals("apple!", results.get(1).data().get("Total"));
+        // the missing rows 4 and 5 are not reported, as with xlsx
+        assertEquals(List.of("apple", "pear", "plum"), results.stream().map(r -> r.data().get("Name")).toList());
+    }
+
+    @Test
+    void readsRowRange_fromStreamingInput() throws IOException {
+        List<ReadResult<Map<String, String>>> results = new ArrayList<>();
+        ExcelReader.forMap("Name", "Qty").sheetIndex(1).fromRow(3).streamingInput()
+                .read(new ByteArrayInputStream(workbook(null)), results::add);
+        assertEquals(List.of(3L, 6L), results.stream().map(ReadResult::fileRowNum).toList());
+        assertEquals(List.of(Map.of("Name", "pear", "Qty", "5"), Map.of("Name", "plum", "Qty", "7")),
+                results.stream().map(ReadResult::data).toList());
+    }
+
+    @Test
+    void listsSheetNames() throws IOException {
+        assertEquals(List.of(new ExcelSheetInfo(0, "notes"), new ExcelSheetInfo(1, "data")),
+                ExcelReader.getSheetNames(new ByteArrayInputStream(workbook(null))));
+    }
+
+    @Test
+    void strictPolicy_rejectsFormulas() throws IOException {
+        byte[] file = workbook(null);
+        ReadSecurityException e = assertThrows(ReadSecurityException.class, () -> ExcelReader.forMap()
+                .sheetIndex(1).securityPolicy(ReadSecurityPolicy.STRICT)
+                .read(new ByteArrayInputStream(file), r -> { }));
+        assertEquals(ReadSecurityException.Reason.FORMULA, e.reason());
+    }
+
+    @Test
+    void strictPolicy_checksSheetsAfterTheSelectedOne() throws IOException {
+        byte[] file = workbook(null);
+        // only the "data" sheet, after the selected "notes" sheet, holds formulas
+        ReadSecurityException e = assertThrows(ReadSecurityException.class, () -> ExcelReader.forMap()
+                .sheetIndex(0).securityPolicy(ReadSecurityPolicy.STRICT)
+                .read(new ByteArrayInputStream(file), r -> { }));
+        assertEquals(ReadSecurityException.Reason.FORMULA, e.reason());
+    }
+
+    @Test
+    void strictPolicy_enforcesScanByteLimits() throws IOException {
+        byte[] file = workbook(null);
+        ReadSecurityException entry = assertThrows(ReadSecurityException.class, () -> ExcelReader.forMap()
+                .securityPolicy(new ReadSecurityPolicy(false, false, 64, 1 << 20, 100.0))
+                .read(new ByteArrayInputStream(file), r -> { }));
+        assertEquals(ReadSecurityException.Reason.ENTRY_SIZE, entry.reason());
+
+        ReadSecurityException total = assertThrows(ReadSecurityException.class, () -> ExcelReader.forMap()
+                .securityPolicy(new ReadSecurityPolicy(false, false, 1 << 20, 64, 100.0))
+                .read(new ByteArrayInputStream(file), r -> { }));
+        assertEquals(ReadSecurityException.Reason.TOTAL_SCAN_SIZE, total.reason());
+    }
+
+    @Test
+    void decryptsWithPassword() throws IOException {
+        byte[] file = workbook("secret");
+        List<String> names = new ArrayList<>();
+        ExcelReader.forMap().password("secret").sheetIndex(1)
+                .read(new ByteArrayInputStream(file), r -> names.add(r.data().get("Name")));
+        assertEquals(List.of("apple", "pear", "plum"), names);
+
+        ExcelReadException e = assertThrows(ExcelReadException.class, () -> ExcelReader.forMap()
+                .password("wrong").read(new ByteArrayInputStream(file), r -> { }));
+        assertTrue(e.getMessage().contains("Invalid password"), e.getMessage());
+    }
+
+    private static byte[] workbook(String password) throws IOException {
+        try (HSSFWorkbook wb = new HSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            wb.createSheet("notes").createRow(0).createCell(0).setCellValue("ignored");
+            Sheet sheet = wb.createSheet("data");
+            CellStyle dateStyle = wb.createCellStyle();
+            dateStyle.setDataFormat(wb.createDataFormat().getFormat("yyyy-mm-dd"));
+            Row header = sheet.createRow(0);
+            String[] names = {"Name", "Qty", "Date", "Flag", "Total"};
+            for (int i = 0; i < names.length; i++) header.createCell(i).setCellValue(names[i]);
+            String[] fruits = {"apple", "pear", "plum"};
+            int[] rows = {1, 2, 5};
+            for (int i = 0; i < fruits.length; i++) {
+                Row row = sheet.createRow(rows[i]);
+                row.createCell(0).setCellValue(fruits[i]);
+                row.createCell(1).setCellValue(3 + 2 * i);
+                row.createCell(2).setCellValue(LocalDate.of(2024, 1, 15));
+                row.getCell(2).setCellStyle(dateStyle);
+                row.createCell(3).setCellValue(i == 0);
+                row.createCell(4).setCellFormula(i == 1 ? "A2&\"!\"" : "B" + (rows[i] + 1) + "*2");
+            }
+            wb.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            if (password != null) Biff8EncryptionKey.setCurrentUserPassword(password);
+            try {
+                wb.write(out);
+            } finally {
+                Biff8EncryptionKey.setCurrentUserPassword(null);
+            }
+            return out.toByteArray();
+        }
+    }
+}